@@ -26,11 +26,11 @@ import eu.hansolo.medusa.events.UpdateEvent.EventType;
 import eu.hansolo.medusa.events.UpdateEventListener;
 import eu.hansolo.medusa.skins.*;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.Metrics;
 import eu.hansolo.medusa.tools.TimeSectionComparator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
-import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.DoubleProperty;
@@ -60,8 +60,10 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -187,6 +189,7 @@ public class Clock extends Control {
     private BooleanProperty                   alarmsVisible;
     private ObservableList<Alarm>             alarms;
     private List<Alarm>                       alarmsToRemove;
+    private CommandExecutor                   commandExecutor;
     private boolean                           _lcdCrystalEnabled;
     private BooleanProperty                   lcdCrystalEnabled;
     private boolean                           _shadowsEnabled;
@@ -200,6 +203,9 @@ public class Clock extends Control {
     private boolean                           _animated;
     private BooleanProperty                   animated;
     private long                              animationDuration;
+    private boolean                           suspendWhenHidden;
+    private boolean                           skinPooling;
+    private Map<ClockSkinType, ClockSkinBase> skinPool;
     private boolean                           _customFontEnabled;
     private BooleanProperty                   customFontEnabled;
     private Font                              _customFont;
@@ -256,6 +262,7 @@ public class Clock extends Control {
         };
         zoneId                  = time.get().getZone();
         timeline                = new Timeline();
+        timeline.statusProperty().addListener((o, ov, nv) -> Metrics.timelineStatusChanged(ov, nv));
         timeline.setOnFinished(e -> fireUpdateEvent(FINISHED_EVENT));
         updateInterval          = LONG_INTERVAL;
         _checkSectionsForValue  = false;
@@ -301,6 +308,7 @@ public class Clock extends Control {
         _alarmsVisible          = false;
         alarms                  = FXCollections.observableArrayList();
         alarmsToRemove          = new ArrayList<>();
+        commandExecutor         = null;
         _lcdCrystalEnabled      = false;
         _shadowsEnabled         = false;
         _lcdFont                = LcdFont.DIGITAL_BOLD;
@@ -308,6 +316,9 @@ public class Clock extends Control {
         _tickLabelLocation      = TickLabelLocation.INSIDE;
         _animated               = false;
         animationDuration       = 10000;
+        suspendWhenHidden       = false;
+        skinPooling             = false;
+        skinPool                = new EnumMap<>(ClockSkinType.class);
         _customFontEnabled      = false;
         _customFont             = Fonts.robotoRegular(12);
     }
@@ -1669,6 +1680,23 @@ public class Clock extends Control {
      */
     public void clearAlarms() { alarms.clear(); }
 
+    /**
+     * Returns the CommandExecutor that will be used to execute the commands
+     * of triggered alarms. If null the commands will be executed directly
+     * on the JavaFX application thread.
+     * @return the CommandExecutor that will be used to execute alarm commands
+     */
+    public CommandExecutor getCommandExecutor() { return commandExecutor; }
+    /**
+     * Defines the CommandExecutor that will be used to execute the commands
+     * of triggered alarms. With an executor slow commands won't block the
+     * JavaFX application thread. One executor can be shared by many clocks.
+     * If null the commands will be executed directly on the JavaFX
+     * application thread.
+     * @param EXECUTOR
+     */
+    public void setCommandExecutor(final CommandExecutor EXECUTOR) { commandExecutor = EXECUTOR; }
+
     /**
      * Returns true if the crystal effect of the LCD display will be drawn.
      * This feature could decrease the performance if you run it on
@@ -1874,6 +1902,57 @@ public class Clock extends Control {
      */
     public void setAnimationDuration(final long ANIMATION_DURATION) { animationDuration = Helper.clamp(10, 20000, ANIMATION_DURATION); }
 
+    /**
+     * Returns true if the skin will stop updating its graphics while the
+     * clock is not showing on screen (e.g. hidden, on a not selected Tab,
+     * scrolled out of a ScrollPane or without size). The state of the
+     * clock will still be updated and the skin will redraw once when
+     * the clock becomes visible again.
+     * @return true if the skin will stop updating while the clock is not showing
+     */
+    public boolean isSuspendWhenHidden() { return suspendWhenHidden; }
+    /**
+     * Defines if the skin will stop updating its graphics while the
+     * clock is not showing on screen (e.g. hidden, on a not selected Tab,
+     * scrolled out of a ScrollPane or without size). The state of the
+     * clock will still be updated and the skin will redraw once when
+     * the clock becomes visible again.
+     * @param SUSPEND
+     */
+    public void setSuspendWhenHidden(final boolean SUSPEND) {
+        suspendWhenHidden = SUSPEND;
+        fireUpdateEvent(REDRAW_EVENT);
+    }
+
+    /**
+     * Returns true if the skins of the clock will be kept in a pool when
+     * switching the ClockSkinType. Switching back to a ClockSkinType that
+     * has been used before will reattach the pooled skin instead of
+     * creating a new one.
+     * @return true if the skins of the clock will be reused on setSkinType()
+     */
+    public boolean isSkinPooling() { return skinPooling; }
+    /**
+     * Defines if the skins of the clock will be kept in a pool when
+     * switching the ClockSkinType. Switching back to a ClockSkinType that
+     * has been used before will reattach the pooled skin instead of
+     * creating a new one. Disabling the pooling will clear the pool.
+     * @param POOLING
+     */
+    public void setSkinPooling(final boolean POOLING) {
+        skinPooling = POOLING;
+        if (skinPooling) {
+            if (getSkin() instanceof ClockSkinBase) { skinPool.putIfAbsent(skinType, (ClockSkinBase) getSkin()); }
+        } else {
+            skinPool.clear();
+        }
+    }
+
+    /**
+     * Removes all skins except the current one from the skin pool.
+     */
+    public void clearSkinPool() { skinPool.values().removeIf(skin -> skin != getSkin()); }
+
     /**
      * Returns true if the control uses the given customFont to
      * render all text elements.
@@ -1952,7 +2031,7 @@ public class Clock extends Control {
                     if (TIME.isAfter(ALARM_TIME)) {
                         if (alarm.isArmed()) {
                             fireAlarmEvent(new AlarmEvent(Clock.this, alarm));
-                            alarm.executeCommand();
+                            executeCommand(alarm);
                         }
                         alarmsToRemove.add(alarm);
                     }
@@ -1963,7 +2042,7 @@ public class Clock extends Control {
                         ALARM_TIME.getSecond() == TIME.getSecond()) {
                         if (alarm.isArmed()) {
                             fireAlarmEvent(new AlarmEvent(Clock.this, alarm));
-                            alarm.executeCommand();
+                            executeCommand(alarm);
                         }
                     }
                     break;
@@ -1972,7 +2051,7 @@ public class Clock extends Control {
                         ALARM_TIME.getSecond() == TIME.getSecond()) {
                         if (alarm.isArmed()) {
                             fireAlarmEvent(new AlarmEvent(Clock.this, alarm));
-                            alarm.executeCommand();
+                            executeCommand(alarm);
                         }
                     }
                     break;
@@ -1982,7 +2061,7 @@ public class Clock extends Control {
                         ALARM_TIME.getSecond() == TIME.getSecond()) {
                         if (alarm.isArmed()) {
                             fireAlarmEvent(new AlarmEvent(Clock.this, alarm));
-                            alarm.executeCommand();
+                            executeCommand(alarm);
                         }
                     }
                     break;
@@ -1993,7 +2072,7 @@ public class Clock extends Control {
                         ALARM_TIME.getSecond()    == TIME.getSecond()) {
                         if (alarm.isArmed()) {
                             fireAlarmEvent(new AlarmEvent(Clock.this, alarm));
-                            alarm.executeCommand();
+                            executeCommand(alarm);
                         }
                     }
                     break;
@@ -2004,6 +2083,14 @@ public class Clock extends Control {
         }
     }
 
+    private void executeCommand(final Alarm ALARM) {
+        if (null == commandExecutor) {
+            ALARM.executeCommand();
+        } else {
+            commandExecutor.execute(ALARM);
+        }
+    }
+
     /**
      * Calling this method will check for the current time of the day and
      * switches on/off the night mode.
@@ -2022,28 +2109,31 @@ public class Clock extends Control {
         }
     }
 
-    private void tick() { Platform.runLater(() -> {
-        if (isAnimated()) return;
-        ZonedDateTime oldTime = getTime();
-        setTime(getTime().plus(Duration.ofMillis(updateInterval)));
-        ZonedDateTime now = time.get();
-        if (isAlarmsEnabled()) checkAlarms(now);
-        if (isAutoNightMode()) checkForNight(now);
-        if (getCheckSectionsForValue()) {
-            int listSize = sections.size();
-            for (int i = 0 ; i < listSize ; i++) { sections.get(i).checkForValue(LocalTime.from(now)); }
-        }
-        if (getCheckAreasForValue()) {
-            int listSize = areas.size();
-            for (int i = 0 ; i < listSize ; i++) { areas.get(i).checkForValue(LocalTime.from(now)); }
-        }
+    private void tick() {
+        Metrics.tick(Metrics.CLOCK_TICK);
+        Metrics.runLater(() -> {
+            if (isAnimated()) return;
+            ZonedDateTime oldTime = getTime();
+            setTime(getTime().plus(Duration.ofMillis(updateInterval)));
+            ZonedDateTime now = time.get();
+            if (isAlarmsEnabled()) checkAlarms(now);
+            if (isAutoNightMode()) checkForNight(now);
+            if (getCheckSectionsForValue()) {
+                int listSize = sections.size();
+                for (int i = 0 ; i < listSize ; i++) { sections.get(i).checkForValue(LocalTime.from(now)); }
+            }
+            if (getCheckAreasForValue()) {
+                int listSize = areas.size();
+                for (int i = 0 ; i < listSize ; i++) { areas.get(i).checkForValue(LocalTime.from(now)); }
+            }
 
-        if (timeEventListenerList.isEmpty()) return;
-        // Fire TimeEvents
-        if (oldTime.getSecond() != now.getSecond()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.SECOND));
-        if (oldTime.getMinute() != now.getMinute()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.MINUTE));
-        if (oldTime.getHour() != now.getHour()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.HOUR));
-    }); }
+            if (timeEventListenerList.isEmpty()) return;
+            // Fire TimeEvents
+            if (oldTime.getSecond() != now.getSecond()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.SECOND));
+            if (oldTime.getMinute() != now.getMinute()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.MINUTE));
+            if (oldTime.getHour() != now.getHour()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.HOUR));
+        });
+    }
 
 
     // ******************** Scheduled tasks ***********************************
@@ -2088,7 +2178,13 @@ public class Clock extends Control {
 
     // ******************** Style related *************************************
     @Override protected Skin createDefaultSkin() {
-        switch(skinType) {
+        final ClockSkinBase SKIN = createSkin(skinType);
+        if (skinPooling) { skinPool.put(skinType, SKIN); }
+        return SKIN;
+    }
+
+    private ClockSkinBase createSkin(final ClockSkinType SKIN_TYPE) {
+        switch(SKIN_TYPE) {
             case YOTA2     : return new ClockSkin(Clock.this);
             case LCD       : return new LcdClockSkin(Clock.this);
             case PEAR      : return new PearClockSkin(Clock.this);
@@ -2124,12 +2220,10 @@ public class Clock extends Control {
                 setHourColor(Color.WHITE);
                 setMinuteColor(Color.WHITE);
                 setKnobColor(Color.WHITE);
-                super.setSkin(new ClockSkin(Clock.this));
                 break;
             case LCD:
                 setBorderPaint(Color.WHITE);
                 setForegroundPaint(Color.WHITE);
-                super.setSkin(new LcdClockSkin(Clock.this));
                 break;
             case PEAR:
                 setBackgroundPaint(Color.BLACK);
@@ -2144,7 +2238,6 @@ public class Clock extends Control {
                 setSecondsVisible(true);
                 setTextVisible(false);
                 setTitleVisible(false);
-                super.setSkin(new PearClockSkin(Clock.this));
                 break;
             case PLAIN:
                 setBackgroundPaint(Color.rgb(29, 29, 29));
@@ -2155,7 +2248,6 @@ public class Clock extends Control {
                 setSecondsVisible(true);
                 setHourTickMarkColor(Color.rgb(240, 240, 240));
                 setMinuteTickMarkColor(Color.rgb(240, 240, 240));
-                super.setSkin(new PlainClockSkin(Clock.this));
                 break;
             case DB:
                 setDiscreteSeconds(false);
@@ -2163,16 +2255,13 @@ public class Clock extends Control {
                 setSecondColor(Color.rgb(167, 0, 0));
                 setSecondsVisible(true);
 
-                super.setSkin(new DBClockSkin(Clock.this));
                 break;
             case FAT:
                 setDiscreteMinutes(true);
-                super.setSkin(new FatClockSkin(Clock.this));
                 break;
             case ROUND_LCD:
                 setTextVisible(true);
                 setDateVisible(true);
-                super.setSkin(new RoundLcdClockSkin(Clock.this));
                 break;
             case SLIM:
                 setSecondsVisible(true);
@@ -2182,7 +2271,6 @@ public class Clock extends Control {
                 setMinuteColor(Color.rgb(0,191,255));
                 setSecondColor(Color.WHITE);
                 setDateColor(Color.WHITE);
-                super.setSkin(new SlimClockSkin(Clock.this));
                 break;
             case MINIMAL:
                 setBackgroundPaint(Color.rgb(255, 255, 255, 0.3));
@@ -2191,19 +2279,16 @@ public class Clock extends Control {
                 setSecondColor(Color.rgb(255, 255, 255, 0.8));
                 setSecondsVisible(true);
                 setDateVisible(true);
-                super.setSkin(new MinimalClockSkin(Clock.this));
                 break;
             case DIGITAL:
                 setTextVisible(true);
                 setDateVisible(true);
                 setSecondsVisible(true);
-                super.setSkin(new DigitalClockSkin(Clock.this));
                 break;
             case TEXT:
                 setTextVisible(true);
                 setDateVisible(true);
                 setSecondsVisible(true);
-                super.setSkin(new TextClockSkin(Clock.this));
                 break;
             case DESIGN:
                 setDiscreteHours(false);
@@ -2214,7 +2299,6 @@ public class Clock extends Control {
                 setSecondsVisible(false);
                 setHourColor(Color.RED);
                 setBackgroundPaint(Color.WHITE);
-                super.setSkin(new DesignClockSkin(Clock.this));
                 break;
             case INDUSTRIAL:
                 setBackgroundPaint(Color.web("#efefef"));
@@ -2234,7 +2318,6 @@ public class Clock extends Control {
                 setTitleColor(Color.BLACK);
                 setBorderPaint(Color.BLACK);
                 setBorderWidth(5);
-                super.setSkin(new IndustrialClockSkin(Clock.this));
                 break;
             case TILE:
                 setBackgroundPaint(Color.rgb(42,42,42));
@@ -2251,12 +2334,10 @@ public class Clock extends Control {
                 setTextColor(Color.rgb(238, 238, 238));
                 setTitleVisible(true);
                 setTitleColor(Color.rgb(238, 238, 238));
-                super.setSkin(new TileClockSkin(Clock.this));
                 break;
             case DIGI:
                 setTextVisible(true);
                 setDateVisible(true);
-                super.setSkin(new DigitalClockSkin(Clock.this));
                 break;
             case CLOCK:
                 setHourTickMarkColor(Color.rgb(255, 255, 255));
@@ -2266,12 +2347,24 @@ public class Clock extends Control {
                 setKnobColor(Color.WHITE);
                 setKnobColor(Color.WHITE);
             default:
-                super.setSkin(new ClockSkin(Clock.this));
                 break;
         }
+        applySkin();
         fireUpdateEvent(RESIZE_EVENT);
     }
 
+    private void applySkin() {
+        final ClockSkinBase POOLED_SKIN = skinPooling ? skinPool.get(skinType) : null;
+        if (null == POOLED_SKIN) {
+            final ClockSkinBase SKIN = createSkin(skinType);
+            if (skinPooling) { skinPool.put(skinType, SKIN); }
+            super.setSkin(SKIN);
+        } else if (POOLED_SKIN != getSkin()) {
+            super.setSkin(POOLED_SKIN);
+            POOLED_SKIN.reattach();
+        }
+    }
+
 
     // ******************** Event handling ************************************
     public void setOnUpdate(final UpdateEventListener LISTENER) { addUpdateEventListener(LISTENER); }
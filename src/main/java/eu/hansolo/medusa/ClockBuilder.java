@@ -37,9 +37,13 @@ import javafx.scene.paint.Paint;
 import javafx.scene.text.Font;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 
 /**
@@ -298,6 +302,11 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
         return (B)this;
     }
 
+    public final B commandExecutor(final CommandExecutor EXECUTOR) {
+        properties.put("commandExecutor", new SimpleObjectProperty<>(EXECUTOR));
+        return (B)this;
+    }
+
     public final B onAlarm(final AlarmEventListener LISTENER) {
         properties.put("onAlarm", new SimpleObjectProperty<>(LISTENER));
         return (B)this;
@@ -338,6 +347,16 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
         return (B)this;
     }
 
+    public final B suspendWhenHidden(final boolean SUSPEND) {
+        properties.put("suspendWhenHidden", new SimpleBooleanProperty(SUSPEND));
+        return (B)this;
+    }
+
+    public final B skinPooling(final boolean POOLING) {
+        properties.put("skinPooling", new SimpleBooleanProperty(POOLING));
+        return (B)this;
+    }
+
     public final B customFontEnabled(final boolean ENABLED) {
         properties.put("customFontEnabled", new SimpleBooleanProperty(ENABLED));
         return (B)this;
@@ -420,310 +439,375 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
         return (B)this;
     }
 
-    public final Clock build() {
-        final Clock CONTROL;
-        if (properties.containsKey("skinType")) {
-            ClockSkinType skinType = ((ObjectProperty<ClockSkinType>) properties.get("skinType")).get();
-            CONTROL = new Clock(skinType);
-
-            switch(skinType) {
-                case YOTA2:
-                    CONTROL.setBackgroundPaint(Color.rgb(40, 42, 48));
-                    CONTROL.setHourTickMarkColor(Color.rgb(255, 255, 255));
-                    CONTROL.setMinuteTickMarkColor(Color.rgb(255, 255, 255, 0.5));
-                    CONTROL.setHourColor(Color.WHITE);
-                    CONTROL.setMinuteColor(Color.WHITE);
-                    CONTROL.setKnobColor(Color.WHITE);
-                    CONTROL.setTextColor(Color.rgb(255, 255, 255, 0.5));
-                    CONTROL.setDateColor(Color.rgb(255, 255, 255));
-                    break;
-                case LCD:
-                    CONTROL.setBorderPaint(Color.WHITE);
-                    CONTROL.setForegroundPaint(Color.WHITE);
-                    break;
-                case PEAR:
-                    CONTROL.setBackgroundPaint(Color.BLACK);
-                    CONTROL.setHourColor(Color.WHITE);
-                    CONTROL.setMinuteColor(Color.WHITE);
-                    CONTROL.setSecondColor(Color.rgb(255, 165, 24));
-                    CONTROL.setHourTickMarkColor(Color.WHITE);
-                    CONTROL.setMinuteTickMarkColor(Color.rgb(115, 115, 115));
-                    CONTROL.setTickLabelColor(Color.WHITE);
-                    CONTROL.setDateColor(Color.WHITE);
-                    CONTROL.setDateVisible(true);
-                    CONTROL.setSecondsVisible(true);
-                    CONTROL.setTextVisible(false);
-                    CONTROL.setTitleVisible(false);
-                    break;
-                case PLAIN:
-                    CONTROL.setBackgroundPaint(Color.rgb(29, 29, 29));
-                    CONTROL.setHourColor(Color.rgb(190, 190, 190));
-                    CONTROL.setMinuteColor(Color.rgb(190, 190, 190));
-                    CONTROL.setSecondColor(Color.rgb(0, 244, 0));
-                    CONTROL.setDateColor(Color.rgb(190, 190, 190));
-                    CONTROL.setSecondsVisible(true);
-                    CONTROL.setHourTickMarkColor(Color.rgb(240, 240, 240));
-                    CONTROL.setMinuteTickMarkColor(Color.rgb(240, 240, 240));
-                    break;
-                case DB:
-                    CONTROL.setDiscreteSeconds(false);
-                    CONTROL.setDiscreteMinutes(true);
-                    CONTROL.setSecondColor(Color.rgb(167, 0, 0));
-                    CONTROL.setSecondsVisible(true);
-                    break;
-                case ROUND_LCD:
-                    CONTROL.setTextVisible(true);
-                    CONTROL.setDateVisible(true);
-                    break;
-                case FAT:
-                    CONTROL.setDiscreteMinutes(true);
-                    break;
-                case SLIM:
-                    CONTROL.setSecondsVisible(true);
-                    CONTROL.setDateVisible(true);
-                    CONTROL.setDayVisible(true);
-                    CONTROL.setHourColor(Color.WHITE);
-                    CONTROL.setMinuteColor(Color.rgb(0,191,255));
-                    CONTROL.setSecondColor(Color.WHITE);
-                    CONTROL.setDateColor(Color.WHITE);
-                    break;
-                case MINIMAL:
-                    CONTROL.setBackgroundPaint(Color.rgb(255, 255, 255, 0.3));
-                    CONTROL.setTextColor(Color.WHITE);
-                    CONTROL.setMinuteColor(Color.rgb(59, 209, 255));
-                    CONTROL.setSecondColor(Color.rgb(255, 255, 255, 0.8));
-                    CONTROL.setSecondsVisible(true);
-                    CONTROL.setDateVisible(true);
-                    break;
-                case DIGITAL:
-                    CONTROL.setTextVisible(true);
-                    CONTROL.setDateVisible(true);
-                    CONTROL.setSecondsVisible(true);
-                    break;
-                case TEXT:
-                    CONTROL.setTextVisible(true);
-                    CONTROL.setDateVisible(true);
-                    CONTROL.setSecondsVisible(true);
-                    break;
-                case DESIGN:
-                    CONTROL.setDiscreteHours(false);
-                    CONTROL.setDiscreteMinutes(false);
-                    CONTROL.setDiscreteSeconds(false);
-                    CONTROL.setTextVisible(false);
-                    CONTROL.setDateVisible(false);
-                    CONTROL.setSecondsVisible(false);
-                    CONTROL.setHourColor(Color.RED);
-                    CONTROL.setBackgroundPaint(Color.WHITE);
-                    break;
-                case INDUSTRIAL:
-                    CONTROL.setBackgroundPaint(Color.web("#efefef"));
-                    CONTROL.setHourColor(Color.web("#2a2a2a"));
-                    CONTROL.setMinuteColor(Color.web("#2a2a2a"));
-                    CONTROL.setSecondColor(Color.web("#d1222b"));
-                    CONTROL.setHourTickMarkColor(Color.BLACK);
-                    CONTROL.setMinuteTickMarkColor(Color.BLACK);
-                    CONTROL.setTickLabelsVisible(false);
-                    CONTROL.setTickLabelColor(Color.BLACK);
-                    CONTROL.setDateColor(Color.BLACK);
-                    CONTROL.setDateVisible(false);
-                    CONTROL.setSecondsVisible(true);
-                    CONTROL.setTextVisible(false);
-                    CONTROL.setTextColor(Color.BLACK);
-                    CONTROL.setTitleVisible(false);
-                    CONTROL.setTitleColor(Color.BLACK);
-                    CONTROL.setBorderPaint(Color.BLACK);
-                    CONTROL.setBorderWidth(5);
-                    break;
-                case TILE:
-                    CONTROL.setBackgroundPaint(Color.rgb(42,42,42));
-                    CONTROL.setHourColor(Color.rgb(238, 238, 238));
-                    CONTROL.setMinuteColor(Color.rgb(238, 238, 238));
-                    CONTROL.setSecondColor(Color.rgb(238, 238, 238));
-                    CONTROL.setKnobColor(Color.rgb(238, 238, 238));
-                    CONTROL.setHourTickMarkColor(Color.rgb(238, 238, 238));
-                    CONTROL.setMinuteTickMarkColor(Color.rgb(238, 238, 238));
-                    CONTROL.setDateColor(Color.rgb(238, 238, 238));
-                    CONTROL.setDateVisible(false);
-                    CONTROL.setSecondsVisible(false);
-                    CONTROL.setTextVisible(false);
-                    CONTROL.setTextColor(Color.rgb(238, 238, 238));
-                    CONTROL.setTitleVisible(true);
-                    CONTROL.setTitleColor(Color.rgb(238, 238, 238));
-                    break;
-                case DIGI:
-                    CONTROL.setTextVisible(true);
-                    CONTROL.setDateVisible(true);
-                    break;
-            }
-        } else {
-            CONTROL = new Clock();
-        }
+    public final Clock build() { return template().build(); }
+
+    /**
+     * Returns a template that contains all options of this builder as a
+     * table of setters in a fixed order. A template can be used to create
+     * any number of clocks without evaluating the options again. Later
+     * changes of the builder will not affect the template. Note that objects
+     * like sections and markers will be shared by all clocks of a template.
+     * @return a template that contains all options of this builder
+     */
+    public final Template template() {
+        final Map<String, Property<?>> PROPERTIES = new HashMap<>();
+        properties.forEach(PROPERTIES::put);
+        final List<Consumer<Clock>> SETTERS    = new ArrayList<>();
+        final ClockSkinType         SKIN_TYPE  = PROPERTIES.containsKey("skinType") ? ((ObjectProperty<ClockSkinType>) PROPERTIES.get("skinType")).get() : null;
+        if (null != SKIN_TYPE) { SETTERS.add(control -> applySkinPreset(control, SKIN_TYPE)); }
 
         // Make sure that alarms, sections, areas and markers will be added first
-        if (properties.keySet().contains("alarmsArray")) {
-            CONTROL.setAlarms(((ObjectProperty<Alarm[]>) properties.get("alarmsArray")).get());
+        if (PROPERTIES.containsKey("alarmsArray")) {
+            final Property<?> PROPERTY = PROPERTIES.get("alarmsArray");
+            SETTERS.add(control -> control.setAlarms(((ObjectProperty<Alarm[]>) PROPERTY).get()));
         }
-        if(properties.keySet().contains("alarmsList")) {
-            CONTROL.setAlarms(((ObjectProperty<List<Alarm>>) properties.get("alarmsList")).get());
+        if (PROPERTIES.containsKey("alarmsList")) {
+            final Property<?> PROPERTY = PROPERTIES.get("alarmsList");
+            SETTERS.add(control -> control.setAlarms(((ObjectProperty<List<Alarm>>) PROPERTY).get()));
         }
 
-        if (properties.keySet().contains("sectionsArray")) {
-            CONTROL.setSections(((ObjectProperty<TimeSection[]>) properties.get("sectionsArray")).get());
+        if (PROPERTIES.containsKey("sectionsArray")) {
+            final Property<?> PROPERTY = PROPERTIES.get("sectionsArray");
+            SETTERS.add(control -> control.setSections(((ObjectProperty<TimeSection[]>) PROPERTY).get()));
         }
-        if(properties.keySet().contains("sectionsList")) {
-            CONTROL.setSections(((ObjectProperty<List<TimeSection>>) properties.get("sectionsList")).get());
+        if (PROPERTIES.containsKey("sectionsList")) {
+            final Property<?> PROPERTY = PROPERTIES.get("sectionsList");
+            SETTERS.add(control -> control.setSections(((ObjectProperty<List<TimeSection>>) PROPERTY).get()));
         }
 
-        if (properties.keySet().contains("areasArray")) {
-            CONTROL.setAreas(((ObjectProperty<TimeSection[]>) properties.get("areasArray")).get());
+        if (PROPERTIES.containsKey("areasArray")) {
+            final Property<?> PROPERTY = PROPERTIES.get("areasArray");
+            SETTERS.add(control -> control.setAreas(((ObjectProperty<TimeSection[]>) PROPERTY).get()));
         }
-        if(properties.keySet().contains("areasList")) {
-            CONTROL.setAreas(((ObjectProperty<List<TimeSection>>) properties.get("areasList")).get());
+        if (PROPERTIES.containsKey("areasList")) {
+            final Property<?> PROPERTY = PROPERTIES.get("areasList");
+            SETTERS.add(control -> control.setAreas(((ObjectProperty<List<TimeSection>>) PROPERTY).get()));
         }
 
-        for (String key : properties.keySet()) {
+        for (String key : PROPERTIES.keySet()) {
+            final Property<?> PROPERTY = PROPERTIES.get(key);
             if ("prefSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setPrefSize(dim.getWidth(), dim.getHeight());
+                Dimension2D dim = ((ObjectProperty<Dimension2D>) PROPERTY).get();
+                SETTERS.add(control -> control.setPrefSize(dim.getWidth(), dim.getHeight()));
             } else if("minSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setMinSize(dim.getWidth(), dim.getHeight());
+                Dimension2D dim = ((ObjectProperty<Dimension2D>) PROPERTY).get();
+                SETTERS.add(control -> control.setMinSize(dim.getWidth(), dim.getHeight()));
             } else if("maxSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setMaxSize(dim.getWidth(), dim.getHeight());
+                Dimension2D dim = ((ObjectProperty<Dimension2D>) PROPERTY).get();
+                SETTERS.add(control -> control.setMaxSize(dim.getWidth(), dim.getHeight()));
             } else if("prefWidth".equals(key)) {
-                CONTROL.setPrefWidth(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setPrefWidth(((DoubleProperty) PROPERTY).get()));
             } else if("prefHeight".equals(key)) {
-                CONTROL.setPrefHeight(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setPrefHeight(((DoubleProperty) PROPERTY).get()));
             } else if("minWidth".equals(key)) {
-                CONTROL.setMinWidth(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinWidth(((DoubleProperty) PROPERTY).get()));
             } else if("minHeight".equals(key)) {
-                CONTROL.setMinHeight(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinHeight(((DoubleProperty) PROPERTY).get()));
             } else if("maxWidth".equals(key)) {
-                CONTROL.setMaxWidth(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMaxWidth(((DoubleProperty) PROPERTY).get()));
             } else if("maxHeight".equals(key)) {
-                CONTROL.setMaxHeight(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMaxHeight(((DoubleProperty) PROPERTY).get()));
             } else if("scaleX".equals(key)) {
-                CONTROL.setScaleX(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setScaleX(((DoubleProperty) PROPERTY).get()));
             } else if("scaleY".equals(key)) {
-                CONTROL.setScaleY(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setScaleY(((DoubleProperty) PROPERTY).get()));
             } else if ("layoutX".equals(key)) {
-                CONTROL.setLayoutX(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setLayoutX(((DoubleProperty) PROPERTY).get()));
             } else if ("layoutY".equals(key)) {
-                CONTROL.setLayoutY(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setLayoutY(((DoubleProperty) PROPERTY).get()));
             } else if ("translateX".equals(key)) {
-                CONTROL.setTranslateX(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTranslateX(((DoubleProperty) PROPERTY).get()));
             } else if ("translateY".equals(key)) {
-                CONTROL.setTranslateY(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTranslateY(((DoubleProperty) PROPERTY).get()));
             } else if ("padding".equals(key)) {
-                CONTROL.setPadding(((ObjectProperty<Insets>) properties.get(key)).get());
+                SETTERS.add(control -> control.setPadding(((ObjectProperty<Insets>) PROPERTY).get()));
             } else if ("styleClass".equals(key)) {
-                CONTROL.getStyleClass().setAll("gauge");
-                CONTROL.getStyleClass().addAll(((ObjectProperty<String[]>) properties.get(key)).get());
+                SETTERS.add(control -> control.getStyleClass().setAll("gauge"));
+                SETTERS.add(control -> control.getStyleClass().addAll(((ObjectProperty<String[]>) PROPERTY).get()));
             } else if ("time".equals(key)) {
-                CONTROL.setTime(((ObjectProperty<ZonedDateTime>) properties.get(key)).get());
+                SETTERS.add(control -> control.setTime(((ObjectProperty<ZonedDateTime>) PROPERTY).get()));
             } else if ("title".equals(key)) {
-                CONTROL.setTitle(((StringProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTitle(((StringProperty) PROPERTY).get()));
             } else if ("text".equals(key)) {
-                CONTROL.setText(((StringProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setText(((StringProperty) PROPERTY).get()));
             } else if ("checkSectionsForValue".equals(key)) {
-                CONTROL.setCheckSectionsForValue(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setCheckSectionsForValue(((BooleanProperty) PROPERTY).get()));
             } else if ("checkAreasForValue".equals(key)) {
-                CONTROL.setCheckAreasForValue(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setCheckAreasForValue(((BooleanProperty) PROPERTY).get()));
             } else if ("sectionsVisible".equals(key)) {
-                CONTROL.setSectionsVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setSectionsVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("highlightSections".equals(key)) {
-                CONTROL.setHighlightSections(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setHighlightSections(((BooleanProperty) PROPERTY).get()));
             } else if ("areasVisible".equals(key)) {
-                CONTROL.setAreasVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAreasVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("highlightAreas".equals(key)) {
-                CONTROL.setHighlightAreas(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setHighlightAreas(((BooleanProperty) PROPERTY).get()));
             } else if ("discreteSeconds".equals(key)) {
-                CONTROL.setDiscreteSeconds(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setDiscreteSeconds(((BooleanProperty) PROPERTY).get()));
             } else if ("discreteMinutes".equals(key)) {
-                CONTROL.setDiscreteMinutes(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setDiscreteMinutes(((BooleanProperty) PROPERTY).get()));
             } else if ("discreteHours".equals(key)) {
-                CONTROL.setDiscreteHours(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setDiscreteHours(((BooleanProperty) PROPERTY).get()));
             } else if ("secondsVisible".equals(key)) {
-                CONTROL.setSecondsVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setSecondsVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("titleVisible".equals(key)) {
-                CONTROL.setTitleVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTitleVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("textVisible".equals(key)) {
-                CONTROL.setTextVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTextVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("dateVisible".equals(key)) {
-                CONTROL.setDateVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setDateVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("dayVisible".equals(key)) {
-                CONTROL.setDayVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setDayVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("nightMode".equals(key)) {
-                CONTROL.setNightMode(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setNightMode(((BooleanProperty) PROPERTY).get()));
             } else if ("autoNightMode".equals(key)) {
-                CONTROL.setAutoNightMode(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAutoNightMode(((BooleanProperty) PROPERTY).get()));
             } else if ("backgroundPaint".equals(key)) {
-                CONTROL.setBackgroundPaint(((ObjectProperty<Paint>) properties.get(key)).get());
+                SETTERS.add(control -> control.setBackgroundPaint(((ObjectProperty<Paint>) PROPERTY).get()));
             } else if ("borderPaint".equals(key)) {
-                CONTROL.setBorderPaint(((ObjectProperty<Paint>) properties.get(key)).get());
+                SETTERS.add(control -> control.setBorderPaint(((ObjectProperty<Paint>) PROPERTY).get()));
             } else if ("borderWidth".equals(key)) {
-                CONTROL.setBorderWidth(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setBorderWidth(((DoubleProperty) PROPERTY).get()));
             } else if ("foregroundPaint".equals(key)) {
-                CONTROL.setForegroundPaint(((ObjectProperty<Paint>) properties.get(key)).get());
+                SETTERS.add(control -> control.setForegroundPaint(((ObjectProperty<Paint>) PROPERTY).get()));
             } else if ("titleColor".equals(key)) {
-                CONTROL.setTitleColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setTitleColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("textColor".equals(key)) {
-                CONTROL.setTextColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setTextColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("dateColor".equals(key)) {
-                CONTROL.setDateColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setDateColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("hourTickMarkColor".equals(key)) {
-                CONTROL.setHourTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setHourTickMarkColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("minuteTickMarkColor".equals(key)) {
-                CONTROL.setMinuteTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinuteTickMarkColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("tickLabelColor".equals(key)) {
-                CONTROL.setTickLabelColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setTickLabelColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("alarmColor".equals(key)) {
-                CONTROL.setAlarmColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setAlarmColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("hourTickMarksVisible".equals(key)) {
-                CONTROL.setHourTickMarksVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setHourTickMarksVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("minuteTickMarksVisible".equals(key)) {
-                CONTROL.setMinuteTickMarksVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinuteTickMarksVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("tickLabelsVisible".equals(key)) {
-                CONTROL.setTickLabelsVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTickLabelsVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("hourColor".equals(key)) {
-                CONTROL.setHourColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setHourColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("minuteColor".equals(key)) {
-                CONTROL.setMinuteColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinuteColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("secondColor".equals(key)) {
-                CONTROL.setSecondColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setSecondColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("knobColor".equals(key)) {
-                CONTROL.setKnobColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setKnobColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("lcdDesign".equals(key)) {
-                CONTROL.setLcdDesign(((ObjectProperty<LcdDesign>) properties.get(key)).get());
+                SETTERS.add(control -> control.setLcdDesign(((ObjectProperty<LcdDesign>) PROPERTY).get()));
             } else if ("onAlarm".equals(key)) {
-                CONTROL.setOnAlarm(((ObjectProperty<AlarmEventListener>) properties.get(key)).get());
+                SETTERS.add(control -> control.setOnAlarm(((ObjectProperty<AlarmEventListener>) PROPERTY).get()));
             } else if ("onTimeEvent".equals(key)) {
-                CONTROL.setOnTimeEvent(((ObjectProperty<TimeEventListener>) properties.get(key)).get());
+                SETTERS.add(control -> control.setOnTimeEvent(((ObjectProperty<TimeEventListener>) PROPERTY).get()));
             } else if ("alarmsEnabled".equals(key)) {
-                CONTROL.setAlarmsEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAlarmsEnabled(((BooleanProperty) PROPERTY).get()));
+            } else if ("commandExecutor".equals(key)) {
+                SETTERS.add(control -> control.setCommandExecutor(((ObjectProperty<CommandExecutor>) PROPERTY).get()));
             } else if ("alarmsVisible".equals(key)) {
-                CONTROL.setAlarmsVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAlarmsVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("lcdCrystalEnabled".equals(key)) {
-                CONTROL.setLcdCrystalEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setLcdCrystalEnabled(((BooleanProperty) PROPERTY).get()));
             } else if ("shadowsEnabled".equals(key)) {
-                CONTROL.setShadowsEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setShadowsEnabled(((BooleanProperty) PROPERTY).get()));
             } else if ("lcdFont".equals(key)) {
-                CONTROL.setLcdFont(((ObjectProperty<LcdFont>) properties.get(key)).get());
+                SETTERS.add(control -> control.setLcdFont(((ObjectProperty<LcdFont>) PROPERTY).get()));
             } else if ("locale".equals(key)) {
-                CONTROL.setLocale(((ObjectProperty<Locale>) properties.get(key)).get());
+                SETTERS.add(control -> control.setLocale(((ObjectProperty<Locale>) PROPERTY).get()));
             } else if("animated".equals(key)) {
-                CONTROL.setAnimated(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAnimated(((BooleanProperty) PROPERTY).get()));
             } else if("animationDuration".equals(key)) {
-                CONTROL.setAnimationDuration(((LongProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAnimationDuration(((LongProperty) PROPERTY).get()));
+            } else if("suspendWhenHidden".equals(key)) {
+                SETTERS.add(control -> control.setSuspendWhenHidden(((BooleanProperty) PROPERTY).get()));
+            } else if("skinPooling".equals(key)) {
+                SETTERS.add(control -> control.setSkinPooling(((BooleanProperty) PROPERTY).get()));
             } else if ("running".equals(key)) {
-                CONTROL.setRunning(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setRunning(((BooleanProperty) PROPERTY).get()));
             } else if ("customFontEnabled".equals(key)) {
-                CONTROL.setCustomFontEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setCustomFontEnabled(((BooleanProperty) PROPERTY).get()));
             } else if ("customFont".equals(key)) {
-                CONTROL.setCustomFont(((ObjectProperty<Font>) properties.get(key)).get());
+                SETTERS.add(control -> control.setCustomFont(((ObjectProperty<Font>) PROPERTY).get()));
+            }
+        }
+
+        return new Template(SKIN_TYPE, SETTERS);
+    }
+
+    /**
+     * Creates the given number of clocks with the options of this builder.
+     * @param COUNT the number of clocks
+     * @param CUSTOMIZER will be called with each clock and its index (might be null)
+     * @return a list with the given number of clocks
+     */
+    public final List<Clock> buildAll(final int COUNT, final ObjIntConsumer<Clock> CUSTOMIZER) { return template().buildAll(COUNT, CUSTOMIZER); }
+
+    private static void applySkinPreset(final Clock CONTROL, final ClockSkinType SKIN_TYPE) {
+        switch(SKIN_TYPE) {
+            case YOTA2:
+                CONTROL.setBackgroundPaint(Color.rgb(40, 42, 48));
+                CONTROL.setHourTickMarkColor(Color.rgb(255, 255, 255));
+                CONTROL.setMinuteTickMarkColor(Color.rgb(255, 255, 255, 0.5));
+                CONTROL.setHourColor(Color.WHITE);
+                CONTROL.setMinuteColor(Color.WHITE);
+                CONTROL.setKnobColor(Color.WHITE);
+                CONTROL.setTextColor(Color.rgb(255, 255, 255, 0.5));
+                CONTROL.setDateColor(Color.rgb(255, 255, 255));
+                break;
+            case LCD:
+                CONTROL.setBorderPaint(Color.WHITE);
+                CONTROL.setForegroundPaint(Color.WHITE);
+                break;
+            case PEAR:
+                CONTROL.setBackgroundPaint(Color.BLACK);
+                CONTROL.setHourColor(Color.WHITE);
+                CONTROL.setMinuteColor(Color.WHITE);
+                CONTROL.setSecondColor(Color.rgb(255, 165, 24));
+                CONTROL.setHourTickMarkColor(Color.WHITE);
+                CONTROL.setMinuteTickMarkColor(Color.rgb(115, 115, 115));
+                CONTROL.setTickLabelColor(Color.WHITE);
+                CONTROL.setDateColor(Color.WHITE);
+                CONTROL.setDateVisible(true);
+                CONTROL.setSecondsVisible(true);
+                CONTROL.setTextVisible(false);
+                CONTROL.setTitleVisible(false);
+                break;
+            case PLAIN:
+                CONTROL.setBackgroundPaint(Color.rgb(29, 29, 29));
+                CONTROL.setHourColor(Color.rgb(190, 190, 190));
+                CONTROL.setMinuteColor(Color.rgb(190, 190, 190));
+                CONTROL.setSecondColor(Color.rgb(0, 244, 0));
+                CONTROL.setDateColor(Color.rgb(190, 190, 190));
+                CONTROL.setSecondsVisible(true);
+                CONTROL.setHourTickMarkColor(Color.rgb(240, 240, 240));
+                CONTROL.setMinuteTickMarkColor(Color.rgb(240, 240, 240));
+                break;
+            case DB:
+                CONTROL.setDiscreteSeconds(false);
+                CONTROL.setDiscreteMinutes(true);
+                CONTROL.setSecondColor(Color.rgb(167, 0, 0));
+                CONTROL.setSecondsVisible(true);
+                break;
+            case ROUND_LCD:
+                CONTROL.setTextVisible(true);
+                CONTROL.setDateVisible(true);
+                break;
+            case FAT:
+                CONTROL.setDiscreteMinutes(true);
+                break;
+            case SLIM:
+                CONTROL.setSecondsVisible(true);
+                CONTROL.setDateVisible(true);
+                CONTROL.setDayVisible(true);
+                CONTROL.setHourColor(Color.WHITE);
+                CONTROL.setMinuteColor(Color.rgb(0,191,255));
+                CONTROL.setSecondColor(Color.WHITE);
+                CONTROL.setDateColor(Color.WHITE);
+                break;
+            case MINIMAL:
+                CONTROL.setBackgroundPaint(Color.rgb(255, 255, 255, 0.3));
+                CONTROL.setTextColor(Color.WHITE);
+                CONTROL.setMinuteColor(Color.rgb(59, 209, 255));
+                CONTROL.setSecondColor(Color.rgb(255, 255, 255, 0.8));
+                CONTROL.setSecondsVisible(true);
+                CONTROL.setDateVisible(true);
+                break;
+            case DIGITAL:
+                CONTROL.setTextVisible(true);
+                CONTROL.setDateVisible(true);
+                CONTROL.setSecondsVisible(true);
+                break;
+            case TEXT:
+                CONTROL.setTextVisible(true);
+                CONTROL.setDateVisible(true);
+                CONTROL.setSecondsVisible(true);
+                break;
+            case DESIGN:
+                CONTROL.setDiscreteHours(false);
+                CONTROL.setDiscreteMinutes(false);
+                CONTROL.setDiscreteSeconds(false);
+                CONTROL.setTextVisible(false);
+                CONTROL.setDateVisible(false);
+                CONTROL.setSecondsVisible(false);
+                CONTROL.setHourColor(Color.RED);
+                CONTROL.setBackgroundPaint(Color.WHITE);
+                break;
+            case INDUSTRIAL:
+                CONTROL.setBackgroundPaint(Color.web("#efefef"));
+                CONTROL.setHourColor(Color.web("#2a2a2a"));
+                CONTROL.setMinuteColor(Color.web("#2a2a2a"));
+                CONTROL.setSecondColor(Color.web("#d1222b"));
+                CONTROL.setHourTickMarkColor(Color.BLACK);
+                CONTROL.setMinuteTickMarkColor(Color.BLACK);
+                CONTROL.setTickLabelsVisible(false);
+                CONTROL.setTickLabelColor(Color.BLACK);
+                CONTROL.setDateColor(Color.BLACK);
+                CONTROL.setDateVisible(false);
+                CONTROL.setSecondsVisible(true);
+                CONTROL.setTextVisible(false);
+                CONTROL.setTextColor(Color.BLACK);
+                CONTROL.setTitleVisible(false);
+                CONTROL.setTitleColor(Color.BLACK);
+                CONTROL.setBorderPaint(Color.BLACK);
+                CONTROL.setBorderWidth(5);
+                break;
+            case TILE:
+                CONTROL.setBackgroundPaint(Color.rgb(42,42,42));
+                CONTROL.setHourColor(Color.rgb(238, 238, 238));
+                CONTROL.setMinuteColor(Color.rgb(238, 238, 238));
+                CONTROL.setSecondColor(Color.rgb(238, 238, 238));
+                CONTROL.setKnobColor(Color.rgb(238, 238, 238));
+                CONTROL.setHourTickMarkColor(Color.rgb(238, 238, 238));
+                CONTROL.setMinuteTickMarkColor(Color.rgb(238, 238, 238));
+                CONTROL.setDateColor(Color.rgb(238, 238, 238));
+                CONTROL.setDateVisible(false);
+                CONTROL.setSecondsVisible(false);
+                CONTROL.setTextVisible(false);
+                CONTROL.setTextColor(Color.rgb(238, 238, 238));
+                CONTROL.setTitleVisible(true);
+                CONTROL.setTitleColor(Color.rgb(238, 238, 238));
+                break;
+            case DIGI:
+                CONTROL.setTextVisible(true);
+                CONTROL.setDateVisible(true);
+                break;
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    public static class Template {
+        private final ClockSkinType         skinType;
+        private final List<Consumer<Clock>> setters;
+
+
+        // ******************** Constructors **********************************
+        private Template(final ClockSkinType SKIN_TYPE, final List<Consumer<Clock>> SETTERS) {
+            skinType = SKIN_TYPE;
+            setters  = new ArrayList<>(SETTERS);
+        }
+
+
+        // ******************** Methods ***************************************
+        public Clock build() {
+            final Clock CONTROL = null == skinType ? new Clock() : new Clock(skinType);
+            for (int i = 0 ; i < setters.size() ; i++) { setters.get(i).accept(CONTROL); }
+            return CONTROL;
+        }
+
+        public List<Clock> buildAll(final int COUNT) { return buildAll(COUNT, null); }
+        public List<Clock> buildAll(final int COUNT, final ObjIntConsumer<Clock> CUSTOMIZER) {
+            final List<Clock> CONTROLS = new ArrayList<>(COUNT);
+            for (int i = 0 ; i < COUNT ; i++) {
+                final Clock CONTROL = build();
+                if (null != CUSTOMIZER) { CUSTOMIZER.accept(CONTROL, i); }
+                CONTROLS.add(CONTROL);
             }
+            return CONTROLS;
         }
-        return CONTROL;
     }
 }
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.events.CommandEvent;
+import eu.hansolo.medusa.events.CommandEvent.CommandEventType;
+import eu.hansolo.medusa.events.CommandEventListener;
+import eu.hansolo.medusa.tools.Helper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class CommandExecutor {
+    public  static final int                         DEFAULT_NO_OF_WORKERS  = 2;
+    public  static final int                         DEFAULT_QUEUE_CAPACITY = 64;
+    public  static final int                         DEFAULT_MAX_PER_ALARM  = 1;
+    public  static final long                        DEFAULT_TIMEOUT        = 10_000;
+    public  static final long                        DEFAULT_LATE_THRESHOLD = 1_000;
+    private static final int                         RUNNING                = 0;
+    private static final int                         DONE                   = 1;
+    private static final int                         TIMED_OUT              = 2;
+    private        final ThreadPoolExecutor          workers;
+    private        final ScheduledExecutorService    watchdog;
+    private        final Map<Alarm, Integer>         pendingPerAlarm;
+    private        final int                         maxPerAlarm;
+    private        final long                        timeoutNs;
+    private        final long                        lateThresholdNs;
+    private        final List<CommandEventListener>  listenerList;
+    private        final AtomicLong                  noOfSubmitted;
+    private        final AtomicLong                  noOfExecuted;
+    private        final AtomicLong                  noOfRejected;
+    private        final AtomicLong                  noOfLate;
+    private        final AtomicLong                  noOfTimedOut;
+    private        final AtomicLong                  noOfFailed;
+    private        final AtomicLong                  totalLatencyNs;
+    private        final AtomicLong                  maxLatencyNs;
+    private        final AtomicLong                  lastLatencyNs;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Executes the commands of triggered alarms on a small pool of
+     * worker threads instead of the JavaFX application thread.
+     */
+    public CommandExecutor() {
+        this(DEFAULT_NO_OF_WORKERS, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_PER_ALARM, DEFAULT_TIMEOUT, DEFAULT_LATE_THRESHOLD);
+    }
+    public CommandExecutor(final int NO_OF_WORKERS, final int QUEUE_CAPACITY) {
+        this(NO_OF_WORKERS, QUEUE_CAPACITY, DEFAULT_MAX_PER_ALARM, DEFAULT_TIMEOUT, DEFAULT_LATE_THRESHOLD);
+    }
+    /**
+     * @param NO_OF_WORKERS  number of threads that execute commands
+     * @param QUEUE_CAPACITY max number of commands waiting for a free worker
+     * @param MAX_PER_ALARM  max number of queued or running commands per alarm
+     * @param TIMEOUT        time in ms after which a running command will be interrupted (0 = no timeout)
+     * @param LATE_THRESHOLD time in ms a command may wait in the queue before it's reported as late
+     */
+    public CommandExecutor(final int NO_OF_WORKERS, final int QUEUE_CAPACITY, final int MAX_PER_ALARM, final long TIMEOUT, final long LATE_THRESHOLD) {
+        final int NO_OF_THREADS = Helper.clamp(1, Integer.MAX_VALUE, NO_OF_WORKERS);
+
+        workers         = new ThreadPoolExecutor(NO_OF_THREADS, NO_OF_THREADS, 60, TimeUnit.SECONDS,
+                                                 new ArrayBlockingQueue<>(Helper.clamp(1, Integer.MAX_VALUE, QUEUE_CAPACITY)),
+                                                 Helper.getThreadFactory("AlarmCommand", true),
+                                                 new ThreadPoolExecutor.AbortPolicy());
+        workers.allowCoreThreadTimeOut(true);
+        watchdog        = new ScheduledThreadPoolExecutor(1, Helper.getThreadFactory("AlarmCommandWatchdog", true));
+        pendingPerAlarm = new ConcurrentHashMap<>();
+        maxPerAlarm     = Helper.clamp(1, Integer.MAX_VALUE, MAX_PER_ALARM);
+        timeoutNs       = TimeUnit.MILLISECONDS.toNanos(Helper.clamp(0L, Long.MAX_VALUE, TIMEOUT));
+        lateThresholdNs = TimeUnit.MILLISECONDS.toNanos(Helper.clamp(0L, Long.MAX_VALUE, LATE_THRESHOLD));
+        listenerList    = new CopyOnWriteArrayList<>();
+        noOfSubmitted   = new AtomicLong(0);
+        noOfExecuted    = new AtomicLong(0);
+        noOfRejected    = new AtomicLong(0);
+        noOfLate        = new AtomicLong(0);
+        noOfTimedOut    = new AtomicLong(0);
+        noOfFailed      = new AtomicLong(0);
+        totalLatencyNs  = new AtomicLong(0);
+        maxLatencyNs    = new AtomicLong(0);
+        lastLatencyNs   = new AtomicLong(0);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Queues the command of the given alarm for execution. The method never
+     * blocks. If the queue is full or the alarm already has the max number of
+     * pending commands the command will be rejected.
+     * @param ALARM
+     * @return true if the command was accepted
+     */
+    public boolean execute(final Alarm ALARM) {
+        if (null == ALARM || null == ALARM.getCommand()) return false;
+        noOfSubmitted.incrementAndGet();
+
+        if (!acquire(ALARM)) {
+            reject(ALARM);
+            return false;
+        }
+        try {
+            workers.execute(new Task(ALARM, System.nanoTime()));
+            return true;
+        } catch (RejectedExecutionException e) {
+            release(ALARM);
+            reject(ALARM);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of commands that are waiting for a free worker.
+     * @return the number of commands that are waiting for a free worker
+     */
+    public int getQueueSize() { return workers.getQueue().size(); }
+
+    /**
+     * Returns the number of commands that are executed at the moment.
+     * @return the number of commands that are executed at the moment
+     */
+    public int getActiveCount() { return workers.getActiveCount(); }
+
+    public long getNoOfSubmittedCommands() { return noOfSubmitted.get(); }
+
+    public long getNoOfExecutedCommands() { return noOfExecuted.get(); }
+
+    /**
+     * Returns the number of commands that were not accepted because either
+     * the queue was full or the per alarm limit was reached.
+     * @return the number of rejected commands
+     */
+    public long getNoOfRejectedCommands() { return noOfRejected.get(); }
+
+    /**
+     * Returns the number of commands that waited longer than the late
+     * threshold in the queue before they have been executed.
+     * @return the number of late commands
+     */
+    public long getNoOfLateCommands() { return noOfLate.get(); }
+
+    public long getNoOfTimedOutCommands() { return noOfTimedOut.get(); }
+
+    public long getNoOfFailedCommands() { return noOfFailed.get(); }
+
+    /**
+     * Returns the average time in ms between submitting a command and
+     * the end of its execution.
+     * @return the average latency in ms
+     */
+    public double getAverageLatency() {
+        long executed = noOfExecuted.get();
+        return 0 == executed ? 0 : totalLatencyNs.get() / (double) executed / 1_000_000.0;
+    }
+
+    /**
+     * Returns the max time in ms between submitting a command and the end
+     * of its execution.
+     * @return the max latency in ms
+     */
+    public double getMaxLatency() { return maxLatencyNs.get() / 1_000_000.0; }
+
+    /**
+     * Returns the time in ms between submitting and the end of execution
+     * of the last executed command.
+     * @return the latency of the last command in ms
+     */
+    public double getLastLatency() { return lastLatencyNs.get() / 1_000_000.0; }
+
+    public void resetStatistics() {
+        noOfSubmitted.set(0);
+        noOfExecuted.set(0);
+        noOfRejected.set(0);
+        noOfLate.set(0);
+        noOfTimedOut.set(0);
+        noOfFailed.set(0);
+        totalLatencyNs.set(0);
+        maxLatencyNs.set(0);
+        lastLatencyNs.set(0);
+    }
+
+    /**
+     * Calling this method will stop all worker threads. Commands that are
+     * still in the queue will not be executed.
+     */
+    public void shutdown() {
+        workers.shutdownNow();
+        watchdog.shutdownNow();
+        pendingPerAlarm.clear();
+    }
+
+    private boolean acquire(final Alarm ALARM) {
+        final boolean[] ACQUIRED = { false };
+        pendingPerAlarm.compute(ALARM, (alarm, pending) -> {
+            int noOfPending = null == pending ? 0 : pending;
+            if (noOfPending >= maxPerAlarm) return pending;
+            ACQUIRED[0] = true;
+            return noOfPending + 1;
+        });
+        return ACQUIRED[0];
+    }
+
+    private void release(final Alarm ALARM) {
+        pendingPerAlarm.computeIfPresent(ALARM, (alarm, pending) -> pending > 1 ? pending - 1 : null);
+    }
+
+    private void reject(final Alarm ALARM) {
+        noOfRejected.incrementAndGet();
+        fireCommandEvent(new CommandEvent(CommandExecutor.this, ALARM, CommandEventType.REJECTED));
+    }
+
+    private void updateLatency(final long LATENCY_NS) {
+        lastLatencyNs.set(LATENCY_NS);
+        totalLatencyNs.addAndGet(LATENCY_NS);
+        long max = maxLatencyNs.get();
+        while (LATENCY_NS > max && !maxLatencyNs.compareAndSet(max, LATENCY_NS)) { max = maxLatencyNs.get(); }
+    }
+
+
+    // ******************** Event handling ************************************
+    /**
+     * Listeners will be called on the worker thread that executed the
+     * command. Use Platform.runLater() to update the UI from a listener.
+     * @param LISTENER
+     */
+    public void setOnCommandEvent(final CommandEventListener LISTENER) { addCommandEventListener(LISTENER); }
+    public void addCommandEventListener(final CommandEventListener LISTENER) { if (!listenerList.contains(LISTENER)) listenerList.add(LISTENER); }
+    public void removeCommandEventListener(final CommandEventListener LISTENER) { if (listenerList.contains(LISTENER)) listenerList.remove(LISTENER); }
+
+    public void fireCommandEvent(final CommandEvent EVENT) {
+        int listSize = listenerList.size();
+        for (int i = 0 ; i < listSize ; i++) { listenerList.get(i).onCommandEvent(EVENT); }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private class Task implements Runnable {
+        private final Alarm ALARM;
+        private final long  SUBMIT_TIME;
+        private       int   state;
+
+
+        // ******************** Constructors **************************************
+        Task(final Alarm ALARM, final long SUBMIT_TIME) {
+            this.ALARM       = ALARM;
+            this.SUBMIT_TIME = SUBMIT_TIME;
+            this.state       = RUNNING;
+        }
+
+
+        // ******************** Methods *******************************************
+        @Override public void run() {
+            final Thread             WORKER      = Thread.currentThread();
+            final long               START_TIME  = System.nanoTime();
+            final long               QUEUE_DELAY = START_TIME - SUBMIT_TIME;
+            final ScheduledFuture<?> TIMEOUT     = timeoutNs > 0 ? watchdog.schedule(() -> interrupt(WORKER), timeoutNs, TimeUnit.NANOSECONDS) : null;
+
+            if (QUEUE_DELAY > lateThresholdNs) {
+                noOfLate.incrementAndGet();
+                fireCommandEvent(new CommandEvent(CommandExecutor.this, ALARM, CommandEventType.LATE, QUEUE_DELAY, 0));
+            }
+
+            CommandEventType type = CommandEventType.EXECUTED;
+            try {
+                ALARM.executeCommand();
+            } catch (Throwable t) {
+                type = CommandEventType.FAILED;
+            } finally {
+                if (null != TIMEOUT) { TIMEOUT.cancel(false); }
+                synchronized (this) {
+                    if (TIMED_OUT == state) { type = CommandEventType.TIMED_OUT; }
+                    state = DONE;
+                    // Clear a pending interrupt so that it won't hit the next task on this worker
+                    Thread.interrupted();
+                }
+                release(ALARM);
+            }
+
+            final long END_TIME = System.nanoTime();
+            switch (type) {
+                case TIMED_OUT: noOfTimedOut.incrementAndGet(); break;
+                case FAILED   : noOfFailed.incrementAndGet(); break;
+                default       : noOfExecuted.incrementAndGet(); updateLatency(END_TIME - SUBMIT_TIME); break;
+            }
+            fireCommandEvent(new CommandEvent(CommandExecutor.this, ALARM, type, QUEUE_DELAY, END_TIME - START_TIME));
+        }
+
+        private synchronized void interrupt(final Thread WORKER) {
+            if (RUNNING != state) return;
+            state = TIMED_OUT;
+            WORKER.interrupt();
+        }
+    }
+}
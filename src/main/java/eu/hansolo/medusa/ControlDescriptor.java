@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Alarm.Repetition;
+import eu.hansolo.medusa.Clock.ClockSkinType;
+import eu.hansolo.medusa.Gauge.SkinType;
+import javafx.scene.control.Control;
+import javafx.scene.paint.Color;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * A lightweight and immutable description of a gauge or clock on a
+ * Dashboard. The options have been validated when the descriptor was
+ * created, the control will only be created by build().
+ */
+public class ControlDescriptor {
+    public enum Type { GAUGE, CLOCK }
+    enum Kind { NUMBER, INTEGER, BOOLEAN, STRING, COLOR, TIME, REPETITION, GAUGE_SKIN, CLOCK_SKIN, SECTIONS, MARKERS, ALARMS }
+    public  static final double            DEFAULT_SIZE    = 150;
+    private static final Map<String, Kind> GAUGE_OPTIONS   = new HashMap<>();
+    private static final Map<String, Kind> CLOCK_OPTIONS   = new HashMap<>();
+    private static final Map<String, Kind> SECTION_OPTIONS = new HashMap<>();
+    private static final Map<String, Kind> MARKER_OPTIONS  = new HashMap<>();
+    private static final Map<String, Kind> ALARM_OPTIONS   = new HashMap<>();
+    static {
+        for (String key : new String[] { "title", "subTitle", "unit" }) { GAUGE_OPTIONS.put(key, Kind.STRING); }
+        for (String key : new String[] { "value", "minValue", "maxValue", "threshold", "startAngle", "angleRange" }) { GAUGE_OPTIONS.put(key, Kind.NUMBER); }
+        for (String key : new String[] { "decimals", "tickLabelDecimals" }) { GAUGE_OPTIONS.put(key, Kind.INTEGER); }
+        for (String key : new String[] { "animated", "thresholdVisible", "lcdVisible", "ledVisible", "averageVisible", "sectionsVisible", "markersVisible" }) { GAUGE_OPTIONS.put(key, Kind.BOOLEAN); }
+        for (String key : new String[] { "barColor", "needleColor", "titleColor", "foregroundBaseColor", "backgroundPaint" }) { GAUGE_OPTIONS.put(key, Kind.COLOR); }
+        GAUGE_OPTIONS.put("skinType", Kind.GAUGE_SKIN);
+        GAUGE_OPTIONS.put("sections", Kind.SECTIONS);
+        GAUGE_OPTIONS.put("markers", Kind.MARKERS);
+
+        CLOCK_OPTIONS.put("title", Kind.STRING);
+        for (String key : new String[] { "running", "secondsVisible", "dateVisible", "alarmsEnabled", "discreteSeconds" }) { CLOCK_OPTIONS.put(key, Kind.BOOLEAN); }
+        for (String key : new String[] { "textColor", "hourColor", "minuteColor", "secondColor", "backgroundPaint" }) { CLOCK_OPTIONS.put(key, Kind.COLOR); }
+        CLOCK_OPTIONS.put("skinType", Kind.CLOCK_SKIN);
+        CLOCK_OPTIONS.put("alarms", Kind.ALARMS);
+
+        SECTION_OPTIONS.put("start", Kind.NUMBER);
+        SECTION_OPTIONS.put("stop", Kind.NUMBER);
+        SECTION_OPTIONS.put("text", Kind.STRING);
+        SECTION_OPTIONS.put("color", Kind.COLOR);
+        SECTION_OPTIONS.put("textColor", Kind.COLOR);
+
+        MARKER_OPTIONS.put("value", Kind.NUMBER);
+        MARKER_OPTIONS.put("text", Kind.STRING);
+        MARKER_OPTIONS.put("color", Kind.COLOR);
+
+        ALARM_OPTIONS.put("time", Kind.TIME);
+        ALARM_OPTIONS.put("text", Kind.STRING);
+        ALARM_OPTIONS.put("repetition", Kind.REPETITION);
+        ALARM_OPTIONS.put("armed", Kind.BOOLEAN);
+        ALARM_OPTIONS.put("color", Kind.COLOR);
+    }
+    private final Type                type;
+    private final String              id;
+    private final double              x;
+    private final double              y;
+    private final double              width;
+    private final double              height;
+    private final Map<String, Object> options;
+
+
+    // ******************** Constructors **************************************
+    private ControlDescriptor(final Type TYPE, final String ID, final double X, final double Y, final double WIDTH, final double HEIGHT, final Map<String, Object> OPTIONS) {
+        type    = TYPE;
+        id      = ID;
+        x       = X;
+        y       = Y;
+        width   = WIDTH;
+        height  = HEIGHT;
+        options = Collections.unmodifiableMap(OPTIONS);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Validates the given raw control description (as read by the
+     * DashboardLoader) and converts its options into typed values.
+     * @param RAW   the raw description with numbers, booleans, strings, lists and maps
+     * @param INDEX the index of the control, used in error messages
+     * @return the descriptor of the control
+     * @throws IllegalArgumentException if the description contains unknown options or invalid values
+     */
+    static ControlDescriptor of(final Map<String, Object> RAW, final int INDEX) {
+        final Object TYPE_NAME = RAW.get("type");
+        final Object ID        = RAW.get("id");
+        final String PATH      = "control " + INDEX + (ID instanceof String ? " (" + ID + ")" : "");
+        final Type   TYPE;
+        if ("gauge".equals(TYPE_NAME)) {
+            TYPE = Type.GAUGE;
+        } else if ("clock".equals(TYPE_NAME)) {
+            TYPE = Type.CLOCK;
+        } else {
+            throw new IllegalArgumentException(PATH + ": type has to be gauge or clock but was " + TYPE_NAME);
+        }
+        if (null != ID && !(ID instanceof String)) { throw new IllegalArgumentException(PATH + ": id has to be a string"); }
+
+        final Map<String, Object> OPTIONS = new LinkedHashMap<>(RAW);
+        OPTIONS.remove("type");
+        OPTIONS.remove("id");
+        final double X      = getNumber(OPTIONS.remove("x"), 0, PATH + ".x");
+        final double Y      = getNumber(OPTIONS.remove("y"), 0, PATH + ".y");
+        final double WIDTH  = getNumber(OPTIONS.remove("width"), DEFAULT_SIZE, PATH + ".width");
+        final double HEIGHT = getNumber(OPTIONS.remove("height"), DEFAULT_SIZE, PATH + ".height");
+        if (WIDTH <= 0 || HEIGHT <= 0) { throw new IllegalArgumentException(PATH + ": width and height have to be > 0"); }
+
+        return new ControlDescriptor(TYPE, (String) ID, X, Y, WIDTH, HEIGHT, convert(OPTIONS, Type.GAUGE == TYPE ? GAUGE_OPTIONS : CLOCK_OPTIONS, PATH));
+    }
+
+    public Type getType() { return type; }
+
+    /**
+     * @return the id of the control or null if the description has no id
+     */
+    public String getId() { return id; }
+
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public double getWidth() { return width; }
+    public double getHeight() { return height; }
+
+    /**
+     * Returns the validated options of the control. Colors will be returned
+     * as Color, skin types and repetitions as enums, times as ZonedDateTime
+     * and sections, markers and alarms as lists of option maps.
+     * @return the validated options of the control
+     */
+    public Map<String, Object> getOptions() { return options; }
+
+    public boolean intersects(final double X, final double Y, final double WIDTH, final double HEIGHT) {
+        return x < X + WIDTH && x + width > X && y < Y + HEIGHT && y + height > Y;
+    }
+
+    /**
+     * Creates the control with the GaugeBuilder or ClockBuilder. Has to be
+     * called on the FX application thread.
+     * @return a new Gauge or Clock
+     */
+    public Control build() { return Type.GAUGE == type ? buildGauge() : buildClock(); }
+
+    private Gauge buildGauge() {
+        final GaugeBuilder<?> BUILDER = GaugeBuilder.create();
+        for (Map.Entry<String, Object> option : options.entrySet()) {
+            final Object VALUE = option.getValue();
+            switch(option.getKey()) {
+                case "skinType"           : BUILDER.skinType((SkinType) VALUE); break;
+                case "title"              : BUILDER.title((String) VALUE); break;
+                case "subTitle"           : BUILDER.subTitle((String) VALUE); break;
+                case "unit"               : BUILDER.unit((String) VALUE); break;
+                case "value"              : BUILDER.value((Double) VALUE); break;
+                case "minValue"           : BUILDER.minValue((Double) VALUE); break;
+                case "maxValue"           : BUILDER.maxValue((Double) VALUE); break;
+                case "threshold"          : BUILDER.threshold((Double) VALUE); break;
+                case "startAngle"         : BUILDER.startAngle((Double) VALUE); break;
+                case "angleRange"         : BUILDER.angleRange((Double) VALUE); break;
+                case "decimals"           : BUILDER.decimals((Integer) VALUE); break;
+                case "tickLabelDecimals"  : BUILDER.tickLabelDecimals((Integer) VALUE); break;
+                case "animated"           : BUILDER.animated((Boolean) VALUE); break;
+                case "thresholdVisible"   : BUILDER.thresholdVisible((Boolean) VALUE); break;
+                case "lcdVisible"         : BUILDER.lcdVisible((Boolean) VALUE); break;
+                case "ledVisible"         : BUILDER.ledVisible((Boolean) VALUE); break;
+                case "averageVisible"     : BUILDER.averageVisible((Boolean) VALUE); break;
+                case "sectionsVisible"    : BUILDER.sectionsVisible((Boolean) VALUE); break;
+                case "markersVisible"     : BUILDER.markersVisible((Boolean) VALUE); break;
+                case "barColor"           : BUILDER.barColor((Color) VALUE); break;
+                case "needleColor"        : BUILDER.needleColor((Color) VALUE); break;
+                case "titleColor"         : BUILDER.titleColor((Color) VALUE); break;
+                case "foregroundBaseColor": BUILDER.foregroundBaseColor((Color) VALUE); break;
+                case "backgroundPaint"    : BUILDER.backgroundPaint((Color) VALUE); break;
+                case "sections"           : BUILDER.sections(createSections(VALUE)); break;
+                case "markers"            : BUILDER.markers(createMarkers(VALUE)); break;
+            }
+        }
+        BUILDER.prefSize(width, height);
+        return BUILDER.build();
+    }
+
+    private Clock buildClock() {
+        final ClockBuilder<?> BUILDER = ClockBuilder.create();
+        for (Map.Entry<String, Object> option : options.entrySet()) {
+            final Object VALUE = option.getValue();
+            switch(option.getKey()) {
+                case "skinType"       : BUILDER.skinType((ClockSkinType) VALUE); break;
+                case "title"          : BUILDER.title((String) VALUE); break;
+                case "running"        : BUILDER.running((Boolean) VALUE); break;
+                case "secondsVisible" : BUILDER.secondsVisible((Boolean) VALUE); break;
+                case "dateVisible"    : BUILDER.dateVisible((Boolean) VALUE); break;
+                case "alarmsEnabled"  : BUILDER.alarmsEnabled((Boolean) VALUE); break;
+                case "discreteSeconds": BUILDER.discreteSeconds((Boolean) VALUE); break;
+                case "textColor"      : BUILDER.textColor((Color) VALUE); break;
+                case "hourColor"      : BUILDER.hourColor((Color) VALUE); break;
+                case "minuteColor"    : BUILDER.minuteColor((Color) VALUE); break;
+                case "secondColor"    : BUILDER.secondColor((Color) VALUE); break;
+                case "backgroundPaint": BUILDER.backgroundPaint((Color) VALUE); break;
+                case "alarms"         : BUILDER.alarms(createAlarms(VALUE)); break;
+            }
+        }
+        BUILDER.prefSize(width, height);
+        return BUILDER.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Section> createSections(final Object VALUE) {
+        final List<Section> SECTIONS = new ArrayList<>();
+        for (Map<String, Object> options : (List<Map<String, Object>>) VALUE) {
+            final Section SECTION = new Section((Double) options.getOrDefault("start", 0.0), (Double) options.getOrDefault("stop", 0.0));
+            if (options.containsKey("text"))      { SECTION.setText((String) options.get("text")); }
+            if (options.containsKey("color"))     { SECTION.setColor((Color) options.get("color")); }
+            if (options.containsKey("textColor")) { SECTION.setTextColor((Color) options.get("textColor")); }
+            SECTIONS.add(SECTION);
+        }
+        return SECTIONS;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Marker> createMarkers(final Object VALUE) {
+        final List<Marker> MARKERS = new ArrayList<>();
+        for (Map<String, Object> options : (List<Map<String, Object>>) VALUE) {
+            final Marker MARKER = new Marker((Double) options.getOrDefault("value", 0.0), (String) options.getOrDefault("text", ""));
+            if (options.containsKey("color")) { MARKER.setColor((Color) options.get("color")); }
+            MARKERS.add(MARKER);
+        }
+        return MARKERS;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Alarm> createAlarms(final Object VALUE) {
+        final List<Alarm> ALARMS = new ArrayList<>();
+        for (Map<String, Object> options : (List<Map<String, Object>>) VALUE) {
+            final Alarm ALARM = new Alarm((Repetition) options.getOrDefault("repetition", Repetition.ONCE),
+                                          (ZonedDateTime) options.get("time"),
+                                          (Boolean) options.getOrDefault("armed", Alarm.ARMED),
+                                          (String) options.getOrDefault("text", ""));
+            if (options.containsKey("color")) { ALARM.setColor((Color) options.get("color")); }
+            ALARMS.add(ALARM);
+        }
+        return ALARMS;
+    }
+
+    private static Map<String, Object> convert(final Map<String, Object> RAW, final Map<String, Kind> SCHEMA, final String PATH) {
+        final Map<String, Object> OPTIONS = new LinkedHashMap<>(RAW.size());
+        for (Map.Entry<String, Object> option : RAW.entrySet()) {
+            final Kind KIND = SCHEMA.get(option.getKey());
+            if (null == KIND) { throw new IllegalArgumentException(PATH + ": unknown option " + option.getKey()); }
+            OPTIONS.put(option.getKey(), convert(option.getValue(), KIND, PATH + "." + option.getKey()));
+        }
+        return OPTIONS;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object convert(final Object VALUE, final Kind KIND, final String PATH) {
+        // A null would pass the casts and fail later when the builder unboxes it on the FX application thread
+        if (null == VALUE) { throw new IllegalArgumentException(PATH + ": has to be " + KIND.name().toLowerCase(Locale.ENGLISH) + " but was null"); }
+        try {
+            switch(KIND) {
+                case NUMBER    : return getNumber(VALUE, 0, PATH);
+                case INTEGER   :
+                    final double NUMBER = getNumber(VALUE, 0, PATH);
+                    if (NUMBER != Math.rint(NUMBER)) { throw new IllegalArgumentException(PATH + ": has to be an integer"); }
+                    return (int) NUMBER;
+                case BOOLEAN   : return (Boolean) VALUE;
+                case STRING    : return VALUE.toString();
+                case COLOR     : return Color.web((String) VALUE);
+                case TIME      : return ZonedDateTime.parse((String) VALUE);
+                case REPETITION: return Repetition.valueOf(((String) VALUE).toUpperCase(Locale.ENGLISH));
+                case GAUGE_SKIN: return SkinType.valueOf(((String) VALUE).toUpperCase(Locale.ENGLISH));
+                case CLOCK_SKIN: return ClockSkinType.valueOf(((String) VALUE).toUpperCase(Locale.ENGLISH));
+                case SECTIONS  : return convertAll((List<Object>) VALUE, SECTION_OPTIONS, PATH);
+                case MARKERS   : return convertAll((List<Object>) VALUE, MARKER_OPTIONS, PATH);
+                case ALARMS    :
+                    final List<Map<String, Object>> ALARMS = convertAll((List<Object>) VALUE, ALARM_OPTIONS, PATH);
+                    for (int i = 0 ; i < ALARMS.size() ; i++) {
+                        if (!ALARMS.get(i).containsKey("time")) { throw new IllegalArgumentException(PATH + "[" + i + "]: time is missing"); }
+                    }
+                    return ALARMS;
+                default        : throw new IllegalArgumentException(PATH + ": unsupported option");
+            }
+        } catch (ClassCastException | NullPointerException | DateTimeParseException e) {
+            throw new IllegalArgumentException(PATH + ": has to be " + KIND.name().toLowerCase(Locale.ENGLISH) + " but was " + VALUE);
+        } catch (IllegalArgumentException e) {
+            if (null != e.getMessage() && e.getMessage().startsWith(PATH)) throw e;
+            throw new IllegalArgumentException(PATH + ": invalid " + KIND.name().toLowerCase(Locale.ENGLISH) + " " + VALUE);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> convertAll(final List<Object> VALUES, final Map<String, Kind> SCHEMA, final String PATH) {
+        final List<Map<String, Object>> LIST = new ArrayList<>(VALUES.size());
+        for (int i = 0 ; i < VALUES.size() ; i++) {
+            if (!(VALUES.get(i) instanceof Map)) { throw new IllegalArgumentException(PATH + "[" + i + "]: has to be an object"); }
+            LIST.add(Collections.unmodifiableMap(convert((Map<String, Object>) VALUES.get(i), SCHEMA, PATH + "[" + i + "]")));
+        }
+        return Collections.unmodifiableList(LIST);
+    }
+
+    private static double getNumber(final Object VALUE, final double DEFAULT, final String PATH) {
+        if (null == VALUE) return DEFAULT;
+        if (!(VALUE instanceof Number)) { throw new IllegalArgumentException(PATH + ": has to be a number but was " + VALUE); }
+        return ((Number) VALUE).doubleValue();
+    }
+}
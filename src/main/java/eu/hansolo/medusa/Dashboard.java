@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.skins.RedrawScheduler;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Control;
+import javafx.scene.layout.Region;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class Dashboard extends Region {
+    private final List<ControlDescriptor>                descriptors;
+    private final Control[]                              controls;
+    private final Map<String, Integer>                   indices;
+    private final RedrawScheduler                        scheduler;
+    private final InvalidationListener                   viewportListener;
+    private       double                                 contentWidth;
+    private       double                                 contentHeight;
+    private       int                                    noOfMaterialized;
+    private       BiConsumer<ControlDescriptor, Control> onMaterialized;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * A dashboard that places the described controls at their position
+     * but only creates a control (and with it its skin) when the area of
+     * its descriptor becomes visible in the scene for the first time. So
+     * dashboards with thousands of controls only pay for the controls
+     * that have been shown. All gauges of the dashboard share one
+     * RedrawScheduler. The descriptors can be loaded with the
+     * DashboardLoader.
+     * @param DESCRIPTORS the descriptors of the controls
+     */
+    public Dashboard(final List<ControlDescriptor> DESCRIPTORS) {
+        getStyleClass().add("dashboard");
+        descriptors      = Collections.unmodifiableList(new ArrayList<>(DESCRIPTORS));
+        controls         = new Control[descriptors.size()];
+        indices          = new HashMap<>();
+        scheduler        = new RedrawScheduler();
+        viewportListener = o -> requestLayout();
+        for (int i = 0 ; i < descriptors.size() ; i++) {
+            final ControlDescriptor DESCRIPTOR = descriptors.get(i);
+            if (null != DESCRIPTOR.getId()) { indices.putIfAbsent(DESCRIPTOR.getId(), i); }
+            contentWidth  = Math.max(contentWidth, DESCRIPTOR.getX() + DESCRIPTOR.getWidth());
+            contentHeight = Math.max(contentHeight, DESCRIPTOR.getY() + DESCRIPTOR.getHeight());
+        }
+        registerListeners();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void registerListeners() {
+        // The visible area changes if the dashboard or one of its parents moves (e.g. in a ScrollPane)
+        localToSceneTransformProperty().addListener(viewportListener);
+        sceneProperty().addListener((o, ov, nv) -> {
+            if (null != ov) {
+                ov.widthProperty().removeListener(viewportListener);
+                ov.heightProperty().removeListener(viewportListener);
+            }
+            if (null != nv) {
+                nv.widthProperty().addListener(viewportListener);
+                nv.heightProperty().addListener(viewportListener);
+            }
+        });
+    }
+
+
+    // ******************** Methods *******************************************
+    public List<ControlDescriptor> getDescriptors() { return descriptors; }
+
+    /**
+     * Returns the no of controls that have been created so far.
+     * @return the no of controls that have been created so far
+     */
+    public int getNoOfMaterialized() { return noOfMaterialized; }
+
+    /**
+     * Returns the control with the given id or null if there is no such
+     * control or if it has not been visible yet.
+     * @param ID
+     * @return the control with the given id or null
+     */
+    public Control getControl(final String ID) {
+        final Integer INDEX = indices.get(ID);
+        return null == INDEX ? null : controls[INDEX];
+    }
+
+    /**
+     * Returns the control with the given id and creates it if it has not
+     * been visible yet (e.g. to bind it to a data source).
+     * @param ID
+     * @return the control with the given id or null if there is no such control
+     */
+    public Control materialize(final String ID) {
+        final Integer INDEX = indices.get(ID);
+        return null == INDEX ? null : materialize(INDEX);
+    }
+
+    /**
+     * Defines a callback that will be called on the FX application thread
+     * whenever a control has been created, e.g. to connect it to its data.
+     * @param ON_MATERIALIZED
+     */
+    public void setOnMaterialized(final BiConsumer<ControlDescriptor, Control> ON_MATERIALIZED) { onMaterialized = ON_MATERIALIZED; }
+
+    /**
+     * Stages the values that will be set by the given batch and publishes
+     * them in one runnable on the FX application thread, so all values will
+     * be shown in the same pulse, e.g.
+     * dashboard.update(batch -> batch.setValue(gauge1, 10).setValue(gauge2, 20));
+     * Can be called from any thread, the gauges can be obtained with
+     * materialize() or in the callback of setOnMaterialized().
+     * @param BATCH
+     */
+    public void update(final Consumer<GaugeTransaction> BATCH) { GaugeTransaction.update(BATCH); }
+
+    private Control materialize(final int INDEX) {
+        if (null != controls[INDEX]) return controls[INDEX];
+        final ControlDescriptor DESCRIPTOR = descriptors.get(INDEX);
+        final Control           CONTROL    = DESCRIPTOR.build();
+        if (CONTROL instanceof Gauge) { ((Gauge) CONTROL).setRedrawScheduler(scheduler); }
+        controls[INDEX] = CONTROL;
+        noOfMaterialized++;
+        getChildren().add(CONTROL);
+        if (null != onMaterialized) { onMaterialized.accept(DESCRIPTOR, CONTROL); }
+        return CONTROL;
+    }
+
+    /**
+     * Returns the part of the dashboard (in local coordinates) that is
+     * visible in the scene, or null if nothing is visible.
+     */
+    private Bounds getVisibleBounds() {
+        final Scene SCENE = getScene();
+        if (null == SCENE || getWidth() <= 0 || getHeight() <= 0) return null;
+        double minX = 0;
+        double minY = 0;
+        double maxX = SCENE.getWidth();
+        double maxY = SCENE.getHeight();
+        // Clips of the parents (e.g. the viewport of a ScrollPane) limit the visible area
+        for (Node node = this ; null != node ; node = node.getParent()) {
+            if (!node.isVisible()) return null;
+            if (null == node.getClip()) continue;
+            final Bounds CLIP = node.localToScene(node.getClip().getBoundsInParent());
+            minX = Math.max(minX, CLIP.getMinX());
+            minY = Math.max(minY, CLIP.getMinY());
+            maxX = Math.min(maxX, CLIP.getMaxX());
+            maxY = Math.min(maxY, CLIP.getMaxY());
+        }
+        if (maxX <= minX || maxY <= minY) return null;
+        final Bounds VISIBLE = sceneToLocal(new BoundingBox(minX, minY, maxX - minX, maxY - minY));
+        return null == VISIBLE || !VISIBLE.intersects(getLayoutBounds()) ? null : VISIBLE;
+    }
+
+
+    // ******************** Layout *******************************************
+    @Override protected double computePrefWidth(final double HEIGHT) {
+        return snappedLeftInset() + contentWidth + snappedRightInset();
+    }
+    @Override protected double computePrefHeight(final double WIDTH) {
+        return snappedTopInset() + contentHeight + snappedBottomInset();
+    }
+
+    @Override protected void layoutChildren() {
+        final double LEFT    = snappedLeftInset();
+        final double TOP     = snappedTopInset();
+        final Bounds VISIBLE = getVisibleBounds();
+        if (null != VISIBLE) {
+            final double X      = VISIBLE.getMinX() - LEFT;
+            final double Y      = VISIBLE.getMinY() - TOP;
+            final double WIDTH  = VISIBLE.getWidth();
+            final double HEIGHT = VISIBLE.getHeight();
+            for (int i = 0 ; i < controls.length ; i++) {
+                if (null == controls[i] && descriptors.get(i).intersects(X, Y, WIDTH, HEIGHT)) { materialize(i); }
+            }
+        }
+        for (int i = 0 ; i < controls.length ; i++) {
+            if (null == controls[i]) continue;
+            final ControlDescriptor DESCRIPTOR = descriptors.get(i);
+            controls[i].resizeRelocate(LEFT + DESCRIPTOR.getX(), TOP + DESCRIPTOR.getY(), DESCRIPTOR.getWidth(), DESCRIPTOR.getHeight());
+        }
+    }
+}
@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import javafx.scene.paint.Color;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * Reads the controls of a Dashboard from json or from a compact binary
+ * format. The json has the form
+ * {"controls":[{"type":"gauge","id":"g1","x":0,"y":0,"width":150,"height":150,"title":"Temp",...}, ...]}
+ * Parsing and validation will be done off the FX application thread and
+ * only creates ControlDescriptors, the controls will be created by the
+ * Dashboard when they become visible.
+ */
+public class DashboardLoader {
+    public  static final String JSON_SUFFIX   = ".json";
+    public  static final String BINARY_SUFFIX = ".mdb";
+    private static final int    MAGIC         = 0x4D444253;
+    private static final int    VERSION       = 1;
+    private static final byte   TAG_NULL      = 0;
+    private static final byte   TAG_NUMBER    = 1;
+    private static final byte   TAG_BOOLEAN   = 2;
+    private static final byte   TAG_STRING    = 3;
+    private static final byte   TAG_LIST      = 4;
+    private static final byte   TAG_MAP       = 5;
+    private static final int    HEADER_SIZE   = 9;
+    private static final int    CHUNK_SIZE    = 8192;
+
+
+    // ******************** Constructors **************************************
+    private DashboardLoader() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Loads the descriptors of the controls from the given file in the
+     * common ForkJoinPool. Files that end with .mdb will be read in the
+     * binary format, all other files as json.
+     * @param PATH
+     * @return a future that will be completed with the descriptors in the order of the file
+     */
+    public static CompletableFuture<List<ControlDescriptor>> load(final Path PATH) { return load(PATH, ForkJoinPool.commonPool()); }
+    /**
+     * Loads the descriptors of the controls from the given file with the
+     * given executor. The descriptors will be validated in parallel in the
+     * common ForkJoinPool.
+     * @param PATH
+     * @param EXECUTOR
+     * @return a future that will be completed with the descriptors in the order of the file
+     */
+    public static CompletableFuture<List<ControlDescriptor>> load(final Path PATH, final Executor EXECUTOR) {
+        final boolean BINARY = PATH.getFileName().toString().toLowerCase(Locale.ENGLISH).endsWith(BINARY_SUFFIX);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                if (BINARY) {
+                    try (InputStream in = Files.newInputStream(PATH)) { return readBinary(in, Files.size(PATH)); }
+                } else {
+                    try (Reader reader = Files.newBufferedReader(PATH, StandardCharsets.UTF_8)) { return readJson(reader); }
+                }
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, EXECUTOR);
+    }
+
+    /**
+     * Reads the descriptors of the controls from the given json. The json
+     * will be parsed sequentially as stream, each control will be validated
+     * in parallel as soon as it has been parsed.
+     * @param READER
+     * @return the descriptors in the order of the json
+     * @throws IOException if the json could not be read or parsed
+     * @throws IllegalArgumentException if a control is invalid
+     */
+    public static List<ControlDescriptor> readJson(final Reader READER) throws IOException {
+        final Validator VALIDATOR = new Validator();
+        new JsonParser(READER).readControls(raw -> {
+            final int INDEX = VALIDATOR.size();
+            VALIDATOR.submit(() -> ControlDescriptor.of(raw, INDEX));
+        });
+        return VALIDATOR.join();
+    }
+
+    /**
+     * Reads the descriptors of the controls from the given binary input.
+     * Each control is stored as length prefixed record, so each record
+     * will be decoded and validated in parallel as soon as it has been read.
+     * @param INPUT
+     * @return the descriptors in the order of the input
+     * @throws IOException if the input could not be read or is not in the binary format
+     * @throws IllegalArgumentException if a control is invalid
+     */
+    public static List<ControlDescriptor> readBinary(final InputStream INPUT) throws IOException { return readBinary(INPUT, Long.MAX_VALUE); }
+    private static List<ControlDescriptor> readBinary(final InputStream INPUT, final long SIZE) throws IOException {
+        final DataInputStream IN = new DataInputStream(new BufferedInputStream(INPUT));
+        if (MAGIC != IN.readInt()) { throw new IOException("Not a binary dashboard"); }
+        final int FILE_VERSION = IN.readUnsignedByte();
+        if (VERSION != FILE_VERSION) { throw new IOException("Unsupported binary dashboard version " + FILE_VERSION); }
+        final int NO_OF_CONTROLS = IN.readInt();
+        long remaining = SIZE - HEADER_SIZE;
+        // Each record needs at least the 4 bytes of its length
+        if (NO_OF_CONTROLS < 0 || NO_OF_CONTROLS > remaining / 4) { throw new IOException("Invalid no of controls " + NO_OF_CONTROLS); }
+        final Validator VALIDATOR = new Validator();
+        for (int i = 0 ; i < NO_OF_CONTROLS ; i++) {
+            final int LENGTH = IN.readInt();
+            remaining -= 4;
+            if (LENGTH < 0 || LENGTH > remaining) { throw new IOException("Invalid record length " + LENGTH + " of control " + i); }
+            remaining -= LENGTH;
+            final byte[] RECORD = readRecord(IN, LENGTH, i);
+            final int    INDEX  = i;
+            VALIDATOR.submit(() -> ControlDescriptor.of(decodeRecord(RECORD, INDEX), INDEX));
+        }
+        return VALIDATOR.join();
+    }
+
+    /**
+     * Writes the given descriptors in the binary format that will be read
+     * by readBinary().
+     * @param DESCRIPTORS
+     * @param OUTPUT
+     * @throws IOException
+     */
+    public static void writeBinary(final List<ControlDescriptor> DESCRIPTORS, final OutputStream OUTPUT) throws IOException {
+        final DataOutputStream      OUT    = new DataOutputStream(new BufferedOutputStream(OUTPUT));
+        final ByteArrayOutputStream BYTES  = new ByteArrayOutputStream(256);
+        final DataOutputStream      RECORD = new DataOutputStream(BYTES);
+        OUT.writeInt(MAGIC);
+        OUT.writeByte(VERSION);
+        OUT.writeInt(DESCRIPTORS.size());
+        for (ControlDescriptor descriptor : DESCRIPTORS) {
+            final Map<String, Object> RAW = new LinkedHashMap<>();
+            RAW.put("type", descriptor.getType().name().toLowerCase(Locale.ENGLISH));
+            if (null != descriptor.getId()) { RAW.put("id", descriptor.getId()); }
+            RAW.put("x", descriptor.getX());
+            RAW.put("y", descriptor.getY());
+            RAW.put("width", descriptor.getWidth());
+            RAW.put("height", descriptor.getHeight());
+            RAW.putAll(descriptor.getOptions());
+            BYTES.reset();
+            writeValue(RECORD, RAW);
+            RECORD.flush();
+            OUT.writeInt(BYTES.size());
+            BYTES.writeTo(OUT);
+        }
+        OUT.flush();
+    }
+
+    /**
+     * Reads a record of the given length in chunks, so that a corrupt length
+     * in a stream of unknown size fails at the end of the stream instead of
+     * allocating the given length upfront.
+     */
+    private static byte[] readRecord(final DataInputStream IN, final int LENGTH, final int INDEX) throws IOException {
+        byte[] record = new byte[Math.min(LENGTH, CHUNK_SIZE)];
+        int    offset = 0;
+        try {
+            while (offset < LENGTH) {
+                if (offset == record.length) { record = Arrays.copyOf(record, (int) Math.min(LENGTH, 2L * record.length)); }
+                IN.readFully(record, offset, record.length - offset);
+                offset = record.length;
+            }
+        } catch (EOFException e) {
+            throw new IOException("Record of control " + INDEX + " is truncated");
+        }
+        return record;
+    }
+
+    private static Map<String, Object> decodeRecord(final byte[] RECORD, final int INDEX) {
+        try {
+            final Object VALUE = readValue(new DataInputStream(new ByteArrayInputStream(RECORD)));
+            if (!(VALUE instanceof Map)) { throw new IOException("Record of control " + INDEX + " is not a map"); }
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> RAW = (Map<String, Object>) VALUE;
+            return RAW;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object readValue(final DataInputStream IN) throws IOException {
+        final byte TAG = IN.readByte();
+        switch(TAG) {
+            case TAG_NULL   : return null;
+            case TAG_NUMBER : return IN.readDouble();
+            case TAG_BOOLEAN: return IN.readBoolean();
+            case TAG_STRING : return IN.readUTF();
+            case TAG_LIST   :
+                final int          SIZE = IN.readInt();
+                if (SIZE < 0) { throw new IOException("Invalid list size " + SIZE); }
+                final List<Object> LIST = new ArrayList<>(Math.min(SIZE, 1024));
+                for (int i = 0 ; i < SIZE ; i++) { LIST.add(readValue(IN)); }
+                return LIST;
+            case TAG_MAP    :
+                final int                 NO_OF_ENTRIES = IN.readInt();
+                if (NO_OF_ENTRIES < 0) { throw new IOException("Invalid no of map entries " + NO_OF_ENTRIES); }
+                final Map<String, Object> MAP           = new LinkedHashMap<>();
+                for (int i = 0 ; i < NO_OF_ENTRIES ; i++) { MAP.put(IN.readUTF(), readValue(IN)); }
+                return MAP;
+            default         : throw new IOException("Unknown tag " + TAG);
+        }
+    }
+
+    /**
+     * Writes the given (typed) option in its raw form, so that it will be
+     * converted back by ControlDescriptor.of().
+     */
+    private static void writeValue(final DataOutputStream OUT, final Object VALUE) throws IOException {
+        if (null == VALUE) {
+            OUT.writeByte(TAG_NULL);
+        } else if (VALUE instanceof Number) {
+            OUT.writeByte(TAG_NUMBER);
+            OUT.writeDouble(((Number) VALUE).doubleValue());
+        } else if (VALUE instanceof Boolean) {
+            OUT.writeByte(TAG_BOOLEAN);
+            OUT.writeBoolean((Boolean) VALUE);
+        } else if (VALUE instanceof List) {
+            final List<?> LIST = (List<?>) VALUE;
+            OUT.writeByte(TAG_LIST);
+            OUT.writeInt(LIST.size());
+            for (Object item : LIST) { writeValue(OUT, item); }
+        } else if (VALUE instanceof Map) {
+            final Map<?, ?> MAP = (Map<?, ?>) VALUE;
+            OUT.writeByte(TAG_MAP);
+            OUT.writeInt(MAP.size());
+            for (Map.Entry<?, ?> entry : MAP.entrySet()) {
+                OUT.writeUTF(entry.getKey().toString());
+                writeValue(OUT, entry.getValue());
+            }
+        } else {
+            final String TEXT;
+            if (VALUE instanceof Color) {
+                final Color COLOR = (Color) VALUE;
+                TEXT = String.format(Locale.US, "#%02x%02x%02x%02x", Math.round(COLOR.getRed() * 255), Math.round(COLOR.getGreen() * 255),
+                                     Math.round(COLOR.getBlue() * 255), Math.round(COLOR.getOpacity() * 255));
+            } else if (VALUE instanceof Enum) {
+                TEXT = ((Enum<?>) VALUE).name();
+            } else {
+                // Strings and ZonedDateTime (ISO format)
+                TEXT = VALUE.toString();
+            }
+            OUT.writeByte(TAG_STRING);
+            OUT.writeUTF(TEXT);
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Validates the controls in the common ForkJoinPool while the next
+     * controls are read. Reading stops with the first invalid control.
+     */
+    private static class Validator {
+        private final List<CompletableFuture<ControlDescriptor>> descriptors;
+        private final CompletableFuture<Void>                    failure;
+
+
+        // ******************** Constructors **************************************
+        Validator() {
+            descriptors = new ArrayList<>();
+            failure     = new CompletableFuture<>();
+        }
+
+
+        // ******************** Methods *******************************************
+        int size() { return descriptors.size(); }
+
+        void submit(final Supplier<ControlDescriptor> DESCRIPTOR) throws IOException {
+            if (failure.isDone()) { rethrow(failure); }
+            final CompletableFuture<ControlDescriptor> FUTURE = CompletableFuture.supplyAsync(DESCRIPTOR, ForkJoinPool.commonPool());
+            FUTURE.whenComplete((descriptor, e) -> { if (null != e) { failure.completeExceptionally(e); } });
+            descriptors.add(FUTURE);
+        }
+
+        List<ControlDescriptor> join() throws IOException {
+            final List<ControlDescriptor> RESULT = new ArrayList<>(descriptors.size());
+            for (CompletableFuture<ControlDescriptor> descriptor : descriptors) {
+                if (failure.isDone()) { rethrow(failure); }
+                RESULT.add(rethrow(descriptor));
+            }
+            return RESULT;
+        }
+
+        private static <T> T rethrow(final CompletableFuture<T> FUTURE) throws IOException {
+            try {
+                return FUTURE.join();
+            } catch (CompletionException e) {
+                final Throwable CAUSE = null == e.getCause() ? e : e.getCause();
+                if (CAUSE instanceof UncheckedIOException) { throw ((UncheckedIOException) CAUSE).getCause(); }
+                if (CAUSE instanceof RuntimeException) { throw (RuntimeException) CAUSE; }
+                if (CAUSE instanceof Error) { throw (Error) CAUSE; }
+                throw e;
+            }
+        }
+    }
+
+    @FunctionalInterface private interface ControlConsumer {
+        void accept(Map<String, Object> RAW) throws IOException;
+    }
+
+    /**
+     * A minimal streaming json parser that reads the values into maps,
+     * lists, doubles, booleans and strings.
+     */
+    private static class JsonParser {
+        private final Reader        reader;
+        private final StringBuilder buffer;
+        private       int           next;
+        private       int           line;
+
+
+        // ******************** Constructors **************************************
+        JsonParser(final Reader READER) throws IOException {
+            reader = READER;
+            buffer = new StringBuilder();
+            line   = 1;
+            next   = reader.read();
+        }
+
+
+        // ******************** Methods *******************************************
+        /**
+         * Reads the top level object and passes each object of its
+         * "controls" array to the given consumer as soon as it has been
+         * read. All other keys of the top level object will be skipped.
+         */
+        void readControls(final ControlConsumer CONSUMER) throws IOException {
+            expect('{');
+            if (!consume('}')) {
+                do {
+                    final String KEY = readString();
+                    expect(':');
+                    if ("controls".equals(KEY)) {
+                        expect('[');
+                        if (!consume(']')) {
+                            do {
+                                if ('{' != peek()) { throw error("Expected control object"); }
+                                CONSUMER.accept(readObject());
+                            } while (consume(','));
+                            expect(']');
+                        }
+                    } else {
+                        readValue();
+                    }
+                } while (consume(','));
+                expect('}');
+            }
+            if (-1 != peek()) { throw error("Unexpected content after dashboard"); }
+        }
+
+        private Object readValue() throws IOException {
+            final int C = peek();
+            switch(C) {
+                case '{': return readObject();
+                case '[': return readArray();
+                case '"': return readString();
+                case 't': readLiteral("true");  return Boolean.TRUE;
+                case 'f': readLiteral("false"); return Boolean.FALSE;
+                case 'n': readLiteral("null");  return null;
+                default :
+                    if ('-' == C || (C >= '0' && C <= '9')) return readNumber();
+                    throw error(-1 == C ? "Unexpected end of json" : "Unexpected character '" + (char) C + "'");
+            }
+        }
+
+        private Map<String, Object> readObject() throws IOException {
+            final Map<String, Object> MAP = new LinkedHashMap<>();
+            expect('{');
+            if (consume('}')) return MAP;
+            do {
+                final String KEY = readString();
+                expect(':');
+                MAP.put(KEY, readValue());
+            } while (consume(','));
+            expect('}');
+            return MAP;
+        }
+
+        private List<Object> readArray() throws IOException {
+            final List<Object> LIST = new ArrayList<>();
+            expect('[');
+            if (consume(']')) return LIST;
+            do { LIST.add(readValue()); } while (consume(','));
+            expect(']');
+            return LIST;
+        }
+
+        private String readString() throws IOException {
+            expect('"');
+            buffer.setLength(0);
+            while (true) {
+                int c = read();
+                if (-1 == c || '\n' == c) { throw error("Unterminated string"); }
+                if ('"' == c) break;
+                if ('\\' == c) {
+                    c = read();
+                    switch(c) {
+                        case '"' :
+                        case '\\':
+                        case '/' : buffer.append((char) c); break;
+                        case 'b' : buffer.append('\b'); break;
+                        case 'f' : buffer.append('\f'); break;
+                        case 'n' : buffer.append('\n'); break;
+                        case 'r' : buffer.append('\r'); break;
+                        case 't' : buffer.append('\t'); break;
+                        case 'u' :
+                            int code = 0;
+                            for (int i = 0 ; i < 4 ; i++) {
+                                final int DIGIT = Character.digit(read(), 16);
+                                if (DIGIT < 0) { throw error("Invalid unicode escape"); }
+                                code = code * 16 + DIGIT;
+                            }
+                            buffer.append((char) code);
+                            break;
+                        default  : throw error("Invalid escape");
+                    }
+                } else {
+                    buffer.append((char) c);
+                }
+            }
+            return buffer.toString();
+        }
+
+        private Double readNumber() throws IOException {
+            buffer.setLength(0);
+            while (-1 != next && ("+-.eE".indexOf(next) >= 0 || (next >= '0' && next <= '9'))) { buffer.append((char) read()); }
+            try {
+                return Double.valueOf(buffer.toString());
+            } catch (NumberFormatException e) {
+                throw error("Invalid number " + buffer);
+            }
+        }
+
+        private void readLiteral(final String LITERAL) throws IOException {
+            for (int i = 0 ; i < LITERAL.length() ; i++) {
+                if (read() != LITERAL.charAt(i)) { throw error("Expected " + LITERAL); }
+            }
+        }
+
+        private void expect(final char C) throws IOException {
+            if (!consume(C)) { throw error("Expected '" + C + "'"); }
+        }
+
+        private boolean consume(final char C) throws IOException {
+            if (C != peek()) return false;
+            read();
+            return true;
+        }
+
+        /**
+         * Skips whitespace and returns the next character without reading it.
+         */
+        private int peek() throws IOException {
+            while (' ' == next || '\t' == next || '\r' == next || '\n' == next) { read(); }
+            return next;
+        }
+
+        private int read() throws IOException {
+            final int C = next;
+            if ('\n' == C) { line++; }
+            next = reader.read();
+            return C;
+        }
+
+        private IOException error(final String MESSAGE) { return new IOException(MESSAGE + " in line " + line); }
+    }
+}
@@ -23,15 +23,22 @@ import eu.hansolo.medusa.tools.Data;
 import eu.hansolo.medusa.tools.GradientLookup;
 import eu.hansolo.medusa.tools.Helper;
 import eu.hansolo.medusa.tools.MarkerComparator;
+import eu.hansolo.medusa.tools.Metrics;
 import eu.hansolo.medusa.tools.MovingAverage;
 import eu.hansolo.medusa.tools.SectionComparator;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
@@ -43,7 +50,6 @@ import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
-import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.DoubleProperty;
@@ -107,7 +113,8 @@ public class Gauge extends Control {
         AMP, BULLET_CHART, DASHBOARD, FLAT, GAUGE, INDICATOR, KPI,
         MODERN, SIMPLE, SLIM, SPACE_X, QUARTER, HORIZONTAL, VERTICAL,
         LCD, TINY, BATTERY, LEVEL, LINEAR, DIGITAL, SIMPLE_DIGITAL, SECTION,
-        BAR, WHITE, CHARGE, SIMPLE_SECTION, TILE_KPI, TILE_TEXT_KPI, TILE_SPARK_LINE
+        BAR, WHITE, CHARGE, SIMPLE_SECTION, TILE_KPI, TILE_TEXT_KPI, TILE_SPARK_LINE,
+        CANVAS_GAUGE, STRIP_CHART
     }
 
     public static final  Color   DARK_COLOR          = Color.rgb(36, 36, 36);
@@ -173,7 +180,6 @@ public class Gauge extends Control {
     private BooleanProperty                      startFromZero;
     private boolean                              _returnToZero;
     private BooleanProperty                      returnToZero;
-    private Color                                _zeroColor;
     private ObjectProperty<Color>                zeroColor;
     private double                               _minMeasuredValue;
     private DoubleProperty                       minMeasuredValue;
@@ -187,17 +193,11 @@ public class Gauge extends Control {
     private BooleanProperty                      oldValueVisible;
     private boolean                              _valueVisible;
     private BooleanProperty                      valueVisible;
-    private Paint                                _backgroundPaint;
     private ObjectProperty<Paint>                backgroundPaint;
-    private Paint                                _borderPaint;
     private ObjectProperty<Paint>                borderPaint;
-    private double                               _borderWidth;
     private DoubleProperty                       borderWidth;
-    private Paint                                _foregroundPaint;
     private ObjectProperty<Paint>                foregroundPaint;
-    private Color                                _knobColor;
     private ObjectProperty<Color>                knobColor;
-    private KnobType                             _knobType;
     private ObjectProperty<KnobType>             knobType;
     private Pos                                  _knobPosition;
     private ObjectProperty<Pos>                  knobPosition;
@@ -206,6 +206,16 @@ public class Gauge extends Control {
     private boolean                              _animated;
     private BooleanProperty                      animated;
     private long                                 animationDuration;
+    private RedrawScheduler                      redrawScheduler;
+    private int                                  redrawPriority;
+    private double                               maxRefreshRate;
+    private boolean                              suspendWhenHidden;
+    private boolean                              skinPooling;
+    private Map<SkinType, GaugeSkinBase>         skinPool;
+    private GaugeStyle                           gaugeStyle;
+    private int                                  updateBatchDepth;
+    private Set<UpdateEvent>                     batchedEvents;
+    private LevelOfDetail                        levelOfDetail;
     private double                               _startAngle;
     private DoubleProperty                       startAngle;
     private double                               _angleRange;
@@ -214,43 +224,25 @@ public class Gauge extends Control {
     private DoubleProperty                       angleStep;
     private boolean                              _autoScale;
     private BooleanProperty                      autoScale;
-    private boolean                              _shadowsEnabled;
     private BooleanProperty                      shadowsEnabled;
-    private boolean                              _barEffectEnabled;
     private BooleanProperty                      barEffectEnabled;
     private ScaleDirection                       _scaleDirection;
     private ObjectProperty<ScaleDirection>       scaleDirection;
-    private TickLabelLocation                    _tickLabelLocation;
     private ObjectProperty<TickLabelLocation>    tickLabelLocation;
-    private TickLabelOrientation                 _tickLabelOrientation;
     private ObjectProperty<TickLabelOrientation> tickLabelOrientation;
-    private Color                                _tickLabelColor;
     private ObjectProperty<Color>                tickLabelColor;
-    private Color                                _tickMarkColor;
     private ObjectProperty<Color>                tickMarkColor;
-    private Color                                _majorTickMarkColor;
     private ObjectProperty<Color>                majorTickMarkColor;
-    private double                               _majorTickMarkLengthFactor;
     private DoubleProperty                       majorTickMarkLengthFactor;
-    private double                               _majorTickMarkWidthFactor;
     private DoubleProperty                       majorTickMarkWidthFactor;
-    private Color                                _mediumTickMarkColor;
     private ObjectProperty<Color>                mediumTickMarkColor;
-    private double                               _mediumTickMarkLengthFactor;
     private DoubleProperty                       mediumTickMarkLengthFactor;
-    private double                               _mediumTickMarkWidthFactor;
     private DoubleProperty                       mediumTickMarkWidthFactor;
-    private Color                                _minorTickMarkColor;
     private ObjectProperty<Color>                minorTickMarkColor;
-    private double                               _minorTickMarkLengthFactor;
     private DoubleProperty                       minorTickMarkLengthFactor;
-    private double                               _minorTickMarkWidthFactor;
     private DoubleProperty                       minorTickMarkWidthFactor;
-    private TickMarkType                         _majorTickMarkType;
     private ObjectProperty<TickMarkType>         majorTickMarkType;
-    private TickMarkType                         _mediumTickMarkType;
     private ObjectProperty<TickMarkType>         mediumTickMarkType;
-    private TickMarkType                         _minorTickMarkType;
     private ObjectProperty<TickMarkType>         minorTickMarkType;
     private Locale                               _locale;
     private ObjectProperty<Locale>               locale;
@@ -258,43 +250,25 @@ public class Gauge extends Control {
     private IntegerProperty                      decimals;
     private int                                  _tickLabelDecimals;
     private IntegerProperty                      tickLabelDecimals;
-    private NeedleType                           _needleType;
     private ObjectProperty<NeedleType>           needleType;
-    private NeedleShape                          _needleShape;
     private ObjectProperty<NeedleShape>          needleShape;
-    private NeedleSize                           _needleSize;
     private ObjectProperty<NeedleSize>           needleSize;
     private NeedleBehavior                       _needleBehavior;
     private ObjectProperty<NeedleBehavior>       needleBehavior;
-    private Color                                _needleColor;
     private ObjectProperty<Color>                needleColor;
-    private Color                                _needleBorderColor;
     private ObjectProperty<Color>                needleBorderColor;
-    private Color                                _barColor;
     private ObjectProperty<Color>                barColor;
-    private Color                                _barBorderColor;
     private ObjectProperty<Color>                barBorderColor;
-    private Color                                _barBackgroundColor;
     private ObjectProperty<Color>                barBackgroundColor;
-    private LcdDesign                            _lcdDesign;
     private ObjectProperty<LcdDesign>            lcdDesign;
-    private LcdFont                              _lcdFont;
     private ObjectProperty<LcdFont>              lcdFont;
-    private Color                                _ledColor;
     private ObjectProperty<Color>                ledColor;
-    private LedType                              _ledType;
     private ObjectProperty<LedType>              ledType;
-    private Color                                _titleColor;
     private ObjectProperty<Color>                titleColor;
-    private Color                                _subTitleColor;
     private ObjectProperty<Color>                subTitleColor;
-    private Color                                _unitColor;
     private ObjectProperty<Color>                unitColor;
-    private Color                                _valueColor;
     private ObjectProperty<Color>                valueColor;
-    private Color                                _thresholdColor;
     private ObjectProperty<Color>                thresholdColor;
-    private Color                                _averageColor;
     private ObjectProperty<Color>                averageColor;
     private boolean                              _checkSectionsForValue;
     private BooleanProperty                      checkSectionsForValue;
@@ -332,15 +306,11 @@ public class Gauge extends Control {
     private BooleanProperty                      tickLabelSectionsVisible;
     private boolean                              _markersVisible;
     private BooleanProperty                      markersVisible;
-    private boolean                              _majorTickMarksVisible;
     private BooleanProperty                      majorTickMarksVisible;
-    private boolean                              _mediumTickMarksVisible;
     private BooleanProperty                      mediumTickMarksVisible;
-    private boolean                              _minorTickMarksVisible;
     private BooleanProperty                      minorTickMarksVisible;
     private boolean                              _tickMarkRingVisible;
     private BooleanProperty                      tickMarkRingVisible;
-    private boolean                              _tickLabelsVisible;
     private BooleanProperty                      tickLabelsVisible;
     private boolean                              _onlyFirstAndLastTickLabelVisible;
     private BooleanProperty                      onlyFirstAndLastTickLabelVisible;
@@ -374,9 +344,7 @@ public class Gauge extends Control {
     private StringProperty                       buttonTooltipText;
     private boolean                              _keepAspect;
     private BooleanProperty                      keepAspect;
-    private boolean                              _customFontEnabled;
     private BooleanProperty                      customFontEnabled;
-    private Font                                 _customFont;
     private ObjectProperty<Font>                 customFont;
     private boolean                              _alert;
     private BooleanProperty                      alert;
@@ -499,68 +467,35 @@ public class Gauge extends Control {
 
         _startFromZero                      = false;
         _returnToZero                       = false;
-        _zeroColor                          = DARK_COLOR;
         _minMeasuredValue                   = _maxValue;
         _maxMeasuredValue                   = _minValue;
         _minMeasuredValueVisible            = false;
         _maxMeasuredValueVisible            = false;
         _oldValueVisible                    = false;
         _valueVisible                       = true;
-        _backgroundPaint                    = Color.TRANSPARENT;
-        _borderPaint                        = Color.TRANSPARENT;
-        _borderWidth                        = 1;
-        _foregroundPaint                    = Color.TRANSPARENT;
-        _knobColor                          = Color.rgb(204, 204, 204);
-        _knobType                           = KnobType.STANDARD;
         _knobPosition                       = Pos.CENTER;
         _knobVisible                        = true;
         _animated                           = false;
         animationDuration                   = 800;
+        redrawScheduler                     = null;
+        redrawPriority                      = 0;
+        maxRefreshRate                      = 0;
+        suspendWhenHidden                   = false;
+        skinPooling                         = false;
+        skinPool                            = new EnumMap<>(SkinType.class);
+        gaugeStyle                          = GaugeStyle.DEFAULT;
+        updateBatchDepth                    = 0;
+        batchedEvents                       = new LinkedHashSet<>();
+        levelOfDetail                       = LevelOfDetail.FULL;
         _startAngle                         = 320;
         _angleRange                         = 280;
         _angleStep                          = _angleRange / _range;
         _autoScale                          = true;
-        _shadowsEnabled                     = false;
-        _barEffectEnabled                   = false;
         _scaleDirection                     = ScaleDirection.CLOCKWISE;
-        _tickLabelLocation                  = TickLabelLocation.INSIDE;
-        _tickLabelOrientation               = TickLabelOrientation.HORIZONTAL;
-        _tickLabelColor                     = DARK_COLOR;
-        _tickMarkColor                      = DARK_COLOR;
-        _majorTickMarkColor                 = DARK_COLOR;
-        _majorTickMarkLengthFactor          = 0.42;
-        _majorTickMarkWidthFactor           = 0.275;
-        _mediumTickMarkColor                = DARK_COLOR;
-        _mediumTickMarkLengthFactor         = 0.41;
-        _mediumTickMarkWidthFactor          = 0.175;
-        _minorTickMarkColor                 = DARK_COLOR;
-        _minorTickMarkLengthFactor          = 0.40;
-        _minorTickMarkWidthFactor           = 0.1125;
-        _majorTickMarkType                  = TickMarkType.LINE;
-        _mediumTickMarkType                 = TickMarkType.LINE;
-        _minorTickMarkType                  = TickMarkType.LINE;
         _locale                             = Locale.US;
         _decimals                           = 1;
         _tickLabelDecimals                  = 0;
-        _needleType                         = NeedleType.STANDARD;
-        _needleShape                        = NeedleShape.ANGLED;
-        _needleSize                         = NeedleSize.STANDARD;
         _needleBehavior                     = NeedleBehavior.STANDARD;
-        _needleColor                        = Color.rgb(200, 0, 0);
-        _needleBorderColor                  = Color.TRANSPARENT;
-        _barColor                           = BRIGHT_COLOR;
-        _barBorderColor                     = Color.TRANSPARENT;
-        _barBackgroundColor                 = DARK_COLOR;
-        _lcdDesign                          = LcdDesign.STANDARD;
-        _lcdFont                            = LcdFont.DIGITAL_BOLD;
-        _ledColor                           = Color.RED;
-        _ledType                            = LedType.STANDARD;
-        _titleColor                         = DARK_COLOR;
-        _subTitleColor                      = DARK_COLOR;
-        _unitColor                          = DARK_COLOR;
-        _valueColor                         = DARK_COLOR;
-        _thresholdColor                     = Color.CRIMSON;
-        _averageColor                       = Color.MAGENTA;
         _checkSectionsForValue              = false;
         _checkAreasForValue                 = false;
         _checkThreshold                     = false;
@@ -579,11 +514,7 @@ public class Gauge extends Control {
         _tickMarkSectionsVisible            = false;
         _tickLabelSectionsVisible           = false;
         _markersVisible                     = false;
-        _tickLabelsVisible                  = true;
         _onlyFirstAndLastTickLabelVisible   = false;
-        _majorTickMarksVisible              = true;
-        _mediumTickMarksVisible             = true;
-        _minorTickMarksVisible              = true;
         _tickMarkRingVisible                = false;
         _majorTickSpace                     = 10;
         _minorTickSpace                     = 1;
@@ -600,8 +531,6 @@ public class Gauge extends Control {
         _interactive                        = false;
         _buttonTooltipText                  = "";
         _keepAspect                         = true;
-        _customFontEnabled                  = false;
-        _customFont                         = Fonts.robotoRegular(12);
         _alert                              = false;
         _alertMessage                       = "";
         _smoothing                          = false;
@@ -612,6 +541,7 @@ public class Gauge extends Control {
         originalThreshold                   = Double.MAX_VALUE;
         lastCall                            = Instant.now();
         timeline                            = new Timeline();
+        timeline.statusProperty().addListener((o, ov, nv) -> Metrics.timelineStatusChanged(ov, nv));
         timeline.setOnFinished(e -> {
             if (isReturnToZero() && Double.compare(currentValue.get(), 0.0) != 0.0) {
                 final KeyValue KEY_VALUE2 = new KeyValue(value, 0, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
@@ -1354,17 +1284,22 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setForegroundBaseColor(final Color COLOR) {
-        if (null == titleColor) { _titleColor = COLOR; } else { titleColor.set(COLOR); }
-        if (null == subTitleColor) { _subTitleColor = COLOR; } else { subTitleColor.set(COLOR); }
-        if (null == unitColor) { _unitColor = COLOR; } else { unitColor.set(COLOR); }
-        if (null == valueColor) { _valueColor = COLOR; } else { valueColor.set(COLOR); }
-        if (null == tickLabelColor) { _tickLabelColor = COLOR; } else { tickLabelColor.set(COLOR); }
-        if (null == zeroColor) { _zeroColor = COLOR; } else { zeroColor.set(COLOR); }
-        if (null == tickMarkColor) { _tickMarkColor = COLOR; } else { tickMarkColor.set(COLOR); }
-        if (null == majorTickMarkColor) { _majorTickMarkColor = COLOR; } else { majorTickMarkColor.set(COLOR); }
-        if (null == mediumTickMarkColor) { _mediumTickMarkColor = COLOR; } else { mediumTickMarkColor.set(COLOR); }
-        if (null == minorTickMarkColor) { _minorTickMarkColor = COLOR; } else { minorTickMarkColor.set(COLOR); }
-        fireUpdateEvent(REDRAW_EVENT);
+        beginUpdateBatch();
+        try {
+            setTitleColor(COLOR);
+            setSubTitleColor(COLOR);
+            setUnitColor(COLOR);
+            setValueColor(COLOR);
+            setTickLabelColor(COLOR);
+            setZeroColor(COLOR);
+            setTickMarkColor(COLOR);
+            setMajorTickMarkColor(COLOR);
+            setMediumTickMarkColor(COLOR);
+            setMinorTickMarkColor(COLOR);
+            fireUpdateEvent(REDRAW_EVENT);
+        } finally {
+            endUpdateBatch();
+        }
     }
 
     /**
@@ -1449,7 +1384,7 @@ public class Gauge extends Control {
      *
      * @return the color that will used to visualize the 0 tickmark and ticklabel
      */
-    public Color getZeroColor() { return null == zeroColor ? _zeroColor : zeroColor.get(); }
+    public Color getZeroColor() { return null == zeroColor ? gaugeStyle.getZeroColor() : zeroColor.get(); }
     /**
      * Defines the color that will be used to colorize the 0 tickmark and ticklabel
      * when the gauge range has a negative min- and positive maxValue.
@@ -1457,21 +1392,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setZeroColor(final Color COLOR) {
-        if (null == zeroColor) {
-            _zeroColor = COLOR;
+        if (null == zeroColor && Objects.equals(COLOR, gaugeStyle.getZeroColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            zeroColor.set(COLOR);
+            zeroColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> zeroColorProperty() {
         if (null == zeroColor) {
-            zeroColor  = new ObjectPropertyBase<Color>(_zeroColor) {
+            zeroColor  = new ObjectPropertyBase<Color>(gaugeStyle.getZeroColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "zeroColor"; }
             };
-            _zeroColor = null;
         }
         return zeroColor;
     }
@@ -1661,28 +1594,26 @@ public class Gauge extends Control {
      *
      * @return the Paint object that will be used to fill the gauge background
      */
-    public Paint getBackgroundPaint() { return null == backgroundPaint ? _backgroundPaint : backgroundPaint.get(); }
+    public Paint getBackgroundPaint() { return null == backgroundPaint ? gaugeStyle.getBackgroundPaint() : backgroundPaint.get(); }
     /**
      * Defines the Paint object that will be used to fill the gauge background.
      *
      * @param PAINT
      */
     public void setBackgroundPaint(final Paint PAINT) {
-        if (null == backgroundPaint) {
-            _backgroundPaint = PAINT;
+        if (null == backgroundPaint && Objects.equals(PAINT, gaugeStyle.getBackgroundPaint())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            backgroundPaint.set(PAINT);
+            backgroundPaintProperty().set(PAINT);
         }
     }
     public ObjectProperty<Paint> backgroundPaintProperty() {
         if (null == backgroundPaint) {
-            backgroundPaint  = new ObjectPropertyBase<Paint>(_backgroundPaint) {
+            backgroundPaint  = new ObjectPropertyBase<Paint>(gaugeStyle.getBackgroundPaint()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "backgroundPaint"; }
             };
-            _backgroundPaint = null;
         }
         return backgroundPaint;
     }
@@ -1693,28 +1624,26 @@ public class Gauge extends Control {
      *
      * @return the Paint object that will be used to draw the border of the gauge
      */
-    public Paint getBorderPaint() { return null == borderPaint ? _borderPaint : borderPaint.get(); }
+    public Paint getBorderPaint() { return null == borderPaint ? gaugeStyle.getBorderPaint() : borderPaint.get(); }
     /**
      * Defines the Paint object that will be used to draw the border of the gauge.
      *
      * @param PAINT
      */
     public void setBorderPaint(final Paint PAINT) {
-        if (null == borderPaint) {
-            _borderPaint = PAINT;
+        if (null == borderPaint && Objects.equals(PAINT, gaugeStyle.getBorderPaint())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            borderPaint.set(PAINT);
+            borderPaintProperty().set(PAINT);
         }
     }
     public ObjectProperty<Paint> borderPaintProperty() {
         if (null == borderPaint) {
-            borderPaint  = new ObjectPropertyBase<Paint>(_borderPaint) {
+            borderPaint  = new ObjectPropertyBase<Paint>(gaugeStyle.getBorderPaint()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "borderPaint"; }
             };
-            _borderPaint = null;
         }
         return borderPaint;
     }
@@ -1725,7 +1654,7 @@ public class Gauge extends Control {
      *
      * @return the width in pixels that will be used to draw the border of the gauge
      */
-    public double getBorderWidth() { return null == borderWidth ? _borderWidth : borderWidth.get(); }
+    public double getBorderWidth() { return null == borderWidth ? gaugeStyle.getBorderWidth() : borderWidth.get(); }
     /**
      * Defines the width in pixels that will be used to draw the border of the gauge.
      * The value will be clamped between 0 and 50 pixels.
@@ -1733,16 +1662,15 @@ public class Gauge extends Control {
      * @param WIDTH
      */
     public void setBorderWidth(final double WIDTH) {
-        if (null == borderWidth) {
-            _borderWidth = Helper.clamp(0.0, 50.0, WIDTH);
+        if (null == borderWidth && Double.compare(WIDTH, gaugeStyle.getBorderWidth()) == 0) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            borderWidth.set(WIDTH);
+            borderWidthProperty().set(WIDTH);
         }
     }
     public DoubleProperty borderWidthProperty() {
         if (null == borderWidth) {
-            borderWidth = new DoublePropertyBase(_borderWidth) {
+            borderWidth = new DoublePropertyBase(gaugeStyle.getBorderWidth()) {
                 @Override protected void invalidated() {
                     final double WIDTH = get();
                     if (WIDTH < 0 || WIDTH > 50) set(Helper.clamp(0.0, 50.0, WIDTH));
@@ -1761,7 +1689,7 @@ public class Gauge extends Control {
      *
      * @return the Paint object that will be used to fill the foreground of the gauge
      */
-    public Paint getForegroundPaint() { return null == foregroundPaint ? _foregroundPaint : foregroundPaint.get(); }
+    public Paint getForegroundPaint() { return null == foregroundPaint ? gaugeStyle.getForegroundPaint() : foregroundPaint.get(); }
     /**
      * Defines the Paint object that will be used to fill the foreground of the gauge.
      * This could be used to visualize glass effects etc. and is only rarely used.
@@ -1769,21 +1697,19 @@ public class Gauge extends Control {
      * @param PAINT
      */
     public void setForegroundPaint(final Paint PAINT) {
-        if (null == foregroundPaint) {
-            _foregroundPaint = PAINT;
+        if (null == foregroundPaint && Objects.equals(PAINT, gaugeStyle.getForegroundPaint())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            foregroundPaint.set(PAINT);
+            foregroundPaintProperty().set(PAINT);
         }
     }
     public ObjectProperty<Paint> foregroundPaintProperty() {
         if (null == foregroundPaint) {
-            foregroundPaint  = new ObjectPropertyBase<Paint>(_foregroundPaint) {
+            foregroundPaint  = new ObjectPropertyBase<Paint>(gaugeStyle.getForegroundPaint()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "foregroundPaint"; }
             };
-            _foregroundPaint = null;
         }
         return foregroundPaint;
     }
@@ -1794,7 +1720,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the knob of the radial gauges
      */
-    public Color getKnobColor() { return null == knobColor ? _knobColor : knobColor.get(); }
+    public Color getKnobColor() { return null == knobColor ? gaugeStyle.getKnobColor() : knobColor.get(); }
     /**
      * Defines the color that will be used to colorize the knob of
      * the radial gauges.
@@ -1802,21 +1728,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setKnobColor(final Color COLOR) {
-        if (null == knobColor) {
-            _knobColor = COLOR;
+        if (null == knobColor && Objects.equals(COLOR, gaugeStyle.getKnobColor())) {
             fireUpdateEvent(RESIZE_EVENT);
         } else {
-            knobColor.set(COLOR);
+            knobColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> knobColorProperty() {
         if (null == knobColor) {
-            knobColor  = new ObjectPropertyBase<Color>(_knobColor) {
+            knobColor  = new ObjectPropertyBase<Color>(gaugeStyle.getKnobColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(RESIZE_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "knobColor"; }
             };
-            _knobColor = null;
         }
         return knobColor;
     }
@@ -1827,7 +1751,7 @@ public class Gauge extends Control {
      *
      * @return the type of knob that will be used in the radial gauges
      */
-    public KnobType getKnobType() { return null == knobType ? _knobType : knobType.get(); }
+    public KnobType getKnobType() { return null == knobType ? gaugeStyle.getKnobType() : knobType.get(); }
     /**
      * Defines the type of knob that will be used in the radial
      * gauges. The values are STANDARD, PLAIN, METAL and FLAT.
@@ -1835,16 +1759,15 @@ public class Gauge extends Control {
      * @param TYPE
      */
     public void setKnobType(final KnobType TYPE) {
-        if (null == knobType) {
-            _knobType = null == TYPE ? KnobType.STANDARD : TYPE;
+        if (null == knobType && Objects.equals(TYPE, gaugeStyle.getKnobType())) {
             fireUpdateEvent(RESIZE_EVENT);
         } else {
-            knobType.set(TYPE);
+            knobTypeProperty().set(TYPE);
         }
     }
     public ObjectProperty<KnobType> knobTypeProperty() {
         if (null == knobType) {
-            knobType  = new ObjectPropertyBase<KnobType>(_knobType) {
+            knobType  = new ObjectPropertyBase<KnobType>(gaugeStyle.getKnobType()) {
                 @Override protected void invalidated() {
                     if (null == get()) set(KnobType.STANDARD);
                     fireUpdateEvent(RESIZE_EVENT);
@@ -1852,7 +1775,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "knobType"; }
             };
-            _knobType = null;
         }
         return knobType;
     }
@@ -1991,6 +1913,164 @@ public class Gauge extends Control {
      */
     public void setAnimationDuration(final long ANIMATION_DURATION) { animationDuration = Helper.clamp(10, 10000, ANIMATION_DURATION); }
 
+    /**
+     * Returns the RedrawScheduler that will be used to defer the redraws
+     * and value updates of the skin. If null the skin will be updated
+     * immediately.
+     *
+     * @return the RedrawScheduler that will be used to defer redraws of the skin
+     */
+    public RedrawScheduler getRedrawScheduler() { return redrawScheduler; }
+    /**
+     * Defines the RedrawScheduler that will be used to defer the redraws
+     * and value updates of the skin. Sharing one scheduler between many
+     * gauges limits the time that will be used for redraws per pulse.
+     * If null the skin will be updated immediately.
+     *
+     * @param SCHEDULER
+     */
+    public void setRedrawScheduler(final RedrawScheduler SCHEDULER) { redrawScheduler = SCHEDULER; }
+
+    /**
+     * Returns the priority of the gauge in the RedrawScheduler. Gauges
+     * with a higher priority will be redrawn first.
+     *
+     * @return the priority of the gauge in the RedrawScheduler
+     */
+    public int getRedrawPriority() { return redrawPriority; }
+    /**
+     * Defines the priority of the gauge in the RedrawScheduler. Gauges
+     * with a higher priority will be redrawn first.
+     *
+     * @param PRIORITY
+     */
+    public void setRedrawPriority(final int PRIORITY) { redrawPriority = PRIORITY; }
+
+    /**
+     * Returns the max number of redraws per second of the gauge if a
+     * RedrawScheduler is used. A value of 0 means no limit.
+     *
+     * @return the max number of redraws per second of the gauge
+     */
+    public double getMaxRefreshRate() { return maxRefreshRate; }
+    /**
+     * Defines the max number of redraws per second of the gauge if a
+     * RedrawScheduler is used. A value of 0 means no limit.
+     *
+     * @param RATE
+     */
+    public void setMaxRefreshRate(final double RATE) { maxRefreshRate = Helper.clamp(0, Double.MAX_VALUE, RATE); }
+
+    /**
+     * Returns true if the skin will stop updating its graphics while the
+     * gauge is not showing on screen (e.g. hidden, on a not selected Tab,
+     * scrolled out of a ScrollPane or without size). The state of the
+     * gauge will still be updated and the skin will redraw once when
+     * the gauge becomes visible again.
+     *
+     * @return true if the skin will stop updating while the gauge is not showing
+     */
+    public boolean isSuspendWhenHidden() { return suspendWhenHidden; }
+    /**
+     * Defines if the skin will stop updating its graphics while the
+     * gauge is not showing on screen (e.g. hidden, on a not selected Tab,
+     * scrolled out of a ScrollPane or without size). The state of the
+     * gauge will still be updated and the skin will redraw once when
+     * the gauge becomes visible again.
+     *
+     * @param SUSPEND
+     */
+    public void setSuspendWhenHidden(final boolean SUSPEND) {
+        suspendWhenHidden = SUSPEND;
+        fireUpdateEvent(REDRAW_EVENT);
+    }
+
+    /**
+     * Returns true if the skins of the gauge will be kept in a pool when
+     * switching the SkinType. Switching back to a SkinType that has been
+     * used before will reattach the pooled skin instead of creating a new
+     * one.
+     *
+     * @return true if the skins of the gauge will be reused on setSkinType()
+     */
+    public boolean isSkinPooling() { return skinPooling; }
+    /**
+     * Defines if the skins of the gauge will be kept in a pool when
+     * switching the SkinType. Switching back to a SkinType that has been
+     * used before will reattach the pooled skin instead of creating a new
+     * one. Disabling the pooling will clear the pool.
+     *
+     * @param POOLING
+     */
+    public void setSkinPooling(final boolean POOLING) {
+        skinPooling = POOLING;
+        if (skinPooling) {
+            if (getSkin() instanceof GaugeSkinBase) { skinPool.putIfAbsent(skinType, (GaugeSkinBase) getSkin()); }
+        } else {
+            skinPool.clear();
+        }
+    }
+
+    /**
+     * Removes all skins except the current one from the skin pool.
+     */
+    public void clearSkinPool() { skinPool.values().removeIf(skin -> skin != getSkin()); }
+
+    /**
+     * Returns the shared GaugeStyle that is referenced by the gauge. The
+     * styling attributes of the gauge will be read from this style unless
+     * they have been overridden on the gauge itself.
+     *
+     * @return the shared GaugeStyle that is referenced by the gauge
+     */
+    public GaugeStyle getGaugeStyle() { return gaugeStyle; }
+    /**
+     * Defines the shared GaugeStyle that will be referenced by the gauge.
+     * The gauge only keeps the reference to the style, a styling attribute
+     * will only be stored in the gauge (as property) if it has been set to
+     * a value that differs from the style or if its property has been
+     * requested. Attributes that have been changed on the gauge itself
+     * will be kept. The skin will be updated once after the style has
+     * been swapped. The same style can be used by any number of gauges,
+     * null resets the gauge to GaugeStyle.DEFAULT.
+     *
+     * @param STYLE
+     */
+    public void setGaugeStyle(final GaugeStyle STYLE) {
+        final GaugeStyle PREVIOUS_STYLE = gaugeStyle;
+        final GaugeStyle NEW_STYLE      = null == STYLE ? GaugeStyle.DEFAULT : STYLE;
+        if (NEW_STYLE == PREVIOUS_STYLE) return;
+        gaugeStyle = NEW_STYLE;
+        beginUpdateBatch();
+        try {
+            NEW_STYLE.applyTo(Gauge.this, PREVIOUS_STYLE);
+        } finally {
+            endUpdateBatch();
+        }
+    }
+
+    /**
+     * Returns the LevelOfDetail that defines the sizes below which skins
+     * won't draw details like minor tick marks, tick labels, effects and
+     * text. This is supported by the GAUGE, QUARTER, HORIZONTAL and
+     * VERTICAL skins. The default is LevelOfDetail.FULL which always
+     * draws all details.
+     *
+     * @return the LevelOfDetail that defines which details will be drawn at which size
+     */
+    public LevelOfDetail getLevelOfDetail() { return levelOfDetail; }
+    /**
+     * Defines the LevelOfDetail that defines the sizes below which skins
+     * won't draw details like minor tick marks, tick labels, effects and
+     * text. Use LevelOfDetail.REDUCED to drop details at small sizes.
+     *
+     * @param LEVEL_OF_DETAIL
+     */
+    public void setLevelOfDetail(final LevelOfDetail LEVEL_OF_DETAIL) {
+        levelOfDetail = null == LEVEL_OF_DETAIL ? LevelOfDetail.FULL : LEVEL_OF_DETAIL;
+        fireUpdateEvent(RESIZE_EVENT);
+    }
+
     /**
      * Returns the angle in degree that defines the start of the scale with
      * it's minValue in a radial gauge. If set to 0 the scale will start at
@@ -2167,7 +2247,7 @@ public class Gauge extends Control {
      *
      * @return true if effects like shadows will be drawn
      */
-    public boolean isShadowsEnabled() { return null == shadowsEnabled ? _shadowsEnabled : shadowsEnabled.get(); }
+    public boolean isShadowsEnabled() { return null == shadowsEnabled ? gaugeStyle.isShadowsEnabled() : shadowsEnabled.get(); }
     /**
      * Defines if effects like shadows should be drawn.
      * In some gauges inner- and dropshadows will be used which will be
@@ -2176,16 +2256,15 @@ public class Gauge extends Control {
      * @param ENABLED
      */
     public void setShadowsEnabled(final boolean ENABLED) {
-        if (null == shadowsEnabled) {
-            _shadowsEnabled = ENABLED;
+        if (null == shadowsEnabled && ENABLED == gaugeStyle.isShadowsEnabled()) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            shadowsEnabled.set(ENABLED);
+            shadowsEnabledProperty().set(ENABLED);
         }
     }
     public BooleanProperty shadowsEnabledProperty() {
         if (null == shadowsEnabled) {
-            shadowsEnabled = new BooleanPropertyBase(_shadowsEnabled) {
+            shadowsEnabled = new BooleanPropertyBase(gaugeStyle.isShadowsEnabled()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "shadowsEnabled"; }
@@ -2201,7 +2280,7 @@ public class Gauge extends Control {
      *
      * @return true if the highlight effect on a bar will be drawn
      */
-    public boolean isBarEffectEnabled() { return null == barEffectEnabled ? _barEffectEnabled : barEffectEnabled.get(); }
+    public boolean isBarEffectEnabled() { return null == barEffectEnabled ? gaugeStyle.isBarEffectEnabled() : barEffectEnabled.get(); }
     /**
      * Defines if the the highlight effect on the gauges like the
      * LinearSkin bar will be drawn. If you would like to have a
@@ -2210,16 +2289,15 @@ public class Gauge extends Control {
      * @param ENABLED
      */
     public void setBarEffectEnabled(final boolean ENABLED) {
-        if (null == barEffectEnabled) {
-            _barEffectEnabled = ENABLED;
+        if (null == barEffectEnabled && ENABLED == gaugeStyle.isBarEffectEnabled()) {
             fireUpdateEvent(VISIBILITY_EVENT);
         } else {
-            barEffectEnabled.set(ENABLED);
+            barEffectEnabledProperty().set(ENABLED);
         }
     }
     public BooleanProperty barEffectEnabledProperty() {
         if (null == barEffectEnabled) {
-            barEffectEnabled = new BooleanPropertyBase(_barEffectEnabled) {
+            barEffectEnabled = new BooleanPropertyBase(gaugeStyle.isBarEffectEnabled()) {
                 @Override protected void invalidated() { fireUpdateEvent(VISIBILITY_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "barEffectEnabled"; }
@@ -2279,7 +2357,7 @@ public class Gauge extends Control {
      *
      * @return the location of the ticklabels
      */
-    public TickLabelLocation getTickLabelLocation() { return null == tickLabelLocation ? _tickLabelLocation : tickLabelLocation.get(); }
+    public TickLabelLocation getTickLabelLocation() { return null == tickLabelLocation ? gaugeStyle.getTickLabelLocation() : tickLabelLocation.get(); }
     /**
      * Defines the location of the ticklabels. The values are
      * INSIDE and OUTSIDE. The location of the ticklabels has an
@@ -2288,16 +2366,15 @@ public class Gauge extends Control {
      * @param LOCATION
      */
     public void setTickLabelLocation(final TickLabelLocation LOCATION) {
-        if (null == tickLabelLocation) {
-            _tickLabelLocation = null == LOCATION ? TickLabelLocation.INSIDE : LOCATION;
+        if (null == tickLabelLocation && Objects.equals(LOCATION, gaugeStyle.getTickLabelLocation())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            tickLabelLocation.set(LOCATION);
+            tickLabelLocationProperty().set(LOCATION);
         }
     }
     public ObjectProperty<TickLabelLocation> tickLabelLocationProperty() {
         if (null == tickLabelLocation) {
-            tickLabelLocation  = new ObjectPropertyBase<TickLabelLocation>(_tickLabelLocation) {
+            tickLabelLocation  = new ObjectPropertyBase<TickLabelLocation>(gaugeStyle.getTickLabelLocation()) {
                 @Override protected void invalidated() {
                     if(null == get()) set(TickLabelLocation.INSIDE);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -2305,7 +2382,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "tickLabelLocation"; }
             };
-            _tickLabelLocation = null;
         }
         return tickLabelLocation;
     }
@@ -2317,7 +2393,7 @@ public class Gauge extends Control {
      *
      * @return the orientation of the ticklabels
      */
-    public TickLabelOrientation getTickLabelOrientation() { return null == tickLabelOrientation ? _tickLabelOrientation : tickLabelOrientation.get(); }
+    public TickLabelOrientation getTickLabelOrientation() { return null == tickLabelOrientation ? gaugeStyle.getTickLabelOrientation() : tickLabelOrientation.get(); }
     /**
      * Defines the orientation of the ticklabels. The values are
      * HORIZONTAL, ORTHOGONAL and TANGENT. Especially the ORTHOGONAL
@@ -2326,16 +2402,15 @@ public class Gauge extends Control {
      * @param ORIENTATION
      */
     public void setTickLabelOrientation(final TickLabelOrientation ORIENTATION) {
-        if (null == tickLabelOrientation) {
-            _tickLabelOrientation = null == ORIENTATION ? TickLabelOrientation.HORIZONTAL : ORIENTATION;
+        if (null == tickLabelOrientation && Objects.equals(ORIENTATION, gaugeStyle.getTickLabelOrientation())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            tickLabelOrientation.set(ORIENTATION);
+            tickLabelOrientationProperty().set(ORIENTATION);
         }
     }
     public ObjectProperty<TickLabelOrientation> tickLabelOrientationProperty() {
         if (null == tickLabelOrientation) {
-            tickLabelOrientation  = new ObjectPropertyBase<TickLabelOrientation>(_tickLabelOrientation) {
+            tickLabelOrientation  = new ObjectPropertyBase<TickLabelOrientation>(gaugeStyle.getTickLabelOrientation()) {
                 @Override protected void invalidated() {
                     if(null == get()) set(TickLabelOrientation.HORIZONTAL);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -2343,7 +2418,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "tickLabelOrientation"; }
             };
-            _tickLabelOrientation = null;
         }
         return tickLabelOrientation;
     }
@@ -2354,7 +2428,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the ticklabels
      */
-    public Color getTickLabelColor() { return null == tickLabelColor ? _tickLabelColor : tickLabelColor.get(); }
+    public Color getTickLabelColor() { return null == tickLabelColor ? gaugeStyle.getTickLabelColor() : tickLabelColor.get(); }
     /**
      * Defines the color that will be used to colorize the ticklabels. This color
      * will only be used if no ticklabel section defines a different color.
@@ -2362,21 +2436,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setTickLabelColor(final Color COLOR) {
-        if (null == tickLabelColor) {
-            _tickLabelColor = COLOR;
+        if (null == tickLabelColor && Objects.equals(COLOR, gaugeStyle.getTickLabelColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            tickLabelColor.set(COLOR);
+            tickLabelColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> tickLabelColorProperty() {
         if (null == tickLabelColor) {
-            tickLabelColor  = new ObjectPropertyBase<Color>(_tickLabelColor) {
+            tickLabelColor  = new ObjectPropertyBase<Color>(gaugeStyle.getTickLabelColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "tickLabelColor"; }
             };
-            _tickLabelColor = null;
         }
         return tickLabelColor;
     }
@@ -2388,7 +2460,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the tickmarks
      */
-    public Color getTickMarkColor() { return null == tickMarkColor ? _tickMarkColor : tickMarkColor.get(); }
+    public Color getTickMarkColor() { return null == tickMarkColor ? gaugeStyle.getTickMarkColor() : tickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the tickmarks. This color
      * will only be used if no tickmark section or major-, medium- and minorTickMarkColor
@@ -2397,21 +2469,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setTickMarkColor(final Color COLOR) {
-        if (null == tickMarkColor) {
-            _tickMarkColor = COLOR;
+        if (null == tickMarkColor && Objects.equals(COLOR, gaugeStyle.getTickMarkColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            tickMarkColor.set(COLOR);
+            tickMarkColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> tickMarkColorProperty() {
         if (null == tickMarkColor) {
-            tickMarkColor  = new ObjectPropertyBase<Color>(_tickMarkColor) {
+            tickMarkColor  = new ObjectPropertyBase<Color>(gaugeStyle.getTickMarkColor()) {
                 @Override protected void invalidated() { fireUpdateEvent( REDRAW_EVENT ); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "tickMarkColor"; }
             };
-            _tickMarkColor = null;
         }
         return tickMarkColor;
     }
@@ -2423,7 +2493,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the major tickmarks
      */
-    public Color getMajorTickMarkColor() { return null == majorTickMarkColor ? _majorTickMarkColor : majorTickMarkColor.get(); }
+    public Color getMajorTickMarkColor() { return null == majorTickMarkColor ? gaugeStyle.getMajorTickMarkColor() : majorTickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the major
      * tickmarks. This color will only be used if no tickmark
@@ -2432,21 +2502,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setMajorTickMarkColor(final Color COLOR) {
-        if (null == majorTickMarkColor) {
-            _majorTickMarkColor = COLOR;
+        if (null == majorTickMarkColor && Objects.equals(COLOR, gaugeStyle.getMajorTickMarkColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            majorTickMarkColor.set(COLOR);
+            majorTickMarkColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> majorTickMarkColorProperty() {
         if (null == majorTickMarkColor) {
-            majorTickMarkColor  = new ObjectPropertyBase<Color>(_majorTickMarkColor) {
+            majorTickMarkColor  = new ObjectPropertyBase<Color>(gaugeStyle.getMajorTickMarkColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "majorTickMarkColor"; }
             };
-            _majorTickMarkColor = null;
         }
         return majorTickMarkColor;
     }
@@ -2457,7 +2525,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the length of the major tick mark
      */
-    public double getMajorTickMarkLengthFactor() { return null == majorTickMarkLengthFactor ? _majorTickMarkLengthFactor : majorTickMarkLengthFactor.get(); }
+    public double getMajorTickMarkLengthFactor() { return null == majorTickMarkLengthFactor ? gaugeStyle.getMajorTickMarkLengthFactor() : majorTickMarkLengthFactor.get(); }
     /**
      * The factor defines the length of the major tick mark.
      * It can be in the range from 0 - 1.
@@ -2465,16 +2533,15 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMajorTickMarkLengthFactor(final double FACTOR) {
-        if (null == majorTickMarkLengthFactor) {
-            _majorTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == majorTickMarkLengthFactor && Double.compare(FACTOR, gaugeStyle.getMajorTickMarkLengthFactor()) == 0) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            majorTickMarkLengthFactor.set(FACTOR);
+            majorTickMarkLengthFactorProperty().set(FACTOR);
         }
     }
     public DoubleProperty majorTickMarkLengthFactorProperty() {
         if (null == majorTickMarkLengthFactor) {
-            majorTickMarkLengthFactor = new DoublePropertyBase(_majorTickMarkLengthFactor) {
+            majorTickMarkLengthFactor = new DoublePropertyBase(gaugeStyle.getMajorTickMarkLengthFactor()) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2493,7 +2560,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the width of the major tick mark
      */
-    public double getMajorTickMarkWidthFactor() { return null == majorTickMarkWidthFactor ? _majorTickMarkWidthFactor : majorTickMarkWidthFactor.get(); }
+    public double getMajorTickMarkWidthFactor() { return null == majorTickMarkWidthFactor ? gaugeStyle.getMajorTickMarkWidthFactor() : majorTickMarkWidthFactor.get(); }
     /**
      * The factor defines the width of the major tick mark.
      * It can be in the range from 0 - 1.
@@ -2501,16 +2568,15 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMajorTickMarkWidthFactor(final double FACTOR) {
-        if (null == majorTickMarkWidthFactor) {
-            _majorTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == majorTickMarkWidthFactor && Double.compare(FACTOR, gaugeStyle.getMajorTickMarkWidthFactor()) == 0) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            majorTickMarkWidthFactor.set(FACTOR);
+            majorTickMarkWidthFactorProperty().set(FACTOR);
         }
     }
     public DoubleProperty majorTickMarkWidthFactorProperty() {
         if (null == majorTickMarkWidthFactor) {
-            majorTickMarkWidthFactor = new DoublePropertyBase(_majorTickMarkWidthFactor) {
+            majorTickMarkWidthFactor = new DoublePropertyBase(gaugeStyle.getMajorTickMarkWidthFactor()) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2530,7 +2596,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the medium tickmark
      */
-    public Color getMediumTickMarkColor() { return null == mediumTickMarkColor ? _mediumTickMarkColor : mediumTickMarkColor.get(); }
+    public Color getMediumTickMarkColor() { return null == mediumTickMarkColor ? gaugeStyle.getMediumTickMarkColor() : mediumTickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the medium
      * tickmarks. This color will only be used if no tickmark
@@ -2539,21 +2605,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setMediumTickMarkColor(final Color COLOR) {
-        if (null == mediumTickMarkColor) {
-            _mediumTickMarkColor = COLOR;
+        if (null == mediumTickMarkColor && Objects.equals(COLOR, gaugeStyle.getMediumTickMarkColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            mediumTickMarkColor.set(COLOR);
+            mediumTickMarkColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> mediumTickMarkColorProperty() {
         if (null == mediumTickMarkColor) {
-            mediumTickMarkColor  = new ObjectPropertyBase<Color>(_mediumTickMarkColor) {
+            mediumTickMarkColor  = new ObjectPropertyBase<Color>(gaugeStyle.getMediumTickMarkColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "mediumTickMarkColor"; }
             };
-            _mediumTickMarkColor = null;
         }
         return mediumTickMarkColor;
     }
@@ -2564,7 +2628,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the length of the medium tick mark
      */
-    public double getMediumTickMarkLengthFactor() { return null == mediumTickMarkLengthFactor ? _mediumTickMarkLengthFactor : mediumTickMarkLengthFactor.get(); }
+    public double getMediumTickMarkLengthFactor() { return null == mediumTickMarkLengthFactor ? gaugeStyle.getMediumTickMarkLengthFactor() : mediumTickMarkLengthFactor.get(); }
     /**
      * The factor defines the length of the medium tick mark.
      * It can be in the range from 0 - 1.
@@ -2572,16 +2636,15 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMediumTickMarkLengthFactor(final double FACTOR) {
-        if (null == mediumTickMarkLengthFactor) {
-            _mediumTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == mediumTickMarkLengthFactor && Double.compare(FACTOR, gaugeStyle.getMediumTickMarkLengthFactor()) == 0) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            mediumTickMarkLengthFactor.set(FACTOR);
+            mediumTickMarkLengthFactorProperty().set(FACTOR);
         }
     }
     public DoubleProperty mediumTickMarkLengthFactorProperty() {
         if (null == mediumTickMarkLengthFactor) {
-            mediumTickMarkLengthFactor = new DoublePropertyBase(_mediumTickMarkLengthFactor) {
+            mediumTickMarkLengthFactor = new DoublePropertyBase(gaugeStyle.getMediumTickMarkLengthFactor()) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2600,7 +2663,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the width of the medium tick mark
      */
-    public double getMediumTickMarkWidthFactor() { return null == mediumTickMarkWidthFactor ? _mediumTickMarkWidthFactor : mediumTickMarkWidthFactor.get(); }
+    public double getMediumTickMarkWidthFactor() { return null == mediumTickMarkWidthFactor ? gaugeStyle.getMediumTickMarkWidthFactor() : mediumTickMarkWidthFactor.get(); }
     /**
      * The factor defines the width of the medium tick mark.
      * It can be in the range from 0 - 1.
@@ -2608,16 +2671,15 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMediumTickMarkWidthFactor(final double FACTOR) {
-        if (null == mediumTickMarkWidthFactor) {
-            _mediumTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == mediumTickMarkWidthFactor && Double.compare(FACTOR, gaugeStyle.getMediumTickMarkWidthFactor()) == 0) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            mediumTickMarkWidthFactor.set(FACTOR);
+            mediumTickMarkWidthFactorProperty().set(FACTOR);
         }
     }
     public DoubleProperty mediumTickMarkWidthFactorProperty() {
         if (null == mediumTickMarkWidthFactor) {
-            mediumTickMarkWidthFactor = new DoublePropertyBase(_mediumTickMarkWidthFactor) {
+            mediumTickMarkWidthFactor = new DoublePropertyBase(gaugeStyle.getMediumTickMarkWidthFactor()) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2637,7 +2699,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the minor tickmark
      */
-    public Color getMinorTickMarkColor() { return null == minorTickMarkColor ? _minorTickMarkColor : minorTickMarkColor.get(); }
+    public Color getMinorTickMarkColor() { return null == minorTickMarkColor ? gaugeStyle.getMinorTickMarkColor() : minorTickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the minor
      * tickmarks. This color will only be used if no tickmark
@@ -2646,21 +2708,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setMinorTickMarkColor(final Color COLOR) {
-        if (null == minorTickMarkColor) {
-            _minorTickMarkColor = COLOR;
+        if (null == minorTickMarkColor && Objects.equals(COLOR, gaugeStyle.getMinorTickMarkColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            minorTickMarkColor.set(COLOR);
+            minorTickMarkColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> minorTickMarkColorProperty() {
         if (null == minorTickMarkColor) {
-            minorTickMarkColor  = new ObjectPropertyBase<Color>(_minorTickMarkColor) {
+            minorTickMarkColor  = new ObjectPropertyBase<Color>(gaugeStyle.getMinorTickMarkColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "minorTickMarkColor"; }
             };
-            _minorTickMarkColor = null;
         }
         return minorTickMarkColor;
     }
@@ -2671,7 +2731,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the length of the minor tick mark
      */
-    public double getMinorTickMarkLengthFactor() { return null == minorTickMarkLengthFactor ? _minorTickMarkLengthFactor : minorTickMarkLengthFactor.get(); }
+    public double getMinorTickMarkLengthFactor() { return null == minorTickMarkLengthFactor ? gaugeStyle.getMinorTickMarkLengthFactor() : minorTickMarkLengthFactor.get(); }
     /**
      * The factor defines the length of the minor tick mark.
      * It can be in the range from 0 - 1.
@@ -2679,16 +2739,15 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMinorTickMarkLengthFactor(final double FACTOR) {
-        if (null == minorTickMarkLengthFactor) {
-            _minorTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == minorTickMarkLengthFactor && Double.compare(FACTOR, gaugeStyle.getMinorTickMarkLengthFactor()) == 0) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            minorTickMarkLengthFactor.set(FACTOR);
+            minorTickMarkLengthFactorProperty().set(FACTOR);
         }
     }
     public DoubleProperty minorTickMarkLengthFactorProperty() {
         if (null == minorTickMarkLengthFactor) {
-            minorTickMarkLengthFactor = new DoublePropertyBase(_minorTickMarkLengthFactor) {
+            minorTickMarkLengthFactor = new DoublePropertyBase(gaugeStyle.getMinorTickMarkLengthFactor()) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2707,7 +2766,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the width of the minor tick mark
      */
-    public double getMinorTickMarkWidthFactor() { return null == minorTickMarkWidthFactor ? _minorTickMarkWidthFactor : minorTickMarkWidthFactor.get(); }
+    public double getMinorTickMarkWidthFactor() { return null == minorTickMarkWidthFactor ? gaugeStyle.getMinorTickMarkWidthFactor() : minorTickMarkWidthFactor.get(); }
     /**
      * The factor defines the width of the minor tick mark.
      * It can be in the range from 0 - 1.
@@ -2715,16 +2774,15 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMinorTickMarkWidthFactor(final double FACTOR) {
-        if (null == minorTickMarkWidthFactor) {
-            _minorTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == minorTickMarkWidthFactor && Double.compare(FACTOR, gaugeStyle.getMinorTickMarkWidthFactor()) == 0) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            minorTickMarkWidthFactor.set(FACTOR);
+            minorTickMarkWidthFactorProperty().set(FACTOR);
         }
     }
     public DoubleProperty minorTickMarkWidthFactorProperty() {
         if (null == minorTickMarkWidthFactor) {
-            minorTickMarkWidthFactor = new DoublePropertyBase(_minorTickMarkWidthFactor) {
+            minorTickMarkWidthFactor = new DoublePropertyBase(gaugeStyle.getMinorTickMarkWidthFactor()) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2743,7 +2801,7 @@ public class Gauge extends Control {
      *
      * @return the shape that will be used to visualize the major tickmark
      */
-    public TickMarkType getMajorTickMarkType() { return null == majorTickMarkType ? _majorTickMarkType : majorTickMarkType.get(); }
+    public TickMarkType getMajorTickMarkType() { return null == majorTickMarkType ? gaugeStyle.getMajorTickMarkType() : majorTickMarkType.get(); }
     /**
      * Defines the shape that will be used to visualize the major tickmark.
      * Values are LINE, DOT, TRAPEZOID, BOX, TICK_LABEL and PILL
@@ -2751,16 +2809,15 @@ public class Gauge extends Control {
      * @param TYPE
      */
     public void setMajorTickMarkType(final TickMarkType TYPE) {
-        if (null == majorTickMarkType) {
-            _majorTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
+        if (null == majorTickMarkType && Objects.equals(TYPE, gaugeStyle.getMajorTickMarkType())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            majorTickMarkType.set(TYPE);
+            majorTickMarkTypeProperty().set(TYPE);
         }
     }
     public ObjectProperty<TickMarkType> majorTickMarkTypeProperty() {
         if (null == majorTickMarkType) {
-            majorTickMarkType  = new ObjectPropertyBase<TickMarkType>(_majorTickMarkType) {
+            majorTickMarkType  = new ObjectPropertyBase<TickMarkType>(gaugeStyle.getMajorTickMarkType()) {
                 @Override protected void invalidated() {
                     if (null == get()) set(TickMarkType.LINE);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -2768,7 +2825,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "majorTickMarkType"; }
             };
-            _majorTickMarkType = null;
         }
         return majorTickMarkType;
     }
@@ -2779,7 +2835,7 @@ public class Gauge extends Control {
      *
      * @return the shape that will be used to visualize the medium tickmark
      */
-    public TickMarkType getMediumTickMarkType() { return null == mediumTickMarkType ? _mediumTickMarkType : mediumTickMarkType.get(); }
+    public TickMarkType getMediumTickMarkType() { return null == mediumTickMarkType ? gaugeStyle.getMediumTickMarkType() : mediumTickMarkType.get(); }
     /**
      * Defines the shape that will be used to visualize the medium tickmark.
      * Values are LINE, DOT, TRAPEZOID, BOX and PILL
@@ -2787,16 +2843,15 @@ public class Gauge extends Control {
      * @param TYPE
      */
     public void setMediumTickMarkType(final TickMarkType TYPE) {
-        if (null == mediumTickMarkType) {
-            _mediumTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
+        if (null == mediumTickMarkType && Objects.equals(TYPE, gaugeStyle.getMediumTickMarkType())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            mediumTickMarkType.set(TYPE);
+            mediumTickMarkTypeProperty().set(TYPE);
         }
     }
     public ObjectProperty<TickMarkType> mediumTickMarkTypeProperty() {
         if (null == mediumTickMarkType) {
-            mediumTickMarkType  = new ObjectPropertyBase<TickMarkType>(_mediumTickMarkType) {
+            mediumTickMarkType  = new ObjectPropertyBase<TickMarkType>(gaugeStyle.getMediumTickMarkType()) {
                 @Override protected void invalidated() {
                     if (null == get()) set(TickMarkType.LINE);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -2804,7 +2859,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "mediumTickMarkType"; }
             };
-            _mediumTickMarkType = null;
         }
         return mediumTickMarkType;
     }
@@ -2815,7 +2869,7 @@ public class Gauge extends Control {
      *
      * @return the shape that will be used to visualize the minor tickmark
      */
-    public TickMarkType getMinorTickMarkType() { return null == minorTickMarkType ? _minorTickMarkType : minorTickMarkType.get(); }
+    public TickMarkType getMinorTickMarkType() { return null == minorTickMarkType ? gaugeStyle.getMinorTickMarkType() : minorTickMarkType.get(); }
     /**
      * Defines the shape that will be used to visualize the minor tickmark.
      * Values are LINE, DOT, TRAPEZOID, BOX and PILL
@@ -2823,16 +2877,15 @@ public class Gauge extends Control {
      * @param TYPE
      */
     public void setMinorTickMarkType(final TickMarkType TYPE) {
-        if (null == minorTickMarkType) {
-            _minorTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
+        if (null == minorTickMarkType && Objects.equals(TYPE, gaugeStyle.getMinorTickMarkType())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            minorTickMarkType.set(TYPE);
+            minorTickMarkTypeProperty().set(TYPE);
         }
     }
     public ObjectProperty<TickMarkType> minorTickMarkTypeProperty() {
         if (null == minorTickMarkType) {
-            minorTickMarkType  = new ObjectPropertyBase<TickMarkType>(_minorTickMarkType) {
+            minorTickMarkType  = new ObjectPropertyBase<TickMarkType>(gaugeStyle.getMinorTickMarkType()) {
                 @Override protected void invalidated() {
                     if (null == get()) set(TickMarkType.LINE);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -2840,7 +2893,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "minorTickMarkType"; }
             };
-            _minorTickMarkType = null;
         }
         return minorTickMarkType;
     }
@@ -2957,7 +3009,7 @@ public class Gauge extends Control {
      *
      * @return the shape of the needle that will be used
      */
-    public NeedleType getNeedleType() { return null == needleType ? _needleType : needleType.get(); }
+    public NeedleType getNeedleType() { return null == needleType ? gaugeStyle.getNeedleType() : needleType.get(); }
     /**
      * Defines the shape of the needle that will be used. This is
      * dependent on the used SkinType. Values are
@@ -2969,16 +3021,15 @@ public class Gauge extends Control {
      * @param TYPE
      */
     public void setNeedleType(final NeedleType TYPE) {
-        if (null == needleType) {
-            _needleType = TYPE == null ? NeedleType.STANDARD : TYPE;
+        if (null == needleType && Objects.equals(TYPE, gaugeStyle.getNeedleType())) {
             fireUpdateEvent(RESIZE_EVENT);
         } else {
-            needleType.set(TYPE);
+            needleTypeProperty().set(TYPE);
         }
     }
     public ObjectProperty<NeedleType> needleTypeProperty() {
         if (null == needleType) {
-            needleType  = new ObjectPropertyBase<NeedleType>(_needleType) {
+            needleType  = new ObjectPropertyBase<NeedleType>(gaugeStyle.getNeedleType()) {
                 @Override protected void invalidated() {
                     if (null == get()) set(NeedleType.STANDARD);
                     fireUpdateEvent(RESIZE_EVENT);
@@ -2986,7 +3037,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleType"; }
             };
-            _needleType = null;
         }
         return needleType;
     }
@@ -2998,7 +3048,7 @@ public class Gauge extends Control {
      *
      * @return the graphical representation of the needle
      */
-    public NeedleShape getNeedleShape() { return null == needleShape ? _needleShape : needleShape.get(); }
+    public NeedleShape getNeedleShape() { return null == needleShape ? gaugeStyle.getNeedleShape() : needleShape.get(); }
     /**
      * Defines the graphical representation of the needle that will be used.
      * Values are ANGLED, ROUND and FLAT
@@ -3007,16 +3057,15 @@ public class Gauge extends Control {
      * @param SHAPE
      */
     public void setNeedleShape(final NeedleShape SHAPE) {
-        if (null == needleShape) {
-            _needleShape = null == SHAPE ? NeedleShape.ANGLED : SHAPE;
+        if (null == needleShape && Objects.equals(SHAPE, gaugeStyle.getNeedleShape())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            needleShape.set(SHAPE);
+            needleShapeProperty().set(SHAPE);
         }
     }
     public ObjectProperty<NeedleShape> needleShapeProperty() {
         if (null == needleShape) {
-            needleShape  = new ObjectPropertyBase<NeedleShape>(_needleShape) {
+            needleShape  = new ObjectPropertyBase<NeedleShape>(gaugeStyle.getNeedleShape()) {
                 @Override protected void invalidated() {
                     if (null == get()) set(NeedleShape.ANGLED);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3024,7 +3073,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleShape"; }
             };
-            _needleShape = null;
         }
         return needleShape;
     }
@@ -3035,7 +3083,7 @@ public class Gauge extends Control {
      *
      * @return the thickness of the needle
      */
-    public NeedleSize getNeedleSize() { return null == needleSize ? _needleSize : needleSize.get(); }
+    public NeedleSize getNeedleSize() { return null == needleSize ? gaugeStyle.getNeedleSize() : needleSize.get(); }
     /**
      * Defines the thickness of the needle.
      * The values are THIN, STANDARD and THICK
@@ -3043,16 +3091,15 @@ public class Gauge extends Control {
      * @param SIZE
      */
     public void setNeedleSize(final NeedleSize SIZE) {
-        if (null == needleSize) {
-            _needleSize = null == SIZE ? NeedleSize.STANDARD : SIZE;
+        if (null == needleSize && Objects.equals(SIZE, gaugeStyle.getNeedleSize())) {
             fireUpdateEvent(RESIZE_EVENT);
         } else {
-            needleSize.set(SIZE);
+            needleSizeProperty().set(SIZE);
         }
     }
     public ObjectProperty<NeedleSize> needleSizeProperty() {
         if (null == needleSize) {
-            needleSize  = new ObjectPropertyBase<NeedleSize>(_needleSize) {
+            needleSize  = new ObjectPropertyBase<NeedleSize>(gaugeStyle.getNeedleSize()) {
                 @Override protected void invalidated() {
                     if(null == get()) set(NeedleSize.STANDARD);
                     fireUpdateEvent(RESIZE_EVENT);
@@ -3060,7 +3107,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleSize"; }
             };
-            _needleSize = null;
         }
         return needleSize;
     }
@@ -3117,7 +3163,7 @@ public class Gauge extends Control {
      *
      * @return the color that wil be used to colorize the needle
      */
-    public Color getNeedleColor() { return null == needleColor ? _needleColor : needleColor.get(); }
+    public Color getNeedleColor() { return null == needleColor ? gaugeStyle.getNeedleColor() : needleColor.get(); }
     /**
      * Defines the color that will be used to colorize the needle of
      * the radial gauges.
@@ -3125,21 +3171,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setNeedleColor(final Color COLOR) {
-        if (null == needleColor) {
-            _needleColor = COLOR;
+        if (null == needleColor && Objects.equals(COLOR, gaugeStyle.getNeedleColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            needleColor.set(COLOR);
+            needleColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> needleColorProperty() {
         if (null == needleColor) {
-            needleColor  = new ObjectPropertyBase<Color>(_needleColor) {
+            needleColor  = new ObjectPropertyBase<Color>(gaugeStyle.getNeedleColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleColor"; }
             };
-            _needleColor = null;
         }
         return needleColor;
     }
@@ -3149,23 +3193,22 @@ public class Gauge extends Control {
      *
      * @return the color that is used to colorize the border of the needle
      */
-    public Color getNeedleBorderColor() { return null == needleBorderColor ? _needleBorderColor : needleBorderColor.get(); }
+    public Color getNeedleBorderColor() { return null == needleBorderColor ? gaugeStyle.getNeedleBorderColor() : needleBorderColor.get(); }
     /**
      * Defines the color that will be used to colorize the border of the needle.
      *
      * @param COLOR
      */
     public void setNeedleBorderColor(final Color COLOR) {
-        if (null == needleBorderColor) {
-            _needleBorderColor = null == COLOR ? Color.TRANSPARENT : COLOR;
+        if (null == needleBorderColor && Objects.equals(COLOR, gaugeStyle.getNeedleBorderColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            needleBorderColor.set(COLOR);
+            needleBorderColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> needleBorderColorProperty() {
         if (null == needleBorderColor) {
-            needleBorderColor  = new ObjectPropertyBase<Color>(_needleBorderColor) {
+            needleBorderColor  = new ObjectPropertyBase<Color>(gaugeStyle.getNeedleBorderColor()) {
                 @Override protected void invalidated() {
                     if (null == get()) set(Color.TRANSPARENT);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3173,7 +3216,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleBorderColor"; }
             };
-            _needleBorderColor = null;
         }
         return needleBorderColor;
     }
@@ -3184,7 +3226,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorized the bar (if available)
      */
-    public Color getBarColor() { return null == barColor ? _barColor : barColor.get(); }
+    public Color getBarColor() { return null == barColor ? gaugeStyle.getBarColor() : barColor.get(); }
     /**
      * Defines the color that will be used to colorize the bar of
      * the gauge (if it has a bar).
@@ -3192,21 +3234,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setBarColor(final Color COLOR) {
-        if (null == barColor) {
-            _barColor = COLOR;
+        if (null == barColor && Objects.equals(COLOR, gaugeStyle.getBarColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            barColor.set(COLOR);
+            barColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> barColorProperty() {
         if (null == barColor) {
-            barColor  = new ObjectPropertyBase<Color>(_barColor) {
+            barColor  = new ObjectPropertyBase<Color>(gaugeStyle.getBarColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "barColor"; }
             };
-            _barColor = null;
         }
         return barColor;
     }
@@ -3216,23 +3256,22 @@ public class Gauge extends Control {
      *
      * @return the color that is used to colorize the border of the bar
      */
-    public Color getBarBorderColor() { return null == barBorderColor ? _barBorderColor : barBorderColor.get(); }
+    public Color getBarBorderColor() { return null == barBorderColor ? gaugeStyle.getBarBorderColor() : barBorderColor.get(); }
     /**
      * Defines the color that will be used to colorize the border of the bar.
      *
      * @param COLOR
      */
     public void setBarBorderColor(final Color COLOR) {
-        if (null == barBorderColor) {
-            _barBorderColor = null == COLOR ? Color.TRANSPARENT : COLOR;
+        if (null == barBorderColor && Objects.equals(COLOR, gaugeStyle.getBarBorderColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            barBorderColor.set(COLOR);
+            barBorderColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> barBorderColorProperty() {
         if (null == barBorderColor) {
-            barBorderColor  = new ObjectPropertyBase<Color>(_barBorderColor) {
+            barBorderColor  = new ObjectPropertyBase<Color>(gaugeStyle.getBarBorderColor()) {
                 @Override protected void invalidated() {
                     if(null == get()) set(Color.TRANSPARENT);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3240,7 +3279,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "barBorderColor"; }
             };
-            _barBorderColor = null;
         }
         return barBorderColor;
     }
@@ -3251,7 +3289,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the bar background
      */
-    public Color getBarBackgroundColor() { return null == barBackgroundColor ? _barBackgroundColor : barBackgroundColor.get(); }
+    public Color getBarBackgroundColor() { return null == barBackgroundColor ? gaugeStyle.getBarBackgroundColor() : barBackgroundColor.get(); }
     /**
      * Returns the color that will be used to colorize the bar background of
      * the gauge (if it has a bar).
@@ -3259,21 +3297,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setBarBackgroundColor(final Color COLOR) {
-        if (null == barBackgroundColor) {
-            _barBackgroundColor = COLOR;
+        if (null == barBackgroundColor && Objects.equals(COLOR, gaugeStyle.getBarBackgroundColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            barBackgroundColor.set(COLOR);
+            barBackgroundColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> barBackgroundColorProperty() {
         if (null == barBackgroundColor) {
-            barBackgroundColor  = new ObjectPropertyBase<Color>(_barBackgroundColor) {
+            barBackgroundColor  = new ObjectPropertyBase<Color>(gaugeStyle.getBarBackgroundColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "barBackgroundColor"; }
             };
-            _barBackgroundColor = null;
         }
         return barBackgroundColor;
     }
@@ -3292,7 +3328,7 @@ public class Gauge extends Control {
      *
      * @return the design that will be used to visualize the LCD display (if available)
      */
-    public LcdDesign getLcdDesign() { return null == lcdDesign ? _lcdDesign : lcdDesign.get(); }
+    public LcdDesign getLcdDesign() { return null == lcdDesign ? gaugeStyle.getLcdDesign() : lcdDesign.get(); }
     /**
      * Defines the design that will be used to visualize the LCD display
      * of the gauge (if it has one). The values are
@@ -3308,16 +3344,15 @@ public class Gauge extends Control {
      * @param DESIGN
      */
     public void setLcdDesign(final LcdDesign DESIGN) {
-        if (null == lcdDesign) {
-            _lcdDesign = null == DESIGN ? LcdDesign.STANDARD : DESIGN;
+        if (null == lcdDesign && Objects.equals(DESIGN, gaugeStyle.getLcdDesign())) {
             fireUpdateEvent(LCD_EVENT);
         } else {
-            lcdDesign.set(DESIGN);
+            lcdDesignProperty().set(DESIGN);
         }
     }
     public ObjectProperty<LcdDesign> lcdDesignProperty() {
         if (null == lcdDesign) {
-            lcdDesign  = new ObjectPropertyBase<LcdDesign>(_lcdDesign) {
+            lcdDesign  = new ObjectPropertyBase<LcdDesign>(gaugeStyle.getLcdDesign()) {
                 @Override protected void invalidated() {
                     if(null == get()) set(LcdDesign.STANDARD);
                     fireUpdateEvent(LCD_EVENT);
@@ -3325,7 +3360,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "lcdDesign"; }
             };
-            _lcdDesign = null;
         }
         return lcdDesign;
     }
@@ -3337,7 +3371,7 @@ public class Gauge extends Control {
      *
      * @return the font that will be used to visualize the LCD value
      */
-    public LcdFont getLcdFont() { return null == lcdFont ? _lcdFont : lcdFont.get(); }
+    public LcdFont getLcdFont() { return null == lcdFont ? gaugeStyle.getLcdFont() : lcdFont.get(); }
     /**
      * Defines the font that will be used to visualize the LCD value
      * if the gauge has a LCD display.
@@ -3346,16 +3380,15 @@ public class Gauge extends Control {
      * @param FONT
      */
     public void setLcdFont(final LcdFont FONT) {
-        if (null == lcdFont) {
-            _lcdFont = null == FONT ? LcdFont.DIGITAL_BOLD : FONT;
+        if (null == lcdFont && Objects.equals(FONT, gaugeStyle.getLcdFont())) {
             fireUpdateEvent(RESIZE_EVENT);
         } else {
-            lcdFont.set(FONT);
+            lcdFontProperty().set(FONT);
         }
     }
     public ObjectProperty<LcdFont> lcdFontProperty() {
         if (null == lcdFont) {
-            lcdFont  = new ObjectPropertyBase<LcdFont>(_lcdFont) {
+            lcdFont  = new ObjectPropertyBase<LcdFont>(gaugeStyle.getLcdFont()) {
                 @Override protected void invalidated() {
                     if(null == get()) set(LcdFont.DIGITAL_BOLD);
                     fireUpdateEvent(RESIZE_EVENT);
@@ -3363,7 +3396,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "lcdFont"; }
             };
-            _lcdFont = null;
         }
         return lcdFont;
     }
@@ -3374,7 +3406,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to visualize the LED
      */
-    public Color getLedColor() { return null == ledColor ? _ledColor : ledColor.get(); }
+    public Color getLedColor() { return null == ledColor ? gaugeStyle.getLedColor() : ledColor.get(); }
     /**
      * Defines the color that will be used to visualize the LED of the
      * gauge if it has one.
@@ -3382,16 +3414,15 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setLedColor(final Color COLOR) {
-        if (null == ledColor) {
-            _ledColor = null == COLOR ? Color.RED : COLOR;
+        if (null == ledColor && Objects.equals(COLOR, gaugeStyle.getLedColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            ledColor.set(COLOR);
+            ledColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> ledColorProperty() {
         if (null == ledColor) {
-            ledColor  = new ObjectPropertyBase<Color>(_ledColor) {
+            ledColor  = new ObjectPropertyBase<Color>(gaugeStyle.getLedColor()) {
                 @Override protected void invalidated() {
                     if (null == get()) set(Color.RED);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3399,7 +3430,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "ledColor"; }
             };
-            _ledColor = null;
         }
         return ledColor;
     }
@@ -3411,7 +3441,7 @@ public class Gauge extends Control {
      *
      * @return the graphical representation of the LED
      */
-    public LedType getLedType() { return null == ledType ? _ledType : ledType.get(); }
+    public LedType getLedType() { return null == ledType ? gaugeStyle.getLedType() : ledType.get(); }
     /**
      * Defines the graphical representation of the LED.
      * The values are STANDARD and FLAT
@@ -3420,16 +3450,15 @@ public class Gauge extends Control {
      * @param TYPE
      */
     public void setLedType(final LedType TYPE) {
-        if (null == ledType) {
-            _ledType = null == TYPE ? LedType.STANDARD : TYPE;
+        if (null == ledType && Objects.equals(TYPE, gaugeStyle.getLedType())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            ledType.set(TYPE);
+            ledTypeProperty().set(TYPE);
         }
     }
     public ObjectProperty<LedType> ledTypeProperty() {
         if (null == ledType) {
-            ledType  = new ObjectPropertyBase<LedType>(_ledType) {
+            ledType  = new ObjectPropertyBase<LedType>(gaugeStyle.getLedType()) {
                 @Override protected void invalidated() {
                     if(null == get()) set(LedType.STANDARD);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3437,7 +3466,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "ledType"; }
             };
-            _ledType = null;
         }
         return ledType;
     }
@@ -3448,7 +3476,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the title
      */
-    public Color getTitleColor() { return null == titleColor ? _titleColor : titleColor.get(); }
+    public Color getTitleColor() { return null == titleColor ? gaugeStyle.getTitleColor() : titleColor.get(); }
     /**
      * Defines the color that will be used to colorize the title
      * of the gauge.
@@ -3456,21 +3484,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setTitleColor(final Color COLOR) {
-        if (null == titleColor) {
-            _titleColor = COLOR;
+        if (null == titleColor && Objects.equals(COLOR, gaugeStyle.getTitleColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            titleColor.set(COLOR);
+            titleColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> titleColorProperty() {
         if (null == titleColor) {
-            titleColor  = new ObjectPropertyBase<Color>(_titleColor) {
+            titleColor  = new ObjectPropertyBase<Color>(gaugeStyle.getTitleColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "titleColor"; }
             };
-            _titleColor = null;
         }
         return titleColor;
     }
@@ -3481,7 +3507,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the subTitle
      */
-    public Color getSubTitleColor() { return null == subTitleColor ? _subTitleColor : subTitleColor.get(); }
+    public Color getSubTitleColor() { return null == subTitleColor ? gaugeStyle.getSubTitleColor() : subTitleColor.get(); }
     /**
      * Defines the color that will be used to colorize the subTitle
      * of the gauge.
@@ -3489,21 +3515,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setSubTitleColor(final Color COLOR) {
-        if (null == subTitleColor) {
-            _subTitleColor = COLOR;
+        if (null == subTitleColor && Objects.equals(COLOR, gaugeStyle.getSubTitleColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            subTitleColor.set(COLOR);
+            subTitleColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> subTitleColorProperty() {
         if (null == subTitleColor) {
-            subTitleColor  = new ObjectPropertyBase<Color>(_subTitleColor) {
+            subTitleColor  = new ObjectPropertyBase<Color>(gaugeStyle.getSubTitleColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "subTitleColor"; }
             };
-            _subTitleColor = null;
         }
         return subTitleColor;
     }
@@ -3514,7 +3538,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the unit
      */
-    public Color getUnitColor() { return null == unitColor ? _unitColor : unitColor.get(); }
+    public Color getUnitColor() { return null == unitColor ? gaugeStyle.getUnitColor() : unitColor.get(); }
     /**
      * Defines the color that will be used to colorize the unit
      * of the gauge.
@@ -3522,21 +3546,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setUnitColor(final Color COLOR) {
-        if (null == unitColor) {
-            _unitColor = COLOR;
+        if (null == unitColor && Objects.equals(COLOR, gaugeStyle.getUnitColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            unitColor.set(COLOR);
+            unitColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> unitColorProperty() {
         if (null == unitColor) {
-            unitColor  = new ObjectPropertyBase<Color>(_unitColor) {
+            unitColor  = new ObjectPropertyBase<Color>(gaugeStyle.getUnitColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "unitColor"; }
             };
-            _unitColor = null;
         }
         return unitColor;
     }
@@ -3547,7 +3569,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the value
      */
-    public Color getValueColor() { return null == valueColor ? _valueColor : valueColor.get(); }
+    public Color getValueColor() { return null == valueColor ? gaugeStyle.getValueColor() : valueColor.get(); }
     /**
      * Defines the color that will be used to colorize the value
      * of the gauge.
@@ -3555,21 +3577,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setValueColor(final Color COLOR) {
-        if (null == valueColor) {
-            _valueColor = COLOR;
+        if (null == valueColor && Objects.equals(COLOR, gaugeStyle.getValueColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            valueColor.set(COLOR);
+            valueColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> valueColorProperty() {
         if (null == valueColor) {
-            valueColor  = new ObjectPropertyBase<Color>(_valueColor) {
+            valueColor  = new ObjectPropertyBase<Color>(gaugeStyle.getValueColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "valueColor"; }
             };
-            _valueColor = null;
         }
         return valueColor;
     }
@@ -3580,7 +3600,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the threshold indicator
      */
-    public Color getThresholdColor() { return null == thresholdColor ? _thresholdColor : thresholdColor.get(); }
+    public Color getThresholdColor() { return null == thresholdColor ? gaugeStyle.getThresholdColor() : thresholdColor.get(); }
     /**
      * Defines the color that will be used to colorize the threshold
      * indicator of the gauge.
@@ -3588,21 +3608,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setThresholdColor(final Color COLOR) {
-        if (null == thresholdColor) {
-            _thresholdColor = COLOR;
+        if (null == thresholdColor && Objects.equals(COLOR, gaugeStyle.getThresholdColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            thresholdColor.set(COLOR);
+            thresholdColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> thresholdColorProperty() {
         if (null == thresholdColor) {
-            thresholdColor  = new ObjectPropertyBase<Color>(_thresholdColor) {
+            thresholdColor  = new ObjectPropertyBase<Color>(gaugeStyle.getThresholdColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "thresholdColor"; }
             };
-            _thresholdColor = null;
         }
         return thresholdColor;
     }
@@ -3613,7 +3631,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the average indicator
      */
-    public Color getAverageColor() { return null == averageColor ? _averageColor : averageColor.get(); }
+    public Color getAverageColor() { return null == averageColor ? gaugeStyle.getAverageColor() : averageColor.get(); }
     /**
      * Defines the color that will be used to colorize the average
      * indicator of the gauge.
@@ -3621,21 +3639,19 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setAverageColor(final Color COLOR) {
-        if (null == averageColor) {
-            _averageColor = COLOR;
+        if (null == averageColor && Objects.equals(COLOR, gaugeStyle.getAverageColor())) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            averageColor.set(COLOR);
+            averageColorProperty().set(COLOR);
         }
     }
     public ObjectProperty<Color> averageColorProperty() {
         if (null == averageColor) {
-            averageColor  = new ObjectPropertyBase<Color>(_averageColor) {
+            averageColor  = new ObjectPropertyBase<Color>(gaugeStyle.getAverageColor()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "averageColor"; }
             };
-            _averageColor = null;
         }
         return averageColor;
     }
@@ -4192,23 +4208,22 @@ public class Gauge extends Control {
      *
      * @return true if the ticklabels should be drawn
      */
-    public boolean getTickLabelsVisible() { return null == tickLabelsVisible ? _tickLabelsVisible : tickLabelsVisible.get(); }
+    public boolean getTickLabelsVisible() { return null == tickLabelsVisible ? gaugeStyle.getTickLabelsVisible() : tickLabelsVisible.get(); }
     /**
      * Defines if the ticklabels should be drawn
      *
      * @param VISIBLE
      */
     public void setTickLabelsVisible(final boolean VISIBLE) {
-        if (null == tickLabelsVisible) {
-            _tickLabelsVisible = VISIBLE;
+        if (null == tickLabelsVisible && VISIBLE == gaugeStyle.getTickLabelsVisible()) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            tickLabelsVisible.set(VISIBLE);
+            tickLabelsVisibleProperty().set(VISIBLE);
         }
     }
     public BooleanProperty tickLabelsVisibleProperty() {
         if (null == tickLabelsVisible) {
-            tickLabelsVisible = new BooleanPropertyBase(_tickLabelsVisible) {
+            tickLabelsVisible = new BooleanPropertyBase(gaugeStyle.getTickLabelsVisible()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "tickLabelsVisible"; }
@@ -4260,7 +4275,7 @@ public class Gauge extends Control {
      *
      * @return true if the major tickmarks should be drawn
      */
-    public boolean getMajorTickMarksVisible() { return null == majorTickMarksVisible ? _majorTickMarksVisible : majorTickMarksVisible.get(); }
+    public boolean getMajorTickMarksVisible() { return null == majorTickMarksVisible ? gaugeStyle.getMajorTickMarksVisible() : majorTickMarksVisible.get(); }
     /**
      * Defines if the major tickmarks should be drawn
      * If set to false and minorTickmarks == true, a minor tickmark
@@ -4269,16 +4284,15 @@ public class Gauge extends Control {
      * @param VISIBLE
      */
     public void setMajorTickMarksVisible(final boolean VISIBLE) {
-        if (null == majorTickMarksVisible) {
-            _majorTickMarksVisible = VISIBLE;
+        if (null == majorTickMarksVisible && VISIBLE == gaugeStyle.getMajorTickMarksVisible()) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            majorTickMarksVisible.set(VISIBLE);
+            majorTickMarksVisibleProperty().set(VISIBLE);
         }
     }
     public BooleanProperty majorTickMarksVisibleProperty() {
         if (null == majorTickMarksVisible) {
-            majorTickMarksVisible = new BooleanPropertyBase(_majorTickMarksVisible) {
+            majorTickMarksVisible = new BooleanPropertyBase(gaugeStyle.getMajorTickMarksVisible()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "majorTickMarksVisible"; }
@@ -4294,18 +4308,17 @@ public class Gauge extends Control {
      *
      * @return true if the medium tickmarks should be drawn
      */
-    public boolean getMediumTickMarksVisible() { return null == mediumTickMarksVisible ? _mediumTickMarksVisible : mediumTickMarksVisible.get(); }
+    public boolean getMediumTickMarksVisible() { return null == mediumTickMarksVisible ? gaugeStyle.getMediumTickMarksVisible() : mediumTickMarksVisible.get(); }
     public void setMediumTickMarksVisible(final boolean VISIBLE) {
-        if (null == mediumTickMarksVisible) {
-            _mediumTickMarksVisible = VISIBLE;
+        if (null == mediumTickMarksVisible && VISIBLE == gaugeStyle.getMediumTickMarksVisible()) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            mediumTickMarksVisible.set(VISIBLE);
+            mediumTickMarksVisibleProperty().set(VISIBLE);
         }
     }
     public BooleanProperty mediumTickMarksVisibleProperty() {
         if (null == mediumTickMarksVisible) {
-            mediumTickMarksVisible = new BooleanPropertyBase(_mediumTickMarksVisible) {
+            mediumTickMarksVisible = new BooleanPropertyBase(gaugeStyle.getMediumTickMarksVisible()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "mediumTickMarksVisible"; }
@@ -4319,23 +4332,22 @@ public class Gauge extends Control {
      *
      * @return true if the minor tickmarks should be drawn
      */
-    public boolean getMinorTickMarksVisible() { return null == minorTickMarksVisible ? _minorTickMarksVisible : minorTickMarksVisible.get(); }
+    public boolean getMinorTickMarksVisible() { return null == minorTickMarksVisible ? gaugeStyle.getMinorTickMarksVisible() : minorTickMarksVisible.get(); }
     /**
      * Defines if the minor tickmarks should be drawn
      *
      * @param VISIBLE
      */
     public void setMinorTickMarksVisible(final boolean VISIBLE) {
-        if (null == minorTickMarksVisible) {
-            _minorTickMarksVisible = VISIBLE;
+        if (null == minorTickMarksVisible && VISIBLE == gaugeStyle.getMinorTickMarksVisible()) {
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            minorTickMarksVisible.set(VISIBLE);
+            minorTickMarksVisibleProperty().set(VISIBLE);
         }
     }
     public BooleanProperty minorTickMarksVisibleProperty() {
         if (null == minorTickMarksVisible) {
-            minorTickMarksVisible = new BooleanPropertyBase(_minorTickMarksVisible) {
+            minorTickMarksVisible = new BooleanPropertyBase(gaugeStyle.getMinorTickMarksVisible()) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "minorTickMarksVisible"; }
@@ -4950,23 +4962,22 @@ public class Gauge extends Control {
      * render all text elements.
      * @return true if the control uses the given customFont
      */
-    public boolean isCustomFontEnabled() { return null == customFontEnabled ? _customFontEnabled : customFontEnabled.get(); }
+    public boolean isCustomFontEnabled() { return null == customFontEnabled ? gaugeStyle.isCustomFontEnabled() : customFontEnabled.get(); }
     /**
      * Defines if the control should use the given customFont
      * to render all text elements
      * @param ENABLED
      */
     public void setCustomFontEnabled(final boolean ENABLED) {
-        if (null == customFontEnabled) {
-            _customFontEnabled = ENABLED;
+        if (null == customFontEnabled && ENABLED == gaugeStyle.isCustomFontEnabled()) {
             fireUpdateEvent(RESIZE_EVENT);
         } else {
-            customFontEnabled.set(ENABLED);
+            customFontEnabledProperty().set(ENABLED);
         }
     }
     public BooleanProperty customFontEnabledProperty() {
         if (null == customFontEnabled) {
-            customFontEnabled = new BooleanPropertyBase(_customFontEnabled) {
+            customFontEnabled = new BooleanPropertyBase(gaugeStyle.isCustomFontEnabled()) {
                 @Override protected void invalidated() { fireUpdateEvent(RESIZE_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "customFontEnabled"; }
@@ -4981,7 +4992,7 @@ public class Gauge extends Control {
      * customFontEnabled = true
      * @return the given custom Font
      */
-    public Font getCustomFont() { return null == customFont ? _customFont : customFont.get(); }
+    public Font getCustomFont() { return null == customFont ? gaugeStyle.getCustomFont() : customFont.get(); }
     /**
      * Defines the custom font that can be used to render all
      * text elements. To enable the custom font one has to set
@@ -4989,21 +5000,19 @@ public class Gauge extends Control {
      * @param FONT
      */
     public void setCustomFont(final Font FONT) {
-        if (null == customFont) {
-            _customFont = FONT;
+        if (null == customFont && Objects.equals(FONT, gaugeStyle.getCustomFont())) {
             fireUpdateEvent(RESIZE_EVENT);
         } else {
-            customFont.set(FONT);
+            customFontProperty().set(FONT);
         }
     }
     public ObjectProperty<Font> customFontProperty() {
         if (null == customFont) {
-            customFont = new ObjectPropertyBase<Font>() {
+            customFont = new ObjectPropertyBase<Font>(gaugeStyle.getCustomFont()) {
                 @Override protected void invalidated() { fireUpdateEvent(RESIZE_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "customFont"; }
             };
-            _customFont = null;
         }
         return customFont;
     }
@@ -5136,7 +5145,8 @@ public class Gauge extends Control {
         blinkTask = new Callable<Void>() {
             @Override public Void call() throws Exception {
                 try {
-                    Platform.runLater(() -> setLedOn(!isLedOn()));
+                    Metrics.tick(Metrics.BLINK_TASK);
+                    Metrics.runLater(() -> setLedOn(!isLedOn()));
                 } finally {
                     if (!Thread.currentThread().isInterrupted()) {
                         // Schedule the same Callable with the current updateInterval
@@ -5182,7 +5192,24 @@ public class Gauge extends Control {
 
     // ******************** Style related *************************************
     @Override protected Skin createDefaultSkin() {
-        switch (skinType) {
+        final GaugeSkinBase SKIN = createSkin(skinType);
+        if (skinPooling) { skinPool.put(skinType, SKIN); }
+        return SKIN;
+    }
+
+    /**
+     * Creates the skin that will be used for the given skin type instead of
+     * the built-in skin, e.g. a skin for a subclass that needs additional
+     * drawing. The skin will be pooled like the built-in skins.
+     * @param SKIN_TYPE
+     * @return the skin for the given skin type or null to use the built-in skin
+     */
+    protected GaugeSkinBase createCustomSkin(final SkinType SKIN_TYPE) { return null; }
+
+    private GaugeSkinBase createSkin(final SkinType SKIN_TYPE) {
+        final GaugeSkinBase CUSTOM_SKIN = createCustomSkin(SKIN_TYPE);
+        if (null != CUSTOM_SKIN) return CUSTOM_SKIN;
+        switch (SKIN_TYPE) {
             case AMP            : return new AmpSkin(Gauge.this);
             case BULLET_CHART   : return new BulletChartSkin(Gauge.this);
             case DASHBOARD      : return new DashboardSkin(Gauge.this);
@@ -5211,6 +5238,8 @@ public class Gauge extends Control {
             case TILE_KPI       : return new TileKpiSkin(Gauge.this);
             case TILE_TEXT_KPI  : return new TileTextKpiSkin(Gauge.this);
             case TILE_SPARK_LINE: return new TileSparklineSkin(Gauge.this);
+            case CANVAS_GAUGE   : return new CanvasGaugeSkin(Gauge.this);
+            case STRIP_CHART    : return new StripChartSkin(Gauge.this);
             case GAUGE          :
             default             : return new GaugeSkin(Gauge.this);
         }
@@ -5230,20 +5259,17 @@ public class Gauge extends Control {
                 setForegroundPaint(Color.BLACK);
                 setLcdVisible(true);
                 setShadowsEnabled(true);
-                super.setSkin(new AmpSkin(Gauge.this));
                 break;
             case BULLET_CHART:
                 setKnobPosition(Pos.CENTER);
                 setBarColor(Color.BLACK);
                 setThresholdColor(Color.BLACK);
-                super.setSkin(new BulletChartSkin(Gauge.this));
                 break;
             case DASHBOARD:
                 setKnobPosition(Pos.BOTTOM_CENTER);
                 setDecimals(0);
                 setBarBackgroundColor(Color.LIGHTGRAY);
                 setBarColor(Color.rgb(93, 190, 205));
-                super.setSkin(new DashboardSkin(Gauge.this));
                 break;
             case FLAT:
                 setKnobPosition(Pos.CENTER);
@@ -5254,7 +5280,6 @@ public class Gauge extends Control {
                 setUnitColor(Gauge.DARK_COLOR);
                 setBorderPaint(Color.rgb(208, 208, 208));
                 setDecimals(0);
-                super.setSkin(new FlatSkin(Gauge.this));
                 break;
             case INDICATOR:
                 setKnobPosition(Pos.BOTTOM_CENTER);
@@ -5268,7 +5293,6 @@ public class Gauge extends Control {
                 setBarBackgroundColor(Color.rgb(232, 231, 223));
                 setBarColor(Color.rgb(255, 0, 39));
                 setAngleRange(180);
-                super.setSkin(new IndicatorSkin(Gauge.this));
                 break;
             case KPI:
                 setKnobPosition(Pos.BOTTOM_CENTER);
@@ -5279,7 +5303,6 @@ public class Gauge extends Control {
                 setThresholdColor(Color.rgb(45, 86, 184));
                 setNeedleColor(Color.rgb(74, 74, 74));
                 setAngleRange(128);
-                super.setSkin(new KpiSkin(Gauge.this));
                 break;
             case MODERN:
                 setKnobPosition(Pos.CENTER);
@@ -5294,7 +5317,6 @@ public class Gauge extends Control {
                 setTickLabelColor(Color.rgb(151, 151, 151));
                 setTickMarkColor(Color.BLACK);
                 setTickLabelOrientation(TickLabelOrientation.ORTHOGONAL);
-                super.setSkin(new ModernSkin(Gauge.this));
                 break;
             case SIMPLE:
                 setKnobPosition(Pos.CENTER);
@@ -5308,7 +5330,6 @@ public class Gauge extends Control {
                 setTitleColor(Color.WHITE);
                 setSubTitleColor(Color.WHITE);
                 setSectionsVisible(true);
-                super.setSkin(new SimpleSkin(Gauge.this));
                 break;
             case SLIM:
                 setKnobPosition(Pos.CENTER);
@@ -5318,7 +5339,6 @@ public class Gauge extends Control {
                 setTitleColor(Color.rgb(142, 147, 151));
                 setValueColor(Color.rgb(228, 231, 238));
                 setUnitColor(Color.rgb(142, 147, 151));
-                super.setSkin(new SlimSkin(Gauge.this));
                 break;
             case SPACE_X:
                 setKnobPosition(Pos.CENTER);
@@ -5329,22 +5349,18 @@ public class Gauge extends Control {
                 setTitleColor(Color.WHITE);
                 setValueColor(Color.WHITE);
                 setUnitColor(Color.WHITE);
-                super.setSkin(new SpaceXSkin(Gauge.this));
                 break;
             case QUARTER:
                 setKnobPosition(Pos.BOTTOM_RIGHT);
                 setAngleRange(90);
-                super.setSkin(new QuarterSkin(Gauge.this));
                 break;
             case HORIZONTAL:
                 setKnobPosition(Pos.BOTTOM_CENTER);
                 setAngleRange(180);
-                super.setSkin(new HSkin(Gauge.this));
                 break;
             case VERTICAL:
                 setKnobPosition(Pos.CENTER_RIGHT);
                 setAngleRange(180);
-                super.setSkin(new VSkin(Gauge.this));
                 break;
             case LCD:
                 setDecimals(1);
@@ -5354,7 +5370,6 @@ public class Gauge extends Control {
                 setOldValueVisible(true);
                 setBorderPaint(Color.WHITE);
                 setForegroundPaint(Color.WHITE);
-                super.setSkin(new LcdSkin(Gauge.this));
                 break;
             case TINY:
                 setBorderWidth(24);
@@ -5365,32 +5380,26 @@ public class Gauge extends Control {
                 setSectionsVisible(true);
                 setMajorTickMarksVisible(true);
                 setMajorTickMarkColor(Color.WHITE);
-                super.setSkin(new TinySkin(Gauge.this));
                 break;
             case BATTERY:
                 setBarBackgroundColor(Color.BLACK);
                 setBarColor(Color.BLACK);
                 setValueColor(Color.WHITE);
-                super.setSkin(new BatterySkin(Gauge.this));
                 break;
             case LEVEL:
                 setValueColor(Color.WHITE);
                 setBarColor(Color.CYAN);
-                super.setSkin(new LevelSkin(Gauge.this));
                 break;
             case LINEAR:
                 setOrientation(Orientation.VERTICAL);
                 setBarColor(DARK_COLOR);
                 setBarEffectEnabled(true);
-                super.setSkin(new LinearSkin(Gauge.this));
                 break;
             case DIGITAL:
                 setBarColor(DARK_COLOR);
-                super.setSkin(new DigitalSkin(Gauge.this));
                 break;
             case SIMPLE_DIGITAL:
                 setBarColor(DARK_COLOR);
-                super.setSkin(new SimpleDigitalSkin(Gauge.this));
                 break;
             case SECTION:
                 setBackgroundPaint(Gauge.DARK_COLOR);
@@ -5399,7 +5408,6 @@ public class Gauge extends Control {
                 setKnobColor(Color.rgb(82, 82, 84));
                 setSectionsVisible(true);
                 setSectionTextVisible(true);
-                super.setSkin(new SectionSkin(Gauge.this));
                 break;
             case BAR:
                 Color barColor = getBarColor();
@@ -5412,7 +5420,6 @@ public class Gauge extends Control {
                                     new Stop(0.01, barColor),
                                     new Stop(0.75, barColor.deriveColor(-10, 1, 1, 1)),
                                     new Stop(1.0, barColor.deriveColor(-20, 1, 1, 1)));
-                super.setSkin(new BarSkin(Gauge.this));
                 break;
             case WHITE:
                 setAnimated(true);
@@ -5423,13 +5430,11 @@ public class Gauge extends Control {
                 setBarColor(Color.WHITE);
                 setValueColor(Color.WHITE);
                 setUnitColor(Color.WHITE);
-                super.setSkin(new WhiteSkin(Gauge.this));
                 break;
             case CHARGE:
                 setAnimated(true);
                 setMinValue(0.0);
                 setMaxValue(1.0);
-                super.setSkin(new ChargeSkin(Gauge.this));
                 break;
             case SIMPLE_SECTION:
                 setAnimated(true);
@@ -5441,7 +5446,6 @@ public class Gauge extends Control {
                 setTitleColor(Color.rgb(90, 90, 90));
                 setUnitColor(Color.rgb(90, 90, 90));
                 setValueColor(Color.rgb(90, 90, 90));
-                super.setSkin(new SimpleSectionSkin(Gauge.this));
                 break;
             case TILE_KPI:
                 setKnobPosition(Pos.BOTTOM_CENTER);
@@ -5454,7 +5458,6 @@ public class Gauge extends Control {
                 setThresholdColor(Color.rgb(41,177,255));
                 setNeedleColor(Color.rgb(238,238,238));
                 setAngleRange(180);
-                super.setSkin(new TileKpiSkin(Gauge.this));
                 break;
             case TILE_TEXT_KPI:
                 setDecimals(0);
@@ -5465,7 +5468,6 @@ public class Gauge extends Control {
                 setUnitColor(Color.rgb(238, 238, 238));
                 setThresholdVisible(false);
                 setThresholdColor(Color.rgb(139,144,146));
-                super.setSkin(new TileTextKpiSkin(Gauge.this));
                 break;
             case TILE_SPARK_LINE:
                 setDecimals(0);
@@ -5478,18 +5480,45 @@ public class Gauge extends Control {
                 setAveragingPeriod(10);
                 setAverageColor(Color.rgb(238, 238, 238, 0.5));
                 setAnimated(false);
-                super.setSkin(new TileSparklineSkin(Gauge.this));
+                break;
+            case STRIP_CHART:
+                setBackgroundPaint(Color.rgb(42,42,42));
+                setForegroundBaseColor(Color.rgb(238,238,238));
+                setBarColor(Color.rgb(41,177,255));
+                setValueColor(Color.rgb(238, 238, 238));
+                setUnitColor(Color.rgb(238, 238, 238));
+                setTickLabelColor(Color.rgb(238, 238, 238, 0.5));
+                setTickMarkColor(Color.rgb(238, 238, 238, 0.2));
+                setAveragingEnabled(true);
+                setAverageColor(Color.rgb(238, 238, 238, 0.5));
+                setAnimated(false);
+                break;
+            case CANVAS_GAUGE:
+                setStartAngle(320);
+                setAngleRange(280);
                 break;
             case GAUGE:
                 setStartAngle(320);
                 setAngleRange(280);
             default:
-                super.setSkin(new GaugeSkin(Gauge.this));
                 break;
         }
+        applySkin();
         fireUpdateEvent(RESIZE_EVENT);
     }
 
+    private void applySkin() {
+        final GaugeSkinBase POOLED_SKIN = skinPooling ? skinPool.get(skinType) : null;
+        if (null == POOLED_SKIN) {
+            final GaugeSkinBase SKIN = createSkin(skinType);
+            if (skinPooling) { skinPool.put(skinType, SKIN); }
+            super.setSkin(SKIN);
+        } else if (POOLED_SKIN != getSkin()) {
+            super.setSkin(POOLED_SKIN);
+            POOLED_SKIN.reattach();
+        }
+    }
+
 
     // ******************** Event handling ************************************
     public void setOnUpdate(final UpdateEventListener LISTENER) { addUpdateEventListener(LISTENER); }
@@ -5497,10 +5526,29 @@ public class Gauge extends Control {
     public void removeUpdateEventListener(final UpdateEventListener LISTENER) { if (listenerList.contains(LISTENER)) listenerList.remove(LISTENER); }
 
     public void fireUpdateEvent(final UpdateEvent EVENT) {
+        if (updateBatchDepth > 0) {
+            batchedEvents.add(EVENT);
+            return;
+        }
+        Metrics.updateEventFired(this, EVENT.eventType);
         int listSize = listenerList.size();
         for (int i = 0; i < listSize; i++) { listenerList.get(i).onUpdateEvent(EVENT); }
     }
 
+    /**
+     * Collects all UpdateEvents until endUpdateBatch() is called, each
+     * event will then be fired only once. Also used by GaugeTransaction.
+     */
+    void beginUpdateBatch() { updateBatchDepth++; }
+    void endUpdateBatch() {
+        if (--updateBatchDepth > 0) return;
+        final List<UpdateEvent> EVENTS = new ArrayList<>(batchedEvents);
+        batchedEvents.clear();
+        // A resize will always be followed by a redraw
+        if (EVENTS.contains(RESIZE_EVENT)) { EVENTS.remove(REDRAW_EVENT); }
+        EVENTS.forEach(event -> fireUpdateEvent(event));
+    }
+
 
     public void setOnButtonPressed(final EventHandler<ButtonEvent> HANDLER) { addEventHandler(ButtonEvent.BTN_PRESSED, HANDLER); }
     public void removeOnButtonPressed(final EventHandler<ButtonEvent> HANDLER) { removeEventHandler(ButtonEvent.BTN_PRESSED, HANDLER); }
@@ -24,11 +24,16 @@ import eu.hansolo.medusa.Gauge.NeedleSize;
 import eu.hansolo.medusa.Gauge.NeedleType;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.skins.RedrawScheduler;
 import eu.hansolo.medusa.tools.GradientLookup;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
@@ -220,6 +225,41 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
         return (B)this;
     }
 
+    public final B suspendWhenHidden(final boolean SUSPEND) {
+        properties.put("suspendWhenHidden", new SimpleBooleanProperty(SUSPEND));
+        return (B)this;
+    }
+
+    public final B gaugeStyle(final GaugeStyle STYLE) {
+        properties.put("gaugeStyle", new SimpleObjectProperty<>(STYLE));
+        return (B)this;
+    }
+
+    public final B skinPooling(final boolean POOLING) {
+        properties.put("skinPooling", new SimpleBooleanProperty(POOLING));
+        return (B)this;
+    }
+
+    public final B levelOfDetail(final LevelOfDetail LEVEL_OF_DETAIL) {
+        properties.put("levelOfDetail", new SimpleObjectProperty<>(LEVEL_OF_DETAIL));
+        return (B)this;
+    }
+
+    public final B redrawScheduler(final RedrawScheduler SCHEDULER) {
+        properties.put("redrawScheduler", new SimpleObjectProperty<>(SCHEDULER));
+        return (B)this;
+    }
+
+    public final B redrawPriority(final int PRIORITY) {
+        properties.put("redrawPriority", new SimpleIntegerProperty(PRIORITY));
+        return (B)this;
+    }
+
+    public final B maxRefreshRate(final double RATE) {
+        properties.put("maxRefreshRate", new SimpleDoubleProperty(RATE));
+        return (B)this;
+    }
+
     public final B startAngle(final double ANGLE) {
         properties.put("startAngle", new SimpleDoubleProperty(ANGLE));
         return (B)this;
@@ -822,601 +862,702 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
         return (B)this;
     }
 
-    public final Gauge build() {
-        final Gauge CONTROL;
-        if (properties.containsKey("skinType")) {
-            SkinType skinType = ((ObjectProperty<SkinType>) properties.get("skinType")).get();
-            CONTROL = new Gauge(skinType);
-            switch(skinType) {
-                case AMP         :
-                    CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
-                    CONTROL.setTitleColor(Color.WHITE);
-                    CONTROL.setLedVisible(true);
-                    CONTROL.setBackgroundPaint(Color.WHITE);
-                    CONTROL.setForegroundPaint(Color.BLACK);
-                    CONTROL.setLcdVisible(true);
-                    CONTROL.setShadowsEnabled(true);
-                    break;
-                case BULLET_CHART:
-                    CONTROL.setKnobPosition(Pos.CENTER);
-                    CONTROL.setBarColor(Color.BLACK);
-                    CONTROL.setThresholdColor(Color.BLACK);
-                    break;
-                case DASHBOARD   :
-                    CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
-                    CONTROL.setDecimals(0);
-                    CONTROL.setBarBackgroundColor(Color.LIGHTGRAY);
-                    CONTROL.setBarColor(Color.rgb(93,190,205));
-                    CONTROL.setStartFromZero(false);
-                    break;
-                case FLAT        :
-                    CONTROL.setKnobPosition(Pos.CENTER);
-                    CONTROL.setBarColor(Color.CYAN);
-                    CONTROL.setBackgroundPaint(Color.TRANSPARENT);
-                    CONTROL.setTitleColor(Gauge.DARK_COLOR);
-                    CONTROL.setValueColor(Gauge.DARK_COLOR);
-                    CONTROL.setUnitColor(Gauge.DARK_COLOR);
-                    CONTROL.setBorderPaint(Color.rgb(208, 208, 208));
-                    CONTROL.setDecimals(0);
-                    CONTROL.setStartFromZero(true);
-                    break;
-                case INDICATOR   :
-                    CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
-                    CONTROL.setValueVisible(false);
-                    CONTROL.setGradientBarEnabled(false);
-                    CONTROL.setGradientBarStops(new Stop(0.0, Color.rgb(34,180,11)),
-                                        new Stop(0.5, Color.rgb(255,146,0)),
-                                        new Stop(1.0, Color.rgb(255,0,39)));
-                    CONTROL.setTickLabelsVisible(false);
-                    CONTROL.setNeedleColor(Color.rgb(71,71,71));
-                    CONTROL.setBarBackgroundColor(Color.rgb(232,231,223));
-                    CONTROL.setBarColor(Color.rgb(255,0,39));
-                    CONTROL.setAngleRange(180);
-                    break;
-                case KPI         :
-                    CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
-                    CONTROL.setDecimals(0);
-                    CONTROL.setForegroundBaseColor(Color.rgb(126,126,127));
-                    CONTROL.setBarColor(Color.rgb(168,204,254));
-                    CONTROL.setThresholdVisible(true);
-                    CONTROL.setThresholdColor(Color.rgb(45,86,184));
-                    CONTROL.setNeedleColor(Color.rgb(74,74,74));
-                    CONTROL.setAngleRange(128);
-                    break;
-                case MODERN      :
-                    CONTROL.setKnobPosition(Pos.CENTER);
-                    CONTROL.setDecimals(0);
-                    CONTROL.setValueColor(Color.WHITE);
-                    CONTROL.setTitleColor(Color.WHITE);
-                    CONTROL.setSubTitleColor(Color.WHITE);
-                    CONTROL.setUnitColor(Color.WHITE);
-                    CONTROL.setBarColor(Color.rgb(0, 214, 215));
-                    CONTROL.setNeedleColor(Color.WHITE);
-                    CONTROL.setThresholdColor(Color.rgb(204, 0, 0));
-                    CONTROL.setTickLabelColor(Color.rgb(151, 151, 151));
-                    CONTROL.setTickMarkColor(Color.BLACK);
-                    CONTROL.setTickLabelOrientation(TickLabelOrientation.ORTHOGONAL);
-                    break;
-                case SIMPLE      :
-                    CONTROL.setKnobPosition(Pos.CENTER);
-                    CONTROL.setBorderPaint(Color.WHITE);
-                    CONTROL.setNeedleBorderColor(Color.WHITE);
-                    CONTROL.setBackgroundPaint(Color.DARKGRAY);
-                    CONTROL.setDecimals(0);
-                    CONTROL.setTickLabelColor(Color.WHITE);
-                    CONTROL.setNeedleColor(Color.web("#5a615f"));
-                    CONTROL.setValueColor(Color.WHITE);
-                    CONTROL.setTitleColor(Color.WHITE);
-                    CONTROL.setSubTitleColor(Color.WHITE);
-                    CONTROL.setSectionsVisible(true);
-                    break;
-                case SLIM        :
-                    CONTROL.setKnobPosition(Pos.CENTER);
-                    CONTROL.setDecimals(2);
-                    CONTROL.setStartFromZero(true);
-                    CONTROL.setBarBackgroundColor(Color.rgb(62, 67, 73));
-                    CONTROL.setBarColor(Color.rgb(93,190,205));
-                    CONTROL.setTitleColor(Color.rgb(142,147,151));
-                    CONTROL.setValueColor(Color.rgb(228,231,238));
-                    CONTROL.setUnitColor(Color.rgb(142,147,151));
-                    break;
-                case SPACE_X     :
-                    CONTROL.setKnobPosition(Pos.CENTER);
-                    CONTROL.setDecimals(0);
-                    CONTROL.setThresholdColor(Color.rgb(180, 0, 0));
-                    CONTROL.setBarBackgroundColor(Color.rgb(169, 169, 169, 0.25));
-                    CONTROL.setBarColor(Color.rgb(169, 169, 169));
-                    CONTROL.setTitleColor(Color.WHITE);
-                    CONTROL.setValueColor(Color.WHITE);
-                    CONTROL.setUnitColor(Color.WHITE);
-                    break;
-                case QUARTER     :
-                    CONTROL.setKnobPosition(Pos.BOTTOM_RIGHT);
-                    CONTROL.setAngleRange(90);
-                    break;
-                case HORIZONTAL:
-                    CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
-                    CONTROL.setAngleRange(180);
-                    break;
-                case VERTICAL:
-                    CONTROL.setKnobPosition(Pos.CENTER_RIGHT);
-                    CONTROL.setAngleRange(180);
-                    break;
-                case LCD:
-                    CONTROL.setDecimals(1);
-                    CONTROL.setTickLabelDecimals(1);
-                    CONTROL.setMinMeasuredValueVisible(true);
-                    CONTROL.setMaxMeasuredValueVisible(true);
-                    CONTROL.setOldValueVisible(true);
-                    CONTROL.setBorderPaint(Color.WHITE);
-                    CONTROL.setForegroundPaint(Color.WHITE);
-                    break;
-                case TINY:
-                    CONTROL.setBorderWidth(24);
-                    CONTROL.setBackgroundPaint(Color.rgb(216,216,216));
-                    CONTROL.setBorderPaint(Color.rgb(76,76,76));
-                    CONTROL.setBarBackgroundColor(Color.rgb(76, 76, 76, 0.2));
-                    CONTROL.setNeedleColor(Color.rgb(76, 76, 76));
-                    CONTROL.setSectionsVisible(true);
-                    CONTROL.setMajorTickMarksVisible(true);
-                    CONTROL.setMajorTickMarkColor(Color.WHITE);
-                    break;
-                case BATTERY:
-                    CONTROL.setBarBackgroundColor(Color.BLACK);
-                    CONTROL.setBarColor(Color.BLACK);
-                    CONTROL.setValueColor(Color.WHITE);
-                    break;
-                case LEVEL:
-                    CONTROL.setValueColor(Color.WHITE);
-                    CONTROL.setBarColor(Color.CYAN);
-                    break;
-                case LINEAR:
-                    CONTROL.setOrientation(Orientation.VERTICAL);
-                    CONTROL.setBarColor(Gauge.DARK_COLOR);
-                    CONTROL.setBarEffectEnabled(true);
-                    break;
-                case DIGITAL:
-                    CONTROL.setBarColor(Gauge.DARK_COLOR);
-                    break;
-                case SIMPLE_DIGITAL:
-                    CONTROL.setBarColor(Gauge.DARK_COLOR);
-                    break;
-                case SECTION:
-                    CONTROL.setBackgroundPaint(Gauge.DARK_COLOR);
-                    CONTROL.setAutoScale(false);
-                    CONTROL.setValueVisible(false);
-                    CONTROL.setKnobColor(Color.rgb(82,82,84));
-                    CONTROL.setSectionsVisible(true);
-                    CONTROL.setSectionTextVisible(true);
-                    break;
-                case BAR:
-                    Color barColor = CONTROL.getBarColor();
-                    CONTROL.setAnimated(true);
-                    CONTROL.setAnimationDuration(1000);
-                    CONTROL.setMinValue(0);
-                    CONTROL.setMaxValue(100);
-                    CONTROL.setGradientBarEnabled(true);
-                    CONTROL.setGradientBarStops(new Stop(0.0, barColor),
-                                                new Stop(0.01, barColor),
-                                                new Stop(0.75, barColor.deriveColor(-10, 1, 1, 1)),
-                                                new Stop(1.0, barColor.deriveColor(-20, 1, 1, 1)));
-                    CONTROL.setBarColor(barColor);
-                    CONTROL.setBarEffectEnabled(true);
-                    break;
-                case WHITE:
-                    CONTROL.setAnimated(true);
-                    CONTROL.setAnimationDuration(1000);
-                    CONTROL.setAngleRange(360);
-                    CONTROL.setMinValue(0);
-                    CONTROL.setMaxValue(100);
-                    CONTROL.setBarColor(Color.WHITE);
-                    CONTROL.setValueColor(Color.WHITE);
-                    CONTROL.setUnitColor(Color.WHITE);
-                    break;
-                case CHARGE:
-                    CONTROL.setMinValue(0);
-                    CONTROL.setMaxValue(1.0);
-                    CONTROL.setAnimated(true);
-                    break;
-                case SIMPLE_SECTION:
-                    CONTROL.setAnimated(true);
-                    CONTROL.setStartAngle(150);
-                    CONTROL.setAngleRange(300);
-                    CONTROL.setStartFromZero(true);
-                    CONTROL.setSectionsVisible(true);
-                    CONTROL.setBarBackgroundColor(Color.rgb(150, 150, 150, 0.25));
-                    CONTROL.setBarColor(Color.rgb(69, 106, 207));
-                    CONTROL.setTitleColor(Color.rgb(90, 90, 90));
-                    CONTROL.setUnitColor(Color.rgb(90, 90, 90));
-                    CONTROL.setValueColor(Color.rgb(90, 90, 90));
-                    break;
-                case TILE_KPI:
-                    CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
-                    CONTROL.setDecimals(0);
-                    CONTROL.setBackgroundPaint(Color.rgb(42,42,42));
-                    CONTROL.setForegroundBaseColor(Color.rgb(238,238,238));
-                    CONTROL.setBarColor(Color.rgb(238,238,238));
-                    CONTROL.setThresholdVisible(false);
-                    CONTROL.setThresholdColor(Color.rgb(41,177,255));
-                    CONTROL.setNeedleColor(Color.rgb(238,238,238));
-                    CONTROL.setAngleRange(180);
-                    break;
-                case TILE_TEXT_KPI:
-                    CONTROL.setDecimals(0);
-                    CONTROL.setBackgroundPaint(Color.rgb(42,42,42));
-                    CONTROL.setForegroundBaseColor(Color.rgb(238,238,238));
-                    CONTROL.setBarColor(Color.rgb(41,177,255));
-                    CONTROL.setValueColor(Color.rgb(238, 238, 238));
-                    CONTROL.setUnitColor(Color.rgb(238, 238, 238));
-                    CONTROL.setThresholdVisible(false);
-                    CONTROL.setThresholdColor(Color.rgb(139,144,146));
-                    break;
-                case TILE_SPARK_LINE:
-                    CONTROL.setDecimals(0);
-                    CONTROL.setBackgroundPaint(Color.rgb(42,42,42));
-                    CONTROL.setForegroundBaseColor(Color.rgb(238,238,238));
-                    CONTROL.setBarColor(Color.rgb(41,177,255));
-                    CONTROL.setValueColor(Color.rgb(238, 238, 238));
-                    CONTROL.setUnitColor(Color.rgb(238, 238, 238));
-                    CONTROL.setAveragingEnabled(true);
-                    CONTROL.setAveragingPeriod(10);
-                    CONTROL.setAverageColor(Color.rgb(238, 238, 238, 0.5));
-                    CONTROL.setAnimated(false);
-                    break;
-                case GAUGE:
-                    CONTROL.setStartAngle(320);
-                    CONTROL.setAngleRange(280);
-                    break;
-            }
-        } else {
-            CONTROL = new Gauge();
-        }
+    public final Gauge build() { return template().build(); }
+
+    /**
+     * Returns a template that contains all options of this builder as a
+     * table of setters in a fixed order. A template can be used to create
+     * any number of gauges without evaluating the options again. Later
+     * changes of the builder will not affect the template. Note that objects
+     * like sections and markers will be shared by all gauges of a template.
+     * @return a template that contains all options of this builder
+     */
+    public final Template template() {
+        final Map<String, Property<?>> PROPERTIES = new HashMap<>();
+        properties.forEach(PROPERTIES::put);
+        final List<Consumer<Gauge>> SETTERS    = new ArrayList<>();
+        final SkinType              SKIN_TYPE  = PROPERTIES.containsKey("skinType") ? ((ObjectProperty<SkinType>) PROPERTIES.get("skinType")).get() : null;
+        if (null != SKIN_TYPE) { SETTERS.add(control -> applySkinPreset(control, SKIN_TYPE)); }
 
         // Make sure that sections, areas and markers will be added first
-        if (properties.keySet().contains("sectionsArray")) {
-            CONTROL.setSections(((ObjectProperty<Section[]>) properties.get("sectionsArray")).get());
+        if (PROPERTIES.containsKey("sectionsArray")) {
+            final Property<?> PROPERTY = PROPERTIES.get("sectionsArray");
+            SETTERS.add(control -> control.setSections(((ObjectProperty<Section[]>) PROPERTY).get()));
         }
-        if(properties.keySet().contains("sectionsList")) {
-            CONTROL.setSections(((ObjectProperty<List<Section>>) properties.get("sectionsList")).get());
+        if (PROPERTIES.containsKey("sectionsList")) {
+            final Property<?> PROPERTY = PROPERTIES.get("sectionsList");
+            SETTERS.add(control -> control.setSections(((ObjectProperty<List<Section>>) PROPERTY).get()));
         }
 
-        if (properties.keySet().contains("areasArray")) {
-            CONTROL.setAreas(((ObjectProperty<Section[]>) properties.get("areasArray")).get());
+        if (PROPERTIES.containsKey("areasArray")) {
+            final Property<?> PROPERTY = PROPERTIES.get("areasArray");
+            SETTERS.add(control -> control.setAreas(((ObjectProperty<Section[]>) PROPERTY).get()));
         }
-        if(properties.keySet().contains("areasList")) {
-            CONTROL.setAreas(((ObjectProperty<List<Section>>) properties.get("areasList")).get());
+        if (PROPERTIES.containsKey("areasList")) {
+            final Property<?> PROPERTY = PROPERTIES.get("areasList");
+            SETTERS.add(control -> control.setAreas(((ObjectProperty<List<Section>>) PROPERTY).get()));
         }
 
-        if (properties.keySet().contains("tickMarkSectionsArray")) {
-            CONTROL.setTickMarkSections(((ObjectProperty<Section[]>) properties.get("tickMarkSectionsArray")).get());
+        if (PROPERTIES.containsKey("tickMarkSectionsArray")) {
+            final Property<?> PROPERTY = PROPERTIES.get("tickMarkSectionsArray");
+            SETTERS.add(control -> control.setTickMarkSections(((ObjectProperty<Section[]>) PROPERTY).get()));
         }
-        if(properties.keySet().contains("tickMarkSectionsList")) {
-            CONTROL.setTickMarkSections(((ObjectProperty<List<Section>>) properties.get("tickMarkSectionsList")).get());
+        if (PROPERTIES.containsKey("tickMarkSectionsList")) {
+            final Property<?> PROPERTY = PROPERTIES.get("tickMarkSectionsList");
+            SETTERS.add(control -> control.setTickMarkSections(((ObjectProperty<List<Section>>) PROPERTY).get()));
         }
 
-        if (properties.keySet().contains("tickLabelSectionsArray")) {
-            CONTROL.setTickLabelSections(((ObjectProperty<Section[]>) properties.get("tickLabelSectionsArray")).get());
+        if (PROPERTIES.containsKey("tickLabelSectionsArray")) {
+            final Property<?> PROPERTY = PROPERTIES.get("tickLabelSectionsArray");
+            SETTERS.add(control -> control.setTickLabelSections(((ObjectProperty<Section[]>) PROPERTY).get()));
         }
-        if(properties.keySet().contains("tickLabelSectionsList")) {
-            CONTROL.setTickLabelSections(((ObjectProperty<List<Section>>) properties.get("tickLabelSectionsList")).get());
+        if (PROPERTIES.containsKey("tickLabelSectionsList")) {
+            final Property<?> PROPERTY = PROPERTIES.get("tickLabelSectionsList");
+            SETTERS.add(control -> control.setTickLabelSections(((ObjectProperty<List<Section>>) PROPERTY).get()));
         }
 
-        if (properties.keySet().contains("markersArray")) {
-            CONTROL.setMarkers(((ObjectProperty<Marker[]>) properties.get("markersArray")).get());
+        if (PROPERTIES.containsKey("markersArray")) {
+            final Property<?> PROPERTY = PROPERTIES.get("markersArray");
+            SETTERS.add(control -> control.setMarkers(((ObjectProperty<Marker[]>) PROPERTY).get()));
         }
-        if (properties.keySet().contains("markersList")) {
-            CONTROL.setMarkers(((ObjectProperty<List<Marker>>) properties.get("markersList")).get());
+        if (PROPERTIES.containsKey("markersList")) {
+            final Property<?> PROPERTY = PROPERTIES.get("markersList");
+            SETTERS.add(control -> control.setMarkers(((ObjectProperty<List<Marker>>) PROPERTY).get()));
         }
 
-        if (properties.keySet().contains("gradientBarStopsArray")) {
-            CONTROL.setGradientBarStops(((ObjectProperty<Stop[]>) properties.get("gradientBarStopsArray")).get());
+        if (PROPERTIES.containsKey("gradientBarStopsArray")) {
+            final Property<?> PROPERTY = PROPERTIES.get("gradientBarStopsArray");
+            SETTERS.add(control -> control.setGradientBarStops(((ObjectProperty<Stop[]>) PROPERTY).get()));
         }
-        if (properties.keySet().contains("gradientBarStopsList")) {
-            CONTROL.setGradientBarStops(((ObjectProperty<List<Stop>>) properties.get("gradientBarStopsList")).get());
+        if (PROPERTIES.containsKey("gradientBarStopsList")) {
+            final Property<?> PROPERTY = PROPERTIES.get("gradientBarStopsList");
+            SETTERS.add(control -> control.setGradientBarStops(((ObjectProperty<List<Stop>>) PROPERTY).get()));
         }
 
-        if (properties.keySet().contains("customTickLabelsArray")) {
-            CONTROL.setCustomTickLabels(((ObjectProperty<String[]>) properties.get("customTickLabelsArray")).get());
+        if (PROPERTIES.containsKey("customTickLabelsArray")) {
+            final Property<?> PROPERTY = PROPERTIES.get("customTickLabelsArray");
+            SETTERS.add(control -> control.setCustomTickLabels(((ObjectProperty<String[]>) PROPERTY).get()));
         }
-        if (properties.keySet().contains("customTickLabelsList")) {
-            CONTROL.setCustomTickLabels(((ObjectProperty<List<String>>) properties.get("customTickLabelsList")).get());
+        if (PROPERTIES.containsKey("customTickLabelsList")) {
+            final Property<?> PROPERTY = PROPERTIES.get("customTickLabelsList");
+            SETTERS.add(control -> control.setCustomTickLabels(((ObjectProperty<List<String>>) PROPERTY).get()));
         }
 
-        if(properties.keySet().contains("foregroundBaseColor")) {
-            CONTROL.setForegroundBaseColor(((ObjectProperty<Color>) properties.get("foregroundBaseColor")).get());
+        if (PROPERTIES.containsKey("foregroundBaseColor")) {
+            final Property<?> PROPERTY = PROPERTIES.get("foregroundBaseColor");
+            SETTERS.add(control -> control.setForegroundBaseColor(((ObjectProperty<Color>) PROPERTY).get()));
         }
 
-        if (properties.keySet().contains("minValue")) {
-            CONTROL.setMinValue(((DoubleProperty) properties.get("minValue")).get());
+        if (PROPERTIES.containsKey("minValue")) {
+            final Property<?> PROPERTY = PROPERTIES.get("minValue");
+            SETTERS.add(control -> control.setMinValue(((DoubleProperty) PROPERTY).get()));
+        }
+        if (PROPERTIES.containsKey("maxValue")) {
+            final Property<?> PROPERTY = PROPERTIES.get("maxValue");
+            SETTERS.add(control -> control.setMaxValue(((DoubleProperty) PROPERTY).get()));
         }
-        if (properties.keySet().contains("maxValue")) {
-            CONTROL.setMaxValue(((DoubleProperty) properties.get("maxValue")).get());
+
+        // Apply the shared style before the other properties so that they will override it
+        if (PROPERTIES.containsKey("gaugeStyle")) {
+            final Property<?> PROPERTY = PROPERTIES.get("gaugeStyle");
+            SETTERS.add(control -> control.setGaugeStyle(((ObjectProperty<GaugeStyle>) PROPERTY).get()));
         }
 
-        for (String key : properties.keySet()) {
+        for (String key : PROPERTIES.keySet()) {
+            final Property<?> PROPERTY = PROPERTIES.get(key);
             if ("prefSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setPrefSize(dim.getWidth(), dim.getHeight());
+                Dimension2D dim = ((ObjectProperty<Dimension2D>) PROPERTY).get();
+                SETTERS.add(control -> control.setPrefSize(dim.getWidth(), dim.getHeight()));
             } else if("minSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setMinSize(dim.getWidth(), dim.getHeight());
+                Dimension2D dim = ((ObjectProperty<Dimension2D>) PROPERTY).get();
+                SETTERS.add(control -> control.setMinSize(dim.getWidth(), dim.getHeight()));
             } else if("maxSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setMaxSize(dim.getWidth(), dim.getHeight());
+                Dimension2D dim = ((ObjectProperty<Dimension2D>) PROPERTY).get();
+                SETTERS.add(control -> control.setMaxSize(dim.getWidth(), dim.getHeight()));
             } else if("prefWidth".equals(key)) {
-                CONTROL.setPrefWidth(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setPrefWidth(((DoubleProperty) PROPERTY).get()));
             } else if("prefHeight".equals(key)) {
-                CONTROL.setPrefHeight(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setPrefHeight(((DoubleProperty) PROPERTY).get()));
             } else if("minWidth".equals(key)) {
-                CONTROL.setMinWidth(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinWidth(((DoubleProperty) PROPERTY).get()));
             } else if("minHeight".equals(key)) {
-                CONTROL.setMinHeight(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinHeight(((DoubleProperty) PROPERTY).get()));
             } else if("maxWidth".equals(key)) {
-                CONTROL.setMaxWidth(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMaxWidth(((DoubleProperty) PROPERTY).get()));
             } else if("maxHeight".equals(key)) {
-                CONTROL.setMaxHeight(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMaxHeight(((DoubleProperty) PROPERTY).get()));
             } else if("scaleX".equals(key)) {
-                CONTROL.setScaleX(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setScaleX(((DoubleProperty) PROPERTY).get()));
             } else if("scaleY".equals(key)) {
-                CONTROL.setScaleY(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setScaleY(((DoubleProperty) PROPERTY).get()));
             } else if ("layoutX".equals(key)) {
-                CONTROL.setLayoutX(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setLayoutX(((DoubleProperty) PROPERTY).get()));
             } else if ("layoutY".equals(key)) {
-                CONTROL.setLayoutY(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setLayoutY(((DoubleProperty) PROPERTY).get()));
             } else if ("translateX".equals(key)) {
-                CONTROL.setTranslateX(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTranslateX(((DoubleProperty) PROPERTY).get()));
             } else if ("translateY".equals(key)) {
-                CONTROL.setTranslateY(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTranslateY(((DoubleProperty) PROPERTY).get()));
             } else if ("padding".equals(key)) {
-                CONTROL.setPadding(((ObjectProperty<Insets>) properties.get(key)).get());
+                SETTERS.add(control -> control.setPadding(((ObjectProperty<Insets>) PROPERTY).get()));
             } else if("styleClass".equals(key)) {
-                CONTROL.getStyleClass().setAll("gauge");
-                CONTROL.getStyleClass().addAll(((ObjectProperty<String[]>) properties.get(key)).get());
+                SETTERS.add(control -> control.getStyleClass().setAll("gauge"));
+                SETTERS.add(control -> control.getStyleClass().addAll(((ObjectProperty<String[]>) PROPERTY).get()));
             } else if ("autoScale".equals(key)) {
-                CONTROL.setAutoScale(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAutoScale(((BooleanProperty) PROPERTY).get()));
             } else if("value".equals(key)) {
-                CONTROL.setValue(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setValue(((DoubleProperty) PROPERTY).get()));
             } else if("decimals".equals(key)) {
-                CONTROL.setDecimals(((IntegerProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setDecimals(((IntegerProperty) PROPERTY).get()));
             } else if ("tickLabelDecimals".equals(key)) {
-                CONTROL.setTickLabelDecimals(((IntegerProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTickLabelDecimals(((IntegerProperty) PROPERTY).get()));
             } else if("title".equals(key)) {
-                CONTROL.setTitle(((StringProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTitle(((StringProperty) PROPERTY).get()));
             } else if("subTitle".equals(key)) {
-                CONTROL.setSubTitle(((StringProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setSubTitle(((StringProperty) PROPERTY).get()));
             } else if("unit".equals(key)) {
-                CONTROL.setUnit(((StringProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setUnit(((StringProperty) PROPERTY).get()));
             } else if("averagingEnabled".equals(key)) {
-                CONTROL.setAveragingEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAveragingEnabled(((BooleanProperty) PROPERTY).get()));
             } else if("averagingPeriod".equals(key)) {
-                CONTROL.setAveragingPeriod(((IntegerProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAveragingPeriod(((IntegerProperty) PROPERTY).get()));
             } else if("startFromZero".equals(key)) {
-                CONTROL.setStartFromZero(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setStartFromZero(((BooleanProperty) PROPERTY).get()));
             } else if("returnToZero".equals(key)) {
-                CONTROL.setReturnToZero(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setReturnToZero(((BooleanProperty) PROPERTY).get()));
             } else if("zeroColor".equals(key)) {
-                CONTROL.setZeroColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setZeroColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("minMeasuredValueVisible".equals(key)) {
-                CONTROL.setMinMeasuredValueVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinMeasuredValueVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("maxMeasuredValueVisible".equals(key)) {
-                CONTROL.setMaxMeasuredValueVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMaxMeasuredValueVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("oldValueVisible".equals(key)) {
-                CONTROL.setOldValueVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setOldValueVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("valueVisible".equals(key)) {
-                CONTROL.setValueVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setValueVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("backgroundPaint".equals(key)) {
-                CONTROL.setBackgroundPaint(((ObjectProperty<Paint>) properties.get(key)).get());
+                SETTERS.add(control -> control.setBackgroundPaint(((ObjectProperty<Paint>) PROPERTY).get()));
             } else if ("borderPaint".equals(key)) {
-                CONTROL.setBorderPaint(((ObjectProperty<Paint>) properties.get(key)).get());
+                SETTERS.add(control -> control.setBorderPaint(((ObjectProperty<Paint>) PROPERTY).get()));
             } else if ("borderWidth".equals(key)) {
-                CONTROL.setBorderWidth(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setBorderWidth(((DoubleProperty) PROPERTY).get()));
             } else if ("foregroundPaint".equals(key)) {
-                CONTROL.setForegroundPaint(((ObjectProperty<Paint>) properties.get(key)).get());
+                SETTERS.add(control -> control.setForegroundPaint(((ObjectProperty<Paint>) PROPERTY).get()));
             } else if ("knobColor".equals(key)) {
-                CONTROL.setKnobColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setKnobColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("knobType".equals(key)) {
-                CONTROL.setKnobType(((ObjectProperty<KnobType>) properties.get(key)).get());
+                SETTERS.add(control -> control.setKnobType(((ObjectProperty<KnobType>) PROPERTY).get()));
             } else if ("knobPosition".equals(key)) {
-                CONTROL.setKnobPosition(((ObjectProperty<Pos>) properties.get(key)).get());
+                SETTERS.add(control -> control.setKnobPosition(((ObjectProperty<Pos>) PROPERTY).get()));
             } else if ("knobVisible".equals(key)) {
-                CONTROL.setKnobVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setKnobVisible(((BooleanProperty) PROPERTY).get()));
             } else if("animated".equals(key)) {
-                CONTROL.setAnimated(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAnimated(((BooleanProperty) PROPERTY).get()));
             } else if("animationDuration".equals(key)) {
-                CONTROL.setAnimationDuration(((LongProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAnimationDuration(((LongProperty) PROPERTY).get()));
+            } else if("suspendWhenHidden".equals(key)) {
+                SETTERS.add(control -> control.setSuspendWhenHidden(((BooleanProperty) PROPERTY).get()));
+            } else if("skinPooling".equals(key)) {
+                SETTERS.add(control -> control.setSkinPooling(((BooleanProperty) PROPERTY).get()));
+            } else if("levelOfDetail".equals(key)) {
+                SETTERS.add(control -> control.setLevelOfDetail(((ObjectProperty<LevelOfDetail>) PROPERTY).get()));
+            } else if("redrawScheduler".equals(key)) {
+                SETTERS.add(control -> control.setRedrawScheduler(((ObjectProperty<RedrawScheduler>) PROPERTY).get()));
+            } else if("redrawPriority".equals(key)) {
+                SETTERS.add(control -> control.setRedrawPriority(((IntegerProperty) PROPERTY).get()));
+            } else if("maxRefreshRate".equals(key)) {
+                SETTERS.add(control -> control.setMaxRefreshRate(((DoubleProperty) PROPERTY).get()));
             } else if("startAngle".equals(key)) {
-                CONTROL.setStartAngle(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setStartAngle(((DoubleProperty) PROPERTY).get()));
             } else if("angleRange".equals(key)) {
-                CONTROL.setAngleRange(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAngleRange(((DoubleProperty) PROPERTY).get()));
             } else if("needleType".equals(key)) {
-                CONTROL.setNeedleType(((ObjectProperty<NeedleType>) properties.get(key)).get());
+                SETTERS.add(control -> control.setNeedleType(((ObjectProperty<NeedleType>) PROPERTY).get()));
             } else if("needleShape".equals(key)) {
-                CONTROL.setNeedleShape(((ObjectProperty<NeedleShape>) properties.get(key)).get());
+                SETTERS.add(control -> control.setNeedleShape(((ObjectProperty<NeedleShape>) PROPERTY).get()));
             } else if("needleSize".equals(key)) {
-                CONTROL.setNeedleSize(((ObjectProperty<NeedleSize>) properties.get(key)).get());
+                SETTERS.add(control -> control.setNeedleSize(((ObjectProperty<NeedleSize>) PROPERTY).get()));
             } else if("needleBehavior".equals(key)) {
-                CONTROL.setNeedleBehavior(((ObjectProperty<NeedleBehavior>) properties.get(key)).get());
+                SETTERS.add(control -> control.setNeedleBehavior(((ObjectProperty<NeedleBehavior>) PROPERTY).get()));
             } else if("needleColor".equals(key)) {
-                CONTROL.setNeedleColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setNeedleColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if("needleBorderColor".equals(key)) {
-                CONTROL.setNeedleBorderColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setNeedleBorderColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if("barColor".equals(key)) {
-                CONTROL.setBarColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setBarColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if("barBorderColor".equals(key)) {
-                CONTROL.setBarBorderColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setBarBorderColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("barBackgroundColor".equals(key)) {
-                CONTROL.setBarBackgroundColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setBarBackgroundColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if("tickLabelOrientation".equals(key)) {
-                CONTROL.setTickLabelOrientation(((ObjectProperty<TickLabelOrientation>) properties.get(key)).get());
+                SETTERS.add(control -> control.setTickLabelOrientation(((ObjectProperty<TickLabelOrientation>) PROPERTY).get()));
             } else if("tickLabelLocation".equals(key)) {
-                CONTROL.setTickLabelLocation(((ObjectProperty<TickLabelLocation>) properties.get(key)).get());
+                SETTERS.add(control -> control.setTickLabelLocation(((ObjectProperty<TickLabelLocation>) PROPERTY).get()));
             } else if("locale".equals(key)) {
-                CONTROL.setLocale(((ObjectProperty<Locale>) properties.get(key)).get());
+                SETTERS.add(control -> control.setLocale(((ObjectProperty<Locale>) PROPERTY).get()));
             } else if("majorTickSpace".equals(key)) {
-                CONTROL.setMajorTickSpace(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMajorTickSpace(((DoubleProperty) PROPERTY).get()));
             } else if("minorTickSpace".equals(key)) {
-                CONTROL.setMinorTickSpace(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinorTickSpace(((DoubleProperty) PROPERTY).get()));
             } else if("shadowsEnabled".equals(key)) {
-                CONTROL.setShadowsEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setShadowsEnabled(((BooleanProperty) PROPERTY).get()));
             } else if ("barEffectEnabled".equals(key)) {
-                CONTROL.setBarEffectEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setBarEffectEnabled(((BooleanProperty) PROPERTY).get()));
             } else if ("scaleDirection".equals(key)) {
-                CONTROL.setScaleDirection(((ObjectProperty<ScaleDirection>) properties.get(key)).get());
+                SETTERS.add(control -> control.setScaleDirection(((ObjectProperty<ScaleDirection>) PROPERTY).get()));
             } else if("tickLabelColor".equals(key)) {
-                CONTROL.setTickLabelColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setTickLabelColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("tickMarkColor".equals(key)) {
-                CONTROL.setTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setTickMarkColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("majorTickMarkColor".equals(key)) {
-                CONTROL.setMajorTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setMajorTickMarkColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("majorTickMarkLengthFactor".equals(key)) {
-                CONTROL.setMajorTickMarkLengthFactor(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMajorTickMarkLengthFactor(((DoubleProperty) PROPERTY).get()));
             } else if ("majorTickMarkWidthFactor".equals(key)) {
-                CONTROL.setMajorTickMarkWidthFactor(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMajorTickMarkWidthFactor(((DoubleProperty) PROPERTY).get()));
             } else if ("mediumTickMarkColor".equals(key)) {
-                CONTROL.setMediumTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setMediumTickMarkColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("mediumTickMarkLengthFactor".equals(key)) {
-                CONTROL.setMediumTickMarkLengthFactor(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMediumTickMarkLengthFactor(((DoubleProperty) PROPERTY).get()));
             } else if ("mediumTickMarkWidthFactor".equals(key)) {
-                CONTROL.setMediumTickMarkWidthFactor(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMediumTickMarkWidthFactor(((DoubleProperty) PROPERTY).get()));
             } else if ("minorTickMarkColor".equals(key)) {
-                CONTROL.setMinorTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinorTickMarkColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("minorTickMarkLengthFactor".equals(key)) {
-                CONTROL.setMinorTickMarkLengthFactor(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinorTickMarkLengthFactor(((DoubleProperty) PROPERTY).get()));
             } else if ("minorTickMarkWidthFactor".equals(key)) {
-                CONTROL.setMinorTickMarkWidthFactor(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinorTickMarkWidthFactor(((DoubleProperty) PROPERTY).get()));
             } else if ("style".equals(key)) {
-                CONTROL.setStyle(((StringProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setStyle(((StringProperty) PROPERTY).get()));
             } else if("ledColor".equals(key)) {
-                CONTROL.setLedColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setLedColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if("ledType".equals(key)) {
-                CONTROL.setLedType(((ObjectProperty<LedType>) properties.get(key)).get());
+                SETTERS.add(control -> control.setLedType(((ObjectProperty<LedType>) PROPERTY).get()));
             } else if ("ledVisible".equals(key)) {
-                CONTROL.setLedVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setLedVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("lcdVisible".equals(key)) {
-                CONTROL.setLcdVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setLcdVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("lcdCrystalEnabled".equals(key)) {
-                CONTROL.setLcdCrystalEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setLcdCrystalEnabled(((BooleanProperty) PROPERTY).get()));
             } else if ("lcdDesign".equals(key)) {
-                CONTROL.setLcdDesign(((ObjectProperty<LcdDesign>) properties.get(key)).get());
+                SETTERS.add(control -> control.setLcdDesign(((ObjectProperty<LcdDesign>) PROPERTY).get()));
             } else if ("lcdFont".equals(key)) {
-                CONTROL.setLcdFont(((ObjectProperty<LcdFont>) properties.get(key)).get());
+                SETTERS.add(control -> control.setLcdFont(((ObjectProperty<LcdFont>) PROPERTY).get()));
             } else if ("innerShadowEnabled".equals(key)) {
-                CONTROL.setInnerShadowEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setInnerShadowEnabled(((BooleanProperty) PROPERTY).get()));
             } else if ("thresholdVisible".equals(key)) {
-                CONTROL.setThresholdVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setThresholdVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("averageVisible".equals(key)) {
-                CONTROL.setAverageVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAverageVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("sectionsVisible".equals(key)) {
-                CONTROL.setSectionsVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setSectionsVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("sectionsAlwaysVisible".equals(key)) {
-                CONTROL.setSectionsAlwaysVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setSectionsAlwaysVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("sectionTextVisible".equals(key)) {
-                CONTROL.setSectionTextVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setSectionTextVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("sectionIconsVisible".equals(key)) {
-                CONTROL.setSectionIconsVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setSectionIconsVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("highlightSections".equals(key)) {
-                CONTROL.setHighlightSections(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setHighlightSections(((BooleanProperty) PROPERTY).get()));
             } else if ("areasVisible".equals(key)) {
-                CONTROL.setAreasVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAreasVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("areaTextVisible".equals(key)) {
-                CONTROL.setAreaTextVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAreaTextVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("areaIconsVisible".equals(key)) {
-                CONTROL.setAreaIconsVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAreaIconsVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("highlightAreas".equals(key)) {
-                CONTROL.setHighlightAreas(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setHighlightAreas(((BooleanProperty) PROPERTY).get()));
             } else if ("tickMarkSectionsVisible".equals(key)) {
-                CONTROL.setTickMarkSectionsVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTickMarkSectionsVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("tickLabelSectionsVisible".equals(key)) {
-                CONTROL.setTickLabelSectionsVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTickLabelSectionsVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("markersVisible".equals(key)) {
-                CONTROL.setMarkersVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMarkersVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("majorTickMarkType".equals(key)) {
-                CONTROL.setMajorTickMarkType(((ObjectProperty<TickMarkType>) properties.get(key)).get());
+                SETTERS.add(control -> control.setMajorTickMarkType(((ObjectProperty<TickMarkType>) PROPERTY).get()));
             } else if ("mediumTickMarkType".equals(key)) {
-                CONTROL.setMediumTickMarkType(((ObjectProperty<TickMarkType>) properties.get(key)).get());
+                SETTERS.add(control -> control.setMediumTickMarkType(((ObjectProperty<TickMarkType>) PROPERTY).get()));
             } else if ("minorTickMarkType".equals(key)) {
-                CONTROL.setMinorTickMarkType(((ObjectProperty<TickMarkType>) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinorTickMarkType(((ObjectProperty<TickMarkType>) PROPERTY).get()));
             } else if ("titleColor".equals(key)) {
-                CONTROL.setTitleColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setTitleColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("subTitleColor".equals(key)) {
-                CONTROL.setSubTitleColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setSubTitleColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("unitColor".equals(key)) {
-                CONTROL.setUnitColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setUnitColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("valueColor".equals(key)) {
-                CONTROL.setValueColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setValueColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("thresholdColor".equals(key)) {
-                CONTROL.setThresholdColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setThresholdColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("averageColor".equals(key)) {
-                CONTROL.setAverageColor(((ObjectProperty<Color>) properties.get(key)).get());
+                SETTERS.add(control -> control.setAverageColor(((ObjectProperty<Color>) PROPERTY).get()));
             } else if ("tickLabelsVisible".equals(key)) {
-                CONTROL.setTickLabelsVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTickLabelsVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("onlyFirstAndLastTickLabelVisible".equals(key)) {
-                CONTROL.setOnlyFirstAndLastTickLabelVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setOnlyFirstAndLastTickLabelVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("majorTickMarksVisible".equals(key)) {
-                CONTROL.setMajorTickMarksVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMajorTickMarksVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("mediumTickMarksVisible".equals(key)) {
-                CONTROL.setMediumTickMarksVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMediumTickMarksVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("minorTickMarksVisible".equals(key)) {
-                CONTROL.setMinorTickMarksVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setMinorTickMarksVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("tickMarkRingVisible".equals(key)) {
-                CONTROL.setTickMarkRingVisible(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setTickMarkRingVisible(((BooleanProperty) PROPERTY).get()));
             } else if ("ledBlinking".equals(key)) {
-                CONTROL.setLedBlinking(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setLedBlinking(((BooleanProperty) PROPERTY).get()));
             } else if ("ledOn".equals(key)) {
-                CONTROL.setLedOn(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setLedOn(((BooleanProperty) PROPERTY).get()));
             } else if ("orientation".equals(key)) {
-                CONTROL.setOrientation(((ObjectProperty<Orientation>) properties.get(key)).get());
+                SETTERS.add(control -> control.setOrientation(((ObjectProperty<Orientation>) PROPERTY).get()));
             } else if("gradientBarEnabled".equals(key)) {
-                CONTROL.setGradientBarEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setGradientBarEnabled(((BooleanProperty) PROPERTY).get()));
             } else if ("gradientLookup".equals(key)) {
-                CONTROL.setGradientLookup(((ObjectProperty<GradientLookup>) properties.get(key)).get());
+                SETTERS.add(control -> control.setGradientLookup(((ObjectProperty<GradientLookup>) PROPERTY).get()));
             } else if ("customTickLabelsEnabled".equals(key)) {
-                CONTROL.setCustomTickLabelsEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setCustomTickLabelsEnabled(((BooleanProperty) PROPERTY).get()));
             } else if ("customTickLabelFontSize".equals(key)) {
-                CONTROL.setCustomTickLabelFontSize(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setCustomTickLabelFontSize(((DoubleProperty) PROPERTY).get()));
             } else if ("interactive".equals(key)) {
-                CONTROL.setInteractive(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setInteractive(((BooleanProperty) PROPERTY).get()));
             } else if ("checkSectionsForValue".equals(key)) {
-                CONTROL.setCheckSectionsForValue(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setCheckSectionsForValue(((BooleanProperty) PROPERTY).get()));
             } else if ("checkAreasForValue".equals(key)) {
-                CONTROL.setCheckAreasForValue(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setCheckAreasForValue(((BooleanProperty) PROPERTY).get()));
             } else if ("checkThreshold".equals(key)) {
-                CONTROL.setCheckThreshold(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setCheckThreshold(((BooleanProperty) PROPERTY).get()));
             } else if ("onValueChanged".equals(key)) {
-                CONTROL.currentValueProperty().addListener(((ObjectProperty<InvalidationListener>) properties.get(key)).get());
+                SETTERS.add(control -> control.currentValueProperty().addListener(((ObjectProperty<InvalidationListener>) PROPERTY).get()));
             } else if ("onButtonPressed".equals(key)) {
-                CONTROL.setOnButtonPressed(((ObjectProperty<EventHandler>) properties.get(key)).get());
+                SETTERS.add(control -> control.setOnButtonPressed(((ObjectProperty<EventHandler>) PROPERTY).get()));
             } else if ("onButtonReleased".equals(key)) {
-                CONTROL.setOnButtonReleased(((ObjectProperty<EventHandler>) properties.get(key)).get());
+                SETTERS.add(control -> control.setOnButtonReleased(((ObjectProperty<EventHandler>) PROPERTY).get()));
             } else if ("onThresholdExceeded".equals(key)) {
-                CONTROL.setOnThresholdExceeded(((ObjectProperty<EventHandler>) properties.get(key)).get());
+                SETTERS.add(control -> control.setOnThresholdExceeded(((ObjectProperty<EventHandler>) PROPERTY).get()));
             } else if ("onThresholdUnderrun".equals(key)) {
-                CONTROL.setOnThresholdUnderrun(((ObjectProperty<EventHandler>) properties.get(key)).get());
+                SETTERS.add(control -> control.setOnThresholdUnderrun(((ObjectProperty<EventHandler>) PROPERTY).get()));
             } else if ("buttonTooltipText".equals(key)) {
-                CONTROL.setButtonTooltipText(((StringProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setButtonTooltipText(((StringProperty) PROPERTY).get()));
             } else if ("keepAspect".equals(key)) {
-                CONTROL.setKeepAspect(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setKeepAspect(((BooleanProperty) PROPERTY).get()));
             } else if ("threshold".equals(key)) {
-                CONTROL.setThreshold(((DoubleProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setThreshold(((DoubleProperty) PROPERTY).get()));
             } else if ("customFontEnabled".equals(key)) {
-                CONTROL.setCustomFontEnabled(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setCustomFontEnabled(((BooleanProperty) PROPERTY).get()));
             } else if ("customFont".equals(key)) {
-                CONTROL.setCustomFont(((ObjectProperty<Font>) properties.get(key)).get());
+                SETTERS.add(control -> control.setCustomFont(((ObjectProperty<Font>) PROPERTY).get()));
             } else if ("alertMessage".equals(key)) {
-                CONTROL.setAlertMessage(((StringProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setAlertMessage(((StringProperty) PROPERTY).get()));
             } else if ("smoothing".equals(key)) {
-                CONTROL.setSmoothing(((BooleanProperty) properties.get(key)).get());
+                SETTERS.add(control -> control.setSmoothing(((BooleanProperty) PROPERTY).get()));
             }
         }
 
         // Adjust tick mark colors
-        if (properties.containsKey("tickMarkColor")) {
-            Color tickMarkColor = ((ObjectProperty<Color>) properties.get("tickMarkColor")).get();
-            if (!properties.containsKey("majorTickMarkColor")) CONTROL.setMajorTickMarkColor(tickMarkColor);
-            if (!properties.containsKey("mediumTickMarkColor")) CONTROL.setMediumTickMarkColor(tickMarkColor);
-            if (!properties.containsKey("minorTickMarkColor")) CONTROL.setMinorTickMarkColor(tickMarkColor);
+        if (PROPERTIES.containsKey("tickMarkColor")) {
+            Color tickMarkColor = ((ObjectProperty<Color>) PROPERTIES.get("tickMarkColor")).get();
+            if (!PROPERTIES.containsKey("majorTickMarkColor")) SETTERS.add(control -> control.setMajorTickMarkColor(tickMarkColor));
+            if (!PROPERTIES.containsKey("mediumTickMarkColor")) SETTERS.add(control -> control.setMediumTickMarkColor(tickMarkColor));
+            if (!PROPERTIES.containsKey("minorTickMarkColor")) SETTERS.add(control -> control.setMinorTickMarkColor(tickMarkColor));
+        }
+
+        return new Template(SKIN_TYPE, SETTERS);
+    }
+
+    /**
+     * Creates the given number of gauges with the options of this builder.
+     * @param COUNT the number of gauges
+     * @param CUSTOMIZER will be called with each gauge and its index (might be null)
+     * @return a list with the given number of gauges
+     */
+    public final List<Gauge> buildAll(final int COUNT, final ObjIntConsumer<Gauge> CUSTOMIZER) { return template().buildAll(COUNT, CUSTOMIZER); }
+
+    private static void applySkinPreset(final Gauge CONTROL, final SkinType SKIN_TYPE) {
+        switch(SKIN_TYPE) {
+            case AMP         :
+                CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
+                CONTROL.setTitleColor(Color.WHITE);
+                CONTROL.setLedVisible(true);
+                CONTROL.setBackgroundPaint(Color.WHITE);
+                CONTROL.setForegroundPaint(Color.BLACK);
+                CONTROL.setLcdVisible(true);
+                CONTROL.setShadowsEnabled(true);
+                break;
+            case BULLET_CHART:
+                CONTROL.setKnobPosition(Pos.CENTER);
+                CONTROL.setBarColor(Color.BLACK);
+                CONTROL.setThresholdColor(Color.BLACK);
+                break;
+            case DASHBOARD   :
+                CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
+                CONTROL.setDecimals(0);
+                CONTROL.setBarBackgroundColor(Color.LIGHTGRAY);
+                CONTROL.setBarColor(Color.rgb(93,190,205));
+                CONTROL.setStartFromZero(false);
+                break;
+            case FLAT        :
+                CONTROL.setKnobPosition(Pos.CENTER);
+                CONTROL.setBarColor(Color.CYAN);
+                CONTROL.setBackgroundPaint(Color.TRANSPARENT);
+                CONTROL.setTitleColor(Gauge.DARK_COLOR);
+                CONTROL.setValueColor(Gauge.DARK_COLOR);
+                CONTROL.setUnitColor(Gauge.DARK_COLOR);
+                CONTROL.setBorderPaint(Color.rgb(208, 208, 208));
+                CONTROL.setDecimals(0);
+                CONTROL.setStartFromZero(true);
+                break;
+            case INDICATOR   :
+                CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
+                CONTROL.setValueVisible(false);
+                CONTROL.setGradientBarEnabled(false);
+                CONTROL.setGradientBarStops(new Stop(0.0, Color.rgb(34,180,11)),
+                                    new Stop(0.5, Color.rgb(255,146,0)),
+                                    new Stop(1.0, Color.rgb(255,0,39)));
+                CONTROL.setTickLabelsVisible(false);
+                CONTROL.setNeedleColor(Color.rgb(71,71,71));
+                CONTROL.setBarBackgroundColor(Color.rgb(232,231,223));
+                CONTROL.setBarColor(Color.rgb(255,0,39));
+                CONTROL.setAngleRange(180);
+                break;
+            case KPI         :
+                CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
+                CONTROL.setDecimals(0);
+                CONTROL.setForegroundBaseColor(Color.rgb(126,126,127));
+                CONTROL.setBarColor(Color.rgb(168,204,254));
+                CONTROL.setThresholdVisible(true);
+                CONTROL.setThresholdColor(Color.rgb(45,86,184));
+                CONTROL.setNeedleColor(Color.rgb(74,74,74));
+                CONTROL.setAngleRange(128);
+                break;
+            case MODERN      :
+                CONTROL.setKnobPosition(Pos.CENTER);
+                CONTROL.setDecimals(0);
+                CONTROL.setValueColor(Color.WHITE);
+                CONTROL.setTitleColor(Color.WHITE);
+                CONTROL.setSubTitleColor(Color.WHITE);
+                CONTROL.setUnitColor(Color.WHITE);
+                CONTROL.setBarColor(Color.rgb(0, 214, 215));
+                CONTROL.setNeedleColor(Color.WHITE);
+                CONTROL.setThresholdColor(Color.rgb(204, 0, 0));
+                CONTROL.setTickLabelColor(Color.rgb(151, 151, 151));
+                CONTROL.setTickMarkColor(Color.BLACK);
+                CONTROL.setTickLabelOrientation(TickLabelOrientation.ORTHOGONAL);
+                break;
+            case SIMPLE      :
+                CONTROL.setKnobPosition(Pos.CENTER);
+                CONTROL.setBorderPaint(Color.WHITE);
+                CONTROL.setNeedleBorderColor(Color.WHITE);
+                CONTROL.setBackgroundPaint(Color.DARKGRAY);
+                CONTROL.setDecimals(0);
+                CONTROL.setTickLabelColor(Color.WHITE);
+                CONTROL.setNeedleColor(Color.web("#5a615f"));
+                CONTROL.setValueColor(Color.WHITE);
+                CONTROL.setTitleColor(Color.WHITE);
+                CONTROL.setSubTitleColor(Color.WHITE);
+                CONTROL.setSectionsVisible(true);
+                break;
+            case SLIM        :
+                CONTROL.setKnobPosition(Pos.CENTER);
+                CONTROL.setDecimals(2);
+                CONTROL.setStartFromZero(true);
+                CONTROL.setBarBackgroundColor(Color.rgb(62, 67, 73));
+                CONTROL.setBarColor(Color.rgb(93,190,205));
+                CONTROL.setTitleColor(Color.rgb(142,147,151));
+                CONTROL.setValueColor(Color.rgb(228,231,238));
+                CONTROL.setUnitColor(Color.rgb(142,147,151));
+                break;
+            case SPACE_X     :
+                CONTROL.setKnobPosition(Pos.CENTER);
+                CONTROL.setDecimals(0);
+                CONTROL.setThresholdColor(Color.rgb(180, 0, 0));
+                CONTROL.setBarBackgroundColor(Color.rgb(169, 169, 169, 0.25));
+                CONTROL.setBarColor(Color.rgb(169, 169, 169));
+                CONTROL.setTitleColor(Color.WHITE);
+                CONTROL.setValueColor(Color.WHITE);
+                CONTROL.setUnitColor(Color.WHITE);
+                break;
+            case QUARTER     :
+                CONTROL.setKnobPosition(Pos.BOTTOM_RIGHT);
+                CONTROL.setAngleRange(90);
+                break;
+            case HORIZONTAL:
+                CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
+                CONTROL.setAngleRange(180);
+                break;
+            case VERTICAL:
+                CONTROL.setKnobPosition(Pos.CENTER_RIGHT);
+                CONTROL.setAngleRange(180);
+                break;
+            case LCD:
+                CONTROL.setDecimals(1);
+                CONTROL.setTickLabelDecimals(1);
+                CONTROL.setMinMeasuredValueVisible(true);
+                CONTROL.setMaxMeasuredValueVisible(true);
+                CONTROL.setOldValueVisible(true);
+                CONTROL.setBorderPaint(Color.WHITE);
+                CONTROL.setForegroundPaint(Color.WHITE);
+                break;
+            case TINY:
+                CONTROL.setBorderWidth(24);
+                CONTROL.setBackgroundPaint(Color.rgb(216,216,216));
+                CONTROL.setBorderPaint(Color.rgb(76,76,76));
+                CONTROL.setBarBackgroundColor(Color.rgb(76, 76, 76, 0.2));
+                CONTROL.setNeedleColor(Color.rgb(76, 76, 76));
+                CONTROL.setSectionsVisible(true);
+                CONTROL.setMajorTickMarksVisible(true);
+                CONTROL.setMajorTickMarkColor(Color.WHITE);
+                break;
+            case BATTERY:
+                CONTROL.setBarBackgroundColor(Color.BLACK);
+                CONTROL.setBarColor(Color.BLACK);
+                CONTROL.setValueColor(Color.WHITE);
+                break;
+            case LEVEL:
+                CONTROL.setValueColor(Color.WHITE);
+                CONTROL.setBarColor(Color.CYAN);
+                break;
+            case LINEAR:
+                CONTROL.setOrientation(Orientation.VERTICAL);
+                CONTROL.setBarColor(Gauge.DARK_COLOR);
+                CONTROL.setBarEffectEnabled(true);
+                break;
+            case DIGITAL:
+                CONTROL.setBarColor(Gauge.DARK_COLOR);
+                break;
+            case SIMPLE_DIGITAL:
+                CONTROL.setBarColor(Gauge.DARK_COLOR);
+                break;
+            case SECTION:
+                CONTROL.setBackgroundPaint(Gauge.DARK_COLOR);
+                CONTROL.setAutoScale(false);
+                CONTROL.setValueVisible(false);
+                CONTROL.setKnobColor(Color.rgb(82,82,84));
+                CONTROL.setSectionsVisible(true);
+                CONTROL.setSectionTextVisible(true);
+                break;
+            case BAR:
+                Color barColor = CONTROL.getBarColor();
+                CONTROL.setAnimated(true);
+                CONTROL.setAnimationDuration(1000);
+                CONTROL.setMinValue(0);
+                CONTROL.setMaxValue(100);
+                CONTROL.setGradientBarEnabled(true);
+                CONTROL.setGradientBarStops(new Stop(0.0, barColor),
+                                            new Stop(0.01, barColor),
+                                            new Stop(0.75, barColor.deriveColor(-10, 1, 1, 1)),
+                                            new Stop(1.0, barColor.deriveColor(-20, 1, 1, 1)));
+                CONTROL.setBarColor(barColor);
+                CONTROL.setBarEffectEnabled(true);
+                break;
+            case WHITE:
+                CONTROL.setAnimated(true);
+                CONTROL.setAnimationDuration(1000);
+                CONTROL.setAngleRange(360);
+                CONTROL.setMinValue(0);
+                CONTROL.setMaxValue(100);
+                CONTROL.setBarColor(Color.WHITE);
+                CONTROL.setValueColor(Color.WHITE);
+                CONTROL.setUnitColor(Color.WHITE);
+                break;
+            case CHARGE:
+                CONTROL.setMinValue(0);
+                CONTROL.setMaxValue(1.0);
+                CONTROL.setAnimated(true);
+                break;
+            case SIMPLE_SECTION:
+                CONTROL.setAnimated(true);
+                CONTROL.setStartAngle(150);
+                CONTROL.setAngleRange(300);
+                CONTROL.setStartFromZero(true);
+                CONTROL.setSectionsVisible(true);
+                CONTROL.setBarBackgroundColor(Color.rgb(150, 150, 150, 0.25));
+                CONTROL.setBarColor(Color.rgb(69, 106, 207));
+                CONTROL.setTitleColor(Color.rgb(90, 90, 90));
+                CONTROL.setUnitColor(Color.rgb(90, 90, 90));
+                CONTROL.setValueColor(Color.rgb(90, 90, 90));
+                break;
+            case TILE_KPI:
+                CONTROL.setKnobPosition(Pos.BOTTOM_CENTER);
+                CONTROL.setDecimals(0);
+                CONTROL.setBackgroundPaint(Color.rgb(42,42,42));
+                CONTROL.setForegroundBaseColor(Color.rgb(238,238,238));
+                CONTROL.setBarColor(Color.rgb(238,238,238));
+                CONTROL.setThresholdVisible(false);
+                CONTROL.setThresholdColor(Color.rgb(41,177,255));
+                CONTROL.setNeedleColor(Color.rgb(238,238,238));
+                CONTROL.setAngleRange(180);
+                break;
+            case TILE_TEXT_KPI:
+                CONTROL.setDecimals(0);
+                CONTROL.setBackgroundPaint(Color.rgb(42,42,42));
+                CONTROL.setForegroundBaseColor(Color.rgb(238,238,238));
+                CONTROL.setBarColor(Color.rgb(41,177,255));
+                CONTROL.setValueColor(Color.rgb(238, 238, 238));
+                CONTROL.setUnitColor(Color.rgb(238, 238, 238));
+                CONTROL.setThresholdVisible(false);
+                CONTROL.setThresholdColor(Color.rgb(139,144,146));
+                break;
+            case TILE_SPARK_LINE:
+                CONTROL.setDecimals(0);
+                CONTROL.setBackgroundPaint(Color.rgb(42,42,42));
+                CONTROL.setForegroundBaseColor(Color.rgb(238,238,238));
+                CONTROL.setBarColor(Color.rgb(41,177,255));
+                CONTROL.setValueColor(Color.rgb(238, 238, 238));
+                CONTROL.setUnitColor(Color.rgb(238, 238, 238));
+                CONTROL.setAveragingEnabled(true);
+                CONTROL.setAveragingPeriod(10);
+                CONTROL.setAverageColor(Color.rgb(238, 238, 238, 0.5));
+                CONTROL.setAnimated(false);
+                break;
+            case STRIP_CHART:
+                CONTROL.setBackgroundPaint(Color.rgb(42,42,42));
+                CONTROL.setForegroundBaseColor(Color.rgb(238,238,238));
+                CONTROL.setBarColor(Color.rgb(41,177,255));
+                CONTROL.setValueColor(Color.rgb(238, 238, 238));
+                CONTROL.setUnitColor(Color.rgb(238, 238, 238));
+                CONTROL.setTickLabelColor(Color.rgb(238, 238, 238, 0.5));
+                CONTROL.setTickMarkColor(Color.rgb(238, 238, 238, 0.2));
+                CONTROL.setAveragingEnabled(true);
+                CONTROL.setAverageColor(Color.rgb(238, 238, 238, 0.5));
+                CONTROL.setAnimated(false);
+                break;
+            case GAUGE:
+            case CANVAS_GAUGE:
+                CONTROL.setStartAngle(320);
+                CONTROL.setAngleRange(280);
+                break;
         }
+    }
+
 
-        return CONTROL;
+    // ******************** Inner Classes *************************************
+    public static class Template {
+        private final SkinType              skinType;
+        private final List<Consumer<Gauge>> setters;
+
+
+        // ******************** Constructors **********************************
+        private Template(final SkinType SKIN_TYPE, final List<Consumer<Gauge>> SETTERS) {
+            skinType = SKIN_TYPE;
+            setters  = new ArrayList<>(SETTERS);
+        }
+
+
+        // ******************** Methods ***************************************
+        public Gauge build() {
+            final Gauge CONTROL = null == skinType ? new Gauge() : new Gauge(skinType);
+            for (int i = 0 ; i < setters.size() ; i++) { setters.get(i).accept(CONTROL); }
+            return CONTROL;
+        }
+
+        public List<Gauge> buildAll(final int COUNT) { return buildAll(COUNT, null); }
+        public List<Gauge> buildAll(final int COUNT, final ObjIntConsumer<Gauge> CUSTOMIZER) {
+            final List<Gauge> CONTROLS = new ArrayList<>(COUNT);
+            for (int i = 0 ; i < COUNT ; i++) {
+                final Gauge CONTROL = build();
+                if (null != CUSTOMIZER) { CUSTOMIZER.accept(CONTROL, i); }
+                CONTROLS.add(CONTROL);
+            }
+            return CONTROLS;
+        }
     }
 }
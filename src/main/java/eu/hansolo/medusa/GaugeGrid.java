@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.LevelOfDetail.Detail;
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
+import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.animation.AnimationTimer;
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.text.TextAlignment;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static eu.hansolo.medusa.tools.Helper.formatNumber;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class GaugeGrid extends Region {
+    public enum CellType {
+        TINY(225, 270), SIMPLE_SECTION(240, 300), BAR(90, 360);
+
+        final double START_ANGLE;
+        final double ANGLE_RANGE;
+
+        CellType(final double START_ANGLE, final double ANGLE_RANGE) {
+            this.START_ANGLE = START_ANGLE;
+            this.ANGLE_RANGE = ANGLE_RANGE;
+        }
+    }
+
+    public static final double                   DEFAULT_CELL_SIZE = 64;
+    private       final ObservableList<Gauge>    gauges;
+    private       final Map<Gauge, BitSet>       cellIndices;
+    private       final Map<Gauge, Cell>         cellMap;
+    private       final BitSet                   dirtyCells;
+    private       final AnimationTimer           timer;
+    private       final Canvas                   canvas;
+    private       final GraphicsContext          ctx;
+    private       final Tooltip                  tooltip;
+    private       boolean                        tooltipInstalled;
+    private       boolean                        running;
+    private       boolean                        fullRedraw;
+    private       CellType                       cellType;
+    private       double                         cellSize;
+    private       int                            columns;
+    private       int                            noOfColumns;
+    private       double                         cellWidth;
+    private       Gauge                          pressedGauge;
+    private       ListChangeListener<Gauge>      gaugesListener;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Draws all given gauges as compact cells in a grid onto one Canvas.
+     * Every gauge is only used as a model (no skin will be created), a
+     * change of its value or its settings only redraws its own cell with
+     * the next pulse. Mouse presses on a cell will fire the button events
+     * of the gauge and a tooltip shows the title and value of the gauge
+     * below the mouse cursor.
+     */
+    public GaugeGrid() {
+        this(CellType.TINY);
+    }
+    public GaugeGrid(final CellType CELL_TYPE, final Gauge... GAUGES) {
+        getStyleClass().add("gauge-grid");
+        gauges      = FXCollections.observableArrayList();
+        cellIndices = new HashMap<>();
+        cellMap     = new HashMap<>();
+        dirtyCells  = new BitSet();
+        timer       = new AnimationTimer() {
+            @Override public void handle(final long NOW) { pulse(); }
+        };
+        canvas      = new Canvas();
+        ctx         = canvas.getGraphicsContext2D();
+        tooltip     = new Tooltip();
+        tooltip.setTextAlignment(TextAlignment.CENTER);
+        cellType    = null == CELL_TYPE ? CellType.TINY : CELL_TYPE;
+        cellSize    = DEFAULT_CELL_SIZE;
+        columns     = 0;
+        getChildren().setAll(canvas);
+        registerListeners();
+        gauges.setAll(GAUGES);
+    }
+
+
+    // ******************** Initialization ************************************
+    private void registerListeners() {
+        gaugesListener = c -> {
+            while (c.next()) {
+                if (c.wasRemoved()) { c.getRemoved().forEach(gauge -> { if (!gauges.contains(gauge)) unbind(gauge); }); }
+                if (c.wasAdded())   { c.getAddedSubList().forEach(gauge -> { if (!cellMap.containsKey(gauge)) bind(gauge); }); }
+            }
+            updateIndices();
+            requestLayout();
+            redrawAll();
+        };
+        gauges.addListener(gaugesListener);
+
+        canvas.addEventHandler(MouseEvent.MOUSE_PRESSED, e -> {
+            pressedGauge = getGaugeAt(e.getX(), e.getY());
+            if (null != pressedGauge && !pressedGauge.isDisabled()) { pressedGauge.fireEvent(pressedGauge.BTN_PRESSED_EVENT); }
+        });
+        canvas.addEventHandler(MouseEvent.MOUSE_RELEASED, e -> {
+            if (null != pressedGauge && !pressedGauge.isDisabled()) { pressedGauge.fireEvent(pressedGauge.BTN_RELEASED_EVENT); }
+            pressedGauge = null;
+        });
+        canvas.addEventHandler(MouseEvent.MOUSE_MOVED, e -> updateTooltip(getGaugeAt(e.getX(), e.getY())));
+        canvas.addEventHandler(MouseEvent.MOUSE_EXITED, e -> updateTooltip(null));
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the list of gauges that will be drawn in the grid. The
+     * order of the list defines the order of the cells (row by row).
+     * @return the list of gauges that will be drawn in the grid
+     */
+    public ObservableList<Gauge> getGauges() { return gauges; }
+
+    public CellType getCellType() { return cellType; }
+    /**
+     * Defines the way each gauge will be drawn in its cell.
+     * TINY draws a needle on a 270 degree scale with the sections,
+     * SIMPLE_SECTION a bar on a 300 degree scale in the color of the
+     * section that contains the value and BAR a full circle bar, both
+     * with the value in the center.
+     * @param TYPE
+     */
+    public void setCellType(final CellType TYPE) {
+        cellType = null == TYPE ? CellType.TINY : TYPE;
+        redrawAll();
+    }
+
+    public double getCellSize() { return cellSize; }
+    /**
+     * Defines the width and height of the cells in px. If the no of
+     * columns is set, the cell size will be derived from the width.
+     * @param SIZE
+     */
+    public void setCellSize(final double SIZE) {
+        cellSize = Helper.clamp(8, 1024, SIZE);
+        requestLayout();
+    }
+
+    public int getColumns() { return columns; }
+    /**
+     * Defines the no of columns of the grid. A value of 0 (default) means
+     * that as many cells of the given cell size will be placed in a row
+     * as fit into the width of the grid.
+     * @param COLUMNS
+     */
+    public void setColumns(final int COLUMNS) {
+        columns = Math.max(0, COLUMNS);
+        requestLayout();
+    }
+
+    /**
+     * Returns the gauge of the cell at the given position in the
+     * coordinates of the grid or null if there is no cell.
+     * @param X
+     * @param Y
+     * @return the gauge of the cell at the given position or null
+     */
+    public Gauge getGaugeAt(final double X, final double Y) {
+        if (cellWidth <= 0 || X < 0 || Y < 0) return null;
+        int column = (int) (X / cellWidth);
+        int row    = (int) (Y / cellWidth);
+        if (column >= noOfColumns) return null;
+        int index  = row * noOfColumns + column;
+        return index < gauges.size() ? gauges.get(index) : null;
+    }
+
+    /**
+     * Removes all listeners from the gauges and stops the redraw timer.
+     */
+    public void dispose() {
+        timer.stop();
+        running = false;
+        gauges.removeListener(gaugesListener);
+        for (Gauge gauge : cellMap.keySet().toArray(new Gauge[0])) { unbind(gauge); }
+        if (tooltipInstalled) { Tooltip.uninstall(canvas, tooltip); }
+    }
+
+    private void bind(final Gauge GAUGE) {
+        final Cell CELL = new Cell(GAUGE);
+        GAUGE.currentValueProperty().addListener(CELL.valueListener);
+        GAUGE.addUpdateEventListener(CELL.updateListener);
+        cellMap.put(GAUGE, CELL);
+    }
+
+    private void unbind(final Gauge GAUGE) {
+        final Cell CELL = cellMap.remove(GAUGE);
+        if (null == CELL) return;
+        GAUGE.currentValueProperty().removeListener(CELL.valueListener);
+        GAUGE.removeUpdateEventListener(CELL.updateListener);
+    }
+
+    private void updateIndices() {
+        cellIndices.clear();
+        // The same gauge might be added more than once
+        for (int i = 0 ; i < gauges.size() ; i++) { cellIndices.computeIfAbsent(gauges.get(i), gauge -> new BitSet()).set(i); }
+    }
+
+    private void markDirty(final Gauge GAUGE) {
+        final BitSet INDICES = cellIndices.get(GAUGE);
+        if (null == INDICES) return;
+        dirtyCells.or(INDICES);
+        if (!running) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    private void redrawAll() {
+        fullRedraw = true;
+        dirtyCells.set(0, Math.max(1, gauges.size()));
+        if (!running) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    private void pulse() {
+        if (fullRedraw) {
+            ctx.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            fullRedraw = false;
+        }
+        for (int i = dirtyCells.nextSetBit(0) ; i >= 0 ; i = dirtyCells.nextSetBit(i + 1)) { drawCell(i); }
+        dirtyCells.clear();
+        running = false;
+        timer.stop();
+    }
+
+    private void updateTooltip(final Gauge GAUGE) {
+        if (null == GAUGE) {
+            if (tooltipInstalled) {
+                Tooltip.uninstall(canvas, tooltip);
+                tooltipInstalled = false;
+            }
+            return;
+        }
+        StringBuilder text = new StringBuilder();
+        if (!GAUGE.getTitle().isEmpty()) { text.append(GAUGE.getTitle()).append("\n"); }
+        text.append(formatNumber(GAUGE.getLocale(), GAUGE.getFormatString(), GAUGE.getDecimals(), GAUGE.getCurrentValue()));
+        if (!GAUGE.getUnit().isEmpty()) { text.append(" ").append(GAUGE.getUnit()); }
+        if (GAUGE.isThresholdVisible()) {
+            text.append("\nThreshold (").append(formatNumber(GAUGE.getLocale(), GAUGE.getFormatString(), GAUGE.getDecimals(), GAUGE.getThreshold())).append(")");
+        }
+        tooltip.setText(text.toString());
+        if (!tooltipInstalled) {
+            Tooltip.install(canvas, tooltip);
+            tooltipInstalled = true;
+        }
+    }
+
+    private void drawCell(final int INDEX) {
+        if (cellWidth <= 0 || noOfColumns <= 0) return;
+        final double X = (INDEX % noOfColumns) * cellWidth;
+        final double Y = (INDEX / noOfColumns) * cellWidth;
+        if (Y >= canvas.getHeight()) return;
+        ctx.clearRect(X, Y, cellWidth, cellWidth);
+        if (INDEX >= gauges.size()) return;
+
+        final Gauge  GAUGE        = gauges.get(INDEX);
+        final double PADDING      = cellWidth * 0.05;
+        final double SIZE         = cellWidth - 2 * PADDING;
+        final double CENTER_X     = X + cellWidth * 0.5;
+        final double CENTER_Y     = Y + cellWidth * 0.5;
+        final double MIN_VALUE    = GAUGE.getMinValue();
+        final double RANGE        = GAUGE.getRange();
+        final double VALUE        = GAUGE.getCurrentValue();
+        final double START_ANGLE  = cellType.START_ANGLE;
+        final double ANGLE_RANGE  = cellType.ANGLE_RANGE;
+        final double ANGLE_STEP   = RANGE == 0 ? 0 : ANGLE_RANGE / RANGE;
+        final double BAR_WIDTH    = CellType.TINY == cellType ? SIZE * 0.1 : SIZE * 0.125;
+        final double RADIUS       = SIZE * 0.5 - BAR_WIDTH;
+        final double XY_X         = CENTER_X - RADIUS;
+        final double XY_Y         = CENTER_Y - RADIUS;
+        final double WH           = 2 * RADIUS;
+        final double VALUE_ANGLE  = Helper.clamp(0, ANGLE_RANGE, (VALUE - MIN_VALUE) * ANGLE_STEP);
+
+        ctx.save();
+        // Background
+        if (!Color.TRANSPARENT.equals(GAUGE.getBackgroundPaint())) {
+            ctx.setFill(GAUGE.getBackgroundPaint());
+            ctx.fillOval(X + PADDING, Y + PADDING, SIZE, SIZE);
+        }
+
+        // Bar background
+        ctx.setLineCap(StrokeLineCap.BUTT);
+        ctx.setLineWidth(BAR_WIDTH);
+        ctx.setStroke(CellType.BAR == cellType ? Color.color(GAUGE.getBarColor().getRed(), GAUGE.getBarColor().getGreen(), GAUGE.getBarColor().getBlue(), 0.13) : GAUGE.getBarBackgroundColor());
+        ctx.strokeArc(XY_X, XY_Y, WH, WH, START_ANGLE, -ANGLE_RANGE, ArcType.OPEN);
+
+        // Sections
+        final List<Section> SECTIONS = GAUGE.getSections();
+        if (CellType.TINY == cellType && GAUGE.getSectionsVisible()) {
+            for (Section section : SECTIONS) {
+                double sectionStart  = Helper.clamp(0, ANGLE_RANGE, (section.getStart() - MIN_VALUE) * ANGLE_STEP);
+                double sectionExtend = Helper.clamp(0, ANGLE_RANGE, (section.getStop() - MIN_VALUE) * ANGLE_STEP) - sectionStart;
+                if (sectionExtend <= 0) continue;
+                ctx.setStroke(GAUGE.isHighlightSections() && section.contains(VALUE) ? section.getHighlightColor() : section.getColor());
+                ctx.strokeArc(XY_X, XY_Y, WH, WH, START_ANGLE - sectionStart, -sectionExtend, ArcType.OPEN);
+            }
+        }
+
+        // Value
+        switch(cellType) {
+            case TINY:
+                double needleAngle = Math.toRadians(START_ANGLE - VALUE_ANGLE);
+                ctx.setStroke(GAUGE.getNeedleColor());
+                ctx.setLineCap(StrokeLineCap.ROUND);
+                ctx.setLineWidth(SIZE * 0.04);
+                ctx.strokeLine(CENTER_X, CENTER_Y, CENTER_X + RADIUS * Math.cos(needleAngle), CENTER_Y - RADIUS * Math.sin(needleAngle));
+                ctx.setFill(GAUGE.getNeedleColor());
+                ctx.fillOval(CENTER_X - SIZE * 0.06, CENTER_Y - SIZE * 0.06, SIZE * 0.12, SIZE * 0.12);
+                break;
+            case SIMPLE_SECTION:
+            case BAR:
+            default:
+                Color barColor = GAUGE.getBarColor();
+                if (CellType.SIMPLE_SECTION == cellType && GAUGE.getSectionsVisible()) {
+                    for (Section section : SECTIONS) {
+                        if (section.contains(VALUE)) {
+                            barColor = section.getColor();
+                            break;
+                        }
+                    }
+                }
+                if (VALUE_ANGLE > 0) {
+                    ctx.setStroke(barColor);
+                    ctx.strokeArc(XY_X, XY_Y, WH, WH, START_ANGLE, -VALUE_ANGLE, ArcType.OPEN);
+                }
+                if (GAUGE.isValueVisible()) {
+                    ctx.setFill(GAUGE.getValueColor());
+                    ctx.setFont(Fonts.robotoMedium(SIZE * 0.22));
+                    ctx.setTextAlign(TextAlignment.CENTER);
+                    ctx.setTextBaseline(VPos.CENTER);
+                    ctx.fillText(formatNumber(GAUGE.getLocale(), GAUGE.getFormatString(), GAUGE.getDecimals(), VALUE), CENTER_X, CENTER_Y, RADIUS * 1.6);
+                }
+                break;
+        }
+
+        // Threshold
+        if (GAUGE.isThresholdVisible()) {
+            double thresholdAngle = Math.toRadians(START_ANGLE - Helper.clamp(0, ANGLE_RANGE, (GAUGE.getThreshold() - MIN_VALUE) * ANGLE_STEP));
+            double innerRadius    = RADIUS - BAR_WIDTH * 0.5;
+            double outerRadius    = RADIUS + BAR_WIDTH * 0.5;
+            ctx.setStroke(GAUGE.getThresholdColor());
+            ctx.setLineCap(StrokeLineCap.BUTT);
+            ctx.setLineWidth(Math.max(1, SIZE * 0.02));
+            ctx.strokeLine(CENTER_X + innerRadius * Math.cos(thresholdAngle), CENTER_Y - innerRadius * Math.sin(thresholdAngle),
+                           CENTER_X + outerRadius * Math.cos(thresholdAngle), CENTER_Y - outerRadius * Math.sin(thresholdAngle));
+        }
+
+        // Title
+        if (!GAUGE.getTitle().isEmpty() && GAUGE.getLevelOfDetail().isVisible(Detail.TEXT, SIZE)) {
+            ctx.setFill(GAUGE.getTitleColor());
+            ctx.setFont(Fonts.robotoRegular(SIZE * 0.1));
+            ctx.setTextAlign(TextAlignment.CENTER);
+            ctx.setTextBaseline(VPos.CENTER);
+            ctx.fillText(GAUGE.getTitle(), CENTER_X, Y + PADDING + SIZE * 0.9, SIZE * 0.6);
+        }
+        ctx.restore();
+    }
+
+    private int getNoOfColumns(final double WIDTH) {
+        if (columns > 0) return columns;
+        return Math.max(1, (int) (WIDTH / cellSize));
+    }
+
+
+    // ******************** Layout *******************************************
+    @Override protected double computePrefWidth(final double HEIGHT) {
+        int noOfColumns = columns > 0 ? columns : Math.max(1, Math.min(gauges.size(), (int) Math.ceil(Math.sqrt(gauges.size()))));
+        return snappedLeftInset() + noOfColumns * cellSize + snappedRightInset();
+    }
+    @Override protected double computePrefHeight(final double WIDTH) {
+        double width       = WIDTH > 0 ? WIDTH - snappedLeftInset() - snappedRightInset() : computePrefWidth(-1) - snappedLeftInset() - snappedRightInset();
+        int    noOfColumns = getNoOfColumns(width);
+        double cellWidth   = columns > 0 ? width / noOfColumns : cellSize;
+        int    noOfRows    = (int) Math.ceil(gauges.size() / (double) noOfColumns);
+        return snappedTopInset() + noOfRows * cellWidth + snappedBottomInset();
+    }
+
+    @Override protected void layoutChildren() {
+        double width  = getWidth() - snappedLeftInset() - snappedRightInset();
+        double height = getHeight() - snappedTopInset() - snappedBottomInset();
+        int    oldNoOfColumns = noOfColumns;
+        double oldCellWidth   = cellWidth;
+        noOfColumns = getNoOfColumns(width);
+        cellWidth   = columns > 0 ? width / noOfColumns : cellSize;
+        int    noOfRows     = (int) Math.ceil(gauges.size() / (double) noOfColumns);
+        double canvasWidth  = Math.min(width, noOfColumns * cellWidth);
+        double canvasHeight = Math.min(height, noOfRows * cellWidth);
+        if (Double.compare(canvas.getWidth(), canvasWidth) != 0 || Double.compare(canvas.getHeight(), canvasHeight) != 0 ||
+            oldNoOfColumns != noOfColumns || Double.compare(oldCellWidth, cellWidth) != 0) {
+            canvas.setWidth(Math.max(0, canvasWidth));
+            canvas.setHeight(Math.max(0, canvasHeight));
+            redrawAll();
+        }
+        canvas.relocate(snappedLeftInset(), snappedTopInset());
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private class Cell {
+        private final InvalidationListener valueListener;
+        private final UpdateEventListener  updateListener;
+
+
+        // ******************** Constructors **************************************
+        Cell(final Gauge GAUGE) {
+            valueListener  = o -> markDirty(GAUGE);
+            updateListener = e -> {
+                if (EventType.FINISHED == e.eventType) {
+                    if (GAUGE.getCheckSectionsForValue()) {
+                        double currentValue = GAUGE.getCurrentValue();
+                        for (Section section : GAUGE.getSections()) { section.checkForValue(currentValue); }
+                    }
+                    if (GAUGE.isHighlightSections()) { markDirty(GAUGE); }
+                } else {
+                    markDirty(GAUGE);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.tools.Metrics;
+import eu.hansolo.medusa.tools.PngEncoder;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class GaugeImageRenderer {
+    private static final long                   FRAME_BUDGET = 8_000_000;
+    private        final Map<SkinType, Slot>    slots;
+    private        final Queue<Job>             jobs;
+    private        final Queue<int[]>           pixelPool;
+    private        final ExecutorService        encoders;
+    private        final SnapshotParameters     parameters;
+    private        final AtomicBoolean          drainScheduled;
+    private        final AtomicInteger          noOfEncoding;
+    private        final int                    maxNoOfEncoding;
+    private        final int                    compressionLevel;
+    private volatile     boolean                shutdown;
+
+
+    // ******************** Constructors **************************************
+    public GaugeImageRenderer() { this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), 1); }
+    /**
+     * Renders gauges into png images without creating a control per image.
+     * One off-screen scene with one gauge is kept per SkinType, for each
+     * job the gauge of its skin type will be set to the values and style
+     * of the job and a snapshot will be taken on the FX application thread.
+     * The snapshots will be encoded as png on the given no of worker
+     * threads. If the workers are behind, no further snapshots will be
+     * taken until images have been encoded, so the memory stays bounded.
+     * @param NO_OF_ENCODERS    the no of threads that encode the png images
+     * @param COMPRESSION_LEVEL the deflate level of the png images from 0 to 9
+     */
+    public GaugeImageRenderer(final int NO_OF_ENCODERS, final int COMPRESSION_LEVEL) {
+        slots            = new EnumMap<>(SkinType.class);
+        jobs             = new ConcurrentLinkedQueue<>();
+        pixelPool        = new ConcurrentLinkedQueue<>();
+        parameters       = new SnapshotParameters();
+        drainScheduled   = new AtomicBoolean(false);
+        noOfEncoding     = new AtomicInteger(0);
+        maxNoOfEncoding  = Math.max(1, NO_OF_ENCODERS) * 4;
+        compressionLevel = COMPRESSION_LEVEL;
+        encoders         = Executors.newFixedThreadPool(Math.max(1, NO_OF_ENCODERS), runnable -> {
+            final Thread THREAD = new Thread(runnable, "GaugeImageRenderer");
+            THREAD.setDaemon(true);
+            return THREAD;
+        });
+        parameters.setFill(Color.TRANSPARENT);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Renders the given job into a png image. Can be called from any thread.
+     * @param JOB
+     * @return a future that will be completed with the png image on a worker thread
+     */
+    public CompletableFuture<byte[]> render(final RenderJob JOB) {
+        final CompletableFuture<byte[]> RESULT = new CompletableFuture<>();
+        if (shutdown) {
+            RESULT.completeExceptionally(new RejectedExecutionException("GaugeImageRenderer has been shut down"));
+            return RESULT;
+        }
+        jobs.add(new Job(JOB, RESULT));
+        scheduleDrain();
+        return RESULT;
+    }
+
+    /**
+     * Renders all given jobs into png images. Can be called from any thread.
+     * @param JOBS
+     * @return a future that will be completed with the png images in the order of the jobs
+     */
+    public CompletableFuture<List<byte[]>> renderAll(final List<RenderJob> JOBS) {
+        final List<CompletableFuture<byte[]>> RESULTS = new ArrayList<>(JOBS.size());
+        for (RenderJob job : JOBS) { RESULTS.add(render(job)); }
+        return CompletableFuture.allOf(RESULTS.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            final List<byte[]> IMAGES = new ArrayList<>(RESULTS.size());
+            for (CompletableFuture<byte[]> result : RESULTS) { IMAGES.add(result.join()); }
+            return IMAGES;
+        });
+    }
+
+    /**
+     * Stops the worker threads after all pending jobs have been rendered.
+     * The pooled gauges will be released on the FX application thread.
+     */
+    public void shutdown() {
+        shutdown = true;
+        Metrics.runLater(() -> {
+            drain();
+            if (jobs.isEmpty()) { release(); }
+        });
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) { Metrics.runLater(this::drain); }
+    }
+
+    /**
+     * Takes the snapshots of the pending jobs on the FX application thread
+     * until the frame budget is used or too many images wait for encoding.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        final long START = System.nanoTime();
+        while (!jobs.isEmpty()) {
+            if (noOfEncoding.get() >= maxNoOfEncoding) return; // Will be scheduled again by the encoders
+            if (System.nanoTime() - START > FRAME_BUDGET) {
+                scheduleDrain();
+                return;
+            }
+            final Job JOB = jobs.poll();
+            try {
+                snapshot(JOB);
+            } catch (RuntimeException e) {
+                JOB.result.completeExceptionally(e);
+            }
+        }
+        if (shutdown) { release(); }
+    }
+
+    private void snapshot(final Job JOB) {
+        final RenderJob RENDER_JOB = JOB.renderJob;
+        final int       WIDTH      = (int) Math.ceil(RENDER_JOB.width);
+        final int       HEIGHT     = (int) Math.ceil(RENDER_JOB.height);
+        final Slot      SLOT       = slots.computeIfAbsent(RENDER_JOB.skinType, Slot::new);
+        SLOT.bind(RENDER_JOB);
+        if (null == SLOT.image || (int) SLOT.image.getWidth() != WIDTH || (int) SLOT.image.getHeight() != HEIGHT) { SLOT.image = new WritableImage(WIDTH, HEIGHT); }
+        SLOT.gauge.snapshot(parameters, SLOT.image);
+
+        int[] pixels = pixelPool.poll();
+        if (null == pixels || pixels.length < WIDTH * HEIGHT) { pixels = new int[WIDTH * HEIGHT]; }
+        SLOT.image.getPixelReader().getPixels(0, 0, WIDTH, HEIGHT, PixelFormat.getIntArgbInstance(), pixels, 0, WIDTH);
+
+        final int[] PIXELS = pixels;
+        noOfEncoding.incrementAndGet();
+        encoders.execute(() -> {
+            try {
+                JOB.result.complete(PngEncoder.encode(PIXELS, WIDTH, HEIGHT, compressionLevel));
+            } catch (RuntimeException e) {
+                JOB.result.completeExceptionally(e);
+            } finally {
+                pixelPool.offer(PIXELS);
+                noOfEncoding.decrementAndGet();
+                if (!jobs.isEmpty()) { scheduleDrain(); }
+            }
+        });
+    }
+
+    private void release() {
+        slots.values().forEach(slot -> slot.scene.setRoot(new Pane()));
+        slots.clear();
+        pixelPool.clear();
+        encoders.shutdown();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * The values and style of one image. The gauges are reused, so
+     * everything the configurator changes stays set for the following
+     * jobs of the same skin type unless they change it again.
+     */
+    public static class RenderJob {
+        private final SkinType        skinType;
+        private final double          width;
+        private final double          height;
+        private       double          value;
+        private       double          minValue;
+        private       double          maxValue;
+        private       int             decimals;
+        private       String          title;
+        private       String          subTitle;
+        private       String          unit;
+        private       GaugeStyle      style;
+        private       Consumer<Gauge> configurator;
+
+
+        // ******************** Constructors **************************************
+        public RenderJob(final SkinType SKIN_TYPE, final double WIDTH, final double HEIGHT) {
+            if (WIDTH < 1 || HEIGHT < 1) { throw new IllegalArgumentException("Width and height have to be >= 1"); }
+            skinType = null == SKIN_TYPE ? SkinType.GAUGE : SKIN_TYPE;
+            width    = WIDTH;
+            height   = HEIGHT;
+            minValue = 0;
+            maxValue = 100;
+            decimals = 1;
+            title    = "";
+            subTitle = "";
+            unit     = "";
+        }
+
+
+        // ******************** Methods *******************************************
+        public RenderJob value(final double VALUE) { value = VALUE; return this; }
+        public RenderJob range(final double MIN_VALUE, final double MAX_VALUE) {
+            minValue = MIN_VALUE;
+            maxValue = MAX_VALUE;
+            return this;
+        }
+        public RenderJob decimals(final int DECIMALS) { decimals = DECIMALS; return this; }
+        public RenderJob title(final String TITLE) { title = TITLE; return this; }
+        public RenderJob subTitle(final String SUB_TITLE) { subTitle = SUB_TITLE; return this; }
+        public RenderJob unit(final String UNIT) { unit = UNIT; return this; }
+        /**
+         * Defines the style of the image, without a style the default
+         * style of the skin type will be used.
+         * @param STYLE
+         * @return the job
+         */
+        public RenderJob style(final GaugeStyle STYLE) { style = STYLE; return this; }
+        /**
+         * Defines a configurator that will be called on the FX application
+         * thread after the values of the job have been set on the gauge
+         * (e.g. to set sections or markers).
+         * @param CONFIGURATOR
+         * @return the job
+         */
+        public RenderJob configurator(final Consumer<Gauge> CONFIGURATOR) { configurator = CONFIGURATOR; return this; }
+
+        public SkinType getSkinType() { return skinType; }
+        public double getWidth() { return width; }
+        public double getHeight() { return height; }
+    }
+
+    private static class Job {
+        private final RenderJob                 renderJob;
+        private final CompletableFuture<byte[]> result;
+
+
+        // ******************** Constructors **************************************
+        Job(final RenderJob RENDER_JOB, final CompletableFuture<byte[]> RESULT) {
+            renderJob = RENDER_JOB;
+            result    = RESULT;
+        }
+    }
+
+    /**
+     * An off-screen scene with a gauge of one skin type.
+     */
+    private static class Slot {
+        private final Gauge         gauge;
+        private final GaugeStyle    defaultStyle;
+        private final Scene         scene;
+        private       WritableImage image;
+
+
+        // ******************** Constructors **************************************
+        Slot(final SkinType SKIN_TYPE) {
+            gauge        = new Gauge(SKIN_TYPE);
+            gauge.setAnimated(false);
+            defaultStyle = GaugeStyle.of(gauge);
+            gauge.setGaugeStyle(defaultStyle);
+            scene        = new Scene(new Pane(gauge));
+        }
+
+
+        // ******************** Methods *******************************************
+        /**
+         * Sets the values and style of the given job on the gauge. The
+         * skin will only be updated once after all values have been set.
+         */
+        void bind(final RenderJob JOB) {
+            gauge.beginUpdateBatch();
+            try {
+                gauge.setGaugeStyle(null == JOB.style ? defaultStyle : JOB.style);
+                if (JOB.minValue > gauge.getMaxValue()) {
+                    gauge.setMaxValue(JOB.maxValue);
+                    gauge.setMinValue(JOB.minValue);
+                } else {
+                    gauge.setMinValue(JOB.minValue);
+                    gauge.setMaxValue(JOB.maxValue);
+                }
+                gauge.setDecimals(JOB.decimals);
+                gauge.setTitle(JOB.title);
+                gauge.setSubTitle(JOB.subTitle);
+                gauge.setUnit(JOB.unit);
+                gauge.setValue(JOB.value);
+                if (null != JOB.configurator) { JOB.configurator.accept(gauge); }
+            } finally {
+                gauge.endUpdateBatch();
+            }
+            gauge.setPrefSize(JOB.width, JOB.height);
+            gauge.resize(JOB.width, JOB.height);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Gauge.KnobType;
+import eu.hansolo.medusa.Gauge.LedType;
+import eu.hansolo.medusa.Gauge.NeedleShape;
+import eu.hansolo.medusa.Gauge.NeedleSize;
+import eu.hansolo.medusa.Gauge.NeedleType;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public final class GaugeStyle {
+    /**
+     * A styling attribute with its accessors on the gauge, the style and
+     * the builder, so that attributes can be copied without casts.
+     */
+    static final class Attribute<T> {
+        private final Function<Gauge, T>               gaugeGetter;
+        private final BiConsumer<Gauge, T>             gaugeSetter;
+        private final Function<GaugeStyle, T>          styleGetter;
+        private final BiConsumer<GaugeStyleBuilder, T> builderSetter;
+
+        Attribute(final Function<Gauge, T> GAUGE_GETTER, final BiConsumer<Gauge, T> GAUGE_SETTER,
+                  final Function<GaugeStyle, T> STYLE_GETTER, final BiConsumer<GaugeStyleBuilder, T> BUILDER_SETTER) {
+            gaugeGetter   = GAUGE_GETTER;
+            gaugeSetter   = GAUGE_SETTER;
+            styleGetter   = STYLE_GETTER;
+            builderSetter = BUILDER_SETTER;
+        }
+
+        void copy(final GaugeStyle STYLE, final GaugeStyleBuilder BUILDER) { builderSetter.accept(BUILDER, styleGetter.apply(STYLE)); }
+
+        void copy(final Gauge GAUGE, final GaugeStyleBuilder BUILDER) { builderSetter.accept(BUILDER, gaugeGetter.apply(GAUGE)); }
+
+        boolean isEqual(final GaugeStyle STYLE, final GaugeStyle OTHER_STYLE) { return Objects.equals(styleGetter.apply(STYLE), styleGetter.apply(OTHER_STYLE)); }
+
+        int hashCode(final GaugeStyle STYLE) { return Objects.hashCode(styleGetter.apply(STYLE)); }
+
+        /**
+         * Sets the value of the given style on the gauge if the gauge
+         * didn't override the value of the previous style.
+         */
+        void apply(final Gauge GAUGE, final GaugeStyle STYLE, final GaugeStyle PREVIOUS_STYLE) {
+            final T VALUE          = styleGetter.apply(STYLE);
+            final T PREVIOUS_VALUE = styleGetter.apply(PREVIOUS_STYLE);
+            if (Objects.equals(VALUE, PREVIOUS_VALUE)) return;
+            final T CURRENT_VALUE  = gaugeGetter.apply(GAUGE);
+            if (Objects.equals(CURRENT_VALUE, PREVIOUS_VALUE) || Objects.equals(CURRENT_VALUE, VALUE)) { gaugeSetter.accept(GAUGE, VALUE); }
+        }
+    }
+
+    static final Attribute<?>[] ATTRIBUTES = {
+        new Attribute<>(Gauge::getBackgroundPaint, Gauge::setBackgroundPaint, GaugeStyle::getBackgroundPaint, GaugeStyleBuilder::backgroundPaint),
+        new Attribute<>(Gauge::getBorderPaint, Gauge::setBorderPaint, GaugeStyle::getBorderPaint, GaugeStyleBuilder::borderPaint),
+        new Attribute<>(Gauge::getBorderWidth, Gauge::setBorderWidth, GaugeStyle::getBorderWidth, GaugeStyleBuilder::borderWidth),
+        new Attribute<>(Gauge::getForegroundPaint, Gauge::setForegroundPaint, GaugeStyle::getForegroundPaint, GaugeStyleBuilder::foregroundPaint),
+        new Attribute<>(Gauge::getKnobColor, Gauge::setKnobColor, GaugeStyle::getKnobColor, GaugeStyleBuilder::knobColor),
+        new Attribute<>(Gauge::getKnobType, Gauge::setKnobType, GaugeStyle::getKnobType, GaugeStyleBuilder::knobType),
+        new Attribute<>(Gauge::getNeedleColor, Gauge::setNeedleColor, GaugeStyle::getNeedleColor, GaugeStyleBuilder::needleColor),
+        new Attribute<>(Gauge::getNeedleBorderColor, Gauge::setNeedleBorderColor, GaugeStyle::getNeedleBorderColor, GaugeStyleBuilder::needleBorderColor),
+        new Attribute<>(Gauge::getNeedleType, Gauge::setNeedleType, GaugeStyle::getNeedleType, GaugeStyleBuilder::needleType),
+        new Attribute<>(Gauge::getNeedleShape, Gauge::setNeedleShape, GaugeStyle::getNeedleShape, GaugeStyleBuilder::needleShape),
+        new Attribute<>(Gauge::getNeedleSize, Gauge::setNeedleSize, GaugeStyle::getNeedleSize, GaugeStyleBuilder::needleSize),
+        new Attribute<>(Gauge::getBarColor, Gauge::setBarColor, GaugeStyle::getBarColor, GaugeStyleBuilder::barColor),
+        new Attribute<>(Gauge::getBarBackgroundColor, Gauge::setBarBackgroundColor, GaugeStyle::getBarBackgroundColor, GaugeStyleBuilder::barBackgroundColor),
+        new Attribute<>(Gauge::getBarBorderColor, Gauge::setBarBorderColor, GaugeStyle::getBarBorderColor, GaugeStyleBuilder::barBorderColor),
+        new Attribute<>(Gauge::isBarEffectEnabled, Gauge::setBarEffectEnabled, GaugeStyle::isBarEffectEnabled, GaugeStyleBuilder::barEffectEnabled),
+        new Attribute<>(Gauge::getTitleColor, Gauge::setTitleColor, GaugeStyle::getTitleColor, GaugeStyleBuilder::titleColor),
+        new Attribute<>(Gauge::getSubTitleColor, Gauge::setSubTitleColor, GaugeStyle::getSubTitleColor, GaugeStyleBuilder::subTitleColor),
+        new Attribute<>(Gauge::getUnitColor, Gauge::setUnitColor, GaugeStyle::getUnitColor, GaugeStyleBuilder::unitColor),
+        new Attribute<>(Gauge::getValueColor, Gauge::setValueColor, GaugeStyle::getValueColor, GaugeStyleBuilder::valueColor),
+        new Attribute<>(Gauge::getThresholdColor, Gauge::setThresholdColor, GaugeStyle::getThresholdColor, GaugeStyleBuilder::thresholdColor),
+        new Attribute<>(Gauge::getAverageColor, Gauge::setAverageColor, GaugeStyle::getAverageColor, GaugeStyleBuilder::averageColor),
+        new Attribute<>(Gauge::getZeroColor, Gauge::setZeroColor, GaugeStyle::getZeroColor, GaugeStyleBuilder::zeroColor),
+        new Attribute<>(Gauge::getTickLabelColor, Gauge::setTickLabelColor, GaugeStyle::getTickLabelColor, GaugeStyleBuilder::tickLabelColor),
+        new Attribute<>(Gauge::getTickLabelOrientation, Gauge::setTickLabelOrientation, GaugeStyle::getTickLabelOrientation, GaugeStyleBuilder::tickLabelOrientation),
+        new Attribute<>(Gauge::getTickLabelLocation, Gauge::setTickLabelLocation, GaugeStyle::getTickLabelLocation, GaugeStyleBuilder::tickLabelLocation),
+        new Attribute<>(Gauge::getTickLabelsVisible, Gauge::setTickLabelsVisible, GaugeStyle::getTickLabelsVisible, GaugeStyleBuilder::tickLabelsVisible),
+        new Attribute<>(Gauge::getTickMarkColor, Gauge::setTickMarkColor, GaugeStyle::getTickMarkColor, GaugeStyleBuilder::tickMarkColor),
+        new Attribute<>(Gauge::getMajorTickMarkColor, Gauge::setMajorTickMarkColor, GaugeStyle::getMajorTickMarkColor, GaugeStyleBuilder::majorTickMarkColor),
+        new Attribute<>(Gauge::getMajorTickMarkType, Gauge::setMajorTickMarkType, GaugeStyle::getMajorTickMarkType, GaugeStyleBuilder::majorTickMarkType),
+        new Attribute<>(Gauge::getMajorTickMarkLengthFactor, Gauge::setMajorTickMarkLengthFactor, GaugeStyle::getMajorTickMarkLengthFactor, GaugeStyleBuilder::majorTickMarkLengthFactor),
+        new Attribute<>(Gauge::getMajorTickMarkWidthFactor, Gauge::setMajorTickMarkWidthFactor, GaugeStyle::getMajorTickMarkWidthFactor, GaugeStyleBuilder::majorTickMarkWidthFactor),
+        new Attribute<>(Gauge::getMajorTickMarksVisible, Gauge::setMajorTickMarksVisible, GaugeStyle::getMajorTickMarksVisible, GaugeStyleBuilder::majorTickMarksVisible),
+        new Attribute<>(Gauge::getMediumTickMarkColor, Gauge::setMediumTickMarkColor, GaugeStyle::getMediumTickMarkColor, GaugeStyleBuilder::mediumTickMarkColor),
+        new Attribute<>(Gauge::getMediumTickMarkType, Gauge::setMediumTickMarkType, GaugeStyle::getMediumTickMarkType, GaugeStyleBuilder::mediumTickMarkType),
+        new Attribute<>(Gauge::getMediumTickMarkLengthFactor, Gauge::setMediumTickMarkLengthFactor, GaugeStyle::getMediumTickMarkLengthFactor, GaugeStyleBuilder::mediumTickMarkLengthFactor),
+        new Attribute<>(Gauge::getMediumTickMarkWidthFactor, Gauge::setMediumTickMarkWidthFactor, GaugeStyle::getMediumTickMarkWidthFactor, GaugeStyleBuilder::mediumTickMarkWidthFactor),
+        new Attribute<>(Gauge::getMediumTickMarksVisible, Gauge::setMediumTickMarksVisible, GaugeStyle::getMediumTickMarksVisible, GaugeStyleBuilder::mediumTickMarksVisible),
+        new Attribute<>(Gauge::getMinorTickMarkColor, Gauge::setMinorTickMarkColor, GaugeStyle::getMinorTickMarkColor, GaugeStyleBuilder::minorTickMarkColor),
+        new Attribute<>(Gauge::getMinorTickMarkType, Gauge::setMinorTickMarkType, GaugeStyle::getMinorTickMarkType, GaugeStyleBuilder::minorTickMarkType),
+        new Attribute<>(Gauge::getMinorTickMarkLengthFactor, Gauge::setMinorTickMarkLengthFactor, GaugeStyle::getMinorTickMarkLengthFactor, GaugeStyleBuilder::minorTickMarkLengthFactor),
+        new Attribute<>(Gauge::getMinorTickMarkWidthFactor, Gauge::setMinorTickMarkWidthFactor, GaugeStyle::getMinorTickMarkWidthFactor, GaugeStyleBuilder::minorTickMarkWidthFactor),
+        new Attribute<>(Gauge::getMinorTickMarksVisible, Gauge::setMinorTickMarksVisible, GaugeStyle::getMinorTickMarksVisible, GaugeStyleBuilder::minorTickMarksVisible),
+        new Attribute<>(Gauge::getLedColor, Gauge::setLedColor, GaugeStyle::getLedColor, GaugeStyleBuilder::ledColor),
+        new Attribute<>(Gauge::getLedType, Gauge::setLedType, GaugeStyle::getLedType, GaugeStyleBuilder::ledType),
+        new Attribute<>(Gauge::getLcdDesign, Gauge::setLcdDesign, GaugeStyle::getLcdDesign, GaugeStyleBuilder::lcdDesign),
+        new Attribute<>(Gauge::getLcdFont, Gauge::setLcdFont, GaugeStyle::getLcdFont, GaugeStyleBuilder::lcdFont),
+        new Attribute<>(Gauge::isShadowsEnabled, Gauge::setShadowsEnabled, GaugeStyle::isShadowsEnabled, GaugeStyleBuilder::shadowsEnabled),
+        new Attribute<>(Gauge::isCustomFontEnabled, Gauge::setCustomFontEnabled, GaugeStyle::isCustomFontEnabled, GaugeStyleBuilder::customFontEnabled),
+        new Attribute<>(Gauge::getCustomFont, Gauge::setCustomFont, GaugeStyle::getCustomFont, GaugeStyleBuilder::customFont)
+    };
+    public  static final GaugeStyle DEFAULT = new GaugeStyleBuilder().build();
+    private        final Paint                backgroundPaint;
+    private        final Paint                borderPaint;
+    private        final double               borderWidth;
+    private        final Paint                foregroundPaint;
+    private        final Color                knobColor;
+    private        final KnobType             knobType;
+    private        final Color                needleColor;
+    private        final Color                needleBorderColor;
+    private        final NeedleType           needleType;
+    private        final NeedleShape          needleShape;
+    private        final NeedleSize           needleSize;
+    private        final Color                barColor;
+    private        final Color                barBackgroundColor;
+    private        final Color                barBorderColor;
+    private        final boolean              barEffectEnabled;
+    private        final Color                titleColor;
+    private        final Color                subTitleColor;
+    private        final Color                unitColor;
+    private        final Color                valueColor;
+    private        final Color                thresholdColor;
+    private        final Color                averageColor;
+    private        final Color                zeroColor;
+    private        final Color                tickLabelColor;
+    private        final TickLabelOrientation tickLabelOrientation;
+    private        final TickLabelLocation    tickLabelLocation;
+    private        final boolean              tickLabelsVisible;
+    private        final Color                tickMarkColor;
+    private        final Color                majorTickMarkColor;
+    private        final TickMarkType         majorTickMarkType;
+    private        final double               majorTickMarkLengthFactor;
+    private        final double               majorTickMarkWidthFactor;
+    private        final boolean              majorTickMarksVisible;
+    private        final Color                mediumTickMarkColor;
+    private        final TickMarkType         mediumTickMarkType;
+    private        final double               mediumTickMarkLengthFactor;
+    private        final double               mediumTickMarkWidthFactor;
+    private        final boolean              mediumTickMarksVisible;
+    private        final Color                minorTickMarkColor;
+    private        final TickMarkType         minorTickMarkType;
+    private        final double               minorTickMarkLengthFactor;
+    private        final double               minorTickMarkWidthFactor;
+    private        final boolean              minorTickMarksVisible;
+    private        final Color                ledColor;
+    private        final LedType              ledType;
+    private        final LcdDesign            lcdDesign;
+    private        final LcdFont              lcdFont;
+    private        final boolean              shadowsEnabled;
+    private        final boolean              customFontEnabled;
+    private        final Font                 customFont;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * An immutable set of styling attributes (colors, needle, knob, tick
+     * marks, led, lcd and font settings) that can be shared by any number
+     * of gauges. A gauge only keeps a reference to its style and reads all
+     * attributes it didn't override from it. Use GaugeStyleBuilder to
+     * create a modified copy of a style.
+     * @param BUILDER
+     */
+    GaugeStyle(final GaugeStyleBuilder BUILDER) {
+        backgroundPaint            = BUILDER.backgroundPaint;
+        borderPaint                = BUILDER.borderPaint;
+        borderWidth                = BUILDER.borderWidth;
+        foregroundPaint            = BUILDER.foregroundPaint;
+        knobColor                  = BUILDER.knobColor;
+        knobType                   = BUILDER.knobType;
+        needleColor                = BUILDER.needleColor;
+        needleBorderColor          = BUILDER.needleBorderColor;
+        needleType                 = BUILDER.needleType;
+        needleShape                = BUILDER.needleShape;
+        needleSize                 = BUILDER.needleSize;
+        barColor                   = BUILDER.barColor;
+        barBackgroundColor         = BUILDER.barBackgroundColor;
+        barBorderColor             = BUILDER.barBorderColor;
+        barEffectEnabled           = BUILDER.barEffectEnabled;
+        titleColor                 = BUILDER.titleColor;
+        subTitleColor              = BUILDER.subTitleColor;
+        unitColor                  = BUILDER.unitColor;
+        valueColor                 = BUILDER.valueColor;
+        thresholdColor             = BUILDER.thresholdColor;
+        averageColor               = BUILDER.averageColor;
+        zeroColor                  = BUILDER.zeroColor;
+        tickLabelColor             = BUILDER.tickLabelColor;
+        tickLabelOrientation       = BUILDER.tickLabelOrientation;
+        tickLabelLocation          = BUILDER.tickLabelLocation;
+        tickLabelsVisible          = BUILDER.tickLabelsVisible;
+        tickMarkColor              = BUILDER.tickMarkColor;
+        majorTickMarkColor         = BUILDER.majorTickMarkColor;
+        majorTickMarkType          = BUILDER.majorTickMarkType;
+        majorTickMarkLengthFactor  = BUILDER.majorTickMarkLengthFactor;
+        majorTickMarkWidthFactor   = BUILDER.majorTickMarkWidthFactor;
+        majorTickMarksVisible      = BUILDER.majorTickMarksVisible;
+        mediumTickMarkColor        = BUILDER.mediumTickMarkColor;
+        mediumTickMarkType         = BUILDER.mediumTickMarkType;
+        mediumTickMarkLengthFactor = BUILDER.mediumTickMarkLengthFactor;
+        mediumTickMarkWidthFactor  = BUILDER.mediumTickMarkWidthFactor;
+        mediumTickMarksVisible     = BUILDER.mediumTickMarksVisible;
+        minorTickMarkColor         = BUILDER.minorTickMarkColor;
+        minorTickMarkType          = BUILDER.minorTickMarkType;
+        minorTickMarkLengthFactor  = BUILDER.minorTickMarkLengthFactor;
+        minorTickMarkWidthFactor   = BUILDER.minorTickMarkWidthFactor;
+        minorTickMarksVisible      = BUILDER.minorTickMarksVisible;
+        ledColor                   = BUILDER.ledColor;
+        ledType                    = BUILDER.ledType;
+        lcdDesign                  = BUILDER.lcdDesign;
+        lcdFont                    = BUILDER.lcdFont;
+        shadowsEnabled             = BUILDER.shadowsEnabled;
+        customFontEnabled          = BUILDER.customFontEnabled;
+        customFont                 = BUILDER.customFont;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns a GaugeStyle with the current styling attributes of the given gauge.
+     * @param GAUGE
+     * @return a GaugeStyle with the current styling attributes of the given gauge
+     */
+    public static GaugeStyle of(final Gauge GAUGE) { return GaugeStyleBuilder.create(GAUGE).build(); }
+
+    public Paint getBackgroundPaint() { return backgroundPaint; }
+    public Paint getBorderPaint() { return borderPaint; }
+    public double getBorderWidth() { return borderWidth; }
+    public Paint getForegroundPaint() { return foregroundPaint; }
+    public Color getKnobColor() { return knobColor; }
+    public KnobType getKnobType() { return knobType; }
+    public Color getNeedleColor() { return needleColor; }
+    public Color getNeedleBorderColor() { return needleBorderColor; }
+    public NeedleType getNeedleType() { return needleType; }
+    public NeedleShape getNeedleShape() { return needleShape; }
+    public NeedleSize getNeedleSize() { return needleSize; }
+    public Color getBarColor() { return barColor; }
+    public Color getBarBackgroundColor() { return barBackgroundColor; }
+    public Color getBarBorderColor() { return barBorderColor; }
+    public boolean isBarEffectEnabled() { return barEffectEnabled; }
+    public Color getTitleColor() { return titleColor; }
+    public Color getSubTitleColor() { return subTitleColor; }
+    public Color getUnitColor() { return unitColor; }
+    public Color getValueColor() { return valueColor; }
+    public Color getThresholdColor() { return thresholdColor; }
+    public Color getAverageColor() { return averageColor; }
+    public Color getZeroColor() { return zeroColor; }
+    public Color getTickLabelColor() { return tickLabelColor; }
+    public TickLabelOrientation getTickLabelOrientation() { return tickLabelOrientation; }
+    public TickLabelLocation getTickLabelLocation() { return tickLabelLocation; }
+    public boolean getTickLabelsVisible() { return tickLabelsVisible; }
+    public Color getTickMarkColor() { return tickMarkColor; }
+    public Color getMajorTickMarkColor() { return majorTickMarkColor; }
+    public TickMarkType getMajorTickMarkType() { return majorTickMarkType; }
+    public double getMajorTickMarkLengthFactor() { return majorTickMarkLengthFactor; }
+    public double getMajorTickMarkWidthFactor() { return majorTickMarkWidthFactor; }
+    public boolean getMajorTickMarksVisible() { return majorTickMarksVisible; }
+    public Color getMediumTickMarkColor() { return mediumTickMarkColor; }
+    public TickMarkType getMediumTickMarkType() { return mediumTickMarkType; }
+    public double getMediumTickMarkLengthFactor() { return mediumTickMarkLengthFactor; }
+    public double getMediumTickMarkWidthFactor() { return mediumTickMarkWidthFactor; }
+    public boolean getMediumTickMarksVisible() { return mediumTickMarksVisible; }
+    public Color getMinorTickMarkColor() { return minorTickMarkColor; }
+    public TickMarkType getMinorTickMarkType() { return minorTickMarkType; }
+    public double getMinorTickMarkLengthFactor() { return minorTickMarkLengthFactor; }
+    public double getMinorTickMarkWidthFactor() { return minorTickMarkWidthFactor; }
+    public boolean getMinorTickMarksVisible() { return minorTickMarksVisible; }
+    public Color getLedColor() { return ledColor; }
+    public LedType getLedType() { return ledType; }
+    public LcdDesign getLcdDesign() { return lcdDesign; }
+    public LcdFont getLcdFont() { return lcdFont; }
+    public boolean isShadowsEnabled() { return shadowsEnabled; }
+    public boolean isCustomFontEnabled() { return customFontEnabled; }
+    public Font getCustomFont() { return customFont; }
+
+    /**
+     * Sets all attributes of this style that differ from the previous style
+     * on the given gauge. Attributes that have been changed on the gauge
+     * itself (they differ from the previous style of the gauge) will be kept.
+     * @param GAUGE
+     * @param PREVIOUS_STYLE the style the gauge referenced before
+     */
+    void applyTo(final Gauge GAUGE, final GaugeStyle PREVIOUS_STYLE) {
+        for (Attribute<?> attribute : ATTRIBUTES) { attribute.apply(GAUGE, GaugeStyle.this, PREVIOUS_STYLE); }
+    }
+
+    @Override public boolean equals(final Object OBJECT) {
+        if (this == OBJECT) return true;
+        if (!(OBJECT instanceof GaugeStyle)) return false;
+        for (Attribute<?> attribute : ATTRIBUTES) { if (!attribute.isEqual(GaugeStyle.this, (GaugeStyle) OBJECT)) return false; }
+        return true;
+    }
+
+    @Override public int hashCode() {
+        int hash = 1;
+        for (Attribute<?> attribute : ATTRIBUTES) { hash = 31 * hash + attribute.hashCode(GaugeStyle.this); }
+        return hash;
+    }
+}
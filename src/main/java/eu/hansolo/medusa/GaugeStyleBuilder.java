@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Gauge.KnobType;
+import eu.hansolo.medusa.Gauge.LedType;
+import eu.hansolo.medusa.Gauge.NeedleShape;
+import eu.hansolo.medusa.Gauge.NeedleSize;
+import eu.hansolo.medusa.Gauge.NeedleType;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class GaugeStyleBuilder {
+    Paint                backgroundPaint;
+    Paint                borderPaint;
+    double               borderWidth;
+    Paint                foregroundPaint;
+    Color                knobColor;
+    KnobType             knobType;
+    Color                needleColor;
+    Color                needleBorderColor;
+    NeedleType           needleType;
+    NeedleShape          needleShape;
+    NeedleSize           needleSize;
+    Color                barColor;
+    Color                barBackgroundColor;
+    Color                barBorderColor;
+    boolean              barEffectEnabled;
+    Color                titleColor;
+    Color                subTitleColor;
+    Color                unitColor;
+    Color                valueColor;
+    Color                thresholdColor;
+    Color                averageColor;
+    Color                zeroColor;
+    Color                tickLabelColor;
+    TickLabelOrientation tickLabelOrientation;
+    TickLabelLocation    tickLabelLocation;
+    boolean              tickLabelsVisible;
+    Color                tickMarkColor;
+    Color                majorTickMarkColor;
+    TickMarkType         majorTickMarkType;
+    double               majorTickMarkLengthFactor;
+    double               majorTickMarkWidthFactor;
+    boolean              majorTickMarksVisible;
+    Color                mediumTickMarkColor;
+    TickMarkType         mediumTickMarkType;
+    double               mediumTickMarkLengthFactor;
+    double               mediumTickMarkWidthFactor;
+    boolean              mediumTickMarksVisible;
+    Color                minorTickMarkColor;
+    TickMarkType         minorTickMarkType;
+    double               minorTickMarkLengthFactor;
+    double               minorTickMarkWidthFactor;
+    boolean              minorTickMarksVisible;
+    Color                ledColor;
+    LedType              ledType;
+    LcdDesign            lcdDesign;
+    LcdFont              lcdFont;
+    boolean              shadowsEnabled;
+    boolean              customFontEnabled;
+    Font                 customFont;
+
+
+    // ******************** Constructors **************************************
+    GaugeStyleBuilder() {
+        backgroundPaint            = Color.TRANSPARENT;
+        borderPaint                = Color.TRANSPARENT;
+        borderWidth                = 1;
+        foregroundPaint            = Color.TRANSPARENT;
+        knobColor                  = Color.rgb(204, 204, 204);
+        knobType                   = KnobType.STANDARD;
+        needleColor                = Color.rgb(200, 0, 0);
+        needleBorderColor          = Color.TRANSPARENT;
+        needleType                 = NeedleType.STANDARD;
+        needleShape                = NeedleShape.ANGLED;
+        needleSize                 = NeedleSize.STANDARD;
+        barColor                   = Gauge.BRIGHT_COLOR;
+        barBackgroundColor         = Gauge.DARK_COLOR;
+        barBorderColor             = Color.TRANSPARENT;
+        barEffectEnabled           = false;
+        titleColor                 = Gauge.DARK_COLOR;
+        subTitleColor              = Gauge.DARK_COLOR;
+        unitColor                  = Gauge.DARK_COLOR;
+        valueColor                 = Gauge.DARK_COLOR;
+        thresholdColor             = Color.CRIMSON;
+        averageColor               = Color.MAGENTA;
+        zeroColor                  = Gauge.DARK_COLOR;
+        tickLabelColor             = Gauge.DARK_COLOR;
+        tickLabelOrientation       = TickLabelOrientation.HORIZONTAL;
+        tickLabelLocation          = TickLabelLocation.INSIDE;
+        tickLabelsVisible          = true;
+        tickMarkColor              = Gauge.DARK_COLOR;
+        majorTickMarkColor         = Gauge.DARK_COLOR;
+        majorTickMarkType          = TickMarkType.LINE;
+        majorTickMarkLengthFactor  = 0.42;
+        majorTickMarkWidthFactor   = 0.275;
+        majorTickMarksVisible      = true;
+        mediumTickMarkColor        = Gauge.DARK_COLOR;
+        mediumTickMarkType         = TickMarkType.LINE;
+        mediumTickMarkLengthFactor = 0.41;
+        mediumTickMarkWidthFactor  = 0.175;
+        mediumTickMarksVisible     = true;
+        minorTickMarkColor         = Gauge.DARK_COLOR;
+        minorTickMarkType          = TickMarkType.LINE;
+        minorTickMarkLengthFactor  = 0.40;
+        minorTickMarkWidthFactor   = 0.1125;
+        minorTickMarksVisible      = true;
+        ledColor                   = Color.RED;
+        ledType                    = LedType.STANDARD;
+        lcdDesign                  = LcdDesign.STANDARD;
+        lcdFont                    = LcdFont.DIGITAL_BOLD;
+        shadowsEnabled             = false;
+        customFontEnabled          = false;
+        customFont                 = Fonts.robotoRegular(12);
+    }
+    protected GaugeStyleBuilder(final GaugeStyle STYLE) {
+        for (GaugeStyle.Attribute<?> attribute : GaugeStyle.ATTRIBUTES) { attribute.copy(STYLE, this); }
+    }
+    protected GaugeStyleBuilder(final Gauge GAUGE) {
+        for (GaugeStyle.Attribute<?> attribute : GaugeStyle.ATTRIBUTES) { attribute.copy(GAUGE, this); }
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns a builder for a copy of the given style.
+     * @param STYLE
+     * @return a builder for a copy of the given style
+     */
+    public static final GaugeStyleBuilder create(final GaugeStyle STYLE) {
+        return new GaugeStyleBuilder(STYLE);
+    }
+
+    /**
+     * Returns a builder for a style with the current styling attributes of the given gauge.
+     * @param GAUGE
+     * @return a builder for a style with the current styling attributes of the given gauge
+     */
+    public static final GaugeStyleBuilder create(final Gauge GAUGE) {
+        return new GaugeStyleBuilder(GAUGE);
+    }
+
+    public final GaugeStyleBuilder backgroundPaint(final Paint PAINT) {
+        backgroundPaint = PAINT;
+        return this;
+    }
+
+    public final GaugeStyleBuilder borderPaint(final Paint PAINT) {
+        borderPaint = PAINT;
+        return this;
+    }
+
+    public final GaugeStyleBuilder borderWidth(final double WIDTH) {
+        borderWidth = WIDTH;
+        return this;
+    }
+
+    public final GaugeStyleBuilder foregroundPaint(final Paint PAINT) {
+        foregroundPaint = PAINT;
+        return this;
+    }
+
+    public final GaugeStyleBuilder knobColor(final Color COLOR) {
+        knobColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder knobType(final KnobType KNOB_TYPE) {
+        knobType = KNOB_TYPE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder needleColor(final Color COLOR) {
+        needleColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder needleBorderColor(final Color COLOR) {
+        needleBorderColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder needleType(final NeedleType NEEDLE_TYPE) {
+        needleType = NEEDLE_TYPE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder needleShape(final NeedleShape NEEDLE_SHAPE) {
+        needleShape = NEEDLE_SHAPE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder needleSize(final NeedleSize NEEDLE_SIZE) {
+        needleSize = NEEDLE_SIZE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder barColor(final Color COLOR) {
+        barColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder barBackgroundColor(final Color COLOR) {
+        barBackgroundColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder barBorderColor(final Color COLOR) {
+        barBorderColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder barEffectEnabled(final boolean ENABLED) {
+        barEffectEnabled = ENABLED;
+        return this;
+    }
+
+    public final GaugeStyleBuilder titleColor(final Color COLOR) {
+        titleColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder subTitleColor(final Color COLOR) {
+        subTitleColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder unitColor(final Color COLOR) {
+        unitColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder valueColor(final Color COLOR) {
+        valueColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder thresholdColor(final Color COLOR) {
+        thresholdColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder averageColor(final Color COLOR) {
+        averageColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder zeroColor(final Color COLOR) {
+        zeroColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder tickLabelColor(final Color COLOR) {
+        tickLabelColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder tickLabelOrientation(final TickLabelOrientation TICK_LABEL_ORIENTATION) {
+        tickLabelOrientation = TICK_LABEL_ORIENTATION;
+        return this;
+    }
+
+    public final GaugeStyleBuilder tickLabelLocation(final TickLabelLocation TICK_LABEL_LOCATION) {
+        tickLabelLocation = TICK_LABEL_LOCATION;
+        return this;
+    }
+
+    public final GaugeStyleBuilder tickLabelsVisible(final boolean VISIBLE) {
+        tickLabelsVisible = VISIBLE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder tickMarkColor(final Color COLOR) {
+        tickMarkColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder majorTickMarkColor(final Color COLOR) {
+        majorTickMarkColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder majorTickMarkType(final TickMarkType TICK_MARK_TYPE) {
+        majorTickMarkType = TICK_MARK_TYPE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder majorTickMarkLengthFactor(final double FACTOR) {
+        majorTickMarkLengthFactor = FACTOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder majorTickMarkWidthFactor(final double FACTOR) {
+        majorTickMarkWidthFactor = FACTOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder majorTickMarksVisible(final boolean VISIBLE) {
+        majorTickMarksVisible = VISIBLE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder mediumTickMarkColor(final Color COLOR) {
+        mediumTickMarkColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder mediumTickMarkType(final TickMarkType TICK_MARK_TYPE) {
+        mediumTickMarkType = TICK_MARK_TYPE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder mediumTickMarkLengthFactor(final double FACTOR) {
+        mediumTickMarkLengthFactor = FACTOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder mediumTickMarkWidthFactor(final double FACTOR) {
+        mediumTickMarkWidthFactor = FACTOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder mediumTickMarksVisible(final boolean VISIBLE) {
+        mediumTickMarksVisible = VISIBLE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder minorTickMarkColor(final Color COLOR) {
+        minorTickMarkColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder minorTickMarkType(final TickMarkType TICK_MARK_TYPE) {
+        minorTickMarkType = TICK_MARK_TYPE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder minorTickMarkLengthFactor(final double FACTOR) {
+        minorTickMarkLengthFactor = FACTOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder minorTickMarkWidthFactor(final double FACTOR) {
+        minorTickMarkWidthFactor = FACTOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder minorTickMarksVisible(final boolean VISIBLE) {
+        minorTickMarksVisible = VISIBLE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder ledColor(final Color COLOR) {
+        ledColor = COLOR;
+        return this;
+    }
+
+    public final GaugeStyleBuilder ledType(final LedType LED_TYPE) {
+        ledType = LED_TYPE;
+        return this;
+    }
+
+    public final GaugeStyleBuilder lcdDesign(final LcdDesign LCD_DESIGN) {
+        lcdDesign = LCD_DESIGN;
+        return this;
+    }
+
+    public final GaugeStyleBuilder lcdFont(final LcdFont LCD_FONT) {
+        lcdFont = LCD_FONT;
+        return this;
+    }
+
+    public final GaugeStyleBuilder shadowsEnabled(final boolean ENABLED) {
+        shadowsEnabled = ENABLED;
+        return this;
+    }
+
+    public final GaugeStyleBuilder customFontEnabled(final boolean ENABLED) {
+        customFontEnabled = ENABLED;
+        return this;
+    }
+
+    public final GaugeStyleBuilder customFont(final Font FONT) {
+        customFont = FONT;
+        return this;
+    }
+
+    public final GaugeStyle build() {
+        return new GaugeStyle(GaugeStyleBuilder.this);
+    }
+}
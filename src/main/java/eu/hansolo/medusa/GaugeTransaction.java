@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.tools.Metrics;
+import javafx.application.Platform;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class GaugeTransaction {
+    private static final int                 INITIAL_CAPACITY = 16;
+    private        final Map<Gauge, Integer> indices;
+    private              Gauge[]             gauges;
+    private              double[]            values;
+    private              int                 noOfValues;
+    private              long                stagedSince;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Stages values for any number of gauges, also from other threads than
+     * the FX application thread, and publishes them together with commit().
+     * All values of one transaction will be set in one runnable on the FX
+     * application thread, so they will be shown in the same pulse and the
+     * UpdateEvents of each gauge (e.g. VALUE and FINISHED) will only be fired
+     * once per transaction. The listeners of the value and currentValue
+     * properties (which the skins use to draw the value) are not batched,
+     * they will be notified for each value as if it was set directly.
+     * If a value is staged more than once for a gauge, only the last value
+     * will be published. After commit() the transaction can be reused.
+     */
+    public GaugeTransaction() {
+        indices    = new IdentityHashMap<>(INITIAL_CAPACITY);
+        gauges     = new Gauge[INITIAL_CAPACITY];
+        values     = new double[INITIAL_CAPACITY];
+        noOfValues = 0;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Stages the values that will be set by the given batch and commits
+     * them, e.g. GaugeTransaction.update(batch -> batch.setValue(gauge1, 10).setValue(gauge2, 20));
+     * @param BATCH
+     */
+    public static void update(final Consumer<GaugeTransaction> BATCH) {
+        final GaugeTransaction TRANSACTION = new GaugeTransaction();
+        BATCH.accept(TRANSACTION);
+        TRANSACTION.commit();
+    }
+
+    /**
+     * Stages the given value for the given gauge.
+     * @param GAUGE
+     * @param VALUE
+     * @return the transaction to stage further values
+     */
+    public synchronized GaugeTransaction setValue(final Gauge GAUGE, final double VALUE) {
+        final Integer INDEX = indices.get(GAUGE);
+        if (null != INDEX) {
+            values[INDEX] = VALUE;
+            return this;
+        }
+        if (0 == noOfValues) { stagedSince = System.nanoTime(); }
+        if (noOfValues == gauges.length) {
+            gauges = Arrays.copyOf(gauges, noOfValues * 2);
+            values = Arrays.copyOf(values, noOfValues * 2);
+        }
+        indices.put(GAUGE, noOfValues);
+        gauges[noOfValues] = GAUGE;
+        values[noOfValues] = VALUE;
+        noOfValues++;
+        return this;
+    }
+
+    public synchronized int getNoOfValues() { return noOfValues; }
+
+    /**
+     * Publishes all staged values in one runnable on the FX application
+     * thread (or directly if called on the FX application thread) and
+     * clears the transaction.
+     */
+    public void commit() {
+        final Gauge[]  GAUGES;
+        final double[] VALUES;
+        final long     STAGED_SINCE;
+        synchronized (this) {
+            if (0 == noOfValues) return;
+            GAUGES       = Arrays.copyOf(gauges, noOfValues);
+            VALUES       = Arrays.copyOf(values, noOfValues);
+            STAGED_SINCE = stagedSince;
+            Arrays.fill(gauges, 0, noOfValues, null);
+            indices.clear();
+            noOfValues = 0;
+        }
+        if (Platform.isFxApplicationThread()) {
+            apply(GAUGES, VALUES, STAGED_SINCE);
+        } else {
+            Metrics.runLater(() -> apply(GAUGES, VALUES, STAGED_SINCE));
+        }
+    }
+
+    private static void apply(final Gauge[] GAUGES, final double[] VALUES, final long STAGED_SINCE) {
+        // The UpdateEvents of all gauges will be fired after all values have been set,
+        // the value property listeners will be notified by setValue() as usual
+        for (Gauge gauge : GAUGES) { gauge.beginUpdateBatch(); }
+        try {
+            for (int i = 0 ; i < GAUGES.length ; i++) { GAUGES[i].setValue(VALUES[i]); }
+        } finally {
+            for (Gauge gauge : GAUGES) { gauge.endUpdateBatch(); }
+        }
+        Metrics.transactionApplied(GAUGES.length, System.nanoTime() - STAGED_SINCE);
+    }
+}
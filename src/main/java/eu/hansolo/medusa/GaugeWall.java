@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
+import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.skins.RedrawScheduler;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class GaugeWall extends Region {
+    public  static final double                    DEFAULT_CELL_SIZE = 100;
+    private        final ObservableList<Gauge>     gauges;
+    private        final Map<Integer, Cell>        visibleCells;
+    private        final Deque<Cell>               pool;
+    private        final ScrollBar                 scrollBar;
+    private        final Rectangle                 clip;
+    private        final RedrawScheduler           scheduler;
+    private        final SkinType                  skinType;
+    private              double                    cellWidth;
+    private              double                    cellHeight;
+    private              int                       noOfCreatedCells;
+    private              ListChangeListener<Gauge> gaugesListener;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * A scrollable wall of gauges that only creates gauge controls (and
+     * with them skins) for the cells that are visible in the viewport.
+     * The given gauges are only used as models, the controls of cells
+     * that are scrolled out of the viewport will be recycled and bound
+     * to the gauges that are scrolled into the viewport. So the no of
+     * skins depends on the size of the viewport and not on the no of
+     * gauges. All controls of the wall share one RedrawScheduler.
+     * @param SKIN_TYPE the skin type that will be used for all cells
+     * @param GAUGES    the gauges that will be shown on the wall
+     */
+    public GaugeWall(final SkinType SKIN_TYPE, final Gauge... GAUGES) {
+        getStyleClass().add("gauge-wall");
+        gauges       = FXCollections.observableArrayList();
+        visibleCells = new HashMap<>();
+        pool         = new ArrayDeque<>();
+        skinType     = null == SKIN_TYPE ? SkinType.GAUGE : SKIN_TYPE;
+        scheduler    = new RedrawScheduler();
+        cellWidth    = DEFAULT_CELL_SIZE;
+        cellHeight   = DEFAULT_CELL_SIZE;
+
+        scrollBar = new ScrollBar();
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.setMin(0);
+
+        clip = new Rectangle();
+        setClip(clip);
+
+        getChildren().setAll(scrollBar);
+        registerListeners();
+        gauges.setAll(GAUGES);
+    }
+
+
+    // ******************** Initialization ************************************
+    private void registerListeners() {
+        gaugesListener = c -> {
+            // Rebind all visible cells because the indices might have changed
+            recycleAll();
+            requestLayout();
+        };
+        gauges.addListener(gaugesListener);
+        scrollBar.valueProperty().addListener(o -> requestLayout());
+        addEventHandler(ScrollEvent.SCROLL, e -> scrollBar.setValue(Helper.clamp(scrollBar.getMin(), scrollBar.getMax(), scrollBar.getValue() - e.getDeltaY())));
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the list of gauges that will be shown on the wall.
+     * @return the list of gauges that will be shown on the wall
+     */
+    public ObservableList<Gauge> getGauges() { return gauges; }
+
+    public SkinType getSkinType() { return skinType; }
+
+    public double getCellWidth() { return cellWidth; }
+    public double getCellHeight() { return cellHeight; }
+    /**
+     * Defines the size of the cells in px.
+     * @param WIDTH
+     * @param HEIGHT
+     */
+    public void setCellSize(final double WIDTH, final double HEIGHT) {
+        cellWidth  = Helper.clamp(16, 1024, WIDTH);
+        cellHeight = Helper.clamp(16, 1024, HEIGHT);
+        requestLayout();
+    }
+
+    /**
+     * Returns the no of gauge controls that have been created for the
+     * cells. This no only depends on the max. no of visible cells.
+     * @return the no of gauge controls that have been created for the cells
+     */
+    public int getNoOfCreatedCells() { return noOfCreatedCells; }
+
+    /**
+     * Scrolls the wall so that the gauge with the given index is visible.
+     * @param INDEX
+     */
+    public void scrollTo(final int INDEX) {
+        if (INDEX < 0 || INDEX >= gauges.size()) return;
+        final int    COLUMNS = getNoOfColumns();
+        final double ROW_Y   = (INDEX / COLUMNS) * cellHeight;
+        final double HEIGHT  = getHeight() - snappedTopInset() - snappedBottomInset();
+        if (ROW_Y < scrollBar.getValue()) {
+            scrollBar.setValue(ROW_Y);
+        } else if (ROW_Y + cellHeight > scrollBar.getValue() + HEIGHT) {
+            scrollBar.setValue(Helper.clamp(scrollBar.getMin(), scrollBar.getMax(), ROW_Y + cellHeight - HEIGHT));
+        }
+    }
+
+    /**
+     * Unbinds all cells from their gauges and removes them from the wall.
+     */
+    public void dispose() {
+        gauges.removeListener(gaugesListener);
+        recycleAll();
+        for (Cell cell : pool) { cell.view.setSkin(null); }
+        pool.clear();
+        getChildren().setAll(scrollBar);
+    }
+
+    private int getNoOfColumns() {
+        final double WIDTH = getWidth() - snappedLeftInset() - snappedRightInset() - scrollBar.prefWidth(-1);
+        return Math.max(1, (int) (WIDTH / cellWidth));
+    }
+
+    private Cell obtainCell() {
+        Cell cell = pool.poll();
+        if (null == cell) {
+            Gauge view = GaugeBuilder.create()
+                                     .skinType(skinType)
+                                     .animated(false)
+                                     .redrawScheduler(scheduler)
+                                     .build();
+            cell = new Cell(view);
+            getChildren().add(cell.view);
+            noOfCreatedCells++;
+        }
+        Helper.enableNode(cell.view, true);
+        return cell;
+    }
+
+    private void recycle(final Cell CELL) {
+        CELL.unbind();
+        Helper.enableNode(CELL.view, false);
+        pool.push(CELL);
+    }
+
+    private void recycleAll() {
+        for (Cell cell : visibleCells.values()) { recycle(cell); }
+        visibleCells.clear();
+    }
+
+
+    // ******************** Layout *******************************************
+    @Override protected double computePrefWidth(final double HEIGHT) {
+        return snappedLeftInset() + 4 * cellWidth + scrollBar.prefWidth(-1) + snappedRightInset();
+    }
+    @Override protected double computePrefHeight(final double WIDTH) {
+        return snappedTopInset() + 3 * cellHeight + snappedBottomInset();
+    }
+
+    @Override protected void layoutChildren() {
+        final double LEFT            = snappedLeftInset();
+        final double TOP             = snappedTopInset();
+        final double WIDTH           = getWidth() - LEFT - snappedRightInset();
+        final double HEIGHT          = getHeight() - TOP - snappedBottomInset();
+        final double SCROLLBAR_WIDTH = scrollBar.prefWidth(-1);
+        final int    COLUMNS         = getNoOfColumns();
+        final int    ROWS            = (int) Math.ceil(gauges.size() / (double) COLUMNS);
+        final double CONTENT_HEIGHT  = ROWS * cellHeight;
+
+        clip.setWidth(getWidth());
+        clip.setHeight(getHeight());
+
+        scrollBar.resizeRelocate(LEFT + WIDTH - SCROLLBAR_WIDTH, TOP, SCROLLBAR_WIDTH, HEIGHT);
+        scrollBar.setMax(Math.max(0, CONTENT_HEIGHT - HEIGHT));
+        scrollBar.setVisibleAmount(HEIGHT);
+        scrollBar.setBlockIncrement(HEIGHT);
+        scrollBar.setUnitIncrement(cellHeight * 0.5);
+        if (scrollBar.getValue() > scrollBar.getMax()) { scrollBar.setValue(scrollBar.getMax()); }
+
+        final double OFFSET    = scrollBar.getValue();
+        final int    FIRST_ROW = (int) (OFFSET / cellHeight);
+        final int    LAST_ROW  = Math.min(ROWS - 1, (int) ((OFFSET + HEIGHT) / cellHeight));
+        final int    FIRST     = FIRST_ROW * COLUMNS;
+        final int    LAST      = Math.min(gauges.size() - 1, (LAST_ROW + 1) * COLUMNS - 1);
+
+        // Recycle the cells that are not visible anymore
+        Iterator<Map.Entry<Integer, Cell>> iterator = visibleCells.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, Cell> entry = iterator.next();
+            int index = entry.getKey();
+            if (index < FIRST || index > LAST || entry.getValue().model != gauges.get(index)) {
+                recycle(entry.getValue());
+                iterator.remove();
+            }
+        }
+
+        // Bind cells to the gauges that became visible
+        for (int i = FIRST ; i <= LAST ; i++) {
+            Cell cell = visibleCells.get(i);
+            if (null == cell) {
+                cell = obtainCell();
+                cell.bind(gauges.get(i));
+                visibleCells.put(i, cell);
+            }
+            final double X = LEFT + (i % COLUMNS) * cellWidth;
+            final double Y = TOP + (i / COLUMNS) * cellHeight - OFFSET;
+            cell.view.resizeRelocate(X, Y, cellWidth, cellHeight);
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Cell {
+        private final Gauge                view;
+        private final InvalidationListener valueListener;
+        private final UpdateEventListener  updateListener;
+        private       Gauge                model;
+
+
+        // ******************** Constructors **************************************
+        Cell(final Gauge VIEW) {
+            view           = VIEW;
+            valueListener  = o -> view.setValue(model.getCurrentValue());
+            updateListener = e -> {
+                if (EventType.VALUE == e.eventType || EventType.FINISHED == e.eventType) return;
+                copySettings();
+            };
+        }
+
+
+        // ******************** Methods *******************************************
+        void bind(final Gauge MODEL) {
+            model = MODEL;
+            copySettings();
+            view.setValue(model.getCurrentValue());
+            model.currentValueProperty().addListener(valueListener);
+            model.addUpdateEventListener(updateListener);
+        }
+
+        void unbind() {
+            if (null == model) return;
+            model.currentValueProperty().removeListener(valueListener);
+            model.removeUpdateEventListener(updateListener);
+            model = null;
+        }
+
+        /**
+         * Copies the settings of the model that are used by the
+         * compact skins to the control of the cell. Only settings that
+         * differ will be set and the resulting update events will be
+         * fired at once at the end. Sections, areas and markers will be
+         * copied so that they are not shared with the model.
+         */
+        private void copySettings() {
+            view.beginUpdateBatch();
+            try {
+                if (model.getMinValue() > view.getMaxValue()) {
+                    copy(model.getMaxValue(), view.getMaxValue(), view::setMaxValue);
+                    copy(model.getMinValue(), view.getMinValue(), view::setMinValue);
+                } else {
+                    copy(model.getMinValue(), view.getMinValue(), view::setMinValue);
+                    copy(model.getMaxValue(), view.getMaxValue(), view::setMaxValue);
+                }
+                copy(model.getDecimals(), view.getDecimals(), view::setDecimals);
+                copy(model.getTitle(), view.getTitle(), view::setTitle);
+                copy(model.getSubTitle(), view.getSubTitle(), view::setSubTitle);
+                copy(model.getUnit(), view.getUnit(), view::setUnit);
+                if (!isSame(model.getSections(), view.getSections())) { view.setSections(copyOf(model.getSections())); }
+                copy(model.getSectionsVisible(), view.getSectionsVisible(), view::setSectionsVisible);
+                copy(model.isHighlightSections(), view.isHighlightSections(), view::setHighlightSections);
+                if (!isSame(model.getAreas(), view.getAreas())) { view.setAreas(copyOf(model.getAreas())); }
+                copy(model.getAreasVisible(), view.getAreasVisible(), view::setAreasVisible);
+                if (!isSameMarkers(model.getMarkers(), view.getMarkers())) { view.setMarkers(copyOfMarkers(model.getMarkers())); }
+                copy(model.getThreshold(), view.getThreshold(), view::setThreshold);
+                copy(model.isThresholdVisible(), view.isThresholdVisible(), view::setThresholdVisible);
+                copy(model.getThresholdColor(), view.getThresholdColor(), view::setThresholdColor);
+                copy(model.getBarColor(), view.getBarColor(), view::setBarColor);
+                copy(model.getBarBackgroundColor(), view.getBarBackgroundColor(), view::setBarBackgroundColor);
+                copy(model.getNeedleColor(), view.getNeedleColor(), view::setNeedleColor);
+                copy(model.getValueColor(), view.getValueColor(), view::setValueColor);
+                copy(model.getTitleColor(), view.getTitleColor(), view::setTitleColor);
+                copy(model.getSubTitleColor(), view.getSubTitleColor(), view::setSubTitleColor);
+                copy(model.getUnitColor(), view.getUnitColor(), view::setUnitColor);
+                copy(model.getBackgroundPaint(), view.getBackgroundPaint(), view::setBackgroundPaint);
+                copy(model.getBorderPaint(), view.getBorderPaint(), view::setBorderPaint);
+                copy(model.isValueVisible(), view.isValueVisible(), view::setValueVisible);
+                copy(model.isLedOn(), view.isLedOn(), view::setLedOn);
+            } finally {
+                view.endUpdateBatch();
+            }
+        }
+
+        private static <T> void copy(final T VALUE, final T CURRENT, final Consumer<T> SETTER) {
+            if (!Objects.equals(VALUE, CURRENT)) { SETTER.accept(VALUE); }
+        }
+
+        private static boolean isSame(final List<Section> SECTIONS, final List<Section> COPIES) {
+            if (SECTIONS.size() != COPIES.size()) return false;
+            for (int i = 0 ; i < SECTIONS.size() ; i++) {
+                final Section SECTION = SECTIONS.get(i);
+                final Section COPY    = COPIES.get(i);
+                if (Double.compare(SECTION.getStart(), COPY.getStart()) != 0 ||
+                    Double.compare(SECTION.getStop(), COPY.getStop()) != 0 ||
+                    !Objects.equals(SECTION.getText(), COPY.getText()) ||
+                    SECTION.getImage() != COPY.getImage() ||
+                    !Objects.equals(SECTION.getColor(), COPY.getColor()) ||
+                    !Objects.equals(SECTION.getHighlightColor(), COPY.getHighlightColor()) ||
+                    !Objects.equals(SECTION.getTextColor(), COPY.getTextColor()) ||
+                    !Objects.equals(SECTION.getStyleClass(), COPY.getStyleClass())) return false;
+            }
+            return true;
+        }
+
+        private static List<Section> copyOf(final List<Section> SECTIONS) {
+            final List<Section> COPIES = new ArrayList<>(SECTIONS.size());
+            for (Section section : SECTIONS) {
+                COPIES.add(new Section(section.getStart(), section.getStop(), section.getText(), section.getImage(), section.getColor(),
+                                       section.getHighlightColor(), section.getTextColor(), section.getStyleClass()));
+            }
+            return COPIES;
+        }
+
+        private static boolean isSameMarkers(final List<Marker> MARKERS, final List<Marker> COPIES) {
+            if (MARKERS.size() != COPIES.size()) return false;
+            for (int i = 0 ; i < MARKERS.size() ; i++) {
+                final Marker MARKER = MARKERS.get(i);
+                final Marker COPY   = COPIES.get(i);
+                if (Double.compare(MARKER.getValue(), COPY.getValue()) != 0 ||
+                    !Objects.equals(MARKER.getText(), COPY.getText()) ||
+                    !Objects.equals(MARKER.getColor(), COPY.getColor()) ||
+                    MARKER.getMarkerType() != COPY.getMarkerType() ||
+                    !Objects.equals(MARKER.getStyleClass(), COPY.getStyleClass())) return false;
+            }
+            return true;
+        }
+
+        private static List<Marker> copyOfMarkers(final List<Marker> MARKERS) {
+            final List<Marker> COPIES = new ArrayList<>(MARKERS.size());
+            for (Marker marker : MARKERS) {
+                COPIES.add(new Marker(marker.getValue(), marker.getText(), marker.getColor(), marker.getMarkerType(), marker.getStyleClass()));
+            }
+            return COPIES;
+        }
+    }
+}
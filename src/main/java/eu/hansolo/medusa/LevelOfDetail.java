@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import java.util.Arrays;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class LevelOfDetail {
+    public enum Detail { MINOR_TICK_MARKS, MEDIUM_TICK_MARKS, TICK_LABELS, EFFECTS, TEXT, LED }
+
+    /**
+     * Always draws all details, this is the default of a gauge.
+     */
+    public static final LevelOfDetail FULL    = new LevelOfDetail(0, 0, 0, 0, 0, 0);
+    /**
+     * Drops minor tick marks and effects below 120px, medium tick marks,
+     * tick labels and text below 80px and the led below 60px.
+     */
+    public static final LevelOfDetail REDUCED = new LevelOfDetail(120, 80, 80, 120, 80, 60);
+
+    private final double[] thresholds;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Defines the sizes in px below which the different details of a
+     * gauge won't be drawn anymore. The size is the size of the scale of
+     * the skin (e.g. the diameter of a round gauge).
+     * @param MINOR_TICK_MARKS
+     * @param MEDIUM_TICK_MARKS
+     * @param TICK_LABELS
+     * @param EFFECTS           drop shadows and inner shadows
+     * @param TEXT              title, subtitle and unit
+     * @param LED
+     */
+    public LevelOfDetail(final double MINOR_TICK_MARKS, final double MEDIUM_TICK_MARKS, final double TICK_LABELS,
+                         final double EFFECTS, final double TEXT, final double LED) {
+        thresholds = new double[] { MINOR_TICK_MARKS, MEDIUM_TICK_MARKS, TICK_LABELS, EFFECTS, TEXT, LED };
+    }
+    private LevelOfDetail(final double[] THRESHOLDS) {
+        thresholds = THRESHOLDS;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the size in px below which the given detail won't be drawn.
+     * @param DETAIL
+     * @return the size in px below which the given detail won't be drawn
+     */
+    public double getThreshold(final Detail DETAIL) { return thresholds[DETAIL.ordinal()]; }
+
+    /**
+     * Returns a copy of this level of detail with the given threshold
+     * for the given detail.
+     * @param DETAIL
+     * @param THRESHOLD size in px below which the detail won't be drawn
+     * @return a copy of this level of detail with the given threshold
+     */
+    public LevelOfDetail withThreshold(final Detail DETAIL, final double THRESHOLD) {
+        final double[] THRESHOLDS = Arrays.copyOf(thresholds, thresholds.length);
+        THRESHOLDS[DETAIL.ordinal()] = THRESHOLD;
+        return new LevelOfDetail(THRESHOLDS);
+    }
+
+    /**
+     * Returns true if the given detail should be drawn at the given size.
+     * @param DETAIL
+     * @param SIZE
+     * @return true if the given detail should be drawn at the given size
+     */
+    public boolean isVisible(final Detail DETAIL, final double SIZE) { return SIZE >= thresholds[DETAIL.ordinal()]; }
+
+    @Override public boolean equals(final Object OBJECT) {
+        if (this == OBJECT) return true;
+        if (!(OBJECT instanceof LevelOfDetail)) return false;
+        return Arrays.equals(thresholds, ((LevelOfDetail) OBJECT).thresholds);
+    }
+
+    @Override public int hashCode() { return Arrays.hashCode(thresholds); }
+
+    @Override public String toString() {
+        StringBuilder builder = new StringBuilder("{\n");
+        for (Detail detail : Detail.values()) {
+            builder.append("\"").append(detail.name()).append("\":").append(thresholds[detail.ordinal()]);
+            builder.append(detail.ordinal() < thresholds.length - 1 ? ",\n" : "\n");
+        }
+        return builder.append("}").toString();
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.skins.GaugeSkinBase;
+import eu.hansolo.medusa.skins.MultiChannelSkin;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.event.EventType;
+import javafx.scene.paint.Color;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * A gauge that shows the values of a fixed no of channels with one needle
+ * per channel on a shared scale. The values of all channels are kept in
+ * primitive arrays and are animated by one AnimationTimer, the skin draws
+ * all needles in one pass on top of the cached scale. Like all gauge
+ * setters the channel setters have to be called on the FX application
+ * thread.
+ */
+public class MultiChannelGauge extends Gauge {
+    private static final Interpolator        INTERPOLATOR = Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0);
+    private        final int                 noOfChannels;
+    private        final double[]            values;
+    private        final double[]            currentValues;
+    private        final double[]            startValues;
+    private        final long[]              animationStarts;
+    private        final boolean[]           animating;
+    private        final double[]            thresholds;
+    private        final Color[]             colors;
+    private        final String[]            names;
+    private        final ReadOnlyLongWrapper channelsVersion;
+    private        final AnimationTimer      timer;
+    private              int                 noOfAnimating;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * A gauge with the given no of channels which uses the multi channel
+     * skin for the CANVAS_GAUGE skin type. Setting another skin type
+     * replaces it with a regular skin that only shows the value of the
+     * gauge itself, which is not visible by default.
+     * @param NO_OF_CHANNELS
+     */
+    public MultiChannelGauge(final int NO_OF_CHANNELS) {
+        super(SkinType.CANVAS_GAUGE);
+        if (NO_OF_CHANNELS < 1) { throw new IllegalArgumentException("A MultiChannelGauge needs at least one channel"); }
+        noOfChannels    = NO_OF_CHANNELS;
+        values          = new double[NO_OF_CHANNELS];
+        currentValues   = new double[NO_OF_CHANNELS];
+        startValues     = new double[NO_OF_CHANNELS];
+        animationStarts = new long[NO_OF_CHANNELS];
+        animating       = new boolean[NO_OF_CHANNELS];
+        thresholds      = new double[NO_OF_CHANNELS];
+        colors          = new Color[NO_OF_CHANNELS];
+        names           = new String[NO_OF_CHANNELS];
+        channelsVersion = new ReadOnlyLongWrapper(MultiChannelGauge.this, "channelsVersion", 0);
+        timer           = new AnimationTimer() {
+            @Override public void handle(final long NOW) { animate(NOW); }
+        };
+
+        final double MIN_VALUE = getMinValue();
+        for (int i = 0 ; i < NO_OF_CHANNELS ; i++) {
+            values[i]        = MIN_VALUE;
+            currentValues[i] = MIN_VALUE;
+            thresholds[i]    = Double.NaN;
+            colors[i]        = Color.hsb(i * 360.0 / NO_OF_CHANNELS, 0.8, 0.9);
+            names[i]         = "";
+        }
+        setValueVisible(false);
+    }
+
+
+    // ******************** Methods *******************************************
+    public int getNoOfChannels() { return noOfChannels; }
+
+    /**
+     * Returns the value the needle of the given channel is moving to.
+     * @param CHANNEL
+     * @return the value the needle of the given channel is moving to
+     */
+    public double getChannelValue(final int CHANNEL) { return values[CHANNEL]; }
+    /**
+     * Sets the value of the given channel, the value will be clamped to
+     * the range of the gauge. The needle will be animated if the gauge
+     * is animated.
+     * @param CHANNEL
+     * @param VALUE
+     */
+    public void setChannelValue(final int CHANNEL, final double VALUE) {
+        if (updateChannel(CHANNEL, VALUE)) { publish(); }
+    }
+    /**
+     * Sets the values of the first VALUES.length channels at once so that
+     * the skin only has to draw them once.
+     * @param VALUES
+     */
+    public void setChannelValues(final double... VALUES) {
+        if (VALUES.length > noOfChannels) { throw new IllegalArgumentException("Gauge only has " + noOfChannels + " channels"); }
+        boolean changed = false;
+        for (int i = 0 ; i < VALUES.length ; i++) { changed |= updateChannel(i, VALUES[i]); }
+        if (changed) { publish(); }
+    }
+
+    /**
+     * Returns the value the needle of the given channel is currently
+     * pointing to (which differs from the value while it is animated).
+     * @param CHANNEL
+     * @return the value the needle of the given channel is currently pointing to
+     */
+    public double getChannelCurrentValue(final int CHANNEL) { return currentValues[CHANNEL]; }
+
+    /**
+     * Returns the threshold of the given channel which is the threshold
+     * of the gauge if no threshold has been set for the channel.
+     * @param CHANNEL
+     * @return the threshold of the given channel
+     */
+    public double getChannelThreshold(final int CHANNEL) { return Double.isNaN(thresholds[CHANNEL]) ? getThreshold() : thresholds[CHANNEL]; }
+    /**
+     * Defines the threshold of the given channel, Double.NaN makes the
+     * channel use the threshold of the gauge again. If checkThreshold is
+     * enabled a ChannelThresholdEvent will be fired whenever the current
+     * value of the channel crosses its threshold.
+     * @param CHANNEL
+     * @param THRESHOLD
+     */
+    public void setChannelThreshold(final int CHANNEL, final double THRESHOLD) {
+        thresholds[CHANNEL] = THRESHOLD;
+        publish();
+    }
+
+    public Color getChannelColor(final int CHANNEL) { return colors[CHANNEL]; }
+    /**
+     * Defines the color of the needle of the given channel.
+     * @param CHANNEL
+     * @param COLOR
+     */
+    public void setChannelColor(final int CHANNEL, final Color COLOR) {
+        if (null == COLOR) { throw new IllegalArgumentException("Color of channel " + CHANNEL + " must not be null"); }
+        colors[CHANNEL] = COLOR;
+        publish();
+    }
+
+    public String getChannelName(final int CHANNEL) { return names[CHANNEL]; }
+    public void setChannelName(final int CHANNEL, final String NAME) {
+        names[CHANNEL] = null == NAME ? "" : NAME;
+        publish();
+    }
+
+    /**
+     * Returns a counter that will be incremented whenever the current
+     * values, colors, thresholds or names of the channels changed. While the
+     * needles are animated it changes at most once per frame.
+     * @return a counter that changes with the state of the channels
+     */
+    public ReadOnlyLongProperty channelsVersionProperty() { return channelsVersion.getReadOnlyProperty(); }
+
+    @Override protected GaugeSkinBase createCustomSkin(final SkinType SKIN_TYPE) {
+        return SkinType.CANVAS_GAUGE == SKIN_TYPE ? new MultiChannelSkin(MultiChannelGauge.this) : null;
+    }
+
+
+    // ******************** Private Methods ***********************************
+    /**
+     * Returns true if the current value of the channel has been changed
+     * without animation.
+     */
+    private boolean updateChannel(final int CHANNEL, final double VALUE) {
+        final double TARGET = Helper.clamp(getMinValue(), getMaxValue(), VALUE);
+        values[CHANNEL] = TARGET;
+        if (isAnimated() && getAnimationDuration() > 0 && Double.compare(TARGET, currentValues[CHANNEL]) != 0) {
+            startValues[CHANNEL]     = currentValues[CHANNEL];
+            animationStarts[CHANNEL] = System.nanoTime();
+            if (!animating[CHANNEL]) {
+                animating[CHANNEL] = true;
+                noOfAnimating++;
+            }
+            timer.start();
+            return false;
+        }
+        if (animating[CHANNEL]) {
+            animating[CHANNEL] = false;
+            noOfAnimating--;
+        }
+        return setCurrentValue(CHANNEL, TARGET);
+    }
+
+    private void animate(final long NOW) {
+        final double DURATION = getAnimationDuration() * 1_000_000.0;
+        boolean changed = false;
+        for (int i = 0 ; i < noOfChannels ; i++) {
+            if (!animating[i]) continue;
+            final double FRACTION = DURATION > 0 ? (NOW - animationStarts[i]) / DURATION : 1.0;
+            if (FRACTION >= 1.0) {
+                animating[i] = false;
+                noOfAnimating--;
+                changed |= setCurrentValue(i, values[i]);
+            } else if (FRACTION > 0) {
+                changed |= setCurrentValue(i, INTERPOLATOR.interpolate(startValues[i], values[i], FRACTION));
+            }
+        }
+        if (0 == noOfAnimating) { timer.stop(); }
+        if (changed) { publish(); }
+    }
+
+    /**
+     * Returns true if the current value of the channel has been changed.
+     */
+    private boolean setCurrentValue(final int CHANNEL, final double VALUE) {
+        final double FORMER_VALUE = currentValues[CHANNEL];
+        if (Double.compare(FORMER_VALUE, VALUE) == 0) return false;
+        currentValues[CHANNEL] = VALUE;
+        if (isCheckThreshold()) {
+            final double THRESHOLD = getChannelThreshold(CHANNEL);
+            if (FORMER_VALUE < THRESHOLD && VALUE > THRESHOLD) {
+                fireEvent(new ChannelThresholdEvent(ThresholdEvent.THRESHOLD_EXCEEDED, CHANNEL));
+            } else if (FORMER_VALUE > THRESHOLD && VALUE < THRESHOLD) {
+                fireEvent(new ChannelThresholdEvent(ThresholdEvent.THRESHOLD_UNDERRUN, CHANNEL));
+            }
+        }
+        return true;
+    }
+
+    private void publish() { channelsVersion.set(channelsVersion.get() + 1); }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * A ThresholdEvent that was fired by one channel of a MultiChannelGauge,
+     * so existing threshold handlers receive it as well.
+     */
+    public static class ChannelThresholdEvent extends ThresholdEvent {
+        private static final long serialVersionUID = 1L;
+        private        final int  channel;
+
+
+        // ******************** Constructors **************************************
+        public ChannelThresholdEvent(final EventType<ThresholdEvent> TYPE, final int CHANNEL) {
+            super(TYPE);
+            channel = CHANNEL;
+        }
+
+
+        // ******************** Methods *******************************************
+        public int getChannel() { return channel; }
+    }
+}
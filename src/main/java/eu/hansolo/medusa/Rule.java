@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.tools.Helper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoublePredicate;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class Rule {
+    public enum RuleType { THRESHOLD, GAUGE_THRESHOLD, SECTION, MARKER, RATE_OF_CHANGE, CUSTOM }
+
+    private final    RuleType        type;
+    private final    Section         section;
+    private final    Marker          marker;
+    private final    DoublePredicate predicate;
+    private volatile double          limit;
+    private volatile double          hysteresis;
+    private volatile long            sustainedForNs;
+    private volatile String          text;
+
+
+    // ******************** Constructors **************************************
+    private Rule(final RuleType TYPE, final double LIMIT, final Section SECTION, final Marker MARKER, final DoublePredicate PREDICATE) {
+        type           = TYPE;
+        limit          = LIMIT;
+        section        = SECTION;
+        marker         = MARKER;
+        predicate      = PREDICATE;
+        hysteresis     = 0;
+        sustainedForNs = 0;
+        text           = "";
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns a rule that is active as long as the value is above the
+     * given threshold.
+     * @param THRESHOLD
+     * @return a rule that is active while the value is above the given threshold
+     */
+    public static Rule threshold(final double THRESHOLD) { return new Rule(RuleType.THRESHOLD, THRESHOLD, null, null, null); }
+
+    /**
+     * Returns a rule that is active as long as the value is above the
+     * threshold of the gauge. Activation and deactivation of this rule
+     * will also fire the THRESHOLD_EXCEEDED and THRESHOLD_UNDERRUN events
+     * on the gauge.
+     * @return a rule that is active while the value is above the gauge threshold
+     */
+    public static Rule gaugeThreshold() { return new Rule(RuleType.GAUGE_THRESHOLD, 0, null, null, null); }
+
+    /**
+     * Returns a rule that is active as long as the value is within the
+     * given section. Activation and deactivation of this rule will also
+     * fire the SECTION_ENTERED and SECTION_LEFT events on the section.
+     * @param SECTION
+     * @return a rule that is active while the value is within the given section
+     */
+    public static Rule section(final Section SECTION) { return new Rule(RuleType.SECTION, 0, SECTION, null, null); }
+
+    /**
+     * Returns a rule that is active as long as the value is above the
+     * value of the given marker. Activation and deactivation of this rule
+     * will also fire the MARKER_EXCEEDED and MARKER_UNDERRUN events on the
+     * marker.
+     * @param MARKER
+     * @return a rule that is active while the value is above the given marker
+     */
+    public static Rule marker(final Marker MARKER) { return new Rule(RuleType.MARKER, 0, null, MARKER, null); }
+
+    /**
+     * Returns a rule that is active as long as the absolute change of the
+     * value per second is above the given limit.
+     * @param MAX_CHANGE_PER_SECOND
+     * @return a rule that is active while the value changes faster than the given limit
+     */
+    public static Rule rateOfChange(final double MAX_CHANGE_PER_SECOND) { return new Rule(RuleType.RATE_OF_CHANGE, Math.abs(MAX_CHANGE_PER_SECOND), null, null, null); }
+
+    /**
+     * Returns a rule that is active as long as the given predicate returns
+     * true for the value. The predicate will be called on the thread of the
+     * RuleEngine and not on the JavaFX application thread.
+     * @param PREDICATE
+     * @return a rule that is active while the given predicate returns true
+     */
+    public static Rule custom(final DoublePredicate PREDICATE) { return new Rule(RuleType.CUSTOM, 0, null, null, PREDICATE); }
+
+    public RuleType getType() { return type; }
+
+    public Section getSection() { return section; }
+
+    public Marker getMarker() { return marker; }
+
+    /**
+     * Returns the limit of THRESHOLD and RATE_OF_CHANGE rules.
+     * @return the limit of THRESHOLD and RATE_OF_CHANGE rules
+     */
+    public double getLimit() { return limit; }
+    /**
+     * Defines the limit of THRESHOLD and RATE_OF_CHANGE rules.
+     * @param LIMIT
+     */
+    public void setLimit(final double LIMIT) { limit = LIMIT; }
+
+    /**
+     * Returns the hysteresis of the rule. An active rule will only be
+     * deactivated if the value falls below the limit minus the hysteresis
+     * (or leaves the section by more than the hysteresis). This avoids
+     * flickering events when a noisy value moves around the limit.
+     * @return the hysteresis of the rule
+     */
+    public double getHysteresis() { return hysteresis; }
+    /**
+     * Defines the hysteresis of the rule. An active rule will only be
+     * deactivated if the value falls below the limit minus the hysteresis
+     * (or leaves the section by more than the hysteresis).
+     * @param HYSTERESIS
+     */
+    public void setHysteresis(final double HYSTERESIS) { hysteresis = Math.abs(HYSTERESIS); }
+
+    /**
+     * Returns the time in ms the condition of the rule has to be
+     * fulfilled before the rule will be activated.
+     * @return the time in ms the condition has to be fulfilled before activation
+     */
+    public long getSustainedFor() { return TimeUnit.NANOSECONDS.toMillis(sustainedForNs); }
+    /**
+     * Defines the time in ms the condition of the rule has to be
+     * fulfilled before the rule will be activated. A value of 0
+     * activates the rule immediately.
+     * @param MILLISECONDS
+     */
+    public void setSustainedFor(final long MILLISECONDS) { sustainedForNs = TimeUnit.MILLISECONDS.toNanos(Helper.clamp(0L, Long.MAX_VALUE, MILLISECONDS)); }
+    long getSustainedForNs() { return sustainedForNs; }
+
+    /**
+     * Returns a text that describes the rule.
+     * @return a text that describes the rule
+     */
+    public String getText() { return text; }
+    /**
+     * Defines a text that describes the rule
+     * @param TEXT
+     */
+    public void setText(final String TEXT) { text = null == TEXT ? "" : TEXT; }
+
+    /**
+     * Returns the lower bound of GAUGE_THRESHOLD, SECTION and MARKER rules
+     * which is read from the properties of the gauge, section or marker.
+     * Has to be called on the JavaFX application thread.
+     * @param GAUGE
+     * @return the lower bound of the rule or Double.NaN for the other rule types
+     */
+    double getLowerBound(final Gauge GAUGE) {
+        switch(type) {
+            case GAUGE_THRESHOLD: return GAUGE.getThreshold();
+            case SECTION        : return section.getStart();
+            case MARKER         : return marker.getValue();
+            default             : return Double.NaN;
+        }
+    }
+    /**
+     * Returns the upper bound of SECTION rules. Has to be called on the
+     * JavaFX application thread.
+     * @return the upper bound of the rule or Double.NaN for the other rule types
+     */
+    double getUpperBound() { return RuleType.SECTION == type ? section.getStop() : Double.NaN; }
+
+    /**
+     * Returns true if the condition of the rule is fulfilled for the given
+     * value. The current state of the rule is needed to apply the hysteresis.
+     * The bounds are the values of getLowerBound() and getUpperBound() that
+     * have been read on the JavaFX application thread, so this method can
+     * be called from any thread.
+     * @param LOWER_BOUND
+     * @param UPPER_BOUND
+     * @param VALUE
+     * @param RATE  the change of the value per second
+     * @param ACTIVE
+     * @return true if the condition of the rule is fulfilled
+     */
+    boolean test(final double LOWER_BOUND, final double UPPER_BOUND, final double VALUE, final double RATE, final boolean ACTIVE) {
+        final double HYSTERESIS = ACTIVE ? hysteresis : 0;
+        switch(type) {
+            case THRESHOLD      : return VALUE > limit - HYSTERESIS;
+            case GAUGE_THRESHOLD: return VALUE > LOWER_BOUND - HYSTERESIS;
+            case SECTION        : return VALUE >= LOWER_BOUND - HYSTERESIS && VALUE <= UPPER_BOUND + HYSTERESIS;
+            case MARKER         : return VALUE > LOWER_BOUND - HYSTERESIS;
+            case RATE_OF_CHANGE : return Math.abs(RATE) > limit - HYSTERESIS;
+            case CUSTOM         : return predicate.test(VALUE);
+            default             : return false;
+        }
+    }
+
+    @Override public String toString() {
+        return new StringBuilder()
+            .append("{\n")
+            .append("\"type\":\"").append(type.name()).append("\",\n")
+            .append("\"limit\":").append(limit).append(",\n")
+            .append("\"hysteresis\":").append(hysteresis).append(",\n")
+            .append("\"sustainedFor\":").append(getSustainedFor()).append(",\n")
+            .append("\"text\":\"").append(text).append("\"\n")
+            .append("}")
+            .toString();
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Gauge.ThresholdEvent;
+import eu.hansolo.medusa.events.RuleEvent;
+import eu.hansolo.medusa.events.RuleEvent.RuleEventType;
+import eu.hansolo.medusa.events.RuleEventListener;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class RuleEngine {
+    private final    ScheduledExecutorService executor;
+    private final    Map<Gauge, Source>       sources;
+    private final    Queue<RuleEvent>         pendingEvents;
+    private final    AtomicBoolean            dispatchScheduled;
+    private final    List<RuleEventListener>  listenerList;
+    private volatile boolean                  forwardEvents;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Evaluates rules for thresholds, sections, markers and custom conditions
+     * directly on the values that are fed into a gauge. The evaluation happens
+     * on a separate thread and does not depend on the animation or the skin of
+     * the gauge. Only the resulting events will be delivered on the JavaFX
+     * application thread.
+     */
+    public RuleEngine() {
+        executor          = new ScheduledThreadPoolExecutor(1, Helper.getThreadFactory("RuleEngine", true));
+        sources           = new ConcurrentHashMap<>();
+        pendingEvents     = new ConcurrentLinkedQueue<>();
+        dispatchScheduled = new AtomicBoolean(false);
+        listenerList      = new CopyOnWriteArrayList<>();
+        forwardEvents     = true;
+    }
+
+
+    // ******************** Methods *******************************************
+    public void addRule(final Gauge GAUGE, final Rule RULE) {
+        if (null == GAUGE || null == RULE) return;
+        final Source SOURCE = getSource(GAUGE);
+        SOURCE.states.add(new RuleState(RULE));
+        refresh(SOURCE);
+    }
+    public void removeRule(final Gauge GAUGE, final Rule RULE) {
+        final Source SOURCE = sources.get(GAUGE);
+        if (null == SOURCE) return;
+        // Pending sustain checks of removed rules will be skipped by checkSustained()
+        SOURCE.states.removeIf(state -> state.RULE == RULE);
+    }
+    public List<Rule> getRules(final Gauge GAUGE) {
+        final List<Rule> RULES  = new ArrayList<>();
+        final Source     SOURCE = sources.get(GAUGE);
+        if (null == SOURCE) return RULES;
+        for (RuleState state : SOURCE.states) { RULES.add(state.RULE); }
+        return RULES;
+    }
+
+    /**
+     * Adds a rule for each section, area and marker of the given gauge
+     * and a rule for the threshold if checkThreshold is enabled. If you
+     * use this you should disable checkSectionsForValue, checkAreasForValue
+     * and checkThreshold on the gauge to avoid duplicate events.
+     * @param GAUGE
+     */
+    public void addDefaultRules(final Gauge GAUGE) {
+        for (Section section : GAUGE.getSections()) { addRule(GAUGE, Rule.section(section)); }
+        for (Section area : GAUGE.getAreas())       { addRule(GAUGE, Rule.section(area)); }
+        for (Marker marker : GAUGE.getMarkers())    { addRule(GAUGE, Rule.marker(marker)); }
+        if (GAUGE.isCheckThreshold())               { addRule(GAUGE, Rule.gaugeThreshold()); }
+    }
+
+    /**
+     * Feeds every new value of the given gauge into the engine. The target
+     * value will be used and not the animated current value, so rules will
+     * be evaluated as soon as the value was set. The threshold, sections
+     * and markers the rules depend on will be read with every new value.
+     * @param GAUGE
+     */
+    public void watch(final Gauge GAUGE) {
+        final Source SOURCE = getSource(GAUGE);
+        if (null != SOURCE.valueListener) return;
+        SOURCE.valueListener = o -> {
+            SOURCE.readBounds();
+            ingest(GAUGE, GAUGE.getValue());
+        };
+        GAUGE.valueProperty().addListener(SOURCE.valueListener);
+    }
+    public void unwatch(final Gauge GAUGE) {
+        final Source SOURCE = sources.get(GAUGE);
+        if (null == SOURCE || null == SOURCE.valueListener) return;
+        GAUGE.valueProperty().removeListener(SOURCE.valueListener);
+        SOURCE.valueListener = null;
+    }
+
+    /**
+     * Removes all rules of the given gauge from the engine.
+     * @param GAUGE
+     */
+    public void remove(final Gauge GAUGE) {
+        unwatch(GAUGE);
+        final Source SOURCE = sources.remove(GAUGE);
+        if (null == SOURCE) return;
+        SOURCE.states.clear();
+    }
+
+    /**
+     * Reads the threshold of the given gauge and the bounds of its sections
+     * and markers again on the JavaFX application thread. The engine never
+     * reads them on its own thread, so if you only feed values with ingest()
+     * call this method after changing them.
+     * @param GAUGE
+     */
+    public void refresh(final Gauge GAUGE) {
+        final Source SOURCE = sources.get(GAUGE);
+        if (null == SOURCE) return;
+        refresh(SOURCE);
+    }
+
+    /**
+     * Evaluates the rules of the given gauge for the given value. This method
+     * can be called from any thread, e.g. directly from the thread that
+     * receives the data before it is set on the gauge. The rules use the
+     * threshold, sections and markers of the gauge as they were read on the
+     * JavaFX application thread (see refresh()).
+     * @param GAUGE
+     * @param VALUE
+     */
+    public void ingest(final Gauge GAUGE, final double VALUE) { ingest(GAUGE, VALUE, System.nanoTime()); }
+    /**
+     * Evaluates the rules of the given gauge for the given value. The
+     * timestamp has to be based on System.nanoTime().
+     * @param GAUGE
+     * @param VALUE
+     * @param TIMESTAMP
+     */
+    public void ingest(final Gauge GAUGE, final double VALUE, final long TIMESTAMP) {
+        final Source SOURCE = sources.get(GAUGE);
+        if (null == SOURCE || SOURCE.states.isEmpty()) return;
+        try {
+            executor.execute(() -> evaluate(SOURCE, VALUE, TIMESTAMP));
+        } catch (RejectedExecutionException e) {
+            // engine was shut down
+        }
+    }
+
+    /**
+     * Returns true if the engine also fires the existing section, marker
+     * and threshold events for SECTION, MARKER and GAUGE_THRESHOLD rules.
+     * @return true if the engine also fires section, marker and threshold events
+     */
+    public boolean isForwardEvents() { return forwardEvents; }
+    /**
+     * Defines if the engine also fires the existing section, marker and
+     * threshold events for SECTION, MARKER and GAUGE_THRESHOLD rules.
+     * @param FORWARD
+     */
+    public void setForwardEvents(final boolean FORWARD) { forwardEvents = FORWARD; }
+
+    /**
+     * Calling this method will stop the thread of the engine.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        for (Gauge gauge : new ArrayList<>(sources.keySet())) { remove(gauge); }
+    }
+
+    private Source getSource(final Gauge GAUGE) { return sources.computeIfAbsent(GAUGE, Source::new); }
+
+    private void refresh(final Source SOURCE) {
+        if (Platform.isFxApplicationThread()) {
+            SOURCE.readBounds();
+        } else {
+            Platform.runLater(SOURCE::readBounds);
+        }
+    }
+
+    private void evaluate(final Source SOURCE, final double VALUE, final long TIMESTAMP) {
+        final double RATE;
+        if (SOURCE.hasValue && TIMESTAMP > SOURCE.timestamp) {
+            RATE = (VALUE - SOURCE.value) / ((TIMESTAMP - SOURCE.timestamp) / 1_000_000_000.0);
+        } else {
+            RATE = 0;
+        }
+        SOURCE.value     = VALUE;
+        SOURCE.timestamp = TIMESTAMP;
+        SOURCE.hasValue  = true;
+
+        for (RuleState state : SOURCE.states) {
+            if (test(SOURCE, state, VALUE, RATE)) {
+                if (state.active) continue;
+                if (state.since < 0) { state.since = TIMESTAMP; }
+                long remaining = state.RULE.getSustainedForNs() - (TIMESTAMP - state.since);
+                if (remaining <= 0) {
+                    cancelCheck(state);
+                    changeState(SOURCE, state, true, VALUE, TIMESTAMP);
+                } else if (null == state.check) {
+                    state.check = executor.schedule(() -> checkSustained(SOURCE, state), remaining, TimeUnit.NANOSECONDS);
+                }
+            } else {
+                state.since = -1;
+                cancelCheck(state);
+                if (state.active) { changeState(SOURCE, state, false, VALUE, TIMESTAMP); }
+            }
+        }
+        scheduleDispatch();
+    }
+
+    private boolean test(final Source SOURCE, final RuleState STATE, final double VALUE, final double RATE) {
+        try {
+            return STATE.RULE.test(STATE.lowerBound, STATE.upperBound, VALUE, RATE, STATE.active);
+        } catch (RuntimeException e) {
+            // a failing custom predicate must not stop the evaluation of the other rules
+            return false;
+        }
+    }
+
+    private void checkSustained(final Source SOURCE, final RuleState STATE) {
+        STATE.check = null;
+        if (STATE.active || STATE.since < 0 || !SOURCE.states.contains(STATE)) return;
+        final long NOW       = System.nanoTime();
+        final long REMAINING = STATE.RULE.getSustainedForNs() - (NOW - STATE.since);
+        if (REMAINING <= 0) {
+            changeState(SOURCE, STATE, true, SOURCE.value, NOW);
+            scheduleDispatch();
+        } else {
+            STATE.check = executor.schedule(() -> checkSustained(SOURCE, STATE), REMAINING, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void cancelCheck(final RuleState STATE) {
+        if (null == STATE.check) return;
+        STATE.check.cancel(false);
+        STATE.check = null;
+    }
+
+    private void changeState(final Source SOURCE, final RuleState STATE, final boolean ACTIVE, final double VALUE, final long TIMESTAMP) {
+        STATE.active = ACTIVE;
+        pendingEvents.add(new RuleEvent(RuleEngine.this, SOURCE.GAUGE, STATE.RULE, ACTIVE ? RuleEventType.ACTIVATED : RuleEventType.DEACTIVATED, VALUE, TIMESTAMP));
+    }
+
+    private void scheduleDispatch() {
+        if (pendingEvents.isEmpty() || !dispatchScheduled.compareAndSet(false, true)) return;
+        Platform.runLater(() -> {
+            dispatchScheduled.set(false);
+            RuleEvent event;
+            while (null != (event = pendingEvents.poll())) { dispatch(event); }
+        });
+    }
+
+    private void dispatch(final RuleEvent EVENT) {
+        fireRuleEvent(EVENT);
+        if (!forwardEvents) return;
+        final boolean ACTIVATED = RuleEventType.ACTIVATED == EVENT.TYPE;
+        switch(EVENT.RULE.getType()) {
+            case SECTION:
+                final Section SECTION = EVENT.RULE.getSection();
+                SECTION.fireSectionEvent(ACTIVATED ? SECTION.ENTERED_EVENT : SECTION.LEFT_EVENT);
+                break;
+            case MARKER:
+                final Marker MARKER = EVENT.RULE.getMarker();
+                MARKER.fireMarkerEvent(ACTIVATED ? MARKER.EXCEEDED_EVENT : MARKER.UNDERRUN_EVENT);
+                break;
+            case GAUGE_THRESHOLD:
+                EVENT.GAUGE.fireEvent(new ThresholdEvent(ACTIVATED ? ThresholdEvent.THRESHOLD_EXCEEDED : ThresholdEvent.THRESHOLD_UNDERRUN));
+                break;
+        }
+    }
+
+
+    // ******************** Event handling ************************************
+    /**
+     * Listeners will be called on the JavaFX application thread.
+     * @param LISTENER
+     */
+    public void setOnRuleEvent(final RuleEventListener LISTENER) { addRuleEventListener(LISTENER); }
+    public void addRuleEventListener(final RuleEventListener LISTENER) { if (!listenerList.contains(LISTENER)) listenerList.add(LISTENER); }
+    public void removeRuleEventListener(final RuleEventListener LISTENER) { if (listenerList.contains(LISTENER)) listenerList.remove(LISTENER); }
+
+    public void fireRuleEvent(final RuleEvent EVENT) {
+        int listSize = listenerList.size();
+        for (int i = 0 ; i < listSize ; i++) { listenerList.get(i).onRuleEvent(EVENT); }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Source {
+        private final    Gauge                GAUGE;
+        private final    List<RuleState>      states;
+        private volatile InvalidationListener valueListener;
+        private          double               value;
+        private          long                 timestamp;
+        private          boolean              hasValue;
+
+
+        // ******************** Constructors **************************************
+        Source(final Gauge GAUGE) {
+            this.GAUGE = GAUGE;
+            states     = new CopyOnWriteArrayList<>();
+        }
+
+
+        // ******************** Methods *******************************************
+        /**
+         * Has to be called on the JavaFX application thread.
+         */
+        void readBounds() {
+            for (RuleState state : states) {
+                state.lowerBound = state.RULE.getLowerBound(GAUGE);
+                state.upperBound = state.RULE.getUpperBound();
+            }
+        }
+    }
+
+    private static class RuleState {
+        private final    Rule               RULE;
+        private          boolean            active;
+        private          long               since;
+        private          ScheduledFuture<?> check;
+        private volatile double             lowerBound;
+        private volatile double             upperBound;
+
+
+        // ******************** Constructors **************************************
+        RuleState(final Rule RULE) {
+            this.RULE  = RULE;
+            since      = -1;
+            lowerBound = Double.NaN;
+            upperBound = Double.NaN;
+        }
+    }
+}
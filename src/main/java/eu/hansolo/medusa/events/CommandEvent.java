@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.events;
+
+import eu.hansolo.medusa.Alarm;
+
+import java.util.EventObject;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class CommandEvent extends EventObject {
+    private static final long serialVersionUID = 1L;
+    public enum CommandEventType { EXECUTED, REJECTED, LATE, TIMED_OUT, FAILED };
+    public final Alarm            ALARM;
+    public final CommandEventType TYPE;
+    public final long             QUEUE_DELAY_NS;
+    public final long             EXECUTION_TIME_NS;
+
+
+    // ******************** Constructors **************************************
+    public CommandEvent(final Object SRC, final Alarm ALARM, final CommandEventType TYPE) {
+        this(SRC, ALARM, TYPE, 0, 0);
+    }
+    public CommandEvent(final Object SRC, final Alarm ALARM, final CommandEventType TYPE, final long QUEUE_DELAY_NS, final long EXECUTION_TIME_NS) {
+        super(SRC);
+        this.ALARM             = ALARM;
+        this.TYPE              = TYPE;
+        this.QUEUE_DELAY_NS    = QUEUE_DELAY_NS;
+        this.EXECUTION_TIME_NS = EXECUTION_TIME_NS;
+    }
+}
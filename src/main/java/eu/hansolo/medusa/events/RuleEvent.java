@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.events;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Rule;
+
+import java.util.EventObject;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class RuleEvent extends EventObject {
+    private static final long serialVersionUID = 1L;
+    public enum RuleEventType { ACTIVATED, DEACTIVATED };
+    public final Gauge         GAUGE;
+    public final Rule          RULE;
+    public final RuleEventType TYPE;
+    public final double        VALUE;
+    public final long          TIMESTAMP;
+
+
+    // ******************** Constructors **************************************
+    public RuleEvent(final Object SRC, final Gauge GAUGE, final Rule RULE, final RuleEventType TYPE, final double VALUE, final long TIMESTAMP) {
+        super(SRC);
+        this.GAUGE     = GAUGE;
+        this.RULE      = RULE;
+        this.TYPE      = TYPE;
+        this.VALUE     = VALUE;
+        this.TIMESTAMP = TIMESTAMP;
+    }
+}
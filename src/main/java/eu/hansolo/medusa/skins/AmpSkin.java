@@ -23,6 +23,7 @@ import eu.hansolo.medusa.Marker;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.ShadowSprite;
 import java.math.BigDecimal;
 import java.util.Locale;
 import java.util.Map;
@@ -113,6 +114,7 @@ public class AmpSkin extends GaugeSkinBase {
     private ClosePath                   needleClosePath7;
     private Rotate                      needleRotate;
     private Group                       shadowGroup;
+    private ShadowSprite                needleShadow;
     private InnerShadow                 lightEffect;
     private DropShadow                  dropShadow;
     private Text                        titleText;
@@ -138,7 +140,7 @@ public class AmpSkin extends GaugeSkinBase {
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         locale               = gauge.getLocale();
         sectionListener      = c -> redraw();
-        currentValueListener = o -> rotateNeedle();
+        currentValueListener = deferrable(o -> rotateNeedle());
         needleRotateListener = o -> handleEvents("ANGLE");
         markerListener       = c -> {
             updateMarkers();
@@ -202,8 +204,10 @@ public class AmpSkin extends GaugeSkinBase {
         dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
-        shadowGroup = new Group(needle);
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        needleShadow = new ShadowSprite(needle);
+        needleShadow.setEnabled(gauge.isShadowsEnabled());
+
+        shadowGroup = new Group(needleShadow, needle);
 
         titleText = new Text(gauge.getTitle());
         titleText.setTextOrigin(VPos.CENTER);
@@ -235,6 +239,8 @@ public class AmpSkin extends GaugeSkinBase {
         foreground = new SVGPath();
         foreground.setContent("M 26 26.5 C 26 20.2432 26.2432 20 32.5 20 L 277.5 20 C 283.7568 20 284 20.2432 284 26.5 L 284 143.5 C 284 149.7568 283.7568 150 277.5 150 L 32.5 150 C 26.2432 150 26 149.7568 26 143.5 L 26 26.5 ZM 0 6.7241 L 0 253.2758 C 0 260 0 260 6.75 260 L 303.25 260 C 310 260 310 260 310 253.2758 L 310 6.7241 C 310 0 310 0 303.25 0 L 6.75 0 C 0 0 0 0 0 6.7241 Z");
         foreground.setEffect(lightEffect);
+        foreground.setCache(true);
+        foreground.setCacheHint(CacheHint.QUALITY);
 
         // Add all nodes
         pane = new Pane();
@@ -771,6 +777,8 @@ public class AmpSkin extends GaugeSkinBase {
             needle.setFill(needleGradient);
             needle.setStrokeWidth(0);
             needle.setStroke(Color.TRANSPARENT);
+            // The elements of the needle have been moved, its sprite can't observe that
+            needleShadow.invalidate();
 
             needle.relocate((width - needle.getLayoutBounds().getWidth()) * 0.5, height * 0.77 - needle.getLayoutBounds().getHeight());
             needleRotate.setPivotX(needle.getLayoutBounds().getWidth() * 0.5);
@@ -842,7 +850,8 @@ public class AmpSkin extends GaugeSkinBase {
 
         if (gauge.isLedVisible()) drawLed(led);
 
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        needleShadow.setEnabled(gauge.isShadowsEnabled());
+        needleShadow.update(dropShadow);
 
         foreground.setFill(gauge.getForegroundPaint());
 
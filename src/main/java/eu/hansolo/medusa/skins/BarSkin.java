@@ -71,7 +71,7 @@ public class BarSkin extends GaugeSkinBase {
         if (gauge.isAutoScale()) gauge.calcAutoScale();
         range                = gauge.getRange();
         angleStep            = -ANGLE_RANGE / range;
-        currentValueListener = o -> redraw();
+        currentValueListener = deferrable(o -> redraw());
         barColorListener     = o -> {
             Color barColor = gauge.getBarColor();
             gauge.setGradientBarStops(new Stop(0.0, barColor),
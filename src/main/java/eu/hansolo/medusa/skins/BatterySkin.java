@@ -75,7 +75,7 @@ public class BatterySkin extends GaugeSkinBase {
         orientation          = gauge.getOrientation();
         sections             = gauge.getSections();
         locale               = gauge.getLocale();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
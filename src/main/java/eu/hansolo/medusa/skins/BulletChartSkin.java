@@ -89,7 +89,7 @@ public class BulletChartSkin extends GaugeSkinBase {
         thresholdTooltip         = new Tooltip();
         sectionListener          = c -> redraw();
         markerListener           = c -> redraw();
-        currentValueListener     = o -> updateBar();
+        currentValueListener     = deferrable(o -> updateBar());
         paneSizeListener         = o -> handleEvents("RESIZE");
 
         if (Orientation.VERTICAL == orientation) {
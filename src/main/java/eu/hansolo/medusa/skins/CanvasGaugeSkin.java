@@ -0,0 +1,1199 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.skins;
+
+import eu.hansolo.medusa.Fonts;
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.LedType;
+import eu.hansolo.medusa.Gauge.NeedleBehavior;
+import eu.hansolo.medusa.Gauge.NeedleShape;
+import eu.hansolo.medusa.Gauge.NeedleType;
+import eu.hansolo.medusa.Gauge.ScaleDirection;
+import eu.hansolo.medusa.LcdDesign;
+import eu.hansolo.medusa.LevelOfDetail.Detail;
+import eu.hansolo.medusa.Marker;
+import eu.hansolo.medusa.Needle;
+import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.TickLabelLocation;
+import eu.hansolo.medusa.tools.AngleConicalGradient;
+import eu.hansolo.medusa.tools.Helper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.event.EventHandler;
+import javafx.event.EventType;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.Effect;
+import javafx.scene.effect.GaussianBlur;
+import javafx.scene.effect.InnerShadow;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.FillRule;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+
+import static eu.hansolo.medusa.tools.Helper.formatNumber;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class CanvasGaugeSkin extends GaugeSkinBase {
+    private Map<Marker, Point2D>       markerMap = new ConcurrentHashMap<>();
+    private double                     size;
+    private Canvas                     canvas;
+    private GraphicsContext            ctx;
+    private Canvas                     layerCanvas;
+    private GraphicsContext            layerCtx;
+    private SnapshotParameters         snapshotParameters;
+    private WritableImage              staticLayer;
+    private WritableImage              ledOnLayer;
+    private WritableImage              ledOffLayer;
+    private WritableImage              knobLayer;
+    private WritableImage              needleShadowLayer;
+    private double                     needleShadowLayerX;
+    private double                     needleShadowLayerY;
+    private double                     knobLayerX;
+    private double                     knobLayerY;
+    private InnerShadow                backgroundInnerShadow;
+    private DropShadow                 dropShadow;
+    private GaussianBlur               needleShadowBlur;
+    private Text                       measureText;
+    private double                     ledSize;
+    private Path                       needle;
+    private double                     needleWidth;
+    private double                     needleHeight;
+    private double                     needlePivotY;
+    private double                     needleAngle;
+    private Paint                      needlePaint;
+    private Font                       valueFont;
+    private double                     valueX;
+    private double                     valueY;
+    private String                     valueString;
+    private Point2D                    thresholdPoint;
+    private boolean                    knobPressed;
+    private Marker                     pressedMarker;
+    private double                     angleStep;
+    private double                     startAngle;
+    private double                     angleRange;
+    private EventHandler<MouseEvent>   mouseHandler;
+    private ListChangeListener<Marker> markerListener;
+    private InvalidationListener       currentValueListener;
+    private Tooltip                    tooltip;
+    private boolean                    tooltipInstalled;
+    private double                     minValue;
+    private double                     maxValue;
+    private List<Section>              sections;
+    private boolean                    highlightSections;
+    private boolean                    sectionsVisible;
+    private List<Section>              areas;
+    private boolean                    highlightAreas;
+    private boolean                    areasVisible;
+    private TickLabelLocation          tickLabelLocation;
+    private ScaleDirection             scaleDirection;
+    private NeedleBehavior             needleBehavior;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Draws the same visual as the GaugeSkin into one Canvas. Everything
+     * that doesn't depend on the current value will be rendered into an
+     * image on resize and redraw, a value change only draws this image,
+     * the needle, the knob, the average and the value text again.
+     * @param gauge
+     */
+    public CanvasGaugeSkin(Gauge gauge) {
+        super(gauge);
+        if (gauge.isAutoScale()) gauge.calcAutoScale();
+        startAngle           = gauge.getStartAngle();
+        angleRange           = gauge.getAngleRange();
+        angleStep            = gauge.getAngleStep();
+        minValue             = gauge.getMinValue();
+        maxValue             = gauge.getMaxValue();
+        sections             = gauge.getSections();
+        highlightSections    = gauge.isHighlightSections();
+        sectionsVisible      = gauge.getSectionsVisible();
+        areas                = gauge.getAreas();
+        highlightAreas       = gauge.isHighlightAreas();
+        areasVisible         = gauge.getAreasVisible();
+        tickLabelLocation    = gauge.getTickLabelLocation();
+        scaleDirection       = gauge.getScaleDirection();
+        needleBehavior       = gauge.getNeedleBehavior();
+        valueString          = "";
+        mouseHandler         = event -> handleMouseEvent(event);
+        currentValueListener = deferrable(o -> {
+            rotateNeedle(gauge.getCurrentValue());
+            paint();
+        });
+        markerListener       = c -> {
+            updateMarkers();
+            redraw();
+        };
+        updateMarkers();
+
+        initGraphics();
+        registerListeners();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void initGraphics() {
+        // Set initial size
+        if (Double.compare(gauge.getPrefWidth(), 0.0) <= 0 || Double.compare(gauge.getPrefHeight(), 0.0) <= 0 ||
+            Double.compare(gauge.getWidth(), 0.0) <= 0 || Double.compare(gauge.getHeight(), 0.0) <= 0) {
+            if (gauge.getPrefWidth() > 0 && gauge.getPrefHeight() > 0) {
+                gauge.setPrefSize(gauge.getPrefWidth(), gauge.getPrefHeight());
+            } else {
+                gauge.setPrefSize(PREFERRED_WIDTH, PREFERRED_HEIGHT);
+            }
+        }
+
+        backgroundInnerShadow = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(10, 10, 10, 0.45), 8, 0.0, 8.0, 0.0);
+
+        dropShadow = new DropShadow();
+        dropShadow.setColor(Color.rgb(0, 0, 0, 0.25));
+        dropShadow.setBlurType(BlurType.TWO_PASS_BOX);
+        dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
+        dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
+
+        needleShadowBlur = new GaussianBlur(0.015 * PREFERRED_WIDTH);
+
+        // Off-screen canvas that is used to render the cached layers
+        layerCanvas = new Canvas();
+        layerCtx    = layerCanvas.getGraphicsContext2D();
+
+        snapshotParameters = new SnapshotParameters();
+        snapshotParameters.setFill(Color.TRANSPARENT);
+
+        measureText = new Text();
+        measureText.setTextOrigin(VPos.CENTER);
+
+        needle = new Path();
+
+        tooltip = new Tooltip();
+        tooltip.setTextAlignment(TextAlignment.CENTER);
+
+        canvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
+        ctx    = canvas.getGraphicsContext2D();
+
+        rotateNeedle(gauge.getCurrentValue());
+
+        getChildren().setAll(canvas);
+    }
+
+    @Override protected void registerListeners() {
+        super.registerListeners();
+
+        gauge.getMarkers().addListener(markerListener);
+        gauge.currentValueProperty().addListener(currentValueListener);
+
+        canvas.addEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
+        canvas.addEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+        canvas.addEventHandler(MouseEvent.MOUSE_MOVED, mouseHandler);
+        canvas.addEventHandler(MouseEvent.MOUSE_EXITED, mouseHandler);
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override protected void handleEvents(final String EVENT_TYPE) {
+        super.handleEvents(EVENT_TYPE);
+        if ("FINISHED".equals(EVENT_TYPE)) {
+            double currentValue = gauge.getCurrentValue();
+            // eu.hansolo.medusa.Check sections for value and fire section events
+            if (gauge.getCheckSectionsForValue()) {
+                int listSize = sections.size();
+                for (int i = 0 ; i < listSize ; i++) { sections.get(i).checkForValue(currentValue); }
+            }
+
+            // eu.hansolo.medusa.Check areas for value and fire section events
+            if (gauge.getCheckAreasForValue()) {
+                int listSize = areas.size();
+                for (int i = 0 ; i < listSize ; i++) { areas.get(i).checkForValue(currentValue); }
+            }
+
+            // Highlight Sections and/or Areas if enabled
+            if (highlightSections | highlightAreas) {
+                drawStaticLayer();
+                paint();
+            }
+        } else if ("VISIBILITY".equals(EVENT_TYPE)) {
+            sectionsVisible = gauge.getSectionsVisible();
+            areasVisible    = gauge.getAreasVisible();
+            resize();
+            redraw();
+        } else if ("LED".equals(EVENT_TYPE)) {
+            if (gauge.isLedVisible() && isDetailVisible(Detail.LED, size)) { paint(); }
+        } else if ("LCD".equals(EVENT_TYPE)) {
+            if (gauge.isLcdVisible()) redraw();
+        } else if ("RECALC".equals(EVENT_TYPE)) {
+            startAngle = gauge.getStartAngle();
+            angleRange = gauge.getAngleRange();
+            angleStep  = gauge.getAngleStep();
+            minValue   = gauge.getMinValue();
+            maxValue   = gauge.getMaxValue();
+            resize();
+            redraw();
+        } else if ("SECTION".equals(EVENT_TYPE)) {
+            sections          = gauge.getSections();
+            highlightSections = gauge.isHighlightSections();
+            sectionsVisible   = gauge.getSectionsVisible();
+            areas             = gauge.getAreas();
+            highlightAreas    = gauge.isHighlightAreas();
+            areasVisible      = gauge.getAreasVisible();
+            resize();
+            redraw();
+        } else if ("INTERACTIVITY".equals(EVENT_TYPE)) {
+            if (!gauge.isInteractive() && knobPressed) {
+                knobPressed = false;
+                drawKnobLayer();
+                paint();
+            }
+        }
+    }
+
+    /**
+     * As there are no nodes for the knob and the markers, the mouse events
+     * of the canvas will be hit tested against their positions.
+     * @param EVENT
+     */
+    public void handleMouseEvent(final MouseEvent EVENT) {
+        final EventType<? extends MouseEvent> TYPE = EVENT.getEventType();
+        final double                          X    = EVENT.getX();
+        final double                          Y    = EVENT.getY();
+        if (MouseEvent.MOUSE_PRESSED == TYPE) {
+            if (gauge.isDisabled()) return;
+            if (isOnKnob(X, Y)) {
+                knobPressed = true;
+                gauge.fireEvent(gauge.BTN_PRESSED_EVENT);
+                drawKnobLayer();
+                paint();
+            } else {
+                pressedMarker = getMarkerAt(X, Y);
+                if (null != pressedMarker) { pressedMarker.fireMarkerEvent(pressedMarker.MARKER_PRESSED_EVENT); }
+            }
+        } else if (MouseEvent.MOUSE_RELEASED == TYPE) {
+            if (knobPressed) {
+                knobPressed = false;
+                gauge.fireEvent(gauge.BTN_RELEASED_EVENT);
+                drawKnobLayer();
+                paint();
+            } else if (null != pressedMarker) {
+                pressedMarker.fireMarkerEvent(pressedMarker.MARKER_RELEASED_EVENT);
+                pressedMarker = null;
+            }
+        } else if (MouseEvent.MOUSE_MOVED == TYPE) {
+            updateTooltip(X, Y);
+        } else if (MouseEvent.MOUSE_EXITED == TYPE) {
+            updateTooltip(-1, -1);
+        }
+    }
+
+    @Override public void dispose() {
+        gauge.getMarkers().removeListener(markerListener);
+        gauge.currentValueProperty().removeListener(currentValueListener);
+        canvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
+        canvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+        canvas.removeEventHandler(MouseEvent.MOUSE_MOVED, mouseHandler);
+        canvas.removeEventHandler(MouseEvent.MOUSE_EXITED, mouseHandler);
+        if (tooltipInstalled) { Tooltip.uninstall(canvas, tooltip); }
+        super.dispose();
+    }
+
+
+    // ******************** Private Methods ***********************************
+    private void rotateNeedle(final double VALUE) {
+        needleAngle = getNeedleAngle(VALUE);
+        valueString = formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE);
+    }
+
+    /**
+     * Returns the rotation of a needle that points to the given value.
+     * @param value
+     * @return the rotation of a needle that points to the given value
+     */
+    protected double getNeedleAngle(double value) {
+        final double START_OFFSET_ANGLE = 180 - startAngle;
+        if (NeedleBehavior.OPTIMIZED == needleBehavior) {
+            if (value < minValue) value = maxValue - minValue + value;
+            if (value > maxValue) value = value - maxValue + minValue;
+        }
+        if (ScaleDirection.CLOCKWISE == gauge.getScaleDirection()) {
+            return Helper.clamp(START_OFFSET_ANGLE, START_OFFSET_ANGLE + angleRange, START_OFFSET_ANGLE + (value - minValue) * angleStep);
+        } else {
+            return Helper.clamp(START_OFFSET_ANGLE - angleRange, START_OFFSET_ANGLE, START_OFFSET_ANGLE - (value - minValue) * angleStep);
+        }
+    }
+
+    /**
+     * Draws the cached layers and everything that depends on the
+     * current value onto the canvas.
+     */
+    protected void paint() {
+        ctx.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (size <= 0 || null == staticLayer) return;
+
+        ctx.drawImage(staticLayer, 0, 0);
+
+        if (gauge.isAverageVisible()) { drawAverage(); }
+
+        if (gauge.isLedVisible() && isDetailVisible(Detail.LED, size) && null != ledOnLayer) {
+            ctx.drawImage(gauge.isLedOn() ? ledOnLayer : ledOffLayer, 0.3 * size, 0.47 * size);
+        }
+
+        if (gauge.isValueVisible()) {
+            ctx.setFont(valueFont);
+            ctx.setFill(gauge.isLcdVisible() ? gauge.getLcdDesign().getColors()[5] : gauge.getValueColor());
+            ctx.setTextAlign(gauge.isLcdVisible() ? TextAlignment.RIGHT : TextAlignment.CENTER);
+            ctx.setTextBaseline(VPos.CENTER);
+            ctx.fillText(valueString, valueX, valueY);
+        }
+
+        drawNeedles();
+
+        if (gauge.isKnobVisible() && null != knobLayer) { ctx.drawImage(knobLayer, knobLayerX, knobLayerY); }
+    }
+
+    /**
+     * Draws the needle of the current value, skins that show more than
+     * one value draw all their needles here.
+     */
+    protected void drawNeedles() { drawNeedle(needleAngle, needlePaint); }
+
+    /**
+     * Draws the needle with the given rotation and paint (and its shadow
+     * if enabled) onto the canvas. The shadow is a pre-blurred image of
+     * the needle, so drawing it costs no blur per needle and frame.
+     * @param ANGLE the rotation of the needle (see getNeedleAngle())
+     * @param PAINT the paint of the needle (see createNeedlePaint())
+     */
+    protected void drawNeedle(final double ANGLE, final Paint PAINT) {
+        double center = size * 0.5;
+        ctx.save();
+        ctx.setFillRule(FillRule.EVEN_ODD);
+        if (null != needleShadowLayer) {
+            // The offset of the shadow has to be applied before the rotation
+            ctx.save();
+            ctx.translate(center + dropShadow.getOffsetX(), center + dropShadow.getOffsetY());
+            ctx.rotate(ANGLE);
+            ctx.translate(-needleWidth * 0.5, -needlePivotY);
+            ctx.drawImage(needleShadowLayer, needleShadowLayerX, needleShadowLayerY);
+            ctx.restore();
+        }
+        ctx.translate(center, center);
+        ctx.rotate(ANGLE);
+        ctx.translate(-needleWidth * 0.5, -needlePivotY);
+        Helper.drawPath(ctx, needle);
+        ctx.setFill(PAINT);
+        ctx.fill();
+        if (NeedleShape.FLAT == gauge.getNeedleShape()) {
+            ctx.setStroke(gauge.getNeedleBorderColor());
+            ctx.setLineWidth(0.0037037 * size);
+            ctx.stroke();
+        }
+        ctx.restore();
+    }
+
+    private void drawAverage() {
+        double centerX = size * 0.5;
+        double centerY = size * 0.5;
+        double averageAngle;
+        if (ScaleDirection.CLOCKWISE == scaleDirection) {
+            averageAngle = startAngle - (gauge.getAverage() - minValue) * angleStep;
+        } else {
+            averageAngle = startAngle + (gauge.getAverage() - minValue) * angleStep;
+        }
+        double averageSize = Helper.clamp(3.0, 3.5, 0.01 * size);
+        double outer       = TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.38 : 0.465;
+        double inner       = TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.34 : 0.425;
+        ctx.setFill(gauge.getAverageColor());
+        ctx.setStroke(gauge.getTickMarkColor());
+        ctx.setLineWidth(1);
+        drawTriangle(ctx, centerX, centerY, averageAngle, averageSize, outer, inner);
+    }
+
+    private void drawTriangle(final GraphicsContext CTX, final double CENTER_X, final double CENTER_Y, final double ANGLE, final double HALF_WIDTH, final double TIP, final double BASE) {
+        double sinValue = Math.sin(Math.toRadians(ANGLE));
+        double cosValue = Math.cos(Math.toRadians(ANGLE));
+        CTX.beginPath();
+        CTX.moveTo(CENTER_X + size * TIP * sinValue, CENTER_Y + size * TIP * cosValue);
+        sinValue = Math.sin(Math.toRadians(ANGLE - HALF_WIDTH));
+        cosValue = Math.cos(Math.toRadians(ANGLE - HALF_WIDTH));
+        CTX.lineTo(CENTER_X + size * BASE * sinValue, CENTER_Y + size * BASE * cosValue);
+        sinValue = Math.sin(Math.toRadians(ANGLE + HALF_WIDTH));
+        cosValue = Math.cos(Math.toRadians(ANGLE + HALF_WIDTH));
+        CTX.lineTo(CENTER_X + size * BASE * sinValue, CENTER_Y + size * BASE * cosValue);
+        CTX.closePath();
+        CTX.fill();
+        CTX.stroke();
+    }
+
+    /**
+     * Renders everything that doesn't depend on the current value
+     * (background, areas, sections, tick marks, markers, threshold,
+     * lcd and texts) into the static layer.
+     */
+    private void drawStaticLayer() {
+        if (size <= 0) return;
+        prepareLayer(size, size);
+
+        // Background fill and stroke
+        double borderWidth = gauge.getBorderWidth() / PREFERRED_WIDTH * size;
+        layerCtx.setFill(gauge.getBackgroundPaint());
+        layerCtx.fillOval(0, 0, size, size);
+        if (borderWidth > 0) {
+            layerCtx.setStroke(gauge.getBorderPaint());
+            layerCtx.setLineWidth(borderWidth);
+            layerCtx.strokeOval(borderWidth * 0.5, borderWidth * 0.5, size - borderWidth, size - borderWidth);
+        }
+
+        // Areas, Sections and Tick Marks
+        drawAreasAndSections(layerCtx);
+        if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) { drawGradientBar(); }
+        Helper.drawRadialTickMarks(gauge, layerCtx, minValue, maxValue, startAngle, angleRange, angleStep, size * 0.5, size * 0.5, size, gauge.getLevelOfDetail(), size);
+
+        // Markers and Threshold
+        drawMarkers();
+
+        // LCD
+        if (gauge.isLcdVisible() && gauge.isValueVisible()) { drawLcd(); }
+
+        // Text
+        if (isDetailVisible(Detail.TEXT, size)) {
+            drawText(gauge.getTitle(), Fonts.robotoMedium(0.06 * size), 0.4 * size, 0.26 * size, gauge.getTitleColor());
+            drawText(gauge.getUnit(), Fonts.robotoRegular(0.05 * size), 0.4 * size, 0.35 * size, gauge.getUnitColor());
+            drawText(gauge.getSubTitle(), Fonts.robotoRegular(0.05 * size), 0.25 * size, 0.76 * size, gauge.getSubTitleColor());
+        }
+
+        staticLayer = snapshotLayer(staticLayer, gauge.isInnerShadowEnabled() && isDetailVisible(Detail.EFFECTS, size) ? backgroundInnerShadow : null);
+    }
+
+    private void drawGradientBar() {
+        double     xy     = TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.115 * size : 0.0515 * size;
+        double     wh     = TickLabelLocation.OUTSIDE == tickLabelLocation ? size * 0.77 : size * 0.897;
+        double     offset = 90 - startAngle;
+        List<Stop> stops  = gauge.getGradientBarStops();
+        Map<Double, Color> stopAngleMap = new HashMap<>(stops.size());
+        for (Stop stop : stops) { stopAngleMap.put(stop.getOffset() * angleRange, stop.getColor()); }
+        double               offsetFactor = ScaleDirection.CLOCKWISE == scaleDirection ? (startAngle - 90) : (startAngle + 180);
+        AngleConicalGradient gradient     = new AngleConicalGradient(size * 0.5, size * 0.5, offsetFactor, stopAngleMap, gauge.getScaleDirection());
+
+        double barStartAngle  = ScaleDirection.CLOCKWISE == scaleDirection ? -minValue * angleStep : minValue * angleStep;
+        double barAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? gauge.getRange() * angleStep : -gauge.getRange() * angleStep;
+        layerCtx.save();
+        layerCtx.setStroke(gradient.getImagePattern(new Rectangle(xy - 0.026 * size, xy - 0.026 * size, wh + 0.052 * size, wh + 0.052 * size)));
+        layerCtx.setLineWidth(size * 0.052);
+        layerCtx.setLineCap(StrokeLineCap.BUTT);
+        layerCtx.strokeArc(xy, xy, wh, wh, -(offset + barStartAngle), -barAngleExtend, ArcType.OPEN);
+        layerCtx.restore();
+    }
+
+    private void drawAreasAndSections(final GraphicsContext CTX) {
+        if (areas.isEmpty() && sections.isEmpty()) return;
+        double value  = gauge.getCurrentValue();
+        double offset = 90 - startAngle;
+        double xy;
+        double wh;
+        int    listSize;
+
+        // Draw Areas
+        if (areasVisible && !areas.isEmpty()) {
+            xy       = TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.0895 * size : 0.025 * size;
+            wh       = TickLabelLocation.OUTSIDE == tickLabelLocation ? size * 0.821 : size * 0.95;
+            listSize = areas.size();
+            for (int i = 0; i < listSize ; i++) {
+                Section area = areas.get(i);
+                double areaStartAngle;
+                if (Double.compare(area.getStart(), maxValue) <= 0 && Double.compare(area.getStop(), minValue) >= 0) {
+                    if (area.getStart() < minValue && area.getStop() < maxValue) {
+                        areaStartAngle = 0;
+                    } else {
+                        areaStartAngle = ScaleDirection.CLOCKWISE == scaleDirection ? (area.getStart() - minValue) * angleStep : -(area.getStart() - minValue) * angleStep;
+                    }
+                    double areaAngleExtend;
+                    if (area.getStop() > maxValue) {
+                        areaAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (maxValue - area.getStart()) * angleStep : -(maxValue - area.getStart()) * angleStep;
+                    } else if (Double.compare(area.getStart(), minValue) < 0) {
+                        areaAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (area.getStop() - minValue) * angleStep : -(area.getStop() - minValue) * angleStep;
+                    } else {
+                        areaAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (area.getStop() - area.getStart()) * angleStep : -(area.getStop() - area.getStart()) * angleStep;
+                    }
+                    CTX.save();
+                    if (highlightAreas) {
+                        CTX.setFill(area.contains(value) ? area.getHighlightColor() : area.getColor());
+                    } else {
+                        CTX.setFill(area.getColor());
+                    }
+                    CTX.fillArc(xy, xy, wh, wh, -(offset + areaStartAngle), - areaAngleExtend, ArcType.ROUND);
+                    CTX.restore();
+                }
+            }
+        }
+
+        // Draw Sections
+        if (sectionsVisible && !sections.isEmpty()) {
+            xy       = TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.115 * size : 0.0515 * size;
+            wh       = TickLabelLocation.OUTSIDE == tickLabelLocation ? size * 0.77 : size * 0.897;
+            listSize = sections.size();
+            CTX.setLineWidth(size * 0.052);
+            CTX.setLineCap(StrokeLineCap.BUTT);
+            for (int i = 0; i < listSize; i++) {
+                Section section = sections.get(i);
+                double  sectionStartAngle;
+                if (Double.compare(section.getStart(), maxValue) <= 0 && Double.compare(section.getStop(), minValue) >= 0) {
+                    if (Double.compare(section.getStart(), minValue) < 0 && Double.compare(section.getStop(), maxValue) < 0) {
+                        sectionStartAngle = 0;
+                    } else {
+                        sectionStartAngle = ScaleDirection.CLOCKWISE == scaleDirection ? (section.getStart() - minValue) * angleStep : -(section.getStart() - minValue) * angleStep;
+                    }
+                    double sectionAngleExtend;
+                    if (Double.compare(section.getStop(), maxValue) > 0) {
+                        sectionAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (maxValue - section.getStart()) * angleStep : -(maxValue - section.getStart()) * angleStep;
+                    } else if (Double.compare(section.getStart(), minValue) < 0) {
+                        sectionAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (section.getStop() - minValue) * angleStep : -(section.getStop() - minValue) * angleStep;
+                    } else {
+                        sectionAngleExtend = ScaleDirection.CLOCKWISE == scaleDirection ? (section.getStop() - section.getStart()) * angleStep : -(section.getStop() - section.getStart()) * angleStep;
+                    }
+                    CTX.save();
+                    if (highlightSections) {
+                        CTX.setStroke(section.contains(value) ? section.getHighlightColor() : section.getColor());
+                    } else {
+                        CTX.setStroke(section.getColor());
+                    }
+                    CTX.strokeArc(xy, xy, wh, wh, -(offset + sectionStartAngle), -sectionAngleExtend, ArcType.OPEN);
+                    CTX.restore();
+                }
+            }
+        }
+    }
+
+    private void drawMarkers() {
+        double centerX    = size * 0.5;
+        double centerY    = size * 0.5;
+        double markerSize = TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.0125 * size : 0.015 * size;
+        double pathHalf   = markerSize * 0.3;
+        boolean isOutside = TickLabelLocation.OUTSIDE == tickLabelLocation;
+        layerCtx.save();
+        layerCtx.setLineWidth(1);
+        if (gauge.getMarkersVisible()) {
+            for (Marker marker : markerMap.keySet()) {
+                double valueAngle;
+                if (ScaleDirection.CLOCKWISE == scaleDirection) {
+                    valueAngle = startAngle - (marker.getValue() - minValue) * angleStep;
+                } else {
+                    valueAngle = startAngle + (marker.getValue() - minValue) * angleStep;
+                }
+                double sinValue = Math.sin(Math.toRadians(valueAngle));
+                double cosValue = Math.cos(Math.toRadians(valueAngle));
+                Color  markerColor = marker.getColor();
+                layerCtx.setFill(markerColor);
+                layerCtx.setStroke(markerColor.darker());
+                switch (marker.getMarkerType()) {
+                    case TRIANGLE:
+                        drawTriangle(layerCtx, centerX, centerY, valueAngle, pathHalf, isOutside ? 0.38 : 0.465, isOutside ? 0.4075 : 0.436);
+                        break;
+                    case DOT:
+                        double radius = isOutside ? 0.3945 : 0.449;
+                        layerCtx.fillOval(centerX + size * radius * sinValue - markerSize, centerY + size * radius * cosValue - markerSize, 2 * markerSize, 2 * markerSize);
+                        layerCtx.strokeOval(centerX + size * radius * sinValue - markerSize, centerY + size * radius * cosValue - markerSize, 2 * markerSize, 2 * markerSize);
+                        break;
+                    case STANDARD:
+                    default:
+                        double tip   = isOutside ? 0.38 : 0.465;
+                        double base  = isOutside ? 0.4075 : 0.436;
+                        double outer = isOutside ? 0.4575 : 0.386;
+                        layerCtx.beginPath();
+                        layerCtx.moveTo(centerX + size * tip * sinValue, centerY + size * tip * cosValue);
+                        sinValue = Math.sin(Math.toRadians(valueAngle - pathHalf));
+                        cosValue = Math.cos(Math.toRadians(valueAngle - pathHalf));
+                        layerCtx.lineTo(centerX + size * base * sinValue, centerY + size * base * cosValue);
+                        layerCtx.lineTo(centerX + size * outer * sinValue, centerY + size * outer * cosValue);
+                        sinValue = Math.sin(Math.toRadians(valueAngle + pathHalf));
+                        cosValue = Math.cos(Math.toRadians(valueAngle + pathHalf));
+                        layerCtx.lineTo(centerX + size * outer * sinValue, centerY + size * outer * cosValue);
+                        layerCtx.lineTo(centerX + size * base * sinValue, centerY + size * base * cosValue);
+                        layerCtx.closePath();
+                        layerCtx.fill();
+                        layerCtx.stroke();
+                        break;
+                }
+                // Remember the position of the marker for hit testing
+                double hitRadius = isOutside ? 0.4075 : 0.436;
+                sinValue = Math.sin(Math.toRadians(valueAngle));
+                cosValue = Math.cos(Math.toRadians(valueAngle));
+                markerMap.put(marker, new Point2D(centerX + size * hitRadius * sinValue, centerY + size * hitRadius * cosValue));
+            }
+        }
+
+        thresholdPoint = null;
+        if (gauge.isThresholdVisible()) {
+            double thresholdAngle;
+            if (ScaleDirection.CLOCKWISE == scaleDirection) {
+                thresholdAngle = startAngle - (gauge.getThreshold() - minValue) * angleStep;
+            } else {
+                thresholdAngle = startAngle + (gauge.getThreshold() - minValue) * angleStep;
+            }
+            double thresholdSize = Helper.clamp(3.0, 3.5, 0.01 * size);
+            layerCtx.setFill(gauge.getThresholdColor());
+            layerCtx.setStroke(gauge.getTickMarkColor());
+            drawTriangle(layerCtx, centerX, centerY, thresholdAngle, thresholdSize, isOutside ? 0.38 : 0.465, isOutside ? 0.34 : 0.425);
+
+            double hitRadius = isOutside ? 0.36 : 0.445;
+            thresholdPoint = new Point2D(centerX + size * hitRadius * Math.sin(Math.toRadians(thresholdAngle)), centerY + size * hitRadius * Math.cos(Math.toRadians(thresholdAngle)));
+        }
+        layerCtx.restore();
+    }
+
+    private void drawLcd() {
+        double    lcdWidth  = 0.4 * size;
+        double    lcdHeight = 0.114 * size;
+        double    lcdX      = (size - lcdWidth) * 0.5;
+        double    lcdY      = 0.583 * size;
+        double    arc       = 0.0125 * size;
+        LcdDesign lcdDesign = gauge.getLcdDesign();
+        Color[]   lcdColors = lcdDesign.getColors();
+        Paint     lcdFramePaint;
+        if (LcdDesign.FLAT_CUSTOM == lcdDesign) {
+            lcdFramePaint = lcdDesign.lcdForegroundColor;
+        } else {
+            lcdFramePaint = new LinearGradient(0, lcdY, 0, lcdY + lcdHeight,
+                                               false, CycleMethod.NO_CYCLE,
+                                               new Stop(0.0, Color.rgb(26, 26, 26)),
+                                               new Stop(0.01, Color.rgb(77, 77, 77)),
+                                               new Stop(0.99, Color.rgb(77, 77, 77)),
+                                               new Stop(1.0, Color.rgb(221, 221, 221)));
+        }
+        layerCtx.save();
+        layerCtx.setFill(new LinearGradient(0, lcdY + 1, 0, lcdY + lcdHeight - 1,
+                                            false, CycleMethod.NO_CYCLE,
+                                            new Stop(0, lcdColors[0]),
+                                            new Stop(0.03, lcdColors[1]),
+                                            new Stop(0.5, lcdColors[2]),
+                                            new Stop(0.5, lcdColors[3]),
+                                            new Stop(1.0, lcdColors[4])));
+        layerCtx.fillRoundRect(lcdX, lcdY, lcdWidth, lcdHeight, arc, arc);
+        layerCtx.setStroke(lcdFramePaint);
+        layerCtx.setLineWidth(1);
+        layerCtx.strokeRoundRect(lcdX, lcdY, lcdWidth, lcdHeight, arc, arc);
+        layerCtx.restore();
+    }
+
+    private void drawText(final String TEXT, final Font FONT, final double MAX_WIDTH, final double Y, final Color COLOR) {
+        if (TEXT.isEmpty()) return;
+        measureText.setFont(FONT);
+        measureText.setText(TEXT);
+        if (measureText.getLayoutBounds().getWidth() > MAX_WIDTH) { Helper.adjustTextSize(measureText, MAX_WIDTH, FONT.getSize()); }
+        layerCtx.save();
+        layerCtx.setFont(measureText.getFont());
+        layerCtx.setFill(COLOR);
+        layerCtx.setTextAlign(TextAlignment.CENTER);
+        layerCtx.setTextBaseline(VPos.CENTER);
+        layerCtx.fillText(TEXT, size * 0.5, Y + measureText.getLayoutBounds().getHeight() * 0.5);
+        layerCtx.restore();
+    }
+
+    private void drawLedLayers() {
+        if (!gauge.isLedVisible() || !isDetailVisible(Detail.LED, size)) {
+            ledOnLayer  = null;
+            ledOffLayer = null;
+            return;
+        }
+        final boolean     IS_FLAT_LED = LedType.FLAT == gauge.getLedType();
+        final Color       LED_COLOR   = gauge.getLedColor();
+        final InnerShadow LED_SHADOW  = IS_FLAT_LED ? null : new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 0.07 * ledSize, 0, 0, 0);
+        final InnerShadow GLOW_SHADOW = IS_FLAT_LED ? null : new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 0.07 * ledSize, 0, 0, 0);
+        if (!IS_FLAT_LED) GLOW_SHADOW.setInput(new DropShadow(BlurType.TWO_PASS_BOX, LED_COLOR, 0.36 * ledSize, 0, 0, 0));
+        Paint ledFramePaint;
+        Paint ledOnPaint;
+        Paint ledOffPaint;
+        Paint ledHighlightPaint;
+        switch(gauge.getLedType()) {
+            case FLAT:
+                ledFramePaint = Color.WHITE;
+                ledOnPaint = new LinearGradient(0, 0.25 * ledSize,
+                                                0, 0.74 * ledSize,
+                                                false, CycleMethod.NO_CYCLE,
+                                                new Stop(0.0, LED_COLOR),
+                                                new Stop(1.0, LED_COLOR.deriveColor(0.0, 1.0, 0.5, 1.0)));
+                ledOffPaint = new LinearGradient(0, 0.25 * ledSize,
+                                                 0, 0.74 * ledSize,
+                                                 false, CycleMethod.NO_CYCLE,
+                                                 new Stop(0.0, LED_COLOR.deriveColor(0.0, 1.0, 0.5, 1.0)),
+                                                 new Stop(1.0, LED_COLOR.deriveColor(0.0, 1.0, 0.13, 1.0)));
+                ledHighlightPaint = Color.TRANSPARENT;
+                break;
+            case STANDARD:
+            default:
+                ledFramePaint = new LinearGradient(0.14 * ledSize, 0.14 * ledSize,
+                                                   0.84 * ledSize, 0.84 * ledSize,
+                                                   false, CycleMethod.NO_CYCLE,
+                                                   new Stop(0.0, Color.rgb(20, 20, 20, 0.65)),
+                                                   new Stop(0.15, Color.rgb(20, 20, 20, 0.65)),
+                                                   new Stop(0.26, Color.rgb(41, 41, 41, 0.65)),
+                                                   new Stop(0.26, Color.rgb(41, 41, 41, 0.64)),
+                                                   new Stop(0.85, Color.rgb(200, 200, 200, 0.41)),
+                                                   new Stop(1.0, Color.rgb(200, 200, 200, 0.35)));
+                ledOnPaint = new LinearGradient(0.25 * ledSize, 0.25 * ledSize,
+                                                0.74 * ledSize, 0.74 * ledSize,
+                                                false, CycleMethod.NO_CYCLE,
+                                                new Stop(0.0, LED_COLOR.deriveColor(0.0, 1.0, 0.77, 1.0)),
+                                                new Stop(0.49, LED_COLOR.deriveColor(0.0, 1.0, 0.5, 1.0)),
+                                                new Stop(1.0, LED_COLOR));
+                ledOffPaint = new LinearGradient(0.25 * ledSize, 0.25 * ledSize,
+                                                 0.74 * ledSize, 0.74 * ledSize,
+                                                 false, CycleMethod.NO_CYCLE,
+                                                 new Stop(0.0, LED_COLOR.deriveColor(0.0, 1.0, 0.20, 1.0)),
+                                                 new Stop(0.49, LED_COLOR.deriveColor(0.0, 1.0, 0.13, 1.0)),
+                                                 new Stop(1.0, LED_COLOR.deriveColor(0.0, 1.0, 0.2, 1.0)));
+                ledHighlightPaint = new RadialGradient(0, 0,
+                                                       0.3 * ledSize, 0.3 * ledSize,
+                                                       0.29 * ledSize,
+                                                       false, CycleMethod.NO_CYCLE,
+                                                       new Stop(0.0, Color.WHITE),
+                                                       new Stop(1.0, Color.TRANSPARENT));
+                break;
+        }
+        drawLed(IS_FLAT_LED, ledFramePaint, ledOnPaint, GLOW_SHADOW, ledHighlightPaint);
+        ledOnLayer = snapshotLayer(ledOnLayer, null);
+        drawLed(IS_FLAT_LED, ledFramePaint, ledOffPaint, LED_SHADOW, ledHighlightPaint);
+        ledOffLayer = snapshotLayer(ledOffLayer, null);
+    }
+
+    private void drawLed(final boolean IS_FLAT_LED, final Paint FRAME_PAINT, final Paint LED_PAINT, final Effect LED_EFFECT, final Paint HIGHLIGHT_PAINT) {
+        prepareLayer(ledSize, ledSize);
+        if (!IS_FLAT_LED) {
+            layerCtx.setFill(FRAME_PAINT);
+            layerCtx.fillOval(0, 0, ledSize, ledSize);
+        } else {
+            double lineWidth = 0.0037037 * size;
+            layerCtx.setStroke(FRAME_PAINT);
+            layerCtx.setLineWidth(lineWidth);
+            layerCtx.strokeOval(lineWidth, lineWidth, ledSize - 2 * lineWidth, ledSize - 2 * lineWidth);
+        }
+
+        layerCtx.save();
+        layerCtx.setEffect(LED_EFFECT);
+        layerCtx.setFill(LED_PAINT);
+        if (IS_FLAT_LED) {
+            layerCtx.fillOval(0.2 * ledSize, 0.2 * ledSize, 0.6 * ledSize, 0.6 * ledSize);
+        } else {
+            layerCtx.fillOval(0.14 * ledSize, 0.14 * ledSize, 0.72 * ledSize, 0.72 * ledSize);
+        }
+        layerCtx.restore();
+
+        layerCtx.setFill(HIGHLIGHT_PAINT);
+        layerCtx.fillOval(0.21 * ledSize, 0.21 * ledSize, 0.58 * ledSize, 0.58 * ledSize);
+    }
+
+    /**
+     * Renders the knob incl. its drop shadow into the knob layer.
+     */
+    private void drawKnobLayer() {
+        double w = size * 0.1;
+        double h = size * 0.1;
+        prepareLayer(w, h);
+
+        Color  knobColor = gauge.getKnobColor();
+        double hue       = knobColor.getHue();
+        double sat       = knobColor.getSaturation();
+        double alp       = knobColor.getOpacity();
+        double brg       = Color.BLACK.equals(knobColor) ? 0.2 : knobColor.getBrightness();
+        double gradTop;
+        double gradBot;
+
+        switch (gauge.getKnobType()) {
+            case PLAIN:
+                layerCtx.setFill(new LinearGradient(0, 0, 0, h, false, CycleMethod.NO_CYCLE,
+                                                    new Stop(0.0, Color.rgb(180,180,180)),
+                                                    new Stop(0.46, Color.rgb(63,63,63)),
+                                                    new Stop(1.0, Color.rgb(40,40,40))));
+                layerCtx.fillOval(0, 0, w, h);
+
+                layerCtx.setFill(new LinearGradient(0, 0.11764706 * h, 0, 0.76470588 * h, false, CycleMethod.NO_CYCLE,
+                                                    new Stop(0.0, Color.hsb(hue, sat, knobPressed ? brg * 0.9 : brg * 1.0, alp)),
+                                                    new Stop(0.01, Color.hsb(hue, sat, knobPressed ? brg * 0.75 : brg * 0.85, alp)),
+                                                    new Stop(0.5, Color.hsb(hue, sat, knobPressed ? brg * 0.4 : brg * 0.5, alp)),
+                                                    new Stop(0.51, Color.hsb(hue, sat, knobPressed ? brg * 0.35 : brg * 0.45, alp)),
+                                                    new Stop(1.0, Color.hsb(hue, sat, knobPressed ? brg * 0.7 : brg * 0.8, alp))));
+                layerCtx.fillOval(w * 0.11764706, h * 0.11764706, w - w * 0.23529412, h - h * 0.23529412);
+
+                layerCtx.setFill(new RadialGradient(0, 0, 0.5 * w, 0.47 * h, w * 0.38, false, CycleMethod.NO_CYCLE,
+                                                    new Stop(0, Color.TRANSPARENT),
+                                                    new Stop(0.76, Color.TRANSPARENT),
+                                                    new Stop(1.0, Color.rgb(0, 0, 0, knobPressed ? 0.5 : 0.2))));
+                layerCtx.fillOval(w * 0.11764706, h * 0.11764706, w - w * 0.23529412, h - h * 0.23529412);
+                break;
+            case METAL:
+                layerCtx.setFill(new LinearGradient(0, 0, 0, h,
+                                                    false, CycleMethod.NO_CYCLE,
+                                                    new Stop(0.0, Color.rgb(92,95,101)),
+                                                    new Stop(0.47, Color.rgb(46,49,53)),
+                                                    new Stop(1.0, Color.rgb(22,23,26))));
+                layerCtx.fillOval(0, 0, w, h);
+
+                layerCtx.setFill(new LinearGradient(0, 0.058823529411764705 * h, 0, 0.9411764705882353 * h,
+                                                    false, CycleMethod.NO_CYCLE,
+                                                    new Stop(0.0, Color.hsb(hue, sat, knobPressed ? brg * 0.7 : brg * 0.9, alp)),
+                                                    new Stop(0.0, Color.hsb(hue, sat, knobPressed ? brg * 0.3 : brg * 0.5, alp))));
+                layerCtx.fillOval(0.05882353 * w, 0.05882353 * h, w * 0.88235294, h * 0.88235294);
+
+                layerCtx.beginPath();
+                layerCtx.moveTo(0.17647058823529413 * w, 0.8235294117647058 * h);
+                layerCtx.bezierCurveTo(0.29411764705882354 * w, 0.8823529411764706 * h, 0.35294117647058826 * w, 0.9411764705882353 * h, 0.5294117647058824 * w, 0.9411764705882353 * h);
+                layerCtx.bezierCurveTo(0.6470588235294118 * w, 0.9411764705882353 * h, 0.7058823529411765 * w, 0.8823529411764706 * h, 0.8235294117647058 * w, 0.8235294117647058 * h);
+                layerCtx.bezierCurveTo(0.7647058823529411 * w, 0.7058823529411765 * h, 0.6470588235294118 * w, 0.5882352941176471 * h, 0.5294117647058824 * w, 0.5882352941176471 * h);
+                layerCtx.bezierCurveTo(0.35294117647058826 * w, 0.5882352941176471 * h, 0.23529411764705882 * w, 0.7058823529411765 * h, 0.17647058823529413 * w, 0.8235294117647058 * h);
+                layerCtx.closePath();
+                layerCtx.setFill(new RadialGradient(0, 0,
+                                                    0.47058823529411764 * w, 0.8823529411764706 * h,
+                                                    0.3235294117647059 * w,
+                                                    false, CycleMethod.NO_CYCLE,
+                                                    new Stop(0.0, Color.rgb(255, 255, 255, knobPressed ? 0.3 : 0.6)),
+                                                    new Stop(1.0, Color.TRANSPARENT)));
+                layerCtx.fill();
+
+                layerCtx.beginPath();
+                layerCtx.moveTo(0.058823529411764705 * w, 0.29411764705882354 * h);
+                layerCtx.bezierCurveTo(0.17647058823529413 * w, 0.35294117647058826 * h, 0.35294117647058826 * w, 0.35294117647058826 * h, 0.5294117647058824 * w, 0.35294117647058826 * h);
+                layerCtx.bezierCurveTo(0.6470588235294118 * w, 0.35294117647058826 * h, 0.8235294117647058 * w, 0.35294117647058826 * h, 0.9411764705882353 * w, 0.29411764705882354 * h);
+                layerCtx.bezierCurveTo(0.8823529411764706 * w, 0.11764705882352941 * h, 0.7058823529411765 * w, 0.0 * h, 0.5294117647058824 * w, 0.0 * h);
+                layerCtx.bezierCurveTo(0.29411764705882354 * w, 0.0 * h, 0.11764705882352941 * w, 0.11764705882352941 * h, 0.058823529411764705 * w, 0.29411764705882354 * h);
+                layerCtx.closePath();
+                layerCtx.setFill(new RadialGradient(0, 0,
+                                                    0.47058823529411764 * w, 0.0,
+                                                    0.4411764705882353 * w,
+                                                    false, CycleMethod.NO_CYCLE,
+                                                    new Stop(0.0, Color.rgb(255, 255, 255, knobPressed ? 0.45 : 0.75)),
+                                                    new Stop(1.0, Color.TRANSPARENT)));
+                layerCtx.fill();
+
+                layerCtx.setFill(new LinearGradient(0.5294117647058824 * w, 0.23529411764705882 * h,
+                                                    0.5294117647058824 * w, 0.7647058823529411 * h,
+                                                    false, CycleMethod.NO_CYCLE,
+                                                    new Stop(0.0, Color.BLACK),
+                                                    new Stop(1.0, Color.rgb(204, 204, 204))));
+                layerCtx.fillOval(0.23529412 * w, 0.23529412 * h, 0.52941176 * w, 0.52941176 * h);
+
+                layerCtx.setFill(new LinearGradient(0.5294117647058824 * w, 0.29411764705882354 * h,
+                                                    0.5294117647058824 * w, 0.7058823529411765 * h,
+                                                    false, CycleMethod.NO_CYCLE,
+                                                    new Stop(0.0, Color.rgb(1,6,11)),
+                                                    new Stop(1.0, Color.rgb(50,52,56))));
+                layerCtx.fillOval(0.29411765 * w, 0.29411765 * h, 0.41176471 * w, 0.41176471 * h);
+                break;
+            case FLAT:
+                double lineWidth = 0.00740741 * size;
+                double knobSize  = w - 2 * lineWidth;
+                layerCtx.setFill(knobPressed ? knobColor.darker() : knobColor);
+                layerCtx.setStroke(knobPressed ? Color.WHITE.darker() : Color.WHITE);
+                layerCtx.setLineWidth(lineWidth);
+                layerCtx.fillOval(lineWidth, lineWidth, knobSize, knobSize);
+                layerCtx.strokeOval(lineWidth, lineWidth, knobSize, knobSize);
+                break;
+            case STANDARD:
+            default:
+                layerCtx.setFill(new LinearGradient(0, 0, 0, h,
+                                                    false, CycleMethod.NO_CYCLE,
+                                                    new Stop(0.0, Color.rgb(133, 133, 133).brighter().brighter()),
+                                                    new Stop(0.52, Color.rgb(133, 133, 133)),
+                                                    new Stop(1.0, Color.rgb(133, 133, 133).darker().darker())));
+                layerCtx.fillOval(0, 0, w, h);
+                gradTop = knobPressed ? h - size * 0.01 : size * 0.005;
+                gradBot = knobPressed ? size * 0.005 : h - size * 0.01;
+                layerCtx.setFill(new LinearGradient(0, gradTop, 0, gradBot,
+                                                    false, CycleMethod.NO_CYCLE,
+                                                    new Stop(0.0, Color.hsb(hue, sat, brg * 0.85, alp)),
+                                                    new Stop(0.45, Color.hsb(hue, sat, brg * 0.65, alp)),
+                                                    new Stop(1.0, Color.hsb(hue, sat, brg * 0.4, alp))));
+                layerCtx.fillOval(size * 0.005, size * 0.005, w - size * 0.01, h - size * 0.01);
+                break;
+        }
+
+        final Effect EFFECT = gauge.isShadowsEnabled() && isDetailVisible(Detail.EFFECTS, size) ? dropShadow : null;
+        layerCanvas.setEffect(EFFECT);
+        final Bounds BOUNDS = layerCanvas.getBoundsInLocal();
+        knobLayerX = size * 0.5 - w * 0.5 + BOUNDS.getMinX();
+        knobLayerY = size * 0.5 - h * 0.5 + BOUNDS.getMinY();
+        knobLayer  = snapshotLayer(knobLayer, EFFECT);
+    }
+
+    /**
+     * Renders the blurred silhouette of the needle into an image that will
+     * be drawn below every needle instead of blurring it on each paint.
+     */
+    private void drawNeedleShadowLayer() {
+        final Bounds NEEDLE_BOUNDS = needle.getLayoutBounds();
+        if (!gauge.isShadowsEnabled() || !isDetailVisible(Detail.EFFECTS, size) || NEEDLE_BOUNDS.getMaxX() <= 0 || NEEDLE_BOUNDS.getMaxY() <= 0) {
+            needleShadowLayer = null;
+            return;
+        }
+        prepareLayer(Math.ceil(NEEDLE_BOUNDS.getMaxX()), Math.ceil(NEEDLE_BOUNDS.getMaxY()));
+        layerCtx.save();
+        layerCtx.setFillRule(FillRule.EVEN_ODD);
+        layerCtx.setFill(dropShadow.getColor());
+        Helper.drawPath(layerCtx, needle);
+        layerCtx.fill();
+        layerCtx.restore();
+
+        layerCanvas.setEffect(needleShadowBlur);
+        final Bounds BOUNDS = layerCanvas.getBoundsInLocal();
+        needleShadowLayerX = BOUNDS.getMinX();
+        needleShadowLayerY = BOUNDS.getMinY();
+        needleShadowLayer  = snapshotLayer(needleShadowLayer, needleShadowBlur);
+    }
+
+    private void prepareLayer(final double WIDTH, final double HEIGHT) {
+        layerCanvas.setEffect(null);
+        layerCanvas.setWidth(WIDTH);
+        layerCanvas.setHeight(HEIGHT);
+        layerCtx.clearRect(0, 0, WIDTH, HEIGHT);
+    }
+
+    /**
+     * Renders the off-screen canvas with the given effect into an image.
+     * The given image will be reused if it has the right size.
+     * @param IMAGE
+     * @param EFFECT
+     * @return an image that contains the content of the off-screen canvas
+     */
+    private WritableImage snapshotLayer(final WritableImage IMAGE, final Effect EFFECT) {
+        layerCanvas.setEffect(EFFECT);
+        final Bounds  BOUNDS   = layerCanvas.getBoundsInLocal();
+        final boolean REUSABLE = null != IMAGE &&
+                                 (int) IMAGE.getWidth() == (int) Math.ceil(BOUNDS.getWidth()) &&
+                                 (int) IMAGE.getHeight() == (int) Math.ceil(BOUNDS.getHeight());
+        final WritableImage SNAPSHOT = layerCanvas.snapshot(snapshotParameters, REUSABLE ? IMAGE : null);
+        layerCanvas.setEffect(null);
+        return SNAPSHOT;
+    }
+
+    private void updateMarkers() {
+        markerMap.clear();
+        for (Marker marker : gauge.getMarkers()) { markerMap.put(marker, Point2D.ZERO); }
+    }
+
+    private boolean isOnKnob(final double X, final double Y) {
+        if (!gauge.isInteractive() || !gauge.isKnobVisible()) return false;
+        double center = size * 0.5;
+        return Math.hypot(X - center, Y - center) <= size * 0.05;
+    }
+
+    private Marker getMarkerAt(final double X, final double Y) {
+        if (!gauge.getMarkersVisible()) return null;
+        double hitRadius = 0.025 * size;
+        for (Map.Entry<Marker, Point2D> entry : markerMap.entrySet()) {
+            if (entry.getValue().distance(X, Y) <= hitRadius) return entry.getKey();
+        }
+        return null;
+    }
+
+    private void updateTooltip(final double X, final double Y) {
+        String text = null;
+        if (X >= 0 && Y >= 0) {
+            Marker marker = getMarkerAt(X, Y);
+            if (isOnKnob(X, Y) && !gauge.getButtonTooltipText().isEmpty()) {
+                text = gauge.getButtonTooltipText();
+            } else if (null != marker) {
+                text = marker.getText().isEmpty() ? Double.toString(marker.getValue()) : new StringBuilder(marker.getText()).append("\n(").append(Double.toString(marker.getValue())).append(")").toString();
+            } else if (null != thresholdPoint && thresholdPoint.distance(X, Y) <= 0.025 * size) {
+                text = "Threshold\n(" + String.format(gauge.getLocale(), "%." + gauge.getDecimals() + "f", gauge.getThreshold()) + ")";
+            }
+        }
+        if (null == text) {
+            if (tooltipInstalled) {
+                Tooltip.uninstall(canvas, tooltip);
+                tooltipInstalled = false;
+            }
+        } else {
+            tooltip.setText(text);
+            if (!tooltipInstalled) {
+                Tooltip.install(canvas, tooltip);
+                tooltipInstalled = true;
+            }
+        }
+    }
+
+    private void resizeNeedle() {
+        double pivotFactor;
+        switch(gauge.getNeedleType()) {
+            case BIG:
+                needleWidth  = 0.06 * size;
+                needleHeight = TickLabelLocation.INSIDE == tickLabelLocation ? 0.4975 * size : 0.415 * size;
+                pivotFactor  = TickLabelLocation.INSIDE == tickLabelLocation ? 0.93969849 : 0.92771084;
+                break;
+            case FAT:
+                needleWidth  = 0.3 * size;
+                needleHeight = 0.505 * size;
+                pivotFactor  = 0.7029703;
+                break;
+            case SCIENTIFIC:
+                needleWidth  = 0.1 * size;
+                needleHeight = TickLabelLocation.INSIDE == tickLabelLocation ? 0.645 * size : 0.5625 * size;
+                pivotFactor  = TickLabelLocation.INSIDE == tickLabelLocation ? 0.7248062 : 0.68444444;
+                break;
+            case AVIONIC:
+                needleWidth  = 0.06 * size;
+                needleHeight = TickLabelLocation.INSIDE == tickLabelLocation ? 0.5975 * size : 0.515 * size;
+                pivotFactor  = TickLabelLocation.INSIDE == tickLabelLocation ? 0.78242678 : 0.74757282;
+                break;
+            case VARIOMETER:
+                needleWidth  = size * gauge.getNeedleSize().FACTOR;
+                needleHeight = TickLabelLocation.INSIDE == tickLabelLocation ? size * 0.4675 : size * 0.385;
+                pivotFactor  = 1.0;
+                break;
+            case STANDARD:
+            default      :
+                needleWidth  = size * gauge.getNeedleSize().FACTOR;
+                needleHeight = TickLabelLocation.INSIDE == tickLabelLocation ? size * 0.455 : size * 0.3965;
+                pivotFactor  = 1.0;
+                break;
+        }
+        Needle.INSTANCE.getPath(needle, needleWidth, needleHeight, gauge.getNeedleType(), tickLabelLocation);
+        needlePivotY = needleHeight * pivotFactor;
+    }
+
+    @Override protected void resize() {
+        double width  = gauge.getWidth() - gauge.getInsets().getLeft() - gauge.getInsets().getRight();
+        double height = gauge.getHeight() - gauge.getInsets().getTop() - gauge.getInsets().getBottom();
+        size          = width < height ? width : height;
+
+        if (size > 0) {
+            canvas.setWidth(size);
+            canvas.setHeight(size);
+            canvas.relocate((gauge.getWidth() - size) * 0.5, (gauge.getHeight() - size) * 0.5);
+
+            dropShadow.setRadius(0.008 * size);
+            dropShadow.setOffsetY(0.008 * size);
+            needleShadowBlur.setRadius(0.008 * size);
+
+            backgroundInnerShadow.setOffsetX(0);
+            backgroundInnerShadow.setOffsetY(size * 0.03);
+            backgroundInnerShadow.setRadius(size * 0.04);
+
+            ledSize = 0.07 * size;
+
+            tickLabelLocation = gauge.getTickLabelLocation();
+            if (gauge.isLcdVisible()) {
+                switch(gauge.getLcdFont()) {
+                    case LCD:
+                        valueFont = Fonts.digital(0.108 * size);
+                        valueY    = 0.64 * size;
+                        break;
+                    case DIGITAL:
+                        valueFont = Fonts.digitalReadout(0.105 * size);
+                        valueY    = 0.65 * size;
+                        break;
+                    case DIGITAL_BOLD:
+                        valueFont = Fonts.digitalReadoutBold(0.105 * size);
+                        valueY    = 0.65 * size;
+                        break;
+                    case ELEKTRA:
+                        valueFont = Fonts.elektra(0.1116 * size);
+                        valueY    = 0.645 * size;
+                        break;
+                    case STANDARD:
+                    default:
+                        valueFont = Fonts.robotoMedium(0.09 * size);
+                        valueY    = 0.64 * size;
+                        break;
+                }
+                valueX = 0.691 * size;
+            } else {
+                valueFont = Fonts.robotoMedium(size * 0.1);
+                valueX    = size * 0.5;
+                valueY    = size * 0.65;
+            }
+
+            resizeNeedle();
+        }
+    }
+
+    @Override protected void redraw() {
+        tickLabelLocation = gauge.getTickLabelLocation();
+        scaleDirection    = gauge.getScaleDirection();
+        areasVisible      = gauge.getAreasVisible();
+        sectionsVisible   = gauge.getSectionsVisible();
+        needleBehavior    = gauge.getNeedleBehavior();
+        if (size <= 0) return;
+
+        drawStaticLayer();
+        drawLedLayers();
+        drawKnobLayer();
+        drawNeedleShadowLayer();
+
+        needlePaint = createNeedlePaint(gauge.getNeedleColor());
+
+        rotateNeedle(gauge.getCurrentValue());
+        paint();
+    }
+
+    /**
+     * Creates the paint of a needle with the given color for the current
+     * needle shape, type and size.
+     * @param NEEDLE_COLOR
+     * @return the paint of a needle with the given color
+     */
+    protected Paint createNeedlePaint(final Color NEEDLE_COLOR) {
+        if (NeedleType.AVIONIC == gauge.getNeedleType()) {
+            return new LinearGradient(0, 0, 0, needleHeight,
+                                      false, CycleMethod.NO_CYCLE,
+                                      new Stop(0.0, NEEDLE_COLOR),
+                                      new Stop(0.3, NEEDLE_COLOR),
+                                      new Stop(0.3, Color.BLACK),
+                                      new Stop(1.0, Color.BLACK));
+        }
+        switch(gauge.getNeedleShape()) {
+            case ROUND:
+                return new LinearGradient(0, 0, needleWidth, 0,
+                                          false, CycleMethod.NO_CYCLE,
+                                          new Stop(0.0, NEEDLE_COLOR.darker()),
+                                          new Stop(0.5, NEEDLE_COLOR.brighter().brighter()),
+                                          new Stop(1.0, NEEDLE_COLOR.darker()));
+            case FLAT:
+                return NEEDLE_COLOR;
+            case ANGLED:
+            default:
+                return new LinearGradient(0, 0, needleWidth, 0,
+                                          false, CycleMethod.NO_CYCLE,
+                                          new Stop(0.0, NEEDLE_COLOR.darker()),
+                                          new Stop(0.5, NEEDLE_COLOR.darker()),
+                                          new Stop(0.5, NEEDLE_COLOR.brighter()),
+                                          new Stop(1.0, NEEDLE_COLOR.brighter()));
+        }
+    }
+}
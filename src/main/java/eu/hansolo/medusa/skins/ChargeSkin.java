@@ -85,7 +85,7 @@ public class ChargeSkin extends GaugeSkinBase {
         borderWidth          = 0;
         bars                 = new Region[12];
         barBackgrounds       = new Background[24];
-        currentValueListener = o -> handleEvents("VALUE");
+        currentValueListener = deferrable(o -> handleEvents("VALUE"));
         paneWidthListener    = (o, ov, nv) -> { if (ov.intValue() == 0 && nv.intValue() > 0) Platform.runLater(() -> resize()); };
 
         initGraphics();
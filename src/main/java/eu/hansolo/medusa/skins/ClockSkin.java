@@ -21,6 +21,7 @@ import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.TimeSection;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.ShadowSprite;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.scene.CacheHint;
@@ -48,6 +49,7 @@ import javafx.scene.transform.Rotate;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -82,6 +84,10 @@ public class ClockSkin extends ClockSkinBase {
     private              Group              shadowGroupMinute;
     private              Group              shadowGroupSecond;
     private              DropShadow         dropShadow;
+    private              ShadowSprite       hourShadow;
+    private              ShadowSprite       minuteShadow;
+    private              ShadowSprite       secondShadow;
+    private              ShadowSprite       knobShadow;
     private              List<TimeSection>  sections;
     private              List<TimeSection>  areas;
     private              boolean            sectionsVisible;
@@ -161,13 +167,16 @@ public class ClockSkin extends ClockSkinBase {
         dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
-        shadowGroupHour   = new Group(hour);
-        shadowGroupMinute = new Group(minute);
-        shadowGroupSecond = new Group(second, knob);
+        hourShadow   = new ShadowSprite(hour);
+        minuteShadow = new ShadowSprite(minute);
+        secondShadow = new ShadowSprite(second);
+        knobShadow   = new ShadowSprite(knob);
 
-        shadowGroupHour.setEffect(getSkinnable().getShadowsEnabled() ? dropShadow : null);
-        shadowGroupMinute.setEffect(getSkinnable().getShadowsEnabled() ? dropShadow : null);
-        shadowGroupSecond.setEffect(getSkinnable().getShadowsEnabled() ? dropShadow : null);
+        shadowGroupHour   = new Group(hourShadow, hour);
+        shadowGroupMinute = new Group(minuteShadow, minute);
+        shadowGroupSecond = new Group(secondShadow, knobShadow, second, knob);
+
+        enableShadows(getSkinnable().getShadowsEnabled());
 
         title = new Text("");
         title.setVisible(getSkinnable().isTitleVisible());
@@ -225,6 +234,13 @@ public class ClockSkin extends ClockSkinBase {
 
 
     // ******************** Canvas ********************************************
+    private void enableShadows(final boolean ENABLED) {
+        hourShadow.setEnabled(ENABLED);
+        minuteShadow.setEnabled(ENABLED);
+        secondShadow.setEnabled(ENABLED);
+        knobShadow.setEnabled(ENABLED);
+    }
+
     private void drawTicks() {
         double  sinValue;
         double  cosValue;
@@ -267,6 +283,10 @@ public class ClockSkin extends ClockSkinBase {
 
     // ******************** Graphics ******************************************
     @Override public void updateTime(final ZonedDateTime TIME) {
+        final boolean NEW_MINUTE = isNew(ChronoUnit.MINUTES, TIME);
+        final boolean NEW_HOUR   = isNew(ChronoUnit.HOURS, TIME);
+        final boolean NEW_DAY    = isNew(ChronoUnit.DAYS, TIME);
+
         if (getSkinnable().isDiscreteHours()) {
             hourRotate.setAngle(TIME.getHour() * 30);
         } else {
@@ -287,20 +307,20 @@ public class ClockSkin extends ClockSkinBase {
             }
         }
 
-        if (text.isVisible()) {
+        if (NEW_MINUTE && text.isVisible()) {
             text.setText(TIME_FORMATTER.format(TIME));
             Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
-        if (dateText.isVisible()) {
+        if (NEW_DAY && dateText.isVisible()) {
             dateText.setText(DATE_FORMATER.format(TIME).toUpperCase());
             Helper.adjustTextSize(dateText, 0.3 * size, size * 0.05);
             dateText.relocate(((size * 0.5) - dateText.getLayoutBounds().getWidth()) * 0.5 + (size * 0.45), (size - dateText.getLayoutBounds().getHeight()) * 0.5);
         }
 
         // Show all alarms within the next hour
-        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) Helper.drawAlarms(getSkinnable(), size, 0.02, 0.45, alarmMap, DATE_TIME_FORMATTER, TIME);
+        if (NEW_HOUR) Helper.drawAlarms(getSkinnable(), size, 0.02, 0.45, alarmMap, DATE_TIME_FORMATTER, TIME);
 
         // Highlight Areas and Sections
         if (highlightAreas | highlightSections) {
@@ -407,9 +427,11 @@ public class ClockSkin extends ClockSkinBase {
         dateText.setFill(clock.getDateColor());
         text.setFill(clock.getTextColor());
 
-        shadowGroupHour.setEffect(getSkinnable().getShadowsEnabled() ? dropShadow : null);
-        shadowGroupMinute.setEffect(getSkinnable().getShadowsEnabled() ? dropShadow : null);
-        shadowGroupSecond.setEffect(getSkinnable().getShadowsEnabled() ? dropShadow : null);
+        enableShadows(getSkinnable().getShadowsEnabled());
+        hourShadow.update(dropShadow);
+        minuteShadow.update(dropShadow);
+        secondShadow.update(dropShadow);
+        knobShadow.update(dropShadow);
 
         // Areas, Sections
         sectionsAndAreasCtx.clearRect(0, 0, size, size);
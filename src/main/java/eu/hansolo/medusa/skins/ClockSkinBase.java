@@ -19,14 +19,23 @@ package eu.hansolo.medusa.skins;
 import eu.hansolo.medusa.Alarm;
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.tools.Metrics;
+import eu.hansolo.medusa.tools.VisibilityTracker;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
 import javafx.scene.control.Skin;
 import javafx.scene.control.SkinBase;
 
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -46,6 +55,13 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     protected InvalidationListener      currentTimeListener;
     protected InvalidationListener      timeListener;
     protected ListChangeListener<Alarm> alarmListener;
+    private   VisibilityTracker         visibilityTracker;
+    private   Set<String>               suspendedEvents;
+    private   boolean                   timeSuspended;
+    private   boolean                   alarmsSuspended;
+    private   List<Node>                skinChildren;
+    private   ZoneId                    zoneId;
+    private   long[]                    lastTimeUnits;
 
 
     // ******************** Constructors **************************************
@@ -53,14 +69,36 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
         super(CLOCK);
 
         clock               = CLOCK;
-        sizeListener        = o -> handleEvents("RESIZE");
-        updateEventListener = e -> handleEvents(e.eventType.name());
-        currentTimeListener = o -> updateTime(ZonedDateTime.ofInstant(Instant.ofEpochSecond(clock.getCurrentTime()), ZoneId.of(ZoneId.systemDefault().getId())));
-        timeListener        = o -> updateTime(clock.getTime());
+        sizeListener        = o -> scheduleEvent("RESIZE");
+        updateEventListener = e -> scheduleEvent(e.eventType.name());
+        currentTimeListener = o -> {
+            if (isSuspended()) {
+                timeSuspended = true;
+            } else {
+                dispatchTime(ZonedDateTime.ofInstant(Instant.ofEpochSecond(clock.getCurrentTime()), zoneId));
+            }
+        };
+        timeListener        = o -> {
+            if (isSuspended()) {
+                timeSuspended = true;
+            } else {
+                dispatchTime(clock.getTime());
+            }
+        };
         alarmListener       = c -> {
-            updateAlarms();
-            redraw();
+            if (isSuspended()) {
+                alarmsSuspended = true;
+            } else {
+                updateAlarms();
+                redraw();
+            }
         };
+        visibilityTracker   = new VisibilityTracker(CLOCK, () -> { if (!isSuspended()) { resume(); } });
+        suspendedEvents     = new LinkedHashSet<>();
+        skinChildren        = new ArrayList<>();
+        zoneId              = ZoneId.systemDefault();
+        lastTimeUnits       = new long[ChronoUnit.values().length];
+        invalidateTimeUnits();
     }
 
 
@@ -68,6 +106,8 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     protected abstract void initGraphics();
 
     protected void registerListeners() {
+        skinChildren.clear();
+        skinChildren.addAll(getChildren());
         clock.widthProperty().addListener(sizeListener);
         clock.heightProperty().addListener(sizeListener);
         clock.setOnUpdate(updateEventListener);
@@ -77,6 +117,7 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
             clock.timeProperty().addListener(timeListener);
         }
         clock.getAlarms().addListener(alarmListener);
+        updateVisibilityTracking();
     }
 
 
@@ -88,7 +129,97 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     @Override protected double computeMaxWidth(final double HEIGHT, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT)  { return MAXIMUM_WIDTH; }
     @Override protected double computeMaxHeight(final double WIDTH, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT)  { return MAXIMUM_HEIGHT; }
 
+    /**
+     * Returns true if the clock is not showing on screen and suspendWhenHidden
+     * is enabled. In this case all events and time updates will be collected
+     * and handled once the clock is showing again.
+     * @return true if the skin doesn't update its graphics at the moment
+     */
+    protected boolean isSuspended() { return clock.isSuspendWhenHidden() && !visibilityTracker.isShowing(); }
+
+    protected void scheduleEvent(final String EVENT_TYPE) {
+        updateVisibilityTracking();
+        if (isSuspended()) {
+            suspendedEvents.add(EVENT_TYPE);
+            return;
+        }
+        resume();
+        dispatchEvent(EVENT_TYPE);
+    }
+
+    /**
+     * Calls handleEvents() and measures its duration if the Metrics are enabled.
+     * @param EVENT_TYPE
+     */
+    private void dispatchEvent(final String EVENT_TYPE) {
+        if (!Metrics.isEnabled()) {
+            handleEvents(EVENT_TYPE);
+            return;
+        }
+        final long START = System.nanoTime();
+        handleEvents(EVENT_TYPE);
+        Metrics.skinEventHandled("Clock." + clock.getSkinType().name(), getClass(), EVENT_TYPE, System.nanoTime() - START);
+    }
+
+    /**
+     * Calls updateTime() and measures its duration as TIME event if the
+     * Metrics are enabled.
+     * @param TIME
+     */
+    private void dispatchTime(final ZonedDateTime TIME) {
+        if (!Metrics.isEnabled()) {
+            updateTime(TIME);
+            return;
+        }
+        final long START = System.nanoTime();
+        updateTime(TIME);
+        Metrics.skinEventHandled("Clock." + clock.getSkinType().name(), getClass(), "TIME", System.nanoTime() - START);
+    }
+
+    private void updateVisibilityTracking() {
+        if (clock.isSuspendWhenHidden()) {
+            visibilityTracker.start();
+        } else {
+            visibilityTracker.stop();
+        }
+    }
+
+    /**
+     * Handles all events, alarm and time updates that have been collected
+     * while the skin was suspended with one resize or redraw at the end.
+     */
+    private void resume() {
+        if (suspendedEvents.isEmpty() && !timeSuspended && !alarmsSuspended) return;
+        final List<String> EVENTS = new ArrayList<>(suspendedEvents);
+        final boolean      TIME   = timeSuspended;
+        final boolean      ALARMS = alarmsSuspended;
+        suspendedEvents.clear();
+        timeSuspended   = false;
+        alarmsSuspended = false;
+
+        for (String event : EVENTS) {
+            if ("RESIZE".equals(event) || "REDRAW".equals(event)) continue;
+            dispatchEvent(event);
+        }
+        if (ALARMS) { updateAlarms(); }
+        if (EVENTS.contains("RESIZE")) {
+            dispatchEvent("RESIZE");
+        } else if (EVENTS.contains("REDRAW") || ALARMS) {
+            dispatchEvent("REDRAW");
+        }
+        if (TIME) {
+            if (clock.isAnimated()) {
+                currentTimeListener.invalidated(clock.currentTimeProperty());
+            } else {
+                timeListener.invalidated(clock.timeProperty());
+            }
+        }
+    }
+
     protected void handleEvents(final String EVENT_TYPE) {
+        // Events might change the size, visibility or look of the elements that depend on the time
+        invalidateTimeUnits();
+        zoneId = ZoneId.systemDefault();
         if ("RESIZE".equals(EVENT_TYPE)) {
             resize();
             redraw();
@@ -101,19 +232,64 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
         clock.widthProperty().removeListener(sizeListener);
         clock.heightProperty().removeListener(sizeListener);
         clock.removeUpdateEventListener(updateEventListener);
+        // The animated flag might have changed since the listeners have been registered
+        clock.currentTimeProperty().removeListener(currentTimeListener);
+        clock.timeProperty().removeListener(timeListener);
+        clock.getAlarms().removeListener(alarmListener);
+        visibilityTracker.stop();
+        clock = null;
+    }
+
+    /**
+     * Attaches a skin that has been disposed before (e.g. a skin that was
+     * kept in the skin pool of the clock) to the clock again. The nodes
+     * of the skin will be added to the clock, all listeners that have been
+     * removed by dispose() will be registered again and the skin will be
+     * updated to the current time of the clock.
+     */
+    public void reattach() {
+        clock = getSkinnable();
+        getChildren().setAll(skinChildren);
+        registerListeners();
+        handleEvents("VISIBILITY");
+        handleEvents("RESIZE");
+        updateAlarms();
         if (clock.isAnimated()) {
-            clock.currentTimeProperty().removeListener(currentTimeListener);
+            currentTimeListener.invalidated(clock.currentTimeProperty());
         } else {
-            clock.timeProperty().removeListener(timeListener);
+            timeListener.invalidated(clock.timeProperty());
         }
-        clock.getAlarms().removeListener(alarmListener);
-        clock = null;
     }
 
 
     // ******************** Graphics ******************************************
     public abstract void updateTime(final ZonedDateTime TIME);
 
+    /**
+     * Returns true if the given time lies in another unit (e.g. another
+     * minute) than the time that was given at the last call with this unit.
+     * Skins should call it once per unit at the beginning of updateTime()
+     * and only format, fit and relocate the elements that depend on this
+     * unit if it returns true. All units will be treated as new after the
+     * skin has handled an event (e.g. RESIZE or VISIBILITY).
+     * @param UNIT a unit from SECONDS to DAYS
+     * @param TIME
+     * @return true if the given time lies in another unit than the last time
+     */
+    protected boolean isNew(final ChronoUnit UNIT, final ZonedDateTime TIME) {
+        final long SECONDS = UNIT.getDuration().getSeconds();
+        if (SECONDS < 1 || SECONDS > ChronoUnit.DAYS.getDuration().getSeconds()) { throw new IllegalArgumentException("Unit " + UNIT + " is not supported"); }
+        final long VALUE = Math.floorDiv(TIME.toEpochSecond() + TIME.getOffset().getTotalSeconds(), SECONDS);
+        if (VALUE == lastTimeUnits[UNIT.ordinal()]) return false;
+        lastTimeUnits[UNIT.ordinal()] = VALUE;
+        return true;
+    }
+
+    /**
+     * Treats all units as new on the next call of isNew().
+     */
+    protected void invalidateTimeUnits() { Arrays.fill(lastTimeUnits, Long.MIN_VALUE); }
+
     public abstract void updateAlarms();
 
 
@@ -21,6 +21,7 @@ import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.TimeSection;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.ShadowSprite;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.scene.CacheHint;
@@ -53,6 +54,7 @@ import javafx.scene.transform.Rotate;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -87,6 +89,9 @@ public class DBClockSkin extends ClockSkinBase {
     private              Group              shadowGroupMinute;
     private              Group              shadowGroupSecond;
     private              DropShadow         dropShadow;
+    private              ShadowSprite       hourShadow;
+    private              ShadowSprite       minuteShadow;
+    private              ShadowSprite       secondShadow;
     private              List<TimeSection>  sections;
     private              List<TimeSection>  areas;
     private              boolean            sectionsVisible;
@@ -171,14 +176,18 @@ public class DBClockSkin extends ClockSkinBase {
         knob.setStroke(null);
         knob.setFill(clock.getKnobColor());
         knob.setEffect(dropShadow);
+        knob.setCache(true);
+        knob.setCacheHint(CacheHint.QUALITY);
 
-        shadowGroupHour   = new Group(hour);
-        shadowGroupMinute = new Group(minute);
-        shadowGroupSecond = new Group(second);
+        hourShadow   = new ShadowSprite(hour);
+        minuteShadow = new ShadowSprite(minute);
+        secondShadow = new ShadowSprite(second);
 
-        shadowGroupHour.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupMinute.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupSecond.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
+        shadowGroupHour   = new Group(hourShadow, hour);
+        shadowGroupMinute = new Group(minuteShadow, minute);
+        shadowGroupSecond = new Group(secondShadow, second);
+
+        enableShadows(clock.getShadowsEnabled());
 
         title = new Text("");
         title.setVisible(clock.isTitleVisible());
@@ -275,6 +284,12 @@ public class DBClockSkin extends ClockSkinBase {
 
 
     // ******************** Graphics ******************************************
+    private void enableShadows(final boolean ENABLED) {
+        hourShadow.setEnabled(ENABLED);
+        minuteShadow.setEnabled(ENABLED);
+        secondShadow.setEnabled(ENABLED);
+    }
+
     private void createSecondPointer() {
         double width  = size * 0.11866667;
         double height = size * 0.46266667;
@@ -327,6 +342,9 @@ public class DBClockSkin extends ClockSkinBase {
     }
 
     @Override public void updateTime(final ZonedDateTime TIME) {
+        final boolean NEW_MINUTE = isNew(ChronoUnit.MINUTES, TIME);
+        final boolean NEW_HOUR   = isNew(ChronoUnit.HOURS, TIME);
+
         if (clock.isDiscreteMinutes()) {
             minuteRotate.setAngle(TIME.getMinute() * 6);
         } else {
@@ -345,14 +363,14 @@ public class DBClockSkin extends ClockSkinBase {
             hourRotate.setAngle(0.5 * (60 * TIME.getHour() + TIME.getMinute()));
         }
 
-        if (text.isVisible()) {
+        if (NEW_MINUTE && text.isVisible()) {
             text.setText(TIME_FORMATTER.format(TIME));
             Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
         // Show all alarms within the next hour
-        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) Helper.drawAlarms(clock, size, 0.02, 0.445, alarmMap, DATE_TIME_FORMATTER, TIME);
+        if (NEW_HOUR) Helper.drawAlarms(clock, size, 0.02, 0.445, alarmMap, DATE_TIME_FORMATTER, TIME);
 
         // Highlight Areas and Sections
         if (highlightAreas | highlightSections) {
@@ -444,9 +462,10 @@ public class DBClockSkin extends ClockSkinBase {
         title.setFill(clock.getTitleColor());
         text.setFill(clock.getTextColor());
 
-        shadowGroupHour.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupMinute.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupSecond.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
+        enableShadows(clock.getShadowsEnabled());
+        hourShadow.update(dropShadow);
+        minuteShadow.update(dropShadow);
+        secondShadow.update(dropShadow);
 
         // Areas, Sections
         sectionsAndAreasCtx.clearRect(0, 0, size, size);
@@ -27,6 +27,7 @@ import java.util.regex.Pattern;
 import javafx.beans.InvalidationListener;
 import javafx.geometry.Insets;
 import javafx.geometry.VPos;
+import javafx.scene.CacheHint;
 import javafx.scene.effect.BlurType;
 import javafx.scene.effect.InnerShadow;
 import javafx.scene.layout.Background;
@@ -117,7 +118,7 @@ public class DashboardSkin extends GaugeSkinBase {
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         otherFormatString    = new StringBuilder("%.").append(Integer.toString(gauge.getTickLabelDecimals())).append("f").toString();
         locale               = gauge.getLocale();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -183,6 +184,8 @@ public class DashboardSkin extends GaugeSkinBase {
         barBackground.setFill(gauge.getBarBackgroundColor());
         barBackground.setStroke(gauge.getBorderPaint());
         barBackground.setEffect(gauge.isShadowsEnabled() ? innerShadow : null);
+        barBackground.setCache(true);
+        barBackground.setCacheHint(CacheHint.QUALITY);
 
         dataBarStart          = new MoveTo(0, 0.675 * PREFERRED_HEIGHT);
         dataBarOuterArc       = new ArcTo(0.675 * PREFERRED_HEIGHT, 0.675 * PREFERRED_HEIGHT, 0, 0, 0, false, true);
@@ -20,6 +20,7 @@ import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.ShadowSprite;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.geometry.VPos;
@@ -61,6 +62,7 @@ public class DesignClockSkin extends ClockSkinBase {
     private              Line            needle;
     private              Pane            pane;
     private              Group           shadowGroup;
+    private              ShadowSprite    needleShadow;
     private              DropShadow      dropShadow;
     private              InnerShadow     innerShadow;
 
@@ -102,8 +104,10 @@ public class DesignClockSkin extends ClockSkinBase {
         dropShadow = new DropShadow();
         dropShadow = new DropShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.25), 0.015 * PREFERRED_WIDTH, 0.0, 0.0, 0.015 * PREFERRED_WIDTH);
 
-        shadowGroup = new Group(needle);
-        shadowGroup.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
+        needleShadow = new ShadowSprite(needle);
+        enableShadows(clock.getShadowsEnabled());
+
+        shadowGroup = new Group(needleShadow, needle);
 
         innerShadow = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), 4, 0.0, 0, 1);
 
@@ -133,6 +137,10 @@ public class DesignClockSkin extends ClockSkinBase {
 
 
     // ******************** Canvas ********************************************
+    private void enableShadows(final boolean ENABLED) {
+        needleShadow.setEnabled(ENABLED);
+    }
+
     private void drawTicks() {
         double  sinValue;
         double  cosValue;
@@ -251,7 +259,7 @@ public class DesignClockSkin extends ClockSkinBase {
         pane.setBorder(new Border(new BorderStroke(clock.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(clock.getBorderWidth() / PREFERRED_WIDTH * size))));
         pane.setBackground(new Background(new BackgroundFill(clock.getBackgroundPaint(), new CornerRadii(1024), Insets.EMPTY)));
 
-        shadowGroup.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
+        enableShadows(clock.getShadowsEnabled());
 
         // Tick Marks
         tickCanvas.setCache(false);
@@ -264,5 +272,7 @@ public class DesignClockSkin extends ClockSkinBase {
         ZonedDateTime time = clock.getTime();
 
         updateTime(time);
+
+        needleShadow.update(dropShadow);
     }
 }
@@ -81,6 +81,7 @@ public class DigitalSkin extends GaugeSkinBase {
     private boolean              thresholdVisible;
     private Color                thresholdColor;
     private InvalidationListener currentValueListener;
+    private VisualQuantum        valueQuantum;
 
 
     // ******************** Constructors **************************************
@@ -102,7 +103,8 @@ public class DigitalSkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         thresholdVisible     = gauge.isThresholdVisible();
         thresholdColor       = gauge.getThresholdColor();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> setBar(gauge.getCurrentValue()));
+        valueQuantum         = new VisualQuantum();
 
         initGraphics();
         registerListeners();
@@ -153,6 +155,7 @@ public class DigitalSkin extends GaugeSkinBase {
 
     // ******************** Methods *******************************************
     @Override protected void handleEvents(final String EVENT_TYPE) {
+        valueQuantum.invalidate();
         super.handleEvents(EVENT_TYPE);
         if ("RECALC".equals(EVENT_TYPE)) {
             minValue  = gauge.getMinValue();
@@ -178,28 +181,42 @@ public class DigitalSkin extends GaugeSkinBase {
 
     // ******************** Canvas ********************************************
     private void setBar(final double VALUE) {
-        barCtx.clearRect(0, 0, size, size);
-        barCtx.setLineCap(StrokeLineCap.BUTT);
-        barCtx.setStroke(barColor);
-        barCtx.setLineWidth(barWidth);
-
+        Color barStroke = barColor;
         if (sectionsVisible) {
             int listSize = sections.size();
             for (int i = 0 ; i < listSize ;i++) {
                 Section section = sections.get(i);
                 if (section.contains(VALUE)) {
-                    barCtx.setStroke(section.getColor());
+                    barStroke = section.getColor();
                     break;
                 }
             }
         }
 
         if (thresholdVisible && VALUE > gauge.getThreshold()) {
-            barCtx.setStroke(thresholdColor);
+            barStroke = thresholdColor;
         }
 
         double v             = (VALUE - minValue) * angleStep;
         int    minValueAngle = (int) (-minValue * angleStep);
+
+        // The bar consists of segments of 6 degrees, only the number of lit segments, the color and the text are visible
+        long step;
+        if (!isStartFromZero || VALUE > 0) {
+            step = (long) Math.ceil(v / 6);
+        } else if (VALUE < 0) {
+            step = -1 - (long) Math.floor(v / 6);
+        } else {
+            step = Long.MIN_VALUE;
+        }
+        String text = formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE);
+        if (!valueQuantum.isVisibleChange(step, barStroke, text)) return;
+
+        barCtx.clearRect(0, 0, size, size);
+        barCtx.setLineCap(StrokeLineCap.BUTT);
+        barCtx.setStroke(barStroke);
+        barCtx.setLineWidth(barWidth);
+
         if (!isStartFromZero) {
             for (int i = 0; i < 300; i++) {
                 if (i % 6 == 0 && i < v) {
@@ -223,7 +240,7 @@ public class DigitalSkin extends GaugeSkinBase {
                 }
             }
         }
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(text);
         valueText.setLayoutX(valueBkgText.getLayoutBounds().getMaxX() - valueText.getLayoutBounds().getWidth());
     }
 
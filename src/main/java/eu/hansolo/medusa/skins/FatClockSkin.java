@@ -22,6 +22,7 @@ import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.TimeSection;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.ShadowSprite;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.geometry.VPos;
@@ -54,6 +55,7 @@ import javafx.scene.text.TextAlignment;
 import javafx.scene.transform.Rotate;
 
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
@@ -83,6 +85,8 @@ public class FatClockSkin extends ClockSkinBase {
     private              Rotate             hourRotate;
     private              Rotate             minuteRotate;
     private              Group              shadowGroup;
+    private              ShadowSprite       hourShadow;
+    private              ShadowSprite       minuteShadow;
     private              DropShadow         dropShadow;
     private              List<TimeSection>  sections;
     private              List<TimeSection>  areas;
@@ -154,8 +158,11 @@ public class FatClockSkin extends ClockSkinBase {
         dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
-        shadowGroup = new Group(hour, minute);
-        shadowGroup.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
+        hourShadow   = new ShadowSprite(hour);
+        minuteShadow = new ShadowSprite(minute);
+        enableShadows(clock.getShadowsEnabled());
+
+        shadowGroup = new Group(hourShadow, minuteShadow, hour, minute);
 
         title = new Text("");
         title.setVisible(clock.isTitleVisible());
@@ -206,6 +213,11 @@ public class FatClockSkin extends ClockSkinBase {
 
 
     // ******************** Canvas ********************************************
+    private void enableShadows(final boolean ENABLED) {
+        hourShadow.setEnabled(ENABLED);
+        minuteShadow.setEnabled(ENABLED);
+    }
+
     private void drawTicks() {
         double  sinValue;
         double  cosValue;
@@ -302,6 +314,10 @@ public class FatClockSkin extends ClockSkinBase {
     }
     
     @Override public void updateTime(final ZonedDateTime TIME) {
+        final boolean NEW_MINUTE = isNew(ChronoUnit.MINUTES, TIME);
+        final boolean NEW_HOUR   = isNew(ChronoUnit.HOURS, TIME);
+        final boolean NEW_DAY    = isNew(ChronoUnit.DAYS, TIME);
+
         if (clock.isDiscreteMinutes()) {
             minuteRotate.setAngle(TIME.getMinute() * 6);
         } else {
@@ -314,20 +330,20 @@ public class FatClockSkin extends ClockSkinBase {
             hourRotate.setAngle(0.5 * (60 * TIME.getHour() + TIME.getMinute()));
         }
 
-        if (text.isVisible()) {
+        if (NEW_MINUTE && text.isVisible()) {
             text.setText(TIME_FORMATTER.format(TIME));
             Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
-        if (dateText.isVisible()) {
+        if (NEW_DAY && dateText.isVisible()) {
             dateText.setText(DATE_FORMATER.format(TIME).toUpperCase());
             Helper.adjustTextSize(dateText, 0.3 * size, size * 0.05);
             dateText.relocate(((size * 0.5) - dateText.getLayoutBounds().getWidth()) * 0.5 + (size * 0.45), (size - dateText.getLayoutBounds().getHeight()) * 0.5);
         }
 
         // Show all alarms within the next hour
-        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) Helper.drawAlarms(clock, size, 0.015, 0.485, alarmMap, DATE_TIME_FORMATTER, TIME);
+        if (NEW_HOUR) Helper.drawAlarms(clock, size, 0.015, 0.485, alarmMap, DATE_TIME_FORMATTER, TIME);
 
         // Highlight Areas and Sections
         if (highlightAreas | highlightSections) {
@@ -403,7 +419,7 @@ public class FatClockSkin extends ClockSkinBase {
         dateText.setFill(clock.getDateColor());
         text.setFill(clock.getTextColor());
 
-        shadowGroup.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
+        enableShadows(clock.getShadowsEnabled());
 
         // Areas, Sections
         sectionsAndAreasCtx.clearRect(0, 0, size, size);
@@ -435,6 +451,7 @@ public class FatClockSkin extends ClockSkinBase {
         alarmPane.getChildren().setAll(alarmMap.values());
         Helper.drawAlarms(clock, size, 0.015, 0.485, alarmMap, DATE_TIME_FORMATTER, time);
 
-
+        hourShadow.update(dropShadow);
+        minuteShadow.update(dropShadow);
     }
 }
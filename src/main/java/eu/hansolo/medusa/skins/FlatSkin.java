@@ -78,7 +78,7 @@ public class FlatSkin extends GaugeSkinBase {
         noOfGradientStops    = gauge.getGradientBarStops().size();
         sectionsVisible      = gauge.getSectionsVisible();
         sections             = gauge.getSections();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -23,12 +23,14 @@ import eu.hansolo.medusa.Gauge.NeedleBehavior;
 import eu.hansolo.medusa.Gauge.NeedleType;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.LcdDesign;
+import eu.hansolo.medusa.LevelOfDetail.Detail;
 import eu.hansolo.medusa.Marker;
 import eu.hansolo.medusa.Needle;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.ShadowSprite;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -113,6 +115,8 @@ public class GaugeSkin extends GaugeSkinBase {
     private Canvas                     knobCanvas;
     private GraphicsContext            knobCtx;
     private Group                      shadowGroup;
+    private ShadowSprite               needleShadow;
+    private ShadowSprite               knobShadow;
     private DropShadow                 dropShadow;
     private Text                       titleText;
     private Text                       subTitleText;
@@ -124,6 +128,7 @@ public class GaugeSkin extends GaugeSkinBase {
     private EventHandler<MouseEvent>   mouseHandler;
     private ListChangeListener<Marker> markerListener;
     private InvalidationListener       currentValueListener;
+    private VisualQuantum              valueQuantum;
     private Tooltip                    buttonTooltip;
     private Tooltip                    thresholdTooltip;
     private String                     formatString;
@@ -163,7 +168,8 @@ public class GaugeSkin extends GaugeSkinBase {
         scaleDirection       = gauge.getScaleDirection();
         needleBehavior       = gauge.getNeedleBehavior();
         mouseHandler         = event -> handleMouseEvent(event);
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> rotateNeedle(gauge.getCurrentValue()));
+        valueQuantum         = new VisualQuantum();
         markerListener       = c -> {
             updateMarkers();
             redraw();
@@ -239,8 +245,11 @@ public class GaugeSkin extends GaugeSkinBase {
         dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
-        shadowGroup = new Group(needle, knobCanvas);
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        needleShadow = new ShadowSprite(needle);
+        knobShadow   = new ShadowSprite(knobCanvas);
+        enableShadows(gauge.isShadowsEnabled());
+
+        shadowGroup = new Group(needleShadow, knobShadow, needle, knobCanvas);
 
         titleText = new Text(gauge.getTitle());
         titleText.setTextOrigin(VPos.CENTER);
@@ -301,6 +310,7 @@ public class GaugeSkin extends GaugeSkinBase {
 
     // ******************** Methods *******************************************
     @Override protected void handleEvents(final String EVENT_TYPE) {
+        valueQuantum.invalidate();
         super.handleEvents(EVENT_TYPE);
         if ("FINISHED".equals(EVENT_TYPE)) {
             double currentValue = gauge.getCurrentValue();
@@ -322,10 +332,7 @@ public class GaugeSkin extends GaugeSkinBase {
                 drawAreasAndSections(sectionsAndAreasCtx);
             }
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
-            Helper.enableNode(ledCanvas, gauge.isLedVisible());
-            Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
-            Helper.enableNode(subTitleText, !gauge.getSubTitle().isEmpty());
-            Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
+            applyLevelOfDetail();
             Helper.enableNode(valueText, gauge.isValueVisible());
             Helper.enableNode(lcd, gauge.isLcdVisible() && gauge.isValueVisible());
             Helper.enableNode(knobCanvas, gauge.isKnobVisible());
@@ -338,7 +345,7 @@ public class GaugeSkin extends GaugeSkinBase {
             resize();
             redraw();
         } else if ("LED".equals(EVENT_TYPE)) {
-            if (gauge.isLedVisible()) { drawLed(); }
+            if (gauge.isLedVisible() && isDetailVisible(Detail.LED, size)) { drawLed(); }
         } else if ("LCD".equals(EVENT_TYPE)) {
             if (gauge.isLcdVisible()) redraw();
         } else if ("RECALC".equals(EVENT_TYPE)) {
@@ -370,8 +377,8 @@ public class GaugeSkin extends GaugeSkinBase {
                     Tooltip.install(knobCanvas, buttonTooltip);
                 }
             } else {
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+                knobCanvas.setOnMousePressed(null);
+                knobCanvas.setOnMouseReleased(null);
                 Tooltip.uninstall(knobCanvas, buttonTooltip);
             }
         }
@@ -392,10 +399,8 @@ public class GaugeSkin extends GaugeSkinBase {
     @Override public void dispose() {
         gauge.getMarkers().removeListener(markerListener);
         gauge.currentValueProperty().removeListener(currentValueListener);
-        if (gauge.isInteractive()) {
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
-        }
+        knobCanvas.setOnMousePressed(null);
+        knobCanvas.setOnMouseReleased(null);
         super.dispose();
     }
 
@@ -424,12 +429,16 @@ public class GaugeSkin extends GaugeSkinBase {
             }
         }
 
-        needleRotate.setAngle(targetAngle);
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), value));
-        if (gauge.isLcdVisible()) {
-            valueText.setTranslateX((0.691 * size - valueText.getLayoutBounds().getWidth()));
-        } else {
-            valueText.setTranslateX((size - valueText.getLayoutBounds().getWidth()) * 0.5);
+        // Skip changes that neither move the needle tip by a pixel nor change the text
+        String text = formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), value);
+        if (valueQuantum.isVisibleChange(VisualQuantum.angleStep(targetAngle, 0.5 * size), null, text)) {
+            needleRotate.setAngle(targetAngle);
+            valueText.setText(text);
+            if (gauge.isLcdVisible()) {
+                valueText.setTranslateX((0.691 * size - valueText.getLayoutBounds().getWidth()));
+            } else {
+                valueText.setTranslateX((size - valueText.getLayoutBounds().getWidth()) * 0.5);
+            }
         }
 
         if (gauge.isAverageVisible()) drawAverage();
@@ -775,6 +784,11 @@ public class GaugeSkin extends GaugeSkinBase {
         }
     }
 
+    private void enableShadows(final boolean ENABLED) {
+        needleShadow.setEnabled(ENABLED);
+        knobShadow.setEnabled(ENABLED);
+    }
+
     private void drawKnob(final boolean PRESSED) {
         knobCanvas.setCache(false);
         double w = knobCanvas.getWidth();
@@ -983,6 +997,14 @@ public class GaugeSkin extends GaugeSkinBase {
         subTitleText.relocate((size - subTitleText.getLayoutBounds().getWidth()) * 0.5, size * 0.76);
     }
 
+    private void applyLevelOfDetail() {
+        boolean textVisible = isDetailVisible(Detail.TEXT, size);
+        Helper.enableNode(ledCanvas, gauge.isLedVisible() && isDetailVisible(Detail.LED, size));
+        Helper.enableNode(titleText, textVisible && !gauge.getTitle().isEmpty());
+        Helper.enableNode(subTitleText, textVisible && !gauge.getSubTitle().isEmpty());
+        Helper.enableNode(unitText, textVisible && !gauge.getUnit().isEmpty());
+    }
+
     @Override protected void resize() {
         double width  = gauge.getWidth() - gauge.getInsets().getLeft() - gauge.getInsets().getRight();
         double height = gauge.getHeight() - gauge.getInsets().getTop() - gauge.getInsets().getBottom();
@@ -1001,7 +1023,7 @@ public class GaugeSkin extends GaugeSkinBase {
             backgroundInnerShadow.setOffsetY(size * 0.03);
             backgroundInnerShadow.setRadius(size * 0.04);
 
-            pane.setEffect(gauge.isInnerShadowEnabled() ? backgroundInnerShadow : null);
+            pane.setEffect(gauge.isInnerShadowEnabled() && isDetailVisible(Detail.EFFECTS, size) ? backgroundInnerShadow : null);
 
             sectionsAndAreasCanvas.setWidth(size);
             sectionsAndAreasCanvas.setHeight(size);
@@ -1021,6 +1043,7 @@ public class GaugeSkin extends GaugeSkinBase {
             if (!isFlatLed) ledOnShadow.setInput(new DropShadow(BlurType.TWO_PASS_BOX, gauge.getLedColor(), 0.36 * ledSize, 0, 0, 0));
 
             resizeText();
+            applyLevelOfDetail();
 
             if (gauge.isLcdVisible()) {
                 lcd.setWidth(0.4 * size);
@@ -1072,7 +1095,7 @@ public class GaugeSkin extends GaugeSkinBase {
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        enableShadows(gauge.isShadowsEnabled() && isDetailVisible(Detail.EFFECTS, size));
 
         // Background stroke and fill
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * size))));
@@ -1091,12 +1114,12 @@ public class GaugeSkin extends GaugeSkinBase {
         if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
             drawGradientBar();
         }
-        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, size * 0.5, size * 0.5, size);
+        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, size * 0.5, size * 0.5, size, gauge.getLevelOfDetail(), size);
         tickMarkCanvas.setCache(true);
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
 
         // LED
-        if (gauge.isLedVisible()) {
+        if (gauge.isLedVisible() && isDetailVisible(Detail.LED, size)) {
             final Color LED_COLOR = gauge.getLedColor();
             switch(gauge.getLedType()) {
                 case FLAT:
@@ -1223,6 +1246,11 @@ public class GaugeSkin extends GaugeSkinBase {
         // Knob
         drawKnob(false);
 
+        // Shadows, the knob canvas can not be observed by its sprite
+        knobShadow.invalidate();
+        needleShadow.update(dropShadow);
+        knobShadow.update(dropShadow);
+
         // Markers
         drawMarkers();
         thresholdTooltip.setText("Threshold\n(" + String.format(locale, formatString, gauge.getThreshold()) + ")");
@@ -17,11 +17,21 @@
 package eu.hansolo.medusa.skins;
 
 import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.LevelOfDetail.Detail;
 import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.tools.Metrics;
+import eu.hansolo.medusa.tools.VisibilityTracker;
 import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.scene.Node;
 import javafx.scene.control.Skin;
 import javafx.scene.control.SkinBase;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 
 /**
  * Created by hansolo on 20.01.17.
@@ -33,24 +43,177 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
     protected static final double             MINIMUM_HEIGHT   = 50;
     protected static final double             MAXIMUM_WIDTH    = 1024;
     protected static final double             MAXIMUM_HEIGHT   = 1024;
-    protected Gauge                gauge;
-    protected InvalidationListener sizeListener;
-    protected UpdateEventListener  updateEventListener;
+    protected Gauge                      gauge;
+    protected InvalidationListener       sizeListener;
+    protected UpdateEventListener        updateEventListener;
+    private   VisibilityTracker          visibilityTracker;
+    private   Set<String>                suspendedEvents;
+    private   List<InvalidationListener> suspendedListeners;
+    private   List<Observable>           suspendedObservables;
+    private   List<InvalidationListener> valueListeners;
+    private   List<Node>                 skinChildren;
 
 
     protected GaugeSkinBase(final Gauge GAUGE) {
         super(GAUGE);
-        gauge               = GAUGE;
-        sizeListener        = o -> handleEvents("RESIZE");
-        updateEventListener = e -> handleEvents(e.eventType.name());
+        gauge                = GAUGE;
+        sizeListener         = o -> scheduleEvent("RESIZE");
+        updateEventListener  = e -> scheduleEvent(e.eventType.name());
+        visibilityTracker    = new VisibilityTracker(GAUGE, () -> { if (!isSuspended()) { resume(); } });
+        suspendedEvents      = new LinkedHashSet<>();
+        suspendedListeners   = new ArrayList<>();
+        suspendedObservables = new ArrayList<>();
+        valueListeners       = new ArrayList<>();
+        skinChildren         = new ArrayList<>();
     }
 
     protected void registerListeners() {
+        skinChildren.clear();
+        skinChildren.addAll(getChildren());
         getSkinnable().widthProperty().addListener(sizeListener);
         getSkinnable().heightProperty().addListener(sizeListener);
-        getSkinnable().setOnUpdate(e -> handleEvents(e.eventType.name()));
+        getSkinnable().setOnUpdate(updateEventListener);
+        updateVisibilityTracking();
+    }
+
+    /**
+     * Returns true if the gauge is not showing on screen and suspendWhenHidden
+     * is enabled. In this case all events and value updates will be collected
+     * and handled once the gauge is showing again.
+     * @return true if the skin doesn't update its graphics at the moment
+     */
+    protected boolean isSuspended() { return gauge.isSuspendWhenHidden() && !visibilityTracker.isShowing(); }
+
+    /**
+     * Defers RESIZE and REDRAW events to the RedrawScheduler of the gauge
+     * (if set), all other events will be handled immediately. While the
+     * skin is suspended all events will be collected.
+     * @param EVENT_TYPE
+     */
+    protected void scheduleEvent(final String EVENT_TYPE) {
+        updateVisibilityTracking();
+        if (isSuspended()) {
+            suspendedEvents.add(EVENT_TYPE);
+            return;
+        }
+        resume();
+        final RedrawScheduler SCHEDULER = gauge.getRedrawScheduler();
+        if (null == SCHEDULER) {
+            dispatchEvent(EVENT_TYPE);
+        } else if ("RESIZE".equals(EVENT_TYPE)) {
+            SCHEDULER.requestResize(this);
+        } else if ("REDRAW".equals(EVENT_TYPE)) {
+            SCHEDULER.requestRedraw(this);
+        } else {
+            dispatchEvent(EVENT_TYPE);
+        }
     }
 
+    /**
+     * Wraps the given listener so that it will be called by the
+     * RedrawScheduler of the gauge (if set) instead of being called
+     * on every invalidation.
+     * @param LISTENER
+     * @return a listener that will be deferred to the RedrawScheduler of the gauge
+     */
+    protected InvalidationListener deferrable(final InvalidationListener LISTENER) {
+        valueListeners.add(LISTENER);
+        return o -> {
+            if (isSuspended()) {
+                if (!suspendedListeners.contains(LISTENER)) {
+                    suspendedListeners.add(LISTENER);
+                    suspendedObservables.add(o);
+                }
+                return;
+            }
+            final RedrawScheduler SCHEDULER = gauge.getRedrawScheduler();
+            if (null == SCHEDULER) {
+                dispatchValueUpdate(LISTENER, o);
+            } else {
+                SCHEDULER.requestValueUpdate(this, LISTENER, o);
+            }
+        };
+    }
+
+    /**
+     * Calls handleEvents() and measures its duration if the Metrics are enabled.
+     * @param EVENT_TYPE
+     */
+    void dispatchEvent(final String EVENT_TYPE) {
+        if (!Metrics.isEnabled()) {
+            handleEvents(EVENT_TYPE);
+            return;
+        }
+        final long START = System.nanoTime();
+        handleEvents(EVENT_TYPE);
+        Metrics.skinEventHandled(gauge.getSkinType().name(), getClass(), EVENT_TYPE, System.nanoTime() - START);
+    }
+
+    /**
+     * Calls the given value listener and measures its duration as VALUE
+     * event if the Metrics are enabled.
+     * @param LISTENER
+     * @param OBSERVABLE
+     */
+    void dispatchValueUpdate(final InvalidationListener LISTENER, final Observable OBSERVABLE) {
+        if (!Metrics.isEnabled()) {
+            LISTENER.invalidated(OBSERVABLE);
+            return;
+        }
+        final long START = System.nanoTime();
+        LISTENER.invalidated(OBSERVABLE);
+        Metrics.skinEventHandled(gauge.getSkinType().name(), getClass(), "VALUE", System.nanoTime() - START);
+    }
+
+    private void updateVisibilityTracking() {
+        if (gauge.isSuspendWhenHidden()) {
+            visibilityTracker.start();
+        } else {
+            visibilityTracker.stop();
+        }
+    }
+
+    /**
+     * Handles all events and value updates that have been collected while
+     * the skin was suspended with one resize or redraw at the end.
+     */
+    private void resume() {
+        if (suspendedEvents.isEmpty() && suspendedListeners.isEmpty()) return;
+        final List<String>               EVENTS      = new ArrayList<>(suspendedEvents);
+        final List<InvalidationListener> LISTENERS   = new ArrayList<>(suspendedListeners);
+        final List<Observable>           OBSERVABLES = new ArrayList<>(suspendedObservables);
+        suspendedEvents.clear();
+        suspendedListeners.clear();
+        suspendedObservables.clear();
+
+        for (String event : EVENTS) {
+            if ("RESIZE".equals(event) || "REDRAW".equals(event)) continue;
+            scheduleEvent(event);
+        }
+        if (EVENTS.contains("RESIZE")) {
+            scheduleEvent("RESIZE");
+        } else if (EVENTS.contains("REDRAW")) {
+            scheduleEvent("REDRAW");
+        }
+        for (int i = 0 ; i < LISTENERS.size() ; i++) {
+            final RedrawScheduler SCHEDULER = gauge.getRedrawScheduler();
+            if (null == SCHEDULER) {
+                dispatchValueUpdate(LISTENERS.get(i), OBSERVABLES.get(i));
+            } else {
+                SCHEDULER.requestValueUpdate(this, LISTENERS.get(i), OBSERVABLES.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns true if the given detail should be drawn at the given size
+     * according to the LevelOfDetail of the gauge.
+     * @param DETAIL
+     * @param SIZE
+     * @return true if the given detail should be drawn at the given size
+     */
+    protected boolean isDetailVisible(final Detail DETAIL, final double SIZE) { return gauge.getLevelOfDetail().isVisible(DETAIL, SIZE); }
+
     protected void handleEvents(final String EVENT_TYPE) {
         if ("RESIZE".equals(EVENT_TYPE)) {
             resize();
@@ -73,6 +236,25 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
         gauge.widthProperty().removeListener(sizeListener);
         gauge.heightProperty().removeListener(sizeListener);
         gauge.removeUpdateEventListener(updateEventListener);
+        visibilityTracker.stop();
+        if (null != gauge.getRedrawScheduler()) { gauge.getRedrawScheduler().remove(this); }
+    }
+
+    /**
+     * Attaches a skin that has been disposed before (e.g. a skin that was
+     * kept in the skin pool of the gauge) to the gauge again. The nodes
+     * of the skin will be added to the gauge, all listeners that have been
+     * removed by dispose() will be registered again and the skin will be
+     * updated to the current state of the gauge.
+     */
+    public void reattach() {
+        getChildren().setAll(skinChildren);
+        registerListeners();
+        handleEvents("RECALC");
+        handleEvents("SECTION");
+        handleEvents("VISIBILITY");
+        handleEvents("LED");
+        for (InvalidationListener listener : valueListeners) { listener.invalidated(gauge.currentValueProperty()); }
     }
 
     protected void resize() {}
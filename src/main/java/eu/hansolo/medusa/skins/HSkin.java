@@ -22,12 +22,14 @@ import eu.hansolo.medusa.Gauge.LedType;
 import eu.hansolo.medusa.Gauge.NeedleType;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.LcdDesign;
+import eu.hansolo.medusa.LevelOfDetail.Detail;
 import eu.hansolo.medusa.Marker;
 import eu.hansolo.medusa.Needle;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.ShadowSprite;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -121,6 +123,8 @@ public class HSkin extends GaugeSkinBase {
     private Canvas                     knobCanvas;
     private GraphicsContext            knob;
     private Group                      shadowGroup;
+    private ShadowSprite               needleShadow;
+    private ShadowSprite               knobShadow;
     private DropShadow                 dropShadow;
     private Text                       titleText;
     private Text                       subTitleText;
@@ -169,7 +173,7 @@ public class HSkin extends GaugeSkinBase {
         tickLabelLocation    = gauge.getTickLabelLocation();
         scaleDirection       = gauge.getScaleDirection();
         mouseHandler         = e -> handleMouseEvent(e);
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> rotateNeedle(gauge.getCurrentValue()));
         markerListener       = c -> {
             updateMarkers();
             redraw();
@@ -246,8 +250,11 @@ public class HSkin extends GaugeSkinBase {
         dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
-        shadowGroup = new Group(needle, knobCanvas);
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        needleShadow = new ShadowSprite(needle);
+        knobShadow   = new ShadowSprite(knobCanvas);
+        enableShadows(gauge.isShadowsEnabled());
+
+        shadowGroup = new Group(needleShadow, knobShadow, needle, knobCanvas);
 
         titleText = new Text(gauge.getTitle());
         titleText.setTextOrigin(VPos.CENTER);
@@ -326,10 +333,7 @@ public class HSkin extends GaugeSkinBase {
                 drawAreasAndSections(sectionsAndAreasCtx);
             }
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
-            Helper.enableNode(ledCanvas, gauge.isLedVisible());
-            Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
-            Helper.enableNode(subTitleText, !gauge.getSubTitle().isEmpty());
-            Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
+            applyLevelOfDetail();
             Helper.enableNode(valueText, gauge.isValueVisible());
             Helper.enableNode(lcd, gauge.isLcdVisible() && gauge.isValueVisible());
             Helper.enableNode(knobCanvas, gauge.isKnobVisible());
@@ -340,7 +344,7 @@ public class HSkin extends GaugeSkinBase {
             resize();
             redraw();
         } else if ("LED".equals(EVENT_TYPE)) {
-            if (gauge.isLedVisible()) { drawLed(); }
+            if (gauge.isLedVisible() && isDetailVisible(Detail.LED, width)) { drawLed(); }
         } else if ("LCD".equals(EVENT_TYPE)) {
             if (gauge.isLcdVisible()) redraw();
         } else if ("RECALC".equals(EVENT_TYPE)) {
@@ -365,15 +369,15 @@ public class HSkin extends GaugeSkinBase {
             redraw();
         } else if ("INTERACTIVITY".equals(EVENT_TYPE)) {
             if (gauge.isInteractive()) {
-                knobCanvas.addEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-                knobCanvas.addEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+                knobCanvas.setOnMousePressed(mouseHandler);
+                knobCanvas.setOnMouseReleased(mouseHandler);
                 if (!gauge.getButtonTooltipText().isEmpty()) {
                     buttonTooltip.setText(gauge.getButtonTooltipText());
                     Tooltip.install(knobCanvas, buttonTooltip);
                 }
             } else {
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+                knobCanvas.setOnMousePressed(null);
+                knobCanvas.setOnMouseReleased(null);
                 Tooltip.uninstall(knobCanvas, buttonTooltip);
             }
         }
@@ -394,10 +398,8 @@ public class HSkin extends GaugeSkinBase {
     @Override public void dispose() {
         gauge.getMarkers().removeListener(markerListener);
         gauge.currentValueProperty().removeListener(currentValueListener);
-        if (gauge.isInteractive()) {
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
-        }
+        knobCanvas.setOnMousePressed(null);
+        knobCanvas.setOnMouseReleased(null);
         super.dispose();
     }
 
@@ -777,6 +779,11 @@ public class HSkin extends GaugeSkinBase {
         }
     }
 
+    private void enableShadows(final boolean ENABLED) {
+        needleShadow.setEnabled(ENABLED);
+        knobShadow.setEnabled(ENABLED);
+    }
+
     private void drawKnob(final boolean PRESSED) {
         knobCanvas.setCache(false);
         double w = knobCanvas.getWidth();
@@ -927,6 +934,14 @@ public class HSkin extends GaugeSkinBase {
         subTitleText.relocate(width * 0.57, Pos.TOP_CENTER == knobPosition ? height * 0.05 : height * 0.86);
     }
 
+    private void applyLevelOfDetail() {
+        boolean textVisible = isDetailVisible(Detail.TEXT, width);
+        Helper.enableNode(ledCanvas, gauge.isLedVisible() && isDetailVisible(Detail.LED, width));
+        Helper.enableNode(titleText, textVisible && !gauge.getTitle().isEmpty());
+        Helper.enableNode(subTitleText, textVisible && !gauge.getSubTitle().isEmpty());
+        Helper.enableNode(unitText, textVisible && !gauge.getUnit().isEmpty());
+    }
+
     @Override protected void resize() {
         width      = gauge.getWidth() - gauge.getInsets().getLeft() - gauge.getInsets().getRight();
         height     = gauge.getHeight() - gauge.getInsets().getTop() - gauge.getInsets().getBottom();
@@ -956,7 +971,7 @@ public class HSkin extends GaugeSkinBase {
             backgroundInnerShadow.setOffsetY(scaledWidth * 0.03);
             backgroundInnerShadow.setRadius(scaledWidth * 0.04);
 
-            pane.setEffect(gauge.isInnerShadowEnabled() ? backgroundInnerShadow : null);
+            pane.setEffect(gauge.isInnerShadowEnabled() && isDetailVisible(Detail.EFFECTS, width) ? backgroundInnerShadow : null);
 
             sectionsAndAreasCanvas.setWidth(width);
             sectionsAndAreasCanvas.setHeight(width);
@@ -978,6 +993,7 @@ public class HSkin extends GaugeSkinBase {
             if (!isFlatLed) ledOnShadow.setInput(new DropShadow(BlurType.TWO_PASS_BOX, gauge.getLedColor(), 0.36 * ledSize, 0, 0, 0));
 
             resizeText();
+            applyLevelOfDetail();
 
             if (gauge.isLcdVisible()) {
                 lcd.setWidth(0.4 * scaledWidth);
@@ -1084,7 +1100,7 @@ public class HSkin extends GaugeSkinBase {
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        enableShadows(gauge.isShadowsEnabled() && isDetailVisible(Detail.EFFECTS, width));
 
         // Background stroke and fill
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, CornerRadii.EMPTY, new BorderWidths(gauge.getBorderWidth() / PREFERRED_HEIGHT * height))));
@@ -1103,12 +1119,12 @@ public class HSkin extends GaugeSkinBase {
         if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
             drawGradientBar();
         }
-        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, width * 0.5, height * 0.9, width * 0.9);
+        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, width * 0.5, height * 0.9, width * 0.9, gauge.getLevelOfDetail(), width);
         tickMarkCanvas.setCache(true);
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
 
         // LED
-        if (gauge.isLedVisible()) {
+        if (gauge.isLedVisible() && isDetailVisible(Detail.LED, width)) {
             final Color LED_COLOR = gauge.getLedColor();
             switch(gauge.getLedType()) {
                 case FLAT:
@@ -1235,6 +1251,11 @@ public class HSkin extends GaugeSkinBase {
         // Knob
         drawKnob(false);
 
+        // Shadows, the knob canvas can not be observed by its sprite
+        knobShadow.invalidate();
+        needleShadow.update(dropShadow);
+        knobShadow.update(dropShadow);
+
         // Markers
         drawMarkers();
         thresholdTooltip.setText("Threshold\n(" + String.format(locale, formatString, gauge.getThreshold()) + ")");
@@ -48,7 +48,6 @@ import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 import javafx.scene.transform.Rotate;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
@@ -69,6 +68,7 @@ public class IndicatorSkin extends GaugeSkinBase {
     private double                oldValue;
     private Arc                   barBackground;
     private Pane                  sectionLayer;
+    private SectionArcLayer       sectionArcs;
     private Arc                   bar;
     private Path                  needle;
     private MoveTo                needleMoveTo1;
@@ -121,7 +121,7 @@ public class IndicatorSkin extends GaugeSkinBase {
         formatString                 = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         locale                       = gauge.getLocale();
         barColor                     = gauge.getBarColor();
-        currentValueListener         = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener         = deferrable(o -> rotateNeedle(gauge.getCurrentValue()));
         sectionAlwaysVisibleListener = o -> bar.setVisible(!gauge.getSectionsAlwaysVisible());
 
         initGraphics();
@@ -152,6 +152,7 @@ public class IndicatorSkin extends GaugeSkinBase {
 
         sectionLayer = new Pane();
         sectionLayer.setBackground(new Background(new BackgroundFill(Color.TRANSPARENT, CornerRadii.EMPTY, Insets.EMPTY)));
+        sectionArcs  = new SectionArcLayer(sectionLayer, section -> new StringBuilder(section.getText()).append("\n").append(String.format(Locale.US, "%.2f", section.getStart())).append(" - ").append(String.format(Locale.US, "%.2f", section.getStop())).toString());
 
         bar = new Arc(PREFERRED_WIDTH * 0.5, PREFERRED_HEIGHT * 0.696, PREFERRED_WIDTH * 0.275, PREFERRED_WIDTH * 0.275, angleRange * 0.5 + 90, 0);
         bar.setType(ArcType.OPEN);
@@ -426,26 +427,15 @@ public class IndicatorSkin extends GaugeSkinBase {
     }
     
     private void drawSections() {
+        sectionArcs.setSections(sections);
         if (sections.isEmpty()) return;
-        sectionLayer.getChildren().clear();
-
-        double    centerX     = width * 0.5;
-        double    centerY     = height * 0.85;
-        double    barRadius   = height * 0.54210526;
-        double    barWidth    = width * 0.28472222;
-        List<Arc> sectionBars = new ArrayList<>(sections.size());
-        for (Section section : sections) {
-            Arc sectionBar = new Arc(centerX, centerY, barRadius, barRadius, angleRange * 0.5 + 90 - (section.getStart() * angleStep), -((section.getStop() - section.getStart()) - minValue) * angleStep);
-            sectionBar.setType(ArcType.OPEN);
-            sectionBar.setStroke(section.getColor());
-            sectionBar.setStrokeWidth(barWidth);
-            sectionBar.setStrokeLineCap(StrokeLineCap.BUTT);
-            sectionBar.setFill(null);
-            Tooltip sectionTooltip = new Tooltip(new StringBuilder(section.getText()).append("\n").append(String.format(Locale.US, "%.2f", section.getStart())).append(" - ").append(String.format(Locale.US, "%.2f", section.getStop())).toString());
-            sectionTooltip.setTextAlignment(TextAlignment.CENTER);
-            Tooltip.install(sectionBar, sectionTooltip);
-            sectionBars.add(sectionBar);
-        }
-        sectionLayer.getChildren().addAll(sectionBars);
+
+        double centerX   = width * 0.5;
+        double centerY   = height * 0.85;
+        double barRadius = height * 0.54210526;
+        double barWidth  = width * 0.28472222;
+        sectionArcs.layout(centerX, centerY, barRadius, barWidth,
+                           section -> angleRange * 0.5 + 90 - (section.getStart() * angleStep),
+                           section -> -((section.getStop() - section.getStart()) - minValue) * angleStep);
     }
 }
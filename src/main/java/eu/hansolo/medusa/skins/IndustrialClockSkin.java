@@ -21,6 +21,7 @@ import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.TimeSection;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.ShadowSprite;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.scene.CacheHint;
@@ -52,6 +53,7 @@ import javafx.scene.transform.Rotate;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -87,6 +89,9 @@ public class IndustrialClockSkin extends ClockSkinBase {
     private              Group              shadowGroupHour;
     private              Group              shadowGroupMinute;
     private              Group              shadowGroupSecond;
+    private              ShadowSprite       hourShadow;
+    private              ShadowSprite       minuteShadow;
+    private              ShadowSprite       secondShadow;
     private              DropShadow         dropShadow;
     private              List<TimeSection>  sections;
     private              List<TimeSection>  areas;
@@ -167,13 +172,14 @@ public class IndustrialClockSkin extends ClockSkinBase {
         dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
-        shadowGroupHour   = new Group(hour);
-        shadowGroupMinute = new Group(minute);
-        shadowGroupSecond = new Group(second);
+        hourShadow   = new ShadowSprite(hour);
+        minuteShadow = new ShadowSprite(minute);
+        secondShadow = new ShadowSprite(second);
+        enableShadows(clock.getShadowsEnabled());
 
-        shadowGroupHour.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupMinute.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupSecond.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
+        shadowGroupHour   = new Group(hourShadow, hour);
+        shadowGroupMinute = new Group(minuteShadow, minute);
+        shadowGroupSecond = new Group(secondShadow, second);
 
         title = new Text("");
         title.setVisible(clock.isTitleVisible());
@@ -230,6 +236,12 @@ public class IndustrialClockSkin extends ClockSkinBase {
 
 
     // ******************** Canvas ********************************************
+    private void enableShadows(final boolean ENABLED) {
+        hourShadow.setEnabled(ENABLED);
+        minuteShadow.setEnabled(ENABLED);
+        secondShadow.setEnabled(ENABLED);
+    }
+
     private void drawTicks() {
         double  sinValue;
         double  cosValue;
@@ -415,6 +427,10 @@ public class IndustrialClockSkin extends ClockSkinBase {
     }
 
     @Override public void updateTime(final ZonedDateTime TIME) {
+        final boolean NEW_MINUTE = isNew(ChronoUnit.MINUTES, TIME);
+        final boolean NEW_HOUR   = isNew(ChronoUnit.HOURS, TIME);
+        final boolean NEW_DAY    = isNew(ChronoUnit.DAYS, TIME);
+
         if (clock.isDiscreteMinutes()) {
             minuteRotate.setAngle(TIME.getMinute() * 6);
         } else {
@@ -435,26 +451,26 @@ public class IndustrialClockSkin extends ClockSkinBase {
             hourRotate.setAngle(0.5 * (60 * TIME.getHour() + TIME.getMinute()));
         }
 
-        if (text.isVisible()) {
+        if (NEW_MINUTE && text.isVisible()) {
             text.setText(TIME_FORMATTER.format(TIME));
             Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
-        if (dateText.isVisible()) {
+        if (NEW_DAY && dateText.isVisible()) {
             dateText.setText(DATE_TEXT_FORMATTER.format(TIME).toUpperCase());
             Helper.adjustTextSize(dateText, 0.3 * size, size * 0.05);
             dateText.relocate(((size * 0.5) - dateText.getLayoutBounds().getWidth()) * 0.5 + (size * 0.4), (size - dateText.getLayoutBounds().getHeight()) * 0.5);
         }
 
-        if (dateNumber.isVisible()) {
+        if (NEW_DAY && dateNumber.isVisible()) {
             dateNumber.setText(DATE_NUMBER_FORMATTER.format(TIME).toUpperCase());
             Helper.adjustTextSize(dateNumber, 0.3 * size, size * 0.05);
             dateNumber.relocate(((size * 0.5) - dateNumber.getLayoutBounds().getWidth()) * 0.5 + (size * 0.51), (size - dateNumber.getLayoutBounds().getHeight()) * 0.5);
         }
 
         // Show all alarms within the next hour
-        if (TIME.getMinute() == 0 && TIME.getSecond() == 0) Helper.drawAlarms(clock, size, 0.0225, 0.4775, alarmMap, DATE_TIME_FORMATTER, TIME);;
+        if (NEW_HOUR) Helper.drawAlarms(clock, size, 0.0225, 0.4775, alarmMap, DATE_TIME_FORMATTER, TIME);;
 
         // Highlight Areas and Sections
         if (highlightAreas | highlightSections) {
@@ -546,9 +562,7 @@ public class IndustrialClockSkin extends ClockSkinBase {
         dateText.setFill(clock.getDateColor());
         text.setFill(clock.getTextColor());
         
-        shadowGroupHour.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupMinute.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupSecond.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
+        enableShadows(clock.getShadowsEnabled());
 
         // Areas, Sections
         sectionsAndAreasCtx.clearRect(0, 0, size, size);
@@ -583,5 +597,9 @@ public class IndustrialClockSkin extends ClockSkinBase {
 
         alarmPane.getChildren().setAll(alarmMap.values());
         Helper.drawAlarms(clock, size, 0.0225, 0.4775, alarmMap, DATE_TIME_FORMATTER, time);
+
+        hourShadow.update(dropShadow);
+        minuteShadow.update(dropShadow);
+        secondShadow.update(dropShadow);
     }
 }
@@ -82,7 +82,7 @@ public class KpiSkin extends GaugeSkinBase {
         range                = gauge.getRange();
         angleStep            = angleRange / range;
         locale               = gauge.getLocale();
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> rotateNeedle(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -19,9 +19,9 @@ package eu.hansolo.medusa.skins;
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.LcdDesign;
-import eu.hansolo.medusa.LcdFont;
 import eu.hansolo.medusa.tools.Helper;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.util.Locale;
@@ -78,29 +78,21 @@ public class LcdClockSkin extends ClockSkinBase {
     private Rectangle               crystalClip;
     private InnerShadow             mainInnerShadow0;
     private InnerShadow             mainInnerShadow1;
-    private Text                    timeText;
-    private Text                    backgroundTimeText;
-    private Text                    secondText;
-    private Text                    backgroundSecondText;
+    private LcdSegmentDisplay       timeDisplay;
+    private LcdSegmentDisplay       secondDisplay;
     private Text                    title;
     private Text                    dateText;
     private Text                    dayOfWeekText;
     private Path                    alarm;
     private DateTimeFormatter       dateFormat;
-    private double                  digitalFontSizeFactor;
-    private Font                    timeFont;
-    private Font                    secondFont;
     private Font                    titleFont;
     private Font                    smallFont;
-    private StringBuilder           backgroundTextBuilder;
     private Group                   shadowGroup;
 
 
     // ******************** Constructors **************************************
     public LcdClockSkin(Clock clock) {
         super(clock);
-        digitalFontSizeFactor = 1.0;
-        backgroundTextBuilder = new StringBuilder();
         FOREGROUND_SHADOW.setOffsetX(0);
         FOREGROUND_SHADOW.setOffsetY(1);
         FOREGROUND_SHADOW.setColor(Color.rgb(0, 0, 0, 0.5));
@@ -152,23 +144,14 @@ public class LcdClockSkin extends ClockSkinBase {
 
         boolean secondsVisible = clock.isSecondsVisible();
 
-        backgroundTimeText = new Text("");
-        backgroundTimeText.setFill(clock.getLcdDesign().lcdBackgroundColor);
-        backgroundTimeText.setOpacity((LcdFont.LCD == clock.getLcdFont() || LcdFont.ELEKTRA == clock.getLcdFont()) ? 1 : 0);
+        timeDisplay = new LcdSegmentDisplay();
+        timeDisplay.setLcdFont(clock.getLcdFont());
+        timeDisplay.setColors(clock.getLcdDesign().lcdForegroundColor, clock.getLcdDesign().lcdBackgroundColor);
 
-        backgroundSecondText = new Text("");
-        backgroundSecondText.setFill(clock.getLcdDesign().lcdBackgroundColor);
-        backgroundSecondText.setOpacity((LcdFont.LCD == clock.getLcdFont() || LcdFont.ELEKTRA == clock.getLcdFont()) ? 1 : 0);
-        backgroundSecondText.setManaged(secondsVisible);
-        backgroundSecondText.setVisible(secondsVisible);
-
-        timeText = new Text("");
-        timeText.setFill(clock.getLcdDesign().lcdForegroundColor);
-
-        secondText = new Text("");
-        secondText.setFill(clock.getLcdDesign().lcdForegroundColor);
-        secondText.setManaged(secondsVisible);
-        secondText.setVisible(secondsVisible);
+        secondDisplay = new LcdSegmentDisplay();
+        secondDisplay.setLcdFont(clock.getLcdFont());
+        secondDisplay.setColors(clock.getLcdDesign().lcdForegroundColor, clock.getLcdDesign().lcdBackgroundColor);
+        secondDisplay.setVisible(secondsVisible);
 
         title = new Text(clock.getTitle());
         title.setFill(clock.getLcdDesign().lcdForegroundColor);
@@ -196,8 +179,8 @@ public class LcdClockSkin extends ClockSkinBase {
 
         shadowGroup = new Group();
         shadowGroup.setEffect(clock.getShadowsEnabled() ? FOREGROUND_SHADOW : null);
-        shadowGroup.getChildren().setAll(timeText,
-                                         secondText,
+        shadowGroup.getChildren().setAll(timeDisplay.getForeground(),
+                                         secondDisplay.getForeground(),
                                          title,
                                          dateText,
                                          dayOfWeekText,
@@ -206,8 +189,8 @@ public class LcdClockSkin extends ClockSkinBase {
         pane = new Pane();
         pane.setEffect(clock.getShadowsEnabled() ? mainInnerShadow1 : null);
         pane.getChildren().setAll(crystalOverlay,
-                                  backgroundTimeText,
-                                  backgroundSecondText,
+                                  timeDisplay.getBackground(),
+                                  secondDisplay.getBackground(),
                                   shadowGroup);
         getChildren().setAll(pane);
     }
@@ -234,10 +217,7 @@ public class LcdClockSkin extends ClockSkinBase {
             crystalOverlay.setManaged(crystalEnable);
             crystalOverlay.setVisible(crystalEnable);
             boolean secondsVisible = clock.isSecondsVisible();
-            backgroundSecondText.setManaged(secondsVisible);
-            backgroundSecondText.setVisible(secondsVisible);
-            secondText.setManaged(secondsVisible);
-            secondText.setVisible(secondsVisible);
+            secondDisplay.setVisible(secondsVisible);
             boolean dateVisible = clock.isDateVisible();
             dateText.setManaged(dateVisible);
             dateText.setVisible(dateVisible);
@@ -281,10 +261,9 @@ public class LcdClockSkin extends ClockSkinBase {
             lcdPaint      = clock.getBackgroundPaint();
 
             Color lcdForegroundColor = (Color) clock.getForegroundPaint();
-            backgroundTimeText.setFill(Color.color(lcdForegroundColor.getRed(), lcdForegroundColor.getGreen(), lcdForegroundColor.getBlue(), 0.1));
-            backgroundSecondText.setFill(Color.color(lcdForegroundColor.getRed(), lcdForegroundColor.getGreen(), lcdForegroundColor.getBlue(), 0.1));
-            timeText.setFill(lcdForegroundColor);
-            secondText.setFill(lcdForegroundColor);
+            Color ghostColor = Color.color(lcdForegroundColor.getRed(), lcdForegroundColor.getGreen(), lcdForegroundColor.getBlue(), 0.1);
+            timeDisplay.setColors(lcdForegroundColor, ghostColor);
+            secondDisplay.setColors(lcdForegroundColor, ghostColor);
             title.setFill(lcdForegroundColor);
             dateText.setFill(lcdForegroundColor);
             dayOfWeekText.setFill(lcdForegroundColor);
@@ -305,10 +284,8 @@ public class LcdClockSkin extends ClockSkinBase {
                                           new Stop(0.5, lcdColors[3]),
                                           new Stop(1.0, lcdColors[4]));
 
-            backgroundTimeText.setFill(lcdDesign.lcdBackgroundColor);
-            backgroundSecondText.setFill(lcdDesign.lcdBackgroundColor);
-            timeText.setFill(lcdDesign.lcdForegroundColor);
-            secondText.setFill(lcdDesign.lcdForegroundColor);
+            timeDisplay.setColors(lcdDesign.lcdForegroundColor, lcdDesign.lcdBackgroundColor);
+            secondDisplay.setColors(lcdDesign.lcdForegroundColor, lcdDesign.lcdBackgroundColor);
             title.setFill(lcdDesign.lcdForegroundColor);
             dateText.setFill(lcdDesign.lcdForegroundColor);
             dayOfWeekText.setFill(lcdDesign.lcdForegroundColor);
@@ -331,111 +308,35 @@ public class LcdClockSkin extends ClockSkinBase {
     }
 
     private void updateFonts() {
-        digitalFontSizeFactor = 1.0;
-        switch(clock.getLcdFont()) {
-            case LCD:
-                digitalFontSizeFactor = 1.05;
-                timeFont   = Fonts.digital(0.675 * height);
-                secondFont = Fonts.digital(0.2 * height);
-                break;
-            case DIGITAL:
-                digitalFontSizeFactor = 0.7;
-                timeFont   = Fonts.digitalReadout(0.7 * height);
-                secondFont = Fonts.digitalReadout(0.2 * height);
-                break;
-            case DIGITAL_BOLD:
-                digitalFontSizeFactor = 0.7;
-                timeFont   = Fonts.digitalReadoutBold(0.7 * height);
-                secondFont = Fonts.digitalReadoutBold(0.2 * height);
-                break;
-            case ELEKTRA:
-                digitalFontSizeFactor = 0.8;
-                timeFont   = Fonts.elektra(0.7 * height);
-                secondFont = Fonts.elektra(0.186 * height);
-                break;
-            case STANDARD:
-            default:
-                digitalFontSizeFactor = 0.7;
-                timeFont   = Fonts.robotoMedium(0.6 * height);
-                secondFont = Fonts.robotoMedium(0.2 * height);
-                break;
-        }
-
-        backgroundTimeText.setFont(timeFont);
-        backgroundTimeText.setOpacity((LcdFont.LCD == clock.getLcdFont() ||
-                                       LcdFont.DIGITAL == clock.getLcdFont() ||
-                                       LcdFont.DIGITAL_BOLD == clock.getLcdFont() ||
-                                       LcdFont.ELEKTRA == clock.getLcdFont()) ? 1 : 0);
-
-        backgroundSecondText.setFont(secondFont);
-        backgroundSecondText.setOpacity((LcdFont.LCD == clock.getLcdFont() ||
-                                         LcdFont.DIGITAL == clock.getLcdFont() ||
-                                         LcdFont.DIGITAL_BOLD == clock.getLcdFont() ||
-                                         LcdFont.ELEKTRA == clock.getLcdFont()) ? 1 : 0);
-
-        timeText.setFont(timeFont);
+        timeDisplay.setLcdFont(clock.getLcdFont());
+        secondDisplay.setLcdFont(clock.getLcdFont());
         titleFont = Fonts.latoBold(0.16 * height);
         smallFont = Fonts.latoBold(0.12 * height);
     }
 
-    private void updateBackgroundText() {
-        // Setup the semitransparent background timeText
-        backgroundTimeText.setTextOrigin(VPos.BASELINE);
-        backgroundTimeText.setTextAlignment(TextAlignment.RIGHT);
-
-        backgroundSecondText.setTextOrigin(VPos.BASELINE);
-        backgroundSecondText.setTextAlignment(TextAlignment.RIGHT);
-
-        // Setup the semitransparent background timeText
-        // Width of one time segment
-        String backgroundSegment = "_";
-        switch(clock.getLcdFont()) {
-            case LCD         : backgroundSegment = "8"; break;
-            case DIGITAL     :
-            case DIGITAL_BOLD:
-            case ELEKTRA     : backgroundSegment = "_"; break;
-        }
-
-        // Add segments to background timeText
-        backgroundTextBuilder.setLength(0);
-        backgroundTextBuilder.append(backgroundSegment);
-        backgroundTextBuilder.append(backgroundSegment);
-        backgroundTextBuilder.append(":");
-        backgroundTextBuilder.append(backgroundSegment);
-        backgroundTextBuilder.append(backgroundSegment);
-        backgroundTimeText.setText(backgroundTextBuilder.toString());
-        backgroundSecondText.setText(backgroundSegment + backgroundSegment);
-    }
-
     private void updateTimePosition() {
-
-        double secondsWidth = secondText.getLayoutBounds().getWidth();
-        double secodsOffset = height * 0.03;
-        double timeWidth    = timeText.getLayoutBounds().getWidth();
-        double timeX        = ( clock.isSecondsVisible() )
-                            ? ( width - 2 - timeWidth - secodsOffset - secondsWidth ) * 0.5
-                            : ( width - 2 - timeWidth ) * 0.5;
-        double timeY        = height - timeText.getLayoutBounds().getHeight() * digitalFontSizeFactor * 0.5;
-        double secondsX     = timeX + 1 + timeWidth + secodsOffset;
-
-        backgroundTimeText.setX(timeX);
-        backgroundTimeText.setY(timeY);
-        backgroundSecondText.setX(secondsX);
-        backgroundSecondText.setY(timeY);
-
-        timeText.setX(timeX);
-        timeText.setY(timeY);
-        secondText.setX(secondsX);
-        secondText.setY(timeY);
-
+        double timeHeight    = 0.46 * height;
+        double secondsHeight = 0.15 * height;
+        timeDisplay.layout("88:88", timeHeight);
+        secondDisplay.layout("88", secondsHeight);
+
+        double secondsWidth  = secondDisplay.getWidth();
+        double secondsOffset = height * 0.03;
+        double timeWidth     = timeDisplay.getWidth();
+        double timeX         = ( clock.isSecondsVisible() )
+                             ? ( width - 2 - timeWidth - secondsOffset - secondsWidth ) * 0.5
+                             : ( width - 2 - timeWidth ) * 0.5;
+        double timeY         = 0.25 * height;
+        double secondsX      = timeX + 1 + timeWidth + secondsOffset;
+
+        timeDisplay.relocate(timeX, timeY);
+        secondDisplay.relocate(secondsX, timeY + timeHeight - secondsHeight);
     }
 
     @Override public void updateTime(final ZonedDateTime TIME) {
-        timeText.setText(ensureTwoDigits(TIME.getHour()) + ":" + ensureTwoDigits(TIME.getMinute()));
-        secondText.setText(ensureTwoDigits(TIME.getSecond()));
-
-        updateBackgroundText();
-        updateTimePosition();
+        // Only the segments that changed will be redrawn
+        if (isNew(ChronoUnit.MINUTES, TIME)) { timeDisplay.setText(ensureTwoDigits(TIME.getHour()) + ":" + ensureTwoDigits(TIME.getMinute())); }
+        secondDisplay.setText(ensureTwoDigits(TIME.getSecond()));
 
         title.setText(clock.getTitle());
         title.setX((width - title.getLayoutBounds().getWidth()) * 0.5);
@@ -597,14 +498,8 @@ public class LcdClockSkin extends ClockSkinBase {
             }
 
             updateFonts();
-
-            updateBackgroundText();
             updateTimePosition();
 
-            secondText.setFont(secondFont);
-            secondText.setTextOrigin(VPos.BASELINE);
-            secondText.setTextAlignment(TextAlignment.RIGHT);
-
             // Setup the font for the lcd title, number system, min measured, max measure and former value
             // Title
             title.setFont(titleFont);
@@ -632,12 +527,11 @@ public class LcdClockSkin extends ClockSkinBase {
     }
 
     @Override protected void redraw() {
-        updateBackgroundText();
         updateTimePosition();
 
         ZonedDateTime time = clock.getTime();
-        timeText.setText(ensureTwoDigits(time.getHour()) + ":" + ensureTwoDigits(time.getMinute()));
-        secondText.setText(ensureTwoDigits(time.getSecond()));
+        timeDisplay.setText(ensureTwoDigits(time.getHour()) + ":" + ensureTwoDigits(time.getMinute()));
+        secondDisplay.setText(ensureTwoDigits(time.getSecond()));
 
         title.setText(clock.getTitle());
         title.setX((width - title.getLayoutBounds().getWidth()) * 0.5);
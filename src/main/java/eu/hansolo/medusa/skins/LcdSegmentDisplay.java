@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.skins;
+
+import eu.hansolo.medusa.LcdFont;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * Draws seven segment digits from precomputed segment polygons on two
+ * canvases. The background canvas contains the unlit segments and will
+ * only be drawn on layout or color changes, the foreground canvas contains
+ * the lit segments and only the cells whose segments changed will be
+ * redrawn.
+ * The layout will be defined by a pattern where '8' stands for a digit,
+ * '.' for the unlit decimal point of the digit before and ':' for a colon.
+ */
+class LcdSegmentDisplay {
+    private static final int             SEG_A       = 1;
+    private static final int             SEG_B       = 1 << 1;
+    private static final int             SEG_C       = 1 << 2;
+    private static final int             SEG_D       = 1 << 3;
+    private static final int             SEG_E       = 1 << 4;
+    private static final int             SEG_F       = 1 << 5;
+    private static final int             SEG_G       = 1 << 6;
+    private static final int             SEG_DP      = 1 << 7;
+    private static final int             SEGMENTS    = SEG_A | SEG_B | SEG_C | SEG_D | SEG_E | SEG_F | SEG_G;
+    private static final int[]           DIGITS      = { SEG_A | SEG_B | SEG_C | SEG_D | SEG_E | SEG_F,
+                                                         SEG_B | SEG_C,
+                                                         SEG_A | SEG_B | SEG_D | SEG_E | SEG_G,
+                                                         SEG_A | SEG_B | SEG_C | SEG_D | SEG_G,
+                                                         SEG_B | SEG_C | SEG_F | SEG_G,
+                                                         SEG_A | SEG_C | SEG_D | SEG_F | SEG_G,
+                                                         SEG_A | SEG_C | SEG_D | SEG_E | SEG_F | SEG_G,
+                                                         SEG_A | SEG_B | SEG_C,
+                                                         SEGMENTS,
+                                                         SEG_A | SEG_B | SEG_C | SEG_D | SEG_F | SEG_G };
+    private static final char            DIGIT       = '8';
+    private static final char            COLON       = ':';
+    private static final char            DOT         = '.';
+    private static final int             NO_OF_EDGES = 6;
+    private        final Canvas          background;
+    private        final Canvas          foreground;
+    private        final GraphicsContext backgroundCtx;
+    private        final GraphicsContext foregroundCtx;
+    private        final double[][]      segmentXs;
+    private        final double[][]      segmentYs;
+    private        final double[][]      colonXs;
+    private        final double[][]      colonYs;
+    private              String          pattern;
+    private              char[]          cells;
+    private              int[]           ghostMasks;
+    private              int[]           masks;
+    private              int[]           newMasks;
+    private              boolean[]       dirty;
+    private              double[]        cellXs;
+    private              double[]        cellWidths;
+    private              LcdFont         lcdFont;
+    private              LcdFont         layoutFont;
+    private              Color           foregroundColor;
+    private              Color           ghostColor;
+    private              double          digitHeight;
+    private              double          slant;
+
+
+    // ******************** Constructors **************************************
+    LcdSegmentDisplay() {
+        background      = new Canvas();
+        foreground      = new Canvas();
+        backgroundCtx   = background.getGraphicsContext2D();
+        foregroundCtx   = foreground.getGraphicsContext2D();
+        segmentXs       = new double[8][NO_OF_EDGES];
+        segmentYs       = new double[8][NO_OF_EDGES];
+        colonXs         = new double[2][4];
+        colonYs         = new double[2][4];
+        pattern         = "";
+        cells           = new char[0];
+        ghostMasks      = new int[0];
+        masks           = new int[0];
+        newMasks        = new int[0];
+        dirty           = new boolean[0];
+        cellXs          = new double[0];
+        cellWidths      = new double[0];
+        lcdFont         = LcdFont.STANDARD;
+        foregroundColor = Color.BLACK;
+        ghostColor      = Color.TRANSPARENT;
+        background.setMouseTransparent(true);
+        foreground.setMouseTransparent(true);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * @return the canvas with the unlit segments that should be placed behind the foreground
+     */
+    Canvas getBackground() { return background; }
+
+    /**
+     * @return the canvas with the lit segments
+     */
+    Canvas getForeground() { return foreground; }
+
+    /**
+     * Sets the style of the segments, the layout has to be updated afterwards.
+     * STANDARD will be drawn without unlit segments.
+     * @param LCD_FONT
+     */
+    void setLcdFont(final LcdFont LCD_FONT) { lcdFont = null == LCD_FONT ? LcdFont.STANDARD : LCD_FONT; }
+
+    /**
+     * Sets the color of the lit and unlit segments and redraws both
+     * canvases if one of the colors has changed.
+     * @param FOREGROUND_COLOR
+     * @param GHOST_COLOR
+     */
+    void setColors(final Color FOREGROUND_COLOR, final Color GHOST_COLOR) {
+        if (FOREGROUND_COLOR.equals(foregroundColor) && GHOST_COLOR.equals(ghostColor)) return;
+        foregroundColor = FOREGROUND_COLOR;
+        ghostColor      = GHOST_COLOR;
+        drawBackground();
+        drawForeground();
+    }
+
+    /**
+     * @param DIGIT_HEIGHT
+     * @return the horizontal space that one digit including its decimal point needs with the current style
+     */
+    double getDigitWidth(final double DIGIT_HEIGHT) { return (getWidthFactor() + getThicknessFactor() * 1.5) * DIGIT_HEIGHT; }
+
+    /**
+     * @param DIGIT_HEIGHT
+     * @return the additional width the top of the last digit needs because of the slant of the current style
+     */
+    double getSlantWidth(final double DIGIT_HEIGHT) { return getSlantFactor() * DIGIT_HEIGHT; }
+
+    double getWidth() { return foreground.getWidth(); }
+
+    void setVisible(final boolean VISIBLE) {
+        background.setVisible(VISIBLE);
+        background.setManaged(VISIBLE);
+        foreground.setVisible(VISIBLE);
+        foreground.setManaged(VISIBLE);
+    }
+
+    void relocate(final double X, final double Y) {
+        background.relocate(X, Y);
+        foreground.relocate(X, Y);
+    }
+
+    /**
+     * Precomputes the segment polygons for the given pattern and digit
+     * height and redraws both canvases. The lit segments of cells that
+     * are still part of the pattern will be kept. Nothing will be done if
+     * pattern, height and style are unchanged.
+     * @param PATTERN      e.g. "8888.88" or "88:88"
+     * @param DIGIT_HEIGHT
+     */
+    void layout(final String PATTERN, final double DIGIT_HEIGHT) {
+        if (PATTERN.equals(pattern) && Double.compare(DIGIT_HEIGHT, digitHeight) == 0 && lcdFont == layoutFont) return;
+        final double THICKNESS = getThicknessFactor() * DIGIT_HEIGHT;
+        final double WIDTH     = getWidthFactor() * DIGIT_HEIGHT;
+        pattern     = PATTERN;
+        digitHeight = DIGIT_HEIGHT;
+        layoutFont  = lcdFont;
+        slant       = getSlantFactor();
+
+        int noOfCells = 0;
+        for (int i = 0 ; i < PATTERN.length() ; i++) { if (DOT != PATTERN.charAt(i)) { noOfCells++; } }
+        final int[] OLD_MASKS = masks;
+        cells      = new char[noOfCells];
+        ghostMasks = new int[noOfCells];
+        masks      = new int[noOfCells];
+        newMasks   = new int[noOfCells];
+        dirty      = new boolean[noOfCells];
+        cellXs     = new double[noOfCells];
+        cellWidths = new double[noOfCells];
+
+        double x    = 0;
+        int    cell = -1;
+        for (int i = 0 ; i < PATTERN.length() ; i++) {
+            final char KIND = PATTERN.charAt(i);
+            if (DOT == KIND) {
+                if (cell >= 0 && DIGIT == cells[cell]) { ghostMasks[cell] |= SEG_DP; }
+                continue;
+            }
+            cell++;
+            cells[cell]      = COLON == KIND ? COLON : DIGIT;
+            ghostMasks[cell] = COLON == KIND ? 1 : SEGMENTS;
+            cellXs[cell]     = x;
+            cellWidths[cell] = COLON == KIND ? 2.5 * THICKNESS : WIDTH + 1.5 * THICKNESS;
+            x += cellWidths[cell];
+        }
+        // Keep the lit segments right aligned
+        for (int i = 1 ; i <= Math.min(OLD_MASKS.length, noOfCells) ; i++) { masks[noOfCells - i] = OLD_MASKS[OLD_MASKS.length - i]; }
+
+        createSegments(WIDTH, THICKNESS, DIGIT_HEIGHT, Math.max(0.5, 0.02 * DIGIT_HEIGHT * (LcdFont.ELEKTRA == lcdFont ? 2.5 : 1)));
+
+        final double CANVAS_WIDTH  = Math.ceil(x + slant * DIGIT_HEIGHT + 1);
+        final double CANVAS_HEIGHT = Math.ceil(DIGIT_HEIGHT + 1);
+        background.setWidth(CANVAS_WIDTH);
+        background.setHeight(CANVAS_HEIGHT);
+        foreground.setWidth(CANVAS_WIDTH);
+        foreground.setHeight(CANVAS_HEIGHT);
+
+        drawBackground();
+        drawForeground();
+    }
+
+    String getPattern() { return pattern; }
+
+    /**
+     * Lights the segments of the given text right aligned in the cells of
+     * the pattern and redraws only the cells whose segments changed. The
+     * last '.' or ',' lights the decimal point of the digit before, all
+     * other '.' and ',' (e.g. grouping separators) will be skipped. Digits,
+     * ' ', '-', '_' and the letters A b C d E F H L n o P r u will be shown,
+     * all other characters (e.g. a unit suffix) as blank cells.
+     * @param TEXT
+     * @return false if the text does not fit into the pattern, nothing will be changed in this case
+     */
+    boolean setText(final String TEXT) {
+        Arrays.fill(newMasks, 0);
+        int     cell       = cells.length - 1;
+        boolean dot        = false;
+        boolean decimalDot = false;
+        for (int i = TEXT.length() - 1 ; i >= 0 ; i--) {
+            final char CHARACTER = TEXT.charAt(i);
+            if (DOT == CHARACTER || ',' == CHARACTER) {
+                if (!decimalDot) {
+                    decimalDot = true;
+                    dot        = true;
+                }
+                continue;
+            }
+            while (cell >= 0 && COLON == cells[cell] && COLON != CHARACTER) { cell--; }
+            if (cell < 0) return false;
+            if (COLON == cells[cell]) {
+                if (dot) return false;
+                newMasks[cell] = 1;
+            } else {
+                newMasks[cell] = Math.max(0, getSegments(CHARACTER)) | (dot ? SEG_DP : 0);
+                dot = false;
+            }
+            cell--;
+        }
+        if (dot) {
+            while (cell >= 0 && COLON == cells[cell]) { cell--; }
+            if (cell < 0) return false;
+            newMasks[cell] = SEG_DP;
+        }
+
+        // All masks have to be up to date before a cell will be drawn because cells overlap with slanted styles
+        for (int i = 0 ; i < cells.length ; i++) {
+            dirty[i] = masks[i] != newMasks[i];
+            masks[i] = newMasks[i];
+        }
+        for (int i = 0 ; i < cells.length ; i++) {
+            if (dirty[i]) { drawCell(i); }
+        }
+        return true;
+    }
+
+
+    // ******************** Private Methods ***********************************
+    private double getThicknessFactor() {
+        switch(lcdFont) {
+            case LCD         : return 0.1;
+            case DIGITAL     : return 0.12;
+            case DIGITAL_BOLD: return 0.17;
+            case ELEKTRA     : return 0.14;
+            case STANDARD    :
+            default          : return 0.13;
+        }
+    }
+
+    private double getWidthFactor() { return LcdFont.ELEKTRA == lcdFont ? 0.55 : LcdFont.DIGITAL_BOLD == lcdFont ? 0.52 : 0.5; }
+
+    private double getSlantFactor() {
+        switch(lcdFont) {
+            case DIGITAL     :
+            case DIGITAL_BOLD: return 0.12;
+            case ELEKTRA     : return 0.06;
+            default          : return 0;
+        }
+    }
+
+    private static int getSegments(final char CHARACTER) {
+        if (CHARACTER >= '0' && CHARACTER <= '9') { return DIGITS[CHARACTER - '0']; }
+        switch(CHARACTER) {
+            case ' ': return 0;
+            case '-': return SEG_G;
+            case '_': return SEG_D;
+            case 'A': return SEG_A | SEG_B | SEG_C | SEG_E | SEG_F | SEG_G;
+            case 'b': return SEG_C | SEG_D | SEG_E | SEG_F | SEG_G;
+            case 'C': return SEG_A | SEG_D | SEG_E | SEG_F;
+            case 'd': return SEG_B | SEG_C | SEG_D | SEG_E | SEG_G;
+            case 'E': return SEG_A | SEG_D | SEG_E | SEG_F | SEG_G;
+            case 'F': return SEG_A | SEG_E | SEG_F | SEG_G;
+            case 'H': return SEG_B | SEG_C | SEG_E | SEG_F | SEG_G;
+            case 'L': return SEG_D | SEG_E | SEG_F;
+            case 'n': return SEG_C | SEG_E | SEG_G;
+            case 'o': return SEG_C | SEG_D | SEG_E | SEG_G;
+            case 'P': return SEG_A | SEG_B | SEG_E | SEG_F | SEG_G;
+            case 'r': return SEG_E | SEG_G;
+            case 'u': return SEG_C | SEG_D | SEG_E;
+            default : return -1;
+        }
+    }
+
+    private void createSegments(final double WIDTH, final double THICKNESS, final double HEIGHT, final double GAP) {
+        final double HALF   = THICKNESS * 0.5;
+        final double LEFT   = HALF;
+        final double RIGHT  = WIDTH - HALF;
+        final double TOP    = HALF;
+        final double MIDDLE = HEIGHT * 0.5;
+        final double BOTTOM = HEIGHT - HALF;
+        createHorizontal(0, LEFT, RIGHT, TOP, HALF, GAP);
+        createVertical(1, RIGHT, TOP, MIDDLE, HALF, GAP);
+        createVertical(2, RIGHT, MIDDLE, BOTTOM, HALF, GAP);
+        createHorizontal(3, LEFT, RIGHT, BOTTOM, HALF, GAP);
+        createVertical(4, LEFT, MIDDLE, BOTTOM, HALF, GAP);
+        createVertical(5, LEFT, TOP, MIDDLE, HALF, GAP);
+        createHorizontal(6, LEFT, RIGHT, MIDDLE, HALF, GAP);
+        // Decimal point
+        createRectangle(segmentXs[7], segmentYs[7], WIDTH + 0.25 * THICKNESS, HEIGHT - THICKNESS, THICKNESS);
+        // Colon
+        createRectangle(colonXs[0], colonYs[0], 0.75 * THICKNESS, 0.3 * HEIGHT - HALF, THICKNESS);
+        createRectangle(colonXs[1], colonYs[1], 0.75 * THICKNESS, 0.7 * HEIGHT - HALF, THICKNESS);
+    }
+
+    private void createHorizontal(final int INDEX, final double X0, final double X1, final double Y, final double HALF, final double GAP) {
+        setPoint(INDEX, 0, X0 + GAP, Y);
+        setPoint(INDEX, 1, X0 + GAP + HALF, Y - HALF);
+        setPoint(INDEX, 2, X1 - GAP - HALF, Y - HALF);
+        setPoint(INDEX, 3, X1 - GAP, Y);
+        setPoint(INDEX, 4, X1 - GAP - HALF, Y + HALF);
+        setPoint(INDEX, 5, X0 + GAP + HALF, Y + HALF);
+    }
+
+    private void createVertical(final int INDEX, final double X, final double Y0, final double Y1, final double HALF, final double GAP) {
+        setPoint(INDEX, 0, X, Y0 + GAP);
+        setPoint(INDEX, 1, X + HALF, Y0 + GAP + HALF);
+        setPoint(INDEX, 2, X + HALF, Y1 - GAP - HALF);
+        setPoint(INDEX, 3, X, Y1 - GAP);
+        setPoint(INDEX, 4, X - HALF, Y1 - GAP - HALF);
+        setPoint(INDEX, 5, X - HALF, Y0 + GAP + HALF);
+    }
+
+    private void setPoint(final int INDEX, final int POINT, final double X, final double Y) {
+        segmentXs[INDEX][POINT] = X + slant * (digitHeight - Y);
+        segmentYs[INDEX][POINT] = Y;
+    }
+
+    private void createRectangle(final double[] XS, final double[] YS, final double X, final double Y, final double SIZE) {
+        XS[0] = X + slant * (digitHeight - Y);
+        XS[1] = X + SIZE + slant * (digitHeight - Y);
+        XS[2] = X + SIZE + slant * (digitHeight - Y - SIZE);
+        XS[3] = X + slant * (digitHeight - Y - SIZE);
+        YS[0] = Y;
+        YS[1] = Y;
+        YS[2] = Y + SIZE;
+        YS[3] = Y + SIZE;
+    }
+
+    private void drawBackground() {
+        backgroundCtx.clearRect(0, 0, background.getWidth(), background.getHeight());
+        if (LcdFont.STANDARD == lcdFont) return;
+        backgroundCtx.setFill(ghostColor);
+        for (int i = 0 ; i < cells.length ; i++) { fillCell(backgroundCtx, i, ghostMasks[i]); }
+    }
+
+    private void drawForeground() {
+        foregroundCtx.clearRect(0, 0, foreground.getWidth(), foreground.getHeight());
+        foregroundCtx.setFill(foregroundColor);
+        for (int i = 0 ; i < cells.length ; i++) { fillCell(foregroundCtx, i, masks[i]); }
+    }
+
+    /**
+     * Clears the bounds of the given cell and redraws the lit segments of all
+     * cells that reach into these bounds, slanted segments of the neighbour
+     * cells will be clipped to the bounds.
+     */
+    private void drawCell(final int CELL) {
+        final double MIN_X = cellXs[CELL];
+        final double MAX_X = cellXs[CELL] + cellWidths[CELL] + slant * digitHeight;
+        foregroundCtx.clearRect(MIN_X, 0, MAX_X - MIN_X, foreground.getHeight());
+        foregroundCtx.save();
+        foregroundCtx.beginPath();
+        foregroundCtx.rect(MIN_X, 0, MAX_X - MIN_X, foreground.getHeight());
+        foregroundCtx.clip();
+        foregroundCtx.setFill(foregroundColor);
+        for (int i = 0 ; i < cells.length ; i++) {
+            if (cellXs[i] > MAX_X || cellXs[i] + cellWidths[i] + slant * digitHeight < MIN_X) continue;
+            fillCell(foregroundCtx, i, masks[i]);
+        }
+        foregroundCtx.restore();
+    }
+
+    private void fillCell(final GraphicsContext CTX, final int CELL, final int MASK) {
+        if (0 == MASK) return;
+        CTX.save();
+        CTX.translate(cellXs[CELL], 0);
+        if (COLON == cells[CELL]) {
+            CTX.fillPolygon(colonXs[0], colonYs[0], 4);
+            CTX.fillPolygon(colonXs[1], colonYs[1], 4);
+        } else {
+            for (int i = 0 ; i < 7 ; i++) {
+                if ((MASK & (1 << i)) != 0) { CTX.fillPolygon(segmentXs[i], segmentYs[i], NO_OF_EDGES); }
+            }
+            if ((MASK & SEG_DP) != 0) { CTX.fillPolygon(segmentXs[7], segmentYs[7], 4); }
+        }
+        CTX.restore();
+    }
+}
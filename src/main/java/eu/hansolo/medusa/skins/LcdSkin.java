@@ -19,13 +19,11 @@ package eu.hansolo.medusa.skins;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.LcdDesign;
-import eu.hansolo.medusa.LcdFont;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.tools.Helper;
 import javafx.beans.InvalidationListener;
 import javafx.geometry.Insets;
 import javafx.geometry.VPos;
-import javafx.scene.CacheHint;
 import javafx.scene.Group;
 import javafx.scene.effect.BlurType;
 import javafx.scene.effect.DropShadow;
@@ -77,8 +75,6 @@ public class LcdSkin extends GaugeSkinBase {
     private static final Color                 BRIGHT_NOISE_COLOR = Color.rgb(200, 200, 200, 0.05);
     private static final DropShadow            FOREGROUND_SHADOW  = new DropShadow();
     private static       double                aspectRatio        = 0.45454545;
-    private static       Text                  oneSegment         = new Text("8");
-    private static       Text                  dotSegment         = new Text(".");
     private              double                width;
     private              double                height;
     private              Pane                  pane;
@@ -91,8 +87,7 @@ public class LcdSkin extends GaugeSkinBase {
     private              InnerShadow           mainInnerShadow1;
     private              Path                  threshold;
     private              Path                  average;
-    private              Text                  valueText;
-    private              Text                  backgroundText;
+    private              LcdSegmentDisplay     valueDisplay;
     private              Text                  unitText;
     private              Text                  title;
     private              Text                  lowerRightText;
@@ -101,17 +96,11 @@ public class LcdSkin extends GaugeSkinBase {
     private              Text                  lowerCenterText;
     private              double                valueOffsetLeft;
     private              double                valueOffsetRight;
-    private              double                digitalFontSizeFactor;
-    private              Font                  valueFont;
+    private              double                digitHeight;
     private              Font                  unitFont;
     private              Font                  titleFont;
     private              Font                  smallFont;
-    private              double                oneSegmentWidth;
-    private              double                dotSegmentWidth;
-    private              double                widthOfDecimals;
-    private              double                availableWidth;
-    private              int                   noOfSegments;
-    private              StringBuilder         backgroundTextBuilder;
+    private              StringBuilder         patternBuilder;
     private              Group                 shadowGroup;
     private              String                valueFormatString;
     private              String                otherFormatString;
@@ -128,14 +117,13 @@ public class LcdSkin extends GaugeSkinBase {
         height                = PREFERRED_HEIGHT;
         valueOffsetLeft       = 0.0;
         valueOffsetRight      = 0.0;
-        digitalFontSizeFactor = 1.0;
-        backgroundTextBuilder = new StringBuilder();
+        patternBuilder        = new StringBuilder();
         valueFormatString     = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         otherFormatString     = new StringBuilder("%.").append(Integer.toString(gauge.getTickLabelDecimals())).append("f").toString();
         locale                = gauge.getLocale();
         sections              = gauge.getSections();
         sectionColorMap       = new HashMap<>(sections.size());
-        currentValueListener  = o -> handleEvents("REDRAW");
+        currentValueListener  = deferrable(o -> handleEvents("REDRAW"));
         updateSectionColors();
         FOREGROUND_SHADOW.setOffsetX(0);
         FOREGROUND_SHADOW.setOffsetY(1);
@@ -193,12 +181,9 @@ public class LcdSkin extends GaugeSkinBase {
         average.setStroke(null);
         Helper.enableNode(average, gauge.isAverageVisible());
 
-        backgroundText = new Text(String.format(locale, valueFormatString, gauge.getCurrentValue()));
-        backgroundText.setFill(gauge.getLcdDesign().lcdBackgroundColor);
-        backgroundText.setOpacity((LcdFont.LCD == gauge.getLcdFont() || LcdFont.ELEKTRA == gauge.getLcdFont()) ? 1 : 0);
-
-        valueText = new Text(String.format(locale, valueFormatString, gauge.getCurrentValue()));
-        valueText.setFill(gauge.getLcdDesign().lcdForegroundColor);
+        valueDisplay = new LcdSegmentDisplay();
+        valueDisplay.setLcdFont(gauge.getLcdFont());
+        valueDisplay.setColors(gauge.getLcdDesign().lcdForegroundColor, gauge.getLcdDesign().lcdBackgroundColor);
 
         unitText = new Text(gauge.getUnit());
         unitText.setFill(gauge.getLcdDesign().lcdForegroundColor);
@@ -228,7 +213,7 @@ public class LcdSkin extends GaugeSkinBase {
         shadowGroup.setEffect(gauge.isShadowsEnabled() ? FOREGROUND_SHADOW : null);
         shadowGroup.getChildren().setAll(threshold,
                                          average,
-                                         valueText,
+                                         valueDisplay.getForeground(),
                                          unitText,
                                          title,
                                          lowerRightText,
@@ -236,7 +221,7 @@ public class LcdSkin extends GaugeSkinBase {
                                          upperRightText,
                                          lowerCenterText);
 
-        pane = new Pane(crystalOverlay, backgroundText, shadowGroup);
+        pane = new Pane(crystalOverlay, valueDisplay.getBackground(), shadowGroup);
         pane.setEffect(gauge.isShadowsEnabled() ? mainInnerShadow1 : null);
         getChildren().setAll(pane);
     }
@@ -286,12 +271,6 @@ public class LcdSkin extends GaugeSkinBase {
 
 
     // ******************** Private Methods ***********************************
-    private boolean isNoOfDigitsInvalid() {
-        final double AVAILABLE_WIDTH = width - 2 - valueOffsetLeft - valueOffsetRight;
-        final double NEEDED_WIDTH    = valueText.getLayoutBounds().getWidth();
-        return Double.compare(AVAILABLE_WIDTH, NEEDED_WIDTH) < 0;
-    }
-
     private void updateLcdDesign(final double HEIGHT) {
         LcdDesign lcdDesign = gauge.getLcdDesign();
         Color[]   lcdColors = lcdDesign.getColors();
@@ -321,8 +300,7 @@ public class LcdSkin extends GaugeSkinBase {
             lcdPaint      = gauge.getBackgroundPaint();
 
             Color lcdForegroundColor = (Color) gauge.getForegroundPaint();
-            backgroundText.setFill(Color.color(lcdForegroundColor.getRed(), lcdForegroundColor.getGreen(), lcdForegroundColor.getBlue(), 0.1));
-            valueText.setFill(lcdForegroundColor);
+            valueDisplay.setColors(lcdForegroundColor, Color.color(lcdForegroundColor.getRed(), lcdForegroundColor.getGreen(), lcdForegroundColor.getBlue(), 0.1));
             upperLeftText.setFill(lcdForegroundColor);
             title.setFill(lcdForegroundColor);
             upperRightText.setFill(lcdForegroundColor);
@@ -347,8 +325,7 @@ public class LcdSkin extends GaugeSkinBase {
                                           new Stop(0.5, lcdColors[3]),
                                           new Stop(1.0, lcdColors[4]));
 
-            backgroundText.setFill(lcdDesign.lcdBackgroundColor);
-            valueText.setFill(lcdDesign.lcdForegroundColor);
+            valueDisplay.setColors(lcdDesign.lcdForegroundColor, lcdDesign.lcdBackgroundColor);
             upperLeftText.setFill(lcdDesign.lcdForegroundColor);
             title.setFill(lcdDesign.lcdForegroundColor);
             upperRightText.setFill(lcdDesign.lcdForegroundColor);
@@ -411,85 +388,29 @@ public class LcdSkin extends GaugeSkinBase {
     }
     
     private void updateFonts() {
-        digitalFontSizeFactor = 1.0;
-        switch(gauge.getLcdFont()) {
-            case LCD:
-                valueFont = Fonts.digital(0.6 * height);
-                digitalFontSizeFactor = 1.4;
-                break;
-            case DIGITAL:
-                valueFont = Fonts.digitalReadout(0.5833333333 * height);
-                break;
-            case DIGITAL_BOLD:
-                valueFont = Fonts.digitalReadoutBold(0.5833333333 * height);
-                break;
-            case ELEKTRA:
-                valueFont = Fonts.elektra(0.62 * height);
-                break;
-            case STANDARD:
-            default:
-                valueFont = Fonts.robotoMedium(0.5 * height);
-                break;
-        }
-        backgroundText.setFont(valueFont);
-        backgroundText.setOpacity((LcdFont.LCD == gauge.getLcdFont() ||
-                                   LcdFont.DIGITAL == gauge.getLcdFont() ||
-                                   LcdFont.DIGITAL_BOLD == gauge.getLcdFont() ||
-                                   LcdFont.ELEKTRA == gauge.getLcdFont()) ? 1 : 0);
-        valueText.setFont(valueFont);
+        valueDisplay.setLcdFont(gauge.getLcdFont());
         unitFont  = Fonts.latoBold(0.26 * height);
         titleFont = Fonts.latoBold(0.1666666667 * height);
         smallFont = Fonts.latoBold(0.1666666667 * height);
     }
 
-    private void updateBackgroundText() {
-        // Setup the semitransparent background text
-        backgroundText.setCache(false);
-        backgroundText.setTextOrigin(VPos.BASELINE);
-        backgroundText.setTextAlignment(TextAlignment.RIGHT);
-
-        // Setup the semitransparent background text
-        // Width of one segment
-        oneSegment.setFont(valueFont);
-        dotSegment.setText(".");
-        if (LcdFont.LCD == gauge.getLcdFont()) {
-            oneSegment.setText("8");
-        } else if (LcdFont.DIGITAL == gauge.getLcdFont()) {
-            oneSegment.setText("_");
-        } else if (LcdFont.DIGITAL_BOLD == gauge.getLcdFont()) {
-            oneSegment.setText("_");
-        } else if (LcdFont.ELEKTRA == gauge.getLcdFont()) {
-            oneSegment.setText("_");
-        }
-        oneSegmentWidth = oneSegment.getLayoutBounds().getWidth();
-        dotSegmentWidth = dotSegment.getLayoutBounds().getWidth();
-        
-        // Width of decimals
-        widthOfDecimals = 0 == gauge.getDecimals() ? 0 : gauge.getDecimals() * oneSegmentWidth + (LcdFont.LCD == gauge.getLcdFont() ? oneSegmentWidth : dotSegmentWidth);
-
-        // Available width
-        availableWidth = width - (0.0151515152 * width) - (0.0416666667 * height) - 2 - valueOffsetRight - widthOfDecimals;
-
-        // Number of segments
-        noOfSegments = (int) Math.floor(availableWidth / oneSegmentWidth);
-
-        // Add segments to background text
-        backgroundTextBuilder.setLength(0);
-        for (int i = 0 ; i < gauge.getDecimals() ; i++) {
-            backgroundTextBuilder.append(oneSegment.getText());
-        }
+    private void updateValueLayout() {
+        // Number of digits that fit into the available width, the decimal point is part of the digit before
+        digitHeight = 0.48 * height;
+        final int    DECIMALS        = gauge.getDecimals();
+        final double AVAILABLE_WIDTH = width - (0.0151515152 * width) - (0.0416666667 * height) - 2 - valueOffsetRight - valueDisplay.getSlantWidth(digitHeight);
+        final int    NO_OF_DIGITS    = Math.max(DECIMALS + 1, (int) Math.floor(AVAILABLE_WIDTH / valueDisplay.getDigitWidth(digitHeight)));
 
-        if (gauge.getDecimals() != 0) {
-            backgroundTextBuilder.insert(0, ".");
-        }
+        patternBuilder.setLength(0);
+        for (int i = 0 ; i < NO_OF_DIGITS ; i++) { patternBuilder.append('8'); }
+        if (DECIMALS != 0) { patternBuilder.insert(NO_OF_DIGITS - DECIMALS, '.'); }
+        valueDisplay.layout(patternBuilder.toString(), digitHeight);
 
-        for (int i = 0 ; i < noOfSegments ; i++) {
-            backgroundTextBuilder.insert(0, oneSegment.getText());
+        if (gauge.getUnit().isEmpty()) {
+            valueDisplay.relocate(width - valueDisplay.getWidth() - valueOffsetRight, 0.27 * height);
+        } else {
+            valueDisplay.relocate(width - 2 - valueDisplay.getWidth() - valueOffsetRight, 0.27 * height);
         }
-        backgroundText.setText(backgroundTextBuilder.toString());
-        
-        backgroundText.setCache(true);
-        backgroundText.setCacheHint(CacheHint.SCALE);
     }
 
     @Override protected void resize() {
@@ -626,24 +547,14 @@ public class LcdSkin extends GaugeSkinBase {
 
             if (gauge.getUnit().isEmpty()) {
                 valueOffsetRight = height * 0.0833333333;
-                valueText.setX((width - valueText.getLayoutBounds().getWidth()) - valueOffsetRight);
             } else {
                 unitText.setX((width - unitText.getLayoutBounds().getWidth()) - height * 0.04);
-                unitText.setY(height - (valueText.getLayoutBounds().getHeight() * digitalFontSizeFactor) * 0.5);
+                unitText.setY(0.75 * height);
                 valueOffsetRight = (unitText.getLayoutBounds().getWidth() + height * 0.0833333333); // distance between value and unit
-                valueText.setX(width - 2 - valueText.getLayoutBounds().getWidth() - valueOffsetRight);
             }
-            valueText.setY(height - (valueText.getLayoutBounds().getHeight() * digitalFontSizeFactor) * 0.5);
-
-            // Visualize the lcd semitransparent background text
-            updateBackgroundText();
 
-            if (gauge.getUnit().isEmpty()) {
-                backgroundText.setX((width - backgroundText.getLayoutBounds().getWidth()) - valueOffsetRight);
-            } else {
-                backgroundText.setX(width - 2 - backgroundText.getLayoutBounds().getWidth() - valueOffsetRight);
-            }
-            backgroundText.setY(height - (backgroundText.getLayoutBounds().getHeight() * digitalFontSizeFactor) * 0.5);
+            // Segments of the value
+            updateValueLayout();
 
             // Setup the font for the lcd title, number system, min measured, max measure and former value
             // Title
@@ -684,6 +595,25 @@ public class LcdSkin extends GaugeSkinBase {
         }
     }
 
+    /**
+     * Shows the given text in the value display. If the text has more digits
+     * than the display has cells the decimals will be truncated, if the
+     * integer part does not fit either "-E-" will be shown.
+     */
+    private void setValueText(final String TEXT) {
+        final int DECIMAL_SEPARATOR = Math.max(TEXT.lastIndexOf('.'), TEXT.lastIndexOf(','));
+        int length = TEXT.length();
+        while (!valueDisplay.setText(TEXT.substring(0, length))) {
+            if (DECIMAL_SEPARATOR < 0 || length <= DECIMAL_SEPARATOR) {
+                if (!valueDisplay.setText("-E-")) { valueDisplay.setText(""); }
+                return;
+            }
+            length--;
+            // Don't keep a decimal separator without decimals
+            if (length == DECIMAL_SEPARATOR + 1) { length = DECIMAL_SEPARATOR; }
+        }
+    }
+
     @Override protected void redraw() {
         locale            = gauge.getLocale();
         valueFormatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
@@ -691,23 +621,9 @@ public class LcdSkin extends GaugeSkinBase {
 
         if (gauge.isThresholdVisible()) { threshold.setVisible(Double.compare(gauge.getCurrentValue(), gauge.getThreshold()) >= 0); }
 
-        valueText.setText(isNoOfDigitsInvalid() ? "-E-" : formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
-
-        updateBackgroundText();
-
-        // Visualize the lcd semitransparent background text
-        if (gauge.getUnit().isEmpty()) {
-            backgroundText.setX((width - backgroundText.getLayoutBounds().getWidth()) - valueOffsetRight);
-        } else {
-            backgroundText.setX(width - 2 - backgroundText.getLayoutBounds().getWidth() - valueOffsetRight);
-        }
-        backgroundText.setY(height - (backgroundText.getLayoutBounds().getHeight() * digitalFontSizeFactor) * 0.5);
-
-        if (gauge.getUnit().isEmpty()) {
-            valueText.setX((width - valueText.getLayoutBounds().getWidth()) - valueOffsetRight);
-        } else {
-            valueText.setX((width - 2 - valueText.getLayoutBounds().getWidth()) - valueOffsetRight);
-        }
+        // Only the segments that changed will be redrawn
+        updateValueLayout();
+        setValueText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
 
         // Update the title
         title.setText(gauge.getTitle());
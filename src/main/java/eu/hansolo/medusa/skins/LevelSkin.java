@@ -90,7 +90,7 @@ public class LevelSkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         barTooltip           = new Tooltip();
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f%%").toString();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> setBar(gauge.getCurrentValue()));
         barTooltip.setTextAlignment(TextAlignment.CENTER);
 
         initGraphics();
@@ -115,7 +115,7 @@ public class LinearSkin extends GaugeSkinBase {
         locale                = gauge.getLocale();
         sections              = gauge.getSections();
         areas                 = gauge.getAreas();
-        currentValueListener  = o -> setBar(gauge.getCurrentValue());
+        currentValueListener  = deferrable(o -> setBar(gauge.getCurrentValue()));
         paneSizeListener      = o -> handleEvents("RESIZE");
 
         if (Orientation.VERTICAL == orientation) {
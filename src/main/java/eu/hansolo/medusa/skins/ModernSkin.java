@@ -126,7 +126,7 @@ public class ModernSkin extends GaugeSkinBase {
         thresholdColor       = gauge.getThresholdColor();
         animatedListener     = o -> handleEvents("ANIMATED");
         sectionListener      = c -> handleEvents("RESIZE");
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> rotateNeedle(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -284,8 +284,8 @@ public class ModernSkin extends GaugeSkinBase {
                 buttonTooltip.setText(gauge.getButtonTooltipText());
                 Tooltip.install(centerKnob, buttonTooltip);
             } else {
-                centerKnob.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-                centerKnob.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+                centerKnob.setOnMousePressed(null);
+                centerKnob.setOnMouseReleased(null);
                 Tooltip.uninstall(centerKnob, buttonTooltip);
             }
         } else if ("SECTIONS".equals(EVENT_TYPE)) {
@@ -324,10 +324,8 @@ public class ModernSkin extends GaugeSkinBase {
         gauge.animatedProperty().removeListener(animatedListener);
         gauge.getSections().removeListener(sectionListener);
         gauge.currentValueProperty().removeListener(currentValueListener);
-        if (gauge.isInteractive()) {
-            centerKnob.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-            centerKnob.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
-        }
+        centerKnob.setOnMousePressed(null);
+        centerKnob.setOnMouseReleased(null);
         super.dispose();
     }
 
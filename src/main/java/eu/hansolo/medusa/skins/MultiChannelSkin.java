@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.skins;
+
+import eu.hansolo.medusa.MultiChannelGauge;
+import javafx.beans.InvalidationListener;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class MultiChannelSkin extends CanvasGaugeSkin {
+    private       MultiChannelGauge    multiChannelGauge;
+    private       Map<Color, Paint>    needlePaints;
+    private final InvalidationListener channelsListener;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Draws the scale, sections, areas and markers like the CanvasGaugeSkin
+     * (cached in one image) and all needles of the channels in one pass on
+     * top of it. A change of the channels only draws the needles again.
+     * @param gauge
+     */
+    public MultiChannelSkin(MultiChannelGauge gauge) {
+        super(gauge);
+        channelsListener = deferrable(o -> paint());
+        gauge.channelsVersionProperty().addListener(channelsListener);
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override public void reattach() {
+        super.reattach();
+        getMultiChannelGauge().channelsVersionProperty().addListener(channelsListener);
+    }
+
+    @Override public void dispose() {
+        getMultiChannelGauge().channelsVersionProperty().removeListener(channelsListener);
+        super.dispose();
+    }
+
+
+    // ******************** Private Methods ***********************************
+    private MultiChannelGauge getMultiChannelGauge() {
+        if (null == multiChannelGauge) { multiChannelGauge = (MultiChannelGauge) gauge; }
+        return multiChannelGauge;
+    }
+
+    private Paint getNeedlePaint(final Color COLOR) {
+        if (null == needlePaints) { needlePaints = new HashMap<>(); }
+        return needlePaints.computeIfAbsent(COLOR, color -> createNeedlePaint(color));
+    }
+
+    @Override protected void drawNeedles() {
+        final MultiChannelGauge GAUGE             = getMultiChannelGauge();
+        final boolean           THRESHOLD_VISIBLE = gauge.isThresholdVisible();
+        final Color             THRESHOLD_COLOR   = gauge.getThresholdColor();
+        for (int i = 0 ; i < GAUGE.getNoOfChannels() ; i++) {
+            final double VALUE = GAUGE.getChannelCurrentValue(i);
+            final Color  COLOR = THRESHOLD_VISIBLE && VALUE > GAUGE.getChannelThreshold(i) ? THRESHOLD_COLOR : GAUGE.getChannelColor(i);
+            drawNeedle(getNeedleAngle(VALUE), getNeedlePaint(COLOR));
+        }
+    }
+
+
+    // ******************** Resizing ******************************************
+    @Override protected void redraw() {
+        // The needle paints depend on the size and shape of the needle
+        if (null != needlePaints) { needlePaints.clear(); }
+        super.redraw();
+    }
+}
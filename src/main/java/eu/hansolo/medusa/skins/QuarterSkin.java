@@ -22,6 +22,7 @@ import eu.hansolo.medusa.Gauge.LedType;
 import eu.hansolo.medusa.Gauge.NeedleType;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.LcdDesign;
+import eu.hansolo.medusa.LevelOfDetail.Detail;
 import eu.hansolo.medusa.Marker;
 import eu.hansolo.medusa.Needle;
 import eu.hansolo.medusa.Section;
@@ -30,6 +31,7 @@ import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.TickMarkType;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.ShadowSprite;
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
@@ -120,6 +122,8 @@ public class QuarterSkin extends GaugeSkinBase {
     private Canvas                     knobCanvas;
     private GraphicsContext            knobCtx;
     private Group                      shadowGroup;
+    private ShadowSprite               needleShadow;
+    private ShadowSprite               knobShadow;
     private DropShadow                 dropShadow;
     private Text                       titleText;
     private Text                       subTitleText;
@@ -170,7 +174,7 @@ public class QuarterSkin extends GaugeSkinBase {
             updateMarkers();
             redraw();
         };
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> rotateNeedle(gauge.getCurrentValue()));
         updateMarkers();
 
         initGraphics();
@@ -242,8 +246,11 @@ public class QuarterSkin extends GaugeSkinBase {
         dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
-        shadowGroup = new Group(needle, knobCanvas);
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        needleShadow = new ShadowSprite(needle);
+        knobShadow   = new ShadowSprite(knobCanvas);
+        enableShadows(gauge.isShadowsEnabled());
+
+        shadowGroup = new Group(needleShadow, knobShadow, needle, knobCanvas);
 
         titleText = new Text(gauge.getTitle());
         titleText.setTextOrigin(VPos.CENTER);
@@ -322,10 +329,7 @@ public class QuarterSkin extends GaugeSkinBase {
                 drawAreasAndSections(sectionsAndAreasCtx);
             }
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
-            Helper.enableNode(ledCanvas, gauge.isLedVisible());
-            Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
-            Helper.enableNode(subTitleText, !gauge.getSubTitle().isEmpty());
-            Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
+            applyLevelOfDetail();
             Helper.enableNode(valueText, gauge.isValueVisible());
             Helper.enableNode(lcd, gauge.isLcdVisible() && gauge.isValueVisible());
             Helper.enableNode(knobCanvas, gauge.isKnobVisible());
@@ -336,7 +340,7 @@ public class QuarterSkin extends GaugeSkinBase {
             resize();
             redraw();
         } else if ("LED".equals(EVENT_TYPE)) {
-            if (gauge.isLedVisible()) { drawLed(); }
+            if (gauge.isLedVisible() && isDetailVisible(Detail.LED, size)) { drawLed(); }
         } else if ("LCD".equals(EVENT_TYPE)) {
             if (gauge.isLcdVisible()) redraw();
         } else if ("RECALC".equals(EVENT_TYPE)) {
@@ -360,15 +364,15 @@ public class QuarterSkin extends GaugeSkinBase {
             redraw();
         } else if ("INTERACTIVITY".equals(EVENT_TYPE)) {
             if (gauge.isInteractive()) {
-                knobCanvas.addEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-                knobCanvas.addEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+                knobCanvas.setOnMousePressed(mouseHandler);
+                knobCanvas.setOnMouseReleased(mouseHandler);
                 if (!gauge.getButtonTooltipText().isEmpty()) {
                     buttonTooltip.setText(gauge.getButtonTooltipText());
                     Tooltip.install(knobCanvas, buttonTooltip);
                 }
             } else {
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+                knobCanvas.setOnMousePressed(null);
+                knobCanvas.setOnMouseReleased(null);
                 Tooltip.uninstall(knobCanvas, buttonTooltip);
             }
         }
@@ -389,10 +393,8 @@ public class QuarterSkin extends GaugeSkinBase {
     @Override public void dispose() {
         gauge.getMarkers().removeListener(markerListener);
         gauge.currentValueProperty().removeListener(currentValueListener);
-        if (gauge.isInteractive()) {
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
-        }
+        knobCanvas.setOnMousePressed(null);
+        knobCanvas.setOnMouseReleased(null);
         super.dispose();
     }
 
@@ -459,9 +461,9 @@ public class QuarterSkin extends GaugeSkinBase {
         boolean       tickMarkSectionsVisible      = gauge.getTickMarkSectionsVisible();
         boolean       tickLabelSectionsVisible     = gauge.getTickLabelSectionsVisible();
         boolean       majorTickMarksVisible        = gauge.getMajorTickMarksVisible();
-        boolean       mediumTickMarksVisible       = gauge.getMediumTickMarksVisible();
-        boolean       minorTickMarksVisible        = gauge.getMinorTickMarksVisible();
-        boolean       tickLabelsVisible            = gauge.getTickLabelsVisible();
+        boolean       mediumTickMarksVisible       = gauge.getMediumTickMarksVisible() && isDetailVisible(Detail.MEDIUM_TICK_MARKS, size);
+        boolean       minorTickMarksVisible        = gauge.getMinorTickMarksVisible() && isDetailVisible(Detail.MINOR_TICK_MARKS, size);
+        boolean       tickLabelsVisible            = gauge.getTickLabelsVisible() && isDetailVisible(Detail.TICK_LABELS, size);
         boolean       onlyFirstAndLastLabelVisible = gauge.isOnlyFirstAndLastTickLabelVisible();
         boolean       customTickLabelsEnabled      = gauge.getCustomTickLabelsEnabled();
         List<String>  customTickLabels             = customTickLabelsEnabled ? gauge.getCustomTickLabels() : null;
@@ -1340,6 +1342,11 @@ public class QuarterSkin extends GaugeSkinBase {
         }
     }
 
+    private void enableShadows(final boolean ENABLED) {
+        needleShadow.setEnabled(ENABLED);
+        knobShadow.setEnabled(ENABLED);
+    }
+
     private void drawKnob(final boolean PRESSED) {
         knobCanvas.setCache(false);
         double w = knobCanvas.getWidth();
@@ -1648,6 +1655,14 @@ public class QuarterSkin extends GaugeSkinBase {
         }
     }
 
+    private void applyLevelOfDetail() {
+        boolean textVisible = isDetailVisible(Detail.TEXT, size);
+        Helper.enableNode(ledCanvas, gauge.isLedVisible() && isDetailVisible(Detail.LED, size));
+        Helper.enableNode(titleText, textVisible && !gauge.getTitle().isEmpty());
+        Helper.enableNode(subTitleText, textVisible && !gauge.getSubTitle().isEmpty());
+        Helper.enableNode(unitText, textVisible && !gauge.getUnit().isEmpty());
+    }
+
     @Override protected void resize() {
         double width  = gauge.getWidth() - gauge.getInsets().getLeft() - gauge.getInsets().getRight();
         double height = gauge.getHeight() - gauge.getInsets().getTop() - gauge.getInsets().getBottom();
@@ -1688,7 +1703,7 @@ public class QuarterSkin extends GaugeSkinBase {
             backgroundInnerShadow.setOffsetY(size * 0.03);
             backgroundInnerShadow.setRadius(size * 0.04);
 
-            pane.setEffect(gauge.isInnerShadowEnabled() ? backgroundInnerShadow : null);
+            pane.setEffect(gauge.isInnerShadowEnabled() && isDetailVisible(Detail.EFFECTS, size) ? backgroundInnerShadow : null);
 
             sectionsAndAreasCanvas.setWidth(1.95 * size);
             sectionsAndAreasCanvas.setHeight(1.95 * size);
@@ -1713,6 +1728,7 @@ public class QuarterSkin extends GaugeSkinBase {
                 lcd.setArcHeight(0.0125 * size);
             }
             resizeText();
+            applyLevelOfDetail();
             resizeValueText();
 
             double needleWidth;
@@ -1806,7 +1822,7 @@ public class QuarterSkin extends GaugeSkinBase {
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        enableShadows(gauge.isShadowsEnabled() && isDetailVisible(Detail.EFFECTS, size));
 
         // Background stroke and fill
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, CornerRadii.EMPTY, new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * size))));
@@ -1830,7 +1846,7 @@ public class QuarterSkin extends GaugeSkinBase {
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
 
         // LED
-        if (gauge.isLedVisible()) {
+        if (gauge.isLedVisible() && isDetailVisible(Detail.LED, size)) {
             final Color LED_COLOR = gauge.getLedColor();
             switch(gauge.getLedType()) {
                 case FLAT:
@@ -1957,6 +1973,11 @@ public class QuarterSkin extends GaugeSkinBase {
         // Knob
         drawKnob(false);
 
+        // Shadows, the knob canvas can not be observed by its sprite
+        knobShadow.invalidate();
+        needleShadow.update(dropShadow);
+        knobShadow.update(dropShadow);
+
         // Markers
         drawMarkers();
         thresholdTooltip.setText("Threshold\n(" + String.format(locale, formatString, gauge.getThreshold()) + ")");
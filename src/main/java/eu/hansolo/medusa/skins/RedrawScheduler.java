@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.skins;
+
+import eu.hansolo.medusa.Gauge;
+import javafx.animation.AnimationTimer;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class RedrawScheduler {
+    public  static final double                    DEFAULT_BUDGET = 8;
+    private static final long                      AGING_STEP     = 250_000_000l;
+    private        final Map<GaugeSkinBase, Entry> entries;
+    private        final List<Entry>               dirtyEntries;
+    private        final List<Entry>               candidates;
+    private        final Comparator<Entry>         comparator;
+    private        final AnimationTimer            timer;
+    private              long                      budgetNs;
+    private              boolean                   running;
+    private              long                      pulseTime;
+    private              long                      lastPulseDuration;
+    private              int                       lastNoOfUpdates;
+    private              int                       lastNoOfCarriedOver;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Defers redraws and value updates of the skins of all gauges that use
+     * this scheduler and executes them once per pulse, ordered by the
+     * redrawPriority of the gauges, until the given budget per pulse is used
+     * up. Updates that don't fit into the budget will be carried over to the
+     * next pulse. Gauges that wait longer will gain priority so that every
+     * gauge will show its latest value eventually.
+     */
+    public RedrawScheduler() {
+        this(DEFAULT_BUDGET);
+    }
+    /**
+     * @param BUDGET time in ms that can be used for redraws per pulse
+     */
+    public RedrawScheduler(final double BUDGET) {
+        entries      = new HashMap<>();
+        dirtyEntries = new ArrayList<>();
+        candidates   = new ArrayList<>();
+        comparator   = (e1, e2) -> {
+            int result = Long.compare(e2.getEffectivePriority(pulseTime), e1.getEffectivePriority(pulseTime));
+            return 0 == result ? Long.compare(e1.dirtySince, e2.dirtySince) : result;
+        };
+        timer        = new AnimationTimer() {
+            @Override public void handle(final long NOW) { pulse(); }
+        };
+        setBudget(BUDGET);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the time in ms that can be used for redraws per pulse.
+     * @return the time in ms that can be used for redraws per pulse
+     */
+    public double getBudget() { return budgetNs / 1_000_000.0; }
+    /**
+     * Defines the time in ms that can be used for redraws per pulse.
+     * At least one gauge will be updated per pulse.
+     * @param BUDGET
+     */
+    public void setBudget(final double BUDGET) { budgetNs = (long) (Math.max(0, BUDGET) * 1_000_000); }
+
+    /**
+     * Returns the time in ms that was needed for all updates in the last pulse.
+     * @return the time in ms that was needed for all updates in the last pulse
+     */
+    public double getLastPulseDuration() { return lastPulseDuration / 1_000_000.0; }
+
+    /**
+     * Returns the number of gauges that were updated in the last pulse.
+     * @return the number of gauges that were updated in the last pulse
+     */
+    public int getLastNoOfUpdates() { return lastNoOfUpdates; }
+
+    /**
+     * Returns the number of gauges that had to wait for the next pulse
+     * because the budget of the last pulse was used up.
+     * @return the number of gauges that were carried over to the next pulse
+     */
+    public int getLastNoOfCarriedOver() { return lastNoOfCarriedOver; }
+
+    /**
+     * Returns the number of gauges that are waiting for an update.
+     * @return the number of gauges that are waiting for an update
+     */
+    public int getNoOfPendingUpdates() { return dirtyEntries.size(); }
+
+    void requestResize(final GaugeSkinBase SKIN) {
+        final Entry ENTRY = getEntry(SKIN);
+        ENTRY.resize = true;
+        markDirty(ENTRY);
+    }
+
+    void requestRedraw(final GaugeSkinBase SKIN) {
+        final Entry ENTRY = getEntry(SKIN);
+        ENTRY.redraw = true;
+        markDirty(ENTRY);
+    }
+
+    void requestValueUpdate(final GaugeSkinBase SKIN, final InvalidationListener LISTENER, final Observable OBSERVABLE) {
+        final Entry ENTRY = getEntry(SKIN);
+        if (!ENTRY.valueListeners.contains(LISTENER)) {
+            ENTRY.valueListeners.add(LISTENER);
+            ENTRY.observables.add(OBSERVABLE);
+        }
+        markDirty(ENTRY);
+    }
+
+    void remove(final GaugeSkinBase SKIN) {
+        final Entry ENTRY = entries.remove(SKIN);
+        if (null == ENTRY) return;
+        ENTRY.removed = true;
+        ENTRY.dirty   = false;
+    }
+
+    private Entry getEntry(final GaugeSkinBase SKIN) { return entries.computeIfAbsent(SKIN, Entry::new); }
+
+    private void markDirty(final Entry ENTRY) {
+        if (ENTRY.dirty) return;
+        ENTRY.dirty      = true;
+        ENTRY.dirtySince = System.nanoTime();
+        if (!ENTRY.queued) {
+            ENTRY.queued = true;
+            dirtyEntries.add(ENTRY);
+        }
+        if (!running) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    private void pulse() {
+        final long START = System.nanoTime();
+        pulseTime = START;
+
+        candidates.clear();
+        for (Entry entry : dirtyEntries) {
+            if (entry.dirty && START - entry.lastUpdate >= entry.getMinInterval()) { candidates.add(entry); }
+        }
+        candidates.sort(comparator);
+
+        int noOfUpdates = 0;
+        int noOfSkipped = 0;
+        for (Entry entry : candidates) {
+            if (noOfUpdates > 0 && System.nanoTime() - START >= budgetNs) break;
+            if (entry.removed) {
+                noOfSkipped++;
+                continue;
+            }
+            entry.update(START);
+            noOfUpdates++;
+        }
+        // Entries that are dirty again or didn't fit into the budget stay in the list
+        dirtyEntries.removeIf(entry -> {
+            if (entry.dirty) return false;
+            entry.queued = false;
+            return true;
+        });
+
+        lastPulseDuration   = System.nanoTime() - START;
+        lastNoOfUpdates     = noOfUpdates;
+        lastNoOfCarriedOver = candidates.size() - noOfUpdates - noOfSkipped;
+        candidates.clear();
+
+        if (dirtyEntries.isEmpty()) {
+            running = false;
+            timer.stop();
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Entry {
+        private final GaugeSkinBase              SKIN;
+        private final List<InvalidationListener> valueListeners;
+        private final List<Observable>           observables;
+        private       boolean                    dirty;
+        private       boolean                    queued;
+        private       boolean                    removed;
+        private       boolean                    resize;
+        private       boolean                    redraw;
+        private       long                       dirtySince;
+        private       long                       lastUpdate;
+
+
+        // ******************** Constructors **************************************
+        Entry(final GaugeSkinBase SKIN) {
+            this.SKIN      = SKIN;
+            valueListeners = new ArrayList<>(1);
+            observables    = new ArrayList<>(1);
+            lastUpdate     = Long.MIN_VALUE / 2;
+        }
+
+
+        // ******************** Methods *******************************************
+        long getMinInterval() {
+            final double MAX_REFRESH_RATE = SKIN.gauge.getMaxRefreshRate();
+            return MAX_REFRESH_RATE > 0 ? (long) (1_000_000_000 / MAX_REFRESH_RATE) : 0;
+        }
+
+        long getEffectivePriority(final long NOW) { return SKIN.gauge.getRedrawPriority() + (NOW - dirtySince) / AGING_STEP; }
+
+        void update(final long NOW) {
+            dirty      = false;
+            lastUpdate = NOW;
+            if (resize) {
+                resize = false;
+                redraw = false;
+                SKIN.dispatchEvent("RESIZE");
+            } else if (redraw) {
+                redraw = false;
+                SKIN.dispatchEvent("REDRAW");
+            }
+            int noOfListeners = valueListeners.size();
+            for (int i = 0 ; i < noOfListeners ; i++) { SKIN.dispatchValueUpdate(valueListeners.get(i), observables.get(i)); }
+            valueListeners.clear();
+            observables.clear();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.skins;
+
+import eu.hansolo.medusa.Section;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Arc;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * Keeps one Arc per section in the given pane and updates the arcs in
+ * place. A new list of sections will be applied as diff, arcs will only
+ * be created for added sections and removed for removed sections.
+ */
+class SectionArcLayer {
+    private final Pane                      pane;
+    private final Function<Section, String> tooltipText;
+    private final Map<Section, Arc>         arcs;
+    private final Map<Section, Tooltip>     tooltips;
+    private final List<Section>             sections;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * @param PANE         the pane that will only contain the arcs of the sections
+     * @param TOOLTIP_TEXT creates the tooltip text of a section
+     */
+    SectionArcLayer(final Pane PANE, final Function<Section, String> TOOLTIP_TEXT) {
+        pane        = PANE;
+        tooltipText = TOOLTIP_TEXT;
+        arcs        = new IdentityHashMap<>();
+        tooltips    = new IdentityHashMap<>();
+        sections    = new ArrayList<>();
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Removes the arcs of all sections that are not in the given list
+     * anymore, creates arcs for all new sections and keeps the order of
+     * the arcs in the pane in the order of the given sections.
+     * @param SECTIONS
+     */
+    void setSections(final List<Section> SECTIONS) {
+        final Map<Section, Boolean> CURRENT = new IdentityHashMap<>(SECTIONS.size());
+        final List<Section>         UNIQUE  = new ArrayList<>(SECTIONS.size());
+        for (Section section : SECTIONS) {
+            if (null == CURRENT.put(section, Boolean.TRUE)) { UNIQUE.add(section); }
+        }
+
+        final ObservableList<Node> CHILDREN = pane.getChildren();
+        for (Section section : sections) {
+            if (CURRENT.containsKey(section)) continue;
+            final Arc ARC = arcs.remove(section);
+            Tooltip.uninstall(ARC, tooltips.remove(section));
+            CHILDREN.remove(ARC);
+        }
+        sections.clear();
+        sections.addAll(UNIQUE);
+
+        // New arcs will be appended as long as the order of the existing arcs is unchanged
+        boolean inOrder = true;
+        for (int i = 0 ; i < sections.size() ; i++) {
+            final Section SECTION = sections.get(i);
+            Arc arc = arcs.get(SECTION);
+            if (null == arc) {
+                arc = createArc(SECTION);
+                if (inOrder && CHILDREN.size() == i) {
+                    CHILDREN.add(arc);
+                    continue;
+                }
+            }
+            if (inOrder && (CHILDREN.size() <= i || CHILDREN.get(i) != arc)) { inOrder = false; }
+        }
+        if (!inOrder) {
+            final List<Arc> ORDERED = new ArrayList<>(sections.size());
+            for (Section section : sections) { ORDERED.add(arcs.get(section)); }
+            CHILDREN.setAll(ORDERED);
+        }
+    }
+
+    /**
+     * Updates the geometry, color and tooltip of all arcs. Values that have
+     * not changed will not invalidate the arcs.
+     * @param CENTER_X
+     * @param CENTER_Y
+     * @param RADIUS
+     * @param STROKE_WIDTH
+     * @param START_ANGLE  the start angle of the arc of a section
+     * @param LENGTH       the length of the arc of a section
+     */
+    void layout(final double CENTER_X, final double CENTER_Y, final double RADIUS, final double STROKE_WIDTH,
+                final ToDoubleFunction<Section> START_ANGLE, final ToDoubleFunction<Section> LENGTH) {
+        for (Section section : sections) {
+            final Arc ARC = arcs.get(section);
+            ARC.setCenterX(CENTER_X);
+            ARC.setCenterY(CENTER_Y);
+            ARC.setRadiusX(RADIUS);
+            ARC.setRadiusY(RADIUS);
+            ARC.setStrokeWidth(STROKE_WIDTH);
+            ARC.setStartAngle(START_ANGLE.applyAsDouble(section));
+            ARC.setLength(LENGTH.applyAsDouble(section));
+            ARC.setStroke(section.getColor());
+            final Tooltip TOOLTIP = tooltips.get(section);
+            final String  TEXT    = tooltipText.apply(section);
+            if (!Objects.equals(TEXT, TOOLTIP.getText())) { TOOLTIP.setText(TEXT); }
+        }
+    }
+
+    Arc getArc(final Section SECTION) { return arcs.get(SECTION); }
+
+    List<Section> getSections() { return sections; }
+
+    private Arc createArc(final Section SECTION) {
+        final Arc ARC = new Arc();
+        ARC.setType(ArcType.OPEN);
+        ARC.setStroke(SECTION.getColor());
+        ARC.setStrokeLineCap(StrokeLineCap.BUTT);
+        ARC.setFill(null);
+        final Tooltip TOOLTIP = new Tooltip(tooltipText.apply(SECTION));
+        TOOLTIP.setTextAlignment(TextAlignment.CENTER);
+        Tooltip.install(ARC, TOOLTIP);
+        arcs.put(SECTION, ARC);
+        tooltips.put(SECTION, TOOLTIP);
+        return ARC;
+    }
+}
@@ -91,7 +91,7 @@ public class SectionSkin extends GaugeSkinBase {
         minValue             = gauge.getMinValue();
         maxValue             = gauge.getMaxValue();
         sectionListener      = c -> handleEvents("RESIZE");
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> rotateNeedle(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
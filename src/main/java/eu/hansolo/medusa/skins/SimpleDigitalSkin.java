@@ -93,7 +93,7 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
         thresholdVisible     = gauge.isThresholdVisible();
         thresholdColor       = gauge.getThresholdColor();
         decimalListener      = o -> handleEvents("DECIMALS");
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
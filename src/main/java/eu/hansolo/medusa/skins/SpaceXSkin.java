@@ -96,6 +96,7 @@ public class SpaceXSkin extends GaugeSkinBase {
     private              Color                thresholdBackgroundColor;
     private              double               minValue;
     private              InvalidationListener currentValueListener;
+    private              VisualQuantum        valueQuantum;
 
 
     // ******************** Constructors **************************************
@@ -106,7 +107,8 @@ public class SpaceXSkin extends GaugeSkinBase {
         angleStep            = ANGLE_RANGE / range;
         minValue             = gauge.getMinValue();
         currentValueAngle    = 0;
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> setBar(gauge.getCurrentValue()));
+        valueQuantum         = new VisualQuantum();
 
         initGraphics();
         registerListeners();
@@ -226,6 +228,7 @@ public class SpaceXSkin extends GaugeSkinBase {
 
     // ******************** Methods *******************************************
     @Override protected void handleEvents(final String EVENT_TYPE) {
+        valueQuantum.invalidate();
         super.handleEvents(EVENT_TYPE);
         if ("RECALC".equals(EVENT_TYPE)) {
             range     = gauge.getRange();
@@ -251,6 +254,11 @@ public class SpaceXSkin extends GaugeSkinBase {
     private void setBar(final double VALUE) {
         currentValueAngle = (VALUE - minValue) * angleStep;
         thresholdAngle    = (gauge.getThreshold() - minValue) * angleStep;
+
+        // Skip changes that neither move the end of the bar by a pixel nor change the text
+        String text = formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE);
+        if (!valueQuantum.isVisibleChange(VisualQuantum.angleStep(currentValueAngle, centerX), VALUE > gauge.getThreshold(), text)) return;
+
         double valueAngle = currentValueAngle > thresholdAngle ? thresholdAngle : currentValueAngle;
         dataBarOuterArc.setLargeArcFlag(valueAngle > 180);
         dataBarInnerArc.setLargeArcFlag(valueAngle > 180);
@@ -271,7 +279,7 @@ public class SpaceXSkin extends GaugeSkinBase {
         dataBarThresholdInnerArc.setX(centerX + (centerX - barWidth) * Math.sin(-Math.toRadians(thresholdAngle)));
         dataBarThresholdInnerArc.setY(centerY + (centerX - barWidth) * Math.cos(-Math.toRadians(thresholdAngle)));
 
-        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        valueText.setText(text);
         if (valueText.getLayoutBounds().getWidth() > 0.64 * width) Helper.adjustTextSize(valueText, width, 0.21 * width);
         valueText.relocate((width - valueText.getLayoutBounds().getWidth()), 0.58064516 * height);
     }
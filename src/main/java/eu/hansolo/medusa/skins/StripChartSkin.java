@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.skins;
+
+import eu.hansolo.medusa.Fonts;
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Marker;
+import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Insets;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.Border;
+import javafx.scene.layout.BorderStroke;
+import javafx.scene.layout.BorderStrokeStyle;
+import javafx.scene.layout.BorderWidths;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+
+import java.util.List;
+
+import static eu.hansolo.medusa.tools.Helper.clamp;
+import static eu.hansolo.medusa.tools.Helper.formatNumber;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class StripChartSkin extends GaugeSkinBase {
+    private static final int                        NO_OF_SAMPLES  = 150;
+    private static final int                        HISTORY_LENGTH = 512;
+    private              double                     width;
+    private              double                     height;
+    private              Text                       titleText;
+    private              Text                       valueText;
+    private              Text                       unitText;
+    private              Canvas                     background;
+    private              GraphicsContext            backgroundCtx;
+    private              Canvas[]                   tiles;
+    private              GraphicsContext[]          tileCtxs;
+    private              Pane                       chart;
+    private              Rectangle                  chartClip;
+    private              Pane                       pane;
+    private              double                     chartX;
+    private              double                     chartY;
+    private              double                     chartWidth;
+    private              double                     chartHeight;
+    private              double                     step;
+    private              long                       currentTile;
+    private              double[]                   values;
+    private              double[]                   averages;
+    private              long                       noOfSamples;
+    private              double                     minValue;
+    private              double                     maxValue;
+    private              List<Section>              sections;
+    private              boolean                    sectionsVisible;
+    private              InvalidationListener       currentValueListener;
+    private              ListChangeListener<Marker> markerListener;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * A strip chart of the value that scrolls to the left with every new
+     * value. The chart is drawn on two canvases that are placed side by
+     * side and are moved to scroll, a new value only draws one segment of
+     * the value (and average) line. When a canvas scrolled out of the
+     * visible area it will be cleared and placed behind the other one. So
+     * the costs of a new value don't depend on the length of the history.
+     * Sections are drawn as bands, the threshold and the markers as lines.
+     * The average line shows the moving average of the gauge over the
+     * averaging period.
+     * @param gauge
+     */
+    public StripChartSkin(Gauge gauge) {
+        super(gauge);
+        if (gauge.isAutoScale()) gauge.calcAutoScale();
+        minValue             = gauge.getMinValue();
+        maxValue             = gauge.getMaxValue();
+        sections             = gauge.getSections();
+        sectionsVisible      = gauge.getSectionsVisible();
+        values               = new double[HISTORY_LENGTH];
+        averages             = new double[HISTORY_LENGTH];
+        noOfSamples          = 0;
+        currentTile          = -1;
+        currentValueListener = deferrable(o -> addSample(gauge.getCurrentValue()));
+        markerListener       = c -> redraw();
+
+        initGraphics();
+        registerListeners();
+        addSample(gauge.getCurrentValue());
+    }
+
+
+    // ******************** Initialization ************************************
+    private void initGraphics() {
+        // Set initial size
+        if (Double.compare(gauge.getPrefWidth(), 0.0) <= 0 || Double.compare(gauge.getPrefHeight(), 0.0) <= 0 ||
+            Double.compare(gauge.getWidth(), 0.0) <= 0 || Double.compare(gauge.getHeight(), 0.0) <= 0) {
+            if (gauge.getPrefWidth() > 0 && gauge.getPrefHeight() > 0) {
+                gauge.setPrefSize(gauge.getPrefWidth(), gauge.getPrefHeight());
+            } else {
+                gauge.setPrefSize(PREFERRED_WIDTH, PREFERRED_HEIGHT);
+            }
+        }
+
+        titleText = new Text(gauge.getTitle());
+        titleText.setTextOrigin(VPos.TOP);
+        titleText.setFill(gauge.getTitleColor());
+        Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
+
+        valueText = new Text(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+        valueText.setTextOrigin(VPos.TOP);
+        valueText.setFill(gauge.getValueColor());
+        Helper.enableNode(valueText, gauge.isValueVisible());
+
+        unitText = new Text(gauge.getUnit());
+        unitText.setTextOrigin(VPos.TOP);
+        unitText.setFill(gauge.getUnitColor());
+        Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
+
+        background    = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
+        backgroundCtx = background.getGraphicsContext2D();
+
+        tiles    = new Canvas[] { new Canvas(), new Canvas() };
+        tileCtxs = new GraphicsContext[] { tiles[0].getGraphicsContext2D(), tiles[1].getGraphicsContext2D() };
+        for (GraphicsContext ctx : tileCtxs) { ctx.setLineCap(StrokeLineCap.ROUND); }
+
+        chartClip = new Rectangle();
+        chart     = new Pane(tiles);
+        chart.setClip(chartClip);
+
+        pane = new Pane(background, chart, titleText, valueText, unitText);
+        pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(PREFERRED_WIDTH * 0.025), new BorderWidths(gauge.getBorderWidth()))));
+        pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), new CornerRadii(PREFERRED_WIDTH * 0.025), Insets.EMPTY)));
+
+        getChildren().setAll(pane);
+    }
+
+    @Override protected void registerListeners() {
+        super.registerListeners();
+        gauge.currentValueProperty().addListener(currentValueListener);
+        gauge.getMarkers().addListener(markerListener);
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override protected void handleEvents(final String EVENT_TYPE) {
+        super.handleEvents(EVENT_TYPE);
+        if ("VISIBILITY".equals(EVENT_TYPE)) {
+            Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
+            Helper.enableNode(valueText, gauge.isValueVisible());
+            Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
+            sectionsVisible = gauge.getSectionsVisible();
+            resize();
+            redraw();
+        } else if ("RECALC".equals(EVENT_TYPE)) {
+            minValue = gauge.getMinValue();
+            maxValue = gauge.getMaxValue();
+            redraw();
+        } else if ("SECTION".equals(EVENT_TYPE)) {
+            sections        = gauge.getSections();
+            sectionsVisible = gauge.getSectionsVisible();
+            redraw();
+        }
+    }
+
+    @Override public void dispose() {
+        gauge.currentValueProperty().removeListener(currentValueListener);
+        gauge.getMarkers().removeListener(markerListener);
+        super.dispose();
+    }
+
+    /**
+     * Stores the given value and the current average in the history,
+     * draws the new segment and scrolls the chart by one step.
+     * @param VALUE
+     */
+    private void addSample(final double VALUE) {
+        final int INDEX = (int) (noOfSamples % HISTORY_LENGTH);
+        values[INDEX]   = VALUE;
+        averages[INDEX] = gauge.isAveragingEnabled() ? gauge.getAverage() : VALUE;
+        noOfSamples++;
+        valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
+        placeValueText();
+        if (chartWidth <= 0) return;
+        drawSegment(noOfSamples - 1);
+        scroll();
+    }
+
+    private double toY(final double VALUE) {
+        return chartHeight - (clamp(minValue, maxValue, VALUE) - minValue) / (maxValue - minValue) * chartHeight;
+    }
+
+    private Color getSegmentColor(final double VALUE) {
+        if (gauge.isThresholdVisible() && VALUE > gauge.getThreshold()) return gauge.getThresholdColor();
+        if (sectionsVisible) {
+            for (int i = 0 ; i < sections.size() ; i++) {
+                final Section SECTION = sections.get(i);
+                if (SECTION.contains(VALUE)) return SECTION.getColor();
+            }
+        }
+        return gauge.getBarColor();
+    }
+
+    /**
+     * Draws the line from the previous to the given sample on the tiles
+     * that contain it. The tile that the chart scrolls into will be
+     * cleared first because it still contains samples that scrolled out.
+     * @param SAMPLE the no of the sample since the skin was created
+     */
+    private void drawSegment(final long SAMPLE) {
+        final double X1   = SAMPLE * step;
+        final double X0   = X1 - step;
+        final long   TILE = (long) Math.floor(X1 / chartWidth);
+        if (TILE > currentTile) {
+            tileCtxs[(int) (TILE & 1)].clearRect(0, 0, chartWidth, chartHeight);
+            currentTile = TILE;
+        }
+        if (0 == SAMPLE) return;
+
+        final int     INDEX          = (int) (SAMPLE % HISTORY_LENGTH);
+        final int     PREVIOUS_INDEX = (int) ((SAMPLE - 1) % HISTORY_LENGTH);
+        final double  VALUE          = values[INDEX];
+        final double  Y0             = toY(values[PREVIOUS_INDEX]);
+        final double  Y1             = toY(VALUE);
+        final double  AVERAGE_Y0     = toY(averages[PREVIOUS_INDEX]);
+        final double  AVERAGE_Y1     = toY(averages[INDEX]);
+        final double  LINE_WIDTH     = Math.max(1, chartHeight * 0.015);
+        final Color   COLOR          = getSegmentColor(VALUE);
+        final boolean AVERAGE        = gauge.isAverageVisible() && gauge.isAveragingEnabled();
+
+        // The segment might cross the border between the two tiles
+        for (long tile = TILE - 1 ; tile <= TILE ; tile++) {
+            if (tile < 0) continue;
+            final GraphicsContext CTX    = tileCtxs[(int) (tile & 1)];
+            final double          OFFSET = tile * chartWidth;
+            if (AVERAGE) {
+                CTX.setStroke(gauge.getAverageColor());
+                CTX.setLineWidth(LINE_WIDTH * 0.5);
+                CTX.strokeLine(X0 - OFFSET, AVERAGE_Y0, X1 - OFFSET, AVERAGE_Y1);
+            }
+            CTX.setStroke(COLOR);
+            CTX.setLineWidth(LINE_WIDTH);
+            CTX.strokeLine(X0 - OFFSET, Y0, X1 - OFFSET, Y1);
+        }
+    }
+
+    /**
+     * Moves the tiles so that the last sample is at the right border of
+     * the chart.
+     */
+    private void scroll() {
+        if (0 == noOfSamples) return;
+        final double OFFSET = (noOfSamples - 1) * step - chartWidth;
+        final long   TILE   = currentTile;
+        tiles[(int) (TILE & 1)].setLayoutX(TILE * chartWidth - OFFSET);
+        tiles[(int) ((TILE - 1) & 1)].setLayoutX((TILE - 1) * chartWidth - OFFSET);
+    }
+
+    /**
+     * Draws all samples of the history that are visible again, will only
+     * be called on resize and redraw.
+     */
+    private void replay() {
+        for (GraphicsContext ctx : tileCtxs) { ctx.clearRect(0, 0, chartWidth, chartHeight); }
+        if (0 == noOfSamples || chartWidth <= 0) return;
+        final long VISIBLE = Math.min(Math.min(noOfSamples, HISTORY_LENGTH), (long) Math.ceil(chartWidth / step) + 1);
+        final long FIRST   = noOfSamples - VISIBLE;
+        currentTile = (long) Math.floor(FIRST * step / chartWidth);
+        for (long sample = FIRST + 1 ; sample < noOfSamples ; sample++) { drawSegment(sample); }
+        scroll();
+    }
+
+    private void drawBackground() {
+        background.setWidth(width);
+        background.setHeight(height);
+        backgroundCtx.clearRect(0, 0, width, height);
+        if (chartWidth <= 0 || chartHeight <= 0) return;
+
+        final double RANGE = maxValue - minValue;
+        if (sectionsVisible) {
+            for (Section section : sections) {
+                final double START = clamp(minValue, maxValue, Math.min(section.getStart(), section.getStop()));
+                final double STOP  = clamp(minValue, maxValue, Math.max(section.getStart(), section.getStop()));
+                if (STOP <= START) continue;
+                backgroundCtx.setFill(Helper.getTranslucentColorFrom(section.getColor(), 0.25));
+                backgroundCtx.fillRect(chartX, chartY + chartHeight - (STOP - minValue) / RANGE * chartHeight, chartWidth, (STOP - START) / RANGE * chartHeight);
+            }
+        }
+
+        final double FONT_SIZE = Math.max(8, height * 0.05);
+        backgroundCtx.setFont(Fonts.latoRegular(FONT_SIZE));
+        backgroundCtx.setTextBaseline(VPos.CENTER);
+        backgroundCtx.setTextAlign(TextAlignment.LEFT);
+        backgroundCtx.setLineWidth(Math.max(1, height * 0.005));
+        backgroundCtx.setLineDashes(height * 0.015, height * 0.015);
+        if (gauge.isThresholdVisible() && gauge.getThreshold() >= minValue && gauge.getThreshold() <= maxValue) {
+            final double Y = chartY + toY(gauge.getThreshold());
+            backgroundCtx.setStroke(gauge.getThresholdColor());
+            backgroundCtx.strokeLine(chartX, Y, chartX + chartWidth, Y);
+        }
+        if (gauge.getMarkersVisible()) {
+            for (Marker marker : gauge.getMarkers()) {
+                if (marker.getValue() < minValue || marker.getValue() > maxValue) continue;
+                final double Y = chartY + toY(marker.getValue());
+                backgroundCtx.setStroke(marker.getColor());
+                backgroundCtx.strokeLine(chartX, Y, chartX + chartWidth, Y);
+                if (null != marker.getText() && !marker.getText().isEmpty()) {
+                    backgroundCtx.setFill(marker.getColor());
+                    backgroundCtx.fillText(marker.getText(), chartX + FONT_SIZE * 0.25, Y - FONT_SIZE * 0.6, chartWidth * 0.5);
+                }
+            }
+        }
+        backgroundCtx.setLineDashes(null);
+
+        // Min and max value at the right border of the chart
+        backgroundCtx.setFill(gauge.getTickLabelColor());
+        backgroundCtx.setTextAlign(TextAlignment.RIGHT);
+        backgroundCtx.setTextBaseline(VPos.BOTTOM);
+        backgroundCtx.fillText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getTickLabelDecimals(), maxValue), chartX + chartWidth, chartY);
+        backgroundCtx.setTextBaseline(VPos.TOP);
+        backgroundCtx.fillText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getTickLabelDecimals(), minValue), chartX + chartWidth, chartY + chartHeight);
+        backgroundCtx.setStroke(gauge.getTickMarkColor());
+        backgroundCtx.strokeRect(chartX, chartY, chartWidth, chartHeight);
+    }
+
+    private void placeValueText() {
+        final double MAX_WIDTH = width * 0.45;
+        final double FONT_SIZE = height * 0.14;
+        valueText.setFont(Fonts.latoRegular(FONT_SIZE));
+        if (valueText.getLayoutBounds().getWidth() > MAX_WIDTH) { Helper.adjustTextSize(valueText, MAX_WIDTH, FONT_SIZE); }
+        final double RIGHT = unitText.isManaged() ? width * 0.93 - unitText.getLayoutBounds().getWidth() : width * 0.95;
+        valueText.relocate(RIGHT - valueText.getLayoutBounds().getWidth(), height * 0.04);
+    }
+
+
+    // ******************** Resizing ******************************************
+    @Override protected void resize() {
+        width  = gauge.getWidth() - gauge.getInsets().getLeft() - gauge.getInsets().getRight();
+        height = gauge.getHeight() - gauge.getInsets().getTop() - gauge.getInsets().getBottom();
+
+        if (width > 0 && height > 0) {
+            pane.setMaxSize(width, height);
+            pane.setPrefSize(width, height);
+
+            // Whole pixels to avoid blurred lines while scrolling
+            chartX      = Math.round(width * 0.05);
+            chartY      = Math.round(height * 0.28);
+            chartWidth  = Math.floor(width * 0.9);
+            chartHeight = Math.floor(height * 0.64);
+            step        = Math.max(1, Math.floor(chartWidth / NO_OF_SAMPLES));
+
+            chart.relocate(chartX, chartY);
+            chart.setPrefSize(chartWidth, chartHeight);
+            chartClip.setWidth(chartWidth);
+            chartClip.setHeight(chartHeight);
+            for (Canvas tile : tiles) {
+                tile.setWidth(chartWidth);
+                tile.setHeight(chartHeight);
+            }
+
+            final double FONT_SIZE = height * 0.08;
+            titleText.setFont(Fonts.latoRegular(FONT_SIZE));
+            if (titleText.getLayoutBounds().getWidth() > width * 0.45) { Helper.adjustTextSize(titleText, width * 0.45, FONT_SIZE); }
+            titleText.relocate(width * 0.05, height * 0.05);
+
+            unitText.setFont(Fonts.latoRegular(FONT_SIZE));
+            if (unitText.getLayoutBounds().getWidth() > width * 0.15) { Helper.adjustTextSize(unitText, width * 0.15, FONT_SIZE); }
+            unitText.relocate(width * 0.95 - unitText.getLayoutBounds().getWidth(), height * 0.09);
+            placeValueText();
+        }
+    }
+
+    @Override protected void redraw() {
+        final double CORNER_RADIUS = Math.min(width, height) * 0.025;
+        pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(CORNER_RADIUS), new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * Math.min(width, height)))));
+        pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), new CornerRadii(CORNER_RADIUS), Insets.EMPTY)));
+
+        titleText.setText(gauge.getTitle());
+        titleText.setFill(gauge.getTitleColor());
+        unitText.setText(gauge.getUnit());
+        unitText.setFill(gauge.getUnitColor());
+        valueText.setFill(gauge.getValueColor());
+        placeValueText();
+
+        drawBackground();
+        replay();
+    }
+}
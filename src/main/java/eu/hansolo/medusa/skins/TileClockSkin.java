@@ -19,6 +19,7 @@ package eu.hansolo.medusa.skins;
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.ShadowSprite;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.geometry.VPos;
@@ -48,6 +49,7 @@ import javafx.scene.transform.Rotate;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 
 
 /**
@@ -75,6 +77,10 @@ public class TileClockSkin extends ClockSkinBase {
     private              Group             shadowGroupHour;
     private              Group             shadowGroupMinute;
     private              Group             shadowGroupSecond;
+    private              ShadowSprite      hourShadow;
+    private              ShadowSprite      minuteShadow;
+    private              ShadowSprite      secondShadow;
+    private              ShadowSprite      knobShadow;
     private              DropShadow        dropShadow;
 
 
@@ -143,13 +149,15 @@ public class TileClockSkin extends ClockSkinBase {
         dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
-        shadowGroupHour   = new Group(hour);
-        shadowGroupMinute = new Group(minute);
-        shadowGroupSecond = new Group(second, knob);
+        hourShadow   = new ShadowSprite(hour);
+        minuteShadow = new ShadowSprite(minute);
+        secondShadow = new ShadowSprite(second);
+        knobShadow   = new ShadowSprite(knob);
+        enableShadows(clock.getShadowsEnabled());
 
-        shadowGroupHour.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupMinute.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupSecond.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
+        shadowGroupHour   = new Group(hourShadow, hour);
+        shadowGroupMinute = new Group(minuteShadow, minute);
+        shadowGroupSecond = new Group(secondShadow, knobShadow, second, knob);
 
         title = new Text("");
         title.setTextOrigin(VPos.TOP);
@@ -233,6 +241,9 @@ public class TileClockSkin extends ClockSkinBase {
     }
 
     @Override public void updateTime(final ZonedDateTime TIME) {
+        final boolean NEW_HALF_DAY = isNew(ChronoUnit.HALF_DAYS, TIME);
+        final boolean NEW_DAY      = isNew(ChronoUnit.DAYS, TIME);
+
         if (clock.isDiscreteHours()) {
             hourRotate.setAngle(TIME.getHour() * 30);
         } else {
@@ -253,19 +264,30 @@ public class TileClockSkin extends ClockSkinBase {
             }
         }
 
-        amPmText.setText(clock.getTime().get(ChronoField.AMPM_OF_DAY) == 0 ? "AM" : "PM");
-        Helper.adjustTextSize(amPmText, 0.2 * size, size * 0.05);
-        amPmText.setX((size - amPmText.getLayoutBounds().getWidth()) * 0.5);
-        amPmText.setY(size * 0.4);
+        if (NEW_HALF_DAY) {
+            amPmText.setText(TIME.get(ChronoField.AMPM_OF_DAY) == 0 ? "AM" : "PM");
+            Helper.adjustTextSize(amPmText, 0.2 * size, size * 0.05);
+            amPmText.setX((size - amPmText.getLayoutBounds().getWidth()) * 0.5);
+            amPmText.setY(size * 0.4);
+        }
 
-        dateText.setText(DATE_FORMATER.format(TIME).toUpperCase());
-        Helper.adjustTextSize(dateText, 0.3 * size, size * 0.05);
-        dateText.setX((size - dateText.getLayoutBounds().getWidth()) * 0.5);
-        dateText.setY(size * 0.65);
+        if (NEW_DAY) {
+            dateText.setText(DATE_FORMATER.format(TIME).toUpperCase());
+            Helper.adjustTextSize(dateText, 0.3 * size, size * 0.05);
+            dateText.setX((size - dateText.getLayoutBounds().getWidth()) * 0.5);
+            dateText.setY(size * 0.65);
+        }
     }
 
     @Override public void updateAlarms() {}
 
+    private void enableShadows(final boolean ENABLED) {
+        hourShadow.setEnabled(ENABLED);
+        minuteShadow.setEnabled(ENABLED);
+        secondShadow.setEnabled(ENABLED);
+        knobShadow.setEnabled(ENABLED);
+    }
+
 
     // ******************** Resizing ******************************************
     private void resizeText() {
@@ -370,9 +392,7 @@ public class TileClockSkin extends ClockSkinBase {
         pane.setBorder(new Border(new BorderStroke(clock.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(size * 0.025), new BorderWidths(clock.getBorderWidth() / PREFERRED_WIDTH * size))));
         pane.setBackground(new Background(new BackgroundFill(clock.getBackgroundPaint(), new CornerRadii(size * 0.025), Insets.EMPTY)));
 
-        shadowGroupHour.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupMinute.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
-        shadowGroupSecond.setEffect(clock.getShadowsEnabled() ? dropShadow : null);
+        enableShadows(clock.getShadowsEnabled());
 
         // Tick Marks
         minuteTickMarks.setStroke(clock.getMinuteColor());
@@ -388,5 +408,10 @@ public class TileClockSkin extends ClockSkinBase {
         dateText.setFill(clock.getDateColor());
         text.setFill(clock.getTextColor());
         amPmText.setFill(clock.getTextColor());
+
+        hourShadow.update(dropShadow);
+        minuteShadow.update(dropShadow);
+        secondShadow.update(dropShadow);
+        knobShadow.update(dropShadow);
     }
 }
@@ -45,14 +45,11 @@ import javafx.scene.shape.Path;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.text.Text;
-import javafx.scene.text.TextAlignment;
 import javafx.scene.transform.Rotate;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 
 import static eu.hansolo.medusa.tools.Helper.enableNode;
 import static eu.hansolo.medusa.tools.Helper.formatNumber;
@@ -93,7 +90,9 @@ public class TileKpiSkin extends GaugeSkinBase {
     private              boolean           sectionsVisible;
     private              boolean           highlightSections;
     private              List<Section>     sections;
-    private              Map<Section, Arc> sectionMap;
+    private              Pane              sectionArcPane;
+    private              SectionArcLayer   sectionArcs;
+    private              List<Line>        sectionLines;
     private              InvalidationListener currentValueListener;
 
 
@@ -113,9 +112,8 @@ public class TileKpiSkin extends GaugeSkinBase {
         sectionsVisible      = gauge.getSectionsVisible();
         highlightSections    = gauge.isHighlightSections();
         sections             = gauge.getSections();
-        sectionMap           = new HashMap<>(sections.size());
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
-        for(Section section : sections) { sectionMap.put(section, new Arc()); }
+        sectionLines         = new ArrayList<>();
+        currentValueListener = deferrable(o -> rotateNeedle(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -151,7 +149,11 @@ public class TileKpiSkin extends GaugeSkinBase {
         thresholdBar.setFill(null);
         enableNode(thresholdBar, !gauge.getSectionsVisible());
 
-        sectionPane = new Pane();
+        sectionArcPane = new Pane();
+        sectionArcs    = new SectionArcLayer(sectionArcPane, Section::getText);
+        sectionArcs.setSections(sections);
+
+        sectionPane = new Pane(sectionArcPane);
         enableNode(sectionPane, gauge.getSectionsVisible());
 
         if (sectionsVisible) { drawSections(); }
@@ -239,8 +241,8 @@ public class TileKpiSkin extends GaugeSkinBase {
             sectionsVisible = gauge.getSectionsVisible();
         } else if ("SECTION".equals(EVENT_TYPE)) {
             sections = gauge.getSections();
-            sectionMap.clear();
-            for(Section section : sections) { sectionMap.put(section, new Arc()); }
+            sectionArcs.setSections(sections);
+            if (sectionsVisible) { drawSections(); }
         } else if ("ALERT".equals(EVENT_TYPE)) {
             enableNode(valueText, gauge.isValueVisible() && !gauge.isAlert());
             enableNode(unitText, gauge.isValueVisible() && !gauge.isAlert());
@@ -264,60 +266,59 @@ public class TileKpiSkin extends GaugeSkinBase {
     private void highlightSections(final double VALUE) {
         if (!sectionsVisible || sections.isEmpty()) return;
         if (highlightSections) {
-            sections.forEach(section -> sectionMap.get(section).setVisible(section.contains(VALUE)));
+            sectionArcs.getSections().forEach(section -> sectionArcs.getArc(section).setVisible(section.contains(VALUE)));
         } else {
-            sections.forEach(section -> sectionMap.get(section).setOpacity(section.contains(VALUE) ? 1.0 : 0.25));
+            sectionArcs.getSections().forEach(section -> sectionArcs.getArc(section).setOpacity(section.contains(VALUE) ? 1.0 : 0.25));
         }
     }
 
     private void drawSections() {
         if (!sectionsVisible || sections.isEmpty()) return;
-        sectionPane.getChildren().clear();
 
         double centerX      = size * 0.5;
         double centerY      = size * 0.7825;
         double innerRadius  = size * 0.2775;
         double outerRadius  = size * 0.3225;
         int    noOfSections = sections.size();
-        List<Line> sectionLines = new ArrayList<>(noOfSections);
-        for (int i = 0 ; i < noOfSections - 1 ; i++) {
+        int    noOfLines    = noOfSections - 1;
+        // The lines between the sections will be reused and stay below the arcs
+        while (sectionLines.size() < noOfLines) {
+            Line line = new Line();
+            sectionPane.getChildren().add(sectionLines.size(), line);
+            sectionLines.add(line);
+        }
+        while (sectionLines.size() > noOfLines) { sectionPane.getChildren().remove(sectionLines.remove(sectionLines.size() - 1)); }
+        for (int i = 0 ; i < noOfLines ; i++) {
             Section section = sections.get(i);
             double  angle   = Helper.clamp(90.0, 270.0, (section.getStop() - minValue) * angleStep + 90.0);
-            Line    line    = new Line(centerX + innerRadius * Math.sin(-Math.toRadians(angle)), centerY + innerRadius * Math.cos(-Math.toRadians(angle)),
-                                       centerX + outerRadius * Math.sin(-Math.toRadians(angle)), centerY + outerRadius * Math.cos(-Math.toRadians(angle)));
+            Line    line    = sectionLines.get(i);
+            line.setStartX(centerX + innerRadius * Math.sin(-Math.toRadians(angle)));
+            line.setStartY(centerY + innerRadius * Math.cos(-Math.toRadians(angle)));
+            line.setEndX(centerX + outerRadius * Math.sin(-Math.toRadians(angle)));
+            line.setEndY(centerY + outerRadius * Math.cos(-Math.toRadians(angle)));
             line.setStroke(gauge.getBackgroundPaint());
-            sectionLines.add(line);
         }
-        sectionPane.getChildren().addAll(sectionLines);
 
         double barRadius = size * 0.3;
         double barWidth  = size * 0.045;
         double maxValue  = gauge.getMaxValue();
-        for (Section section : sections) {
-            double startAngle = (section.getStart() - minValue) * angleStep - angleRange;
-            double length;
-            if (section.getStop() > maxValue) {
-                length = (maxValue - section.getStart()) * angleStep;
-            } else if (Double.compare(section.getStart(), minValue) < 0) {
-                length = (section.getStop() - minValue) * angleStep;
-            } else {
-                length = (section.getStop() - section.getStart()) * angleStep;
-            }
-            Arc sectionArc = new Arc(centerX, centerY, barRadius, barRadius, -startAngle, -length);
-
-            sectionArc.setType(ArcType.OPEN);
-            sectionArc.setStroke(section.getColor());
-            sectionArc.setStrokeWidth(barWidth);
-            sectionArc.setStrokeLineCap(StrokeLineCap.BUTT);
-            sectionArc.setFill(null);
+        sectionArcs.layout(centerX, centerY, barRadius, barWidth,
+                           section -> -((section.getStart() - minValue) * angleStep - angleRange),
+                           section -> {
+                               if (section.getStop() > maxValue) {
+                                   return -(maxValue - section.getStart()) * angleStep;
+                               } else if (Double.compare(section.getStart(), minValue) < 0) {
+                                   return -(section.getStop() - minValue) * angleStep;
+                               } else {
+                                   return -(section.getStop() - section.getStart()) * angleStep;
+                               }
+                           });
+        for (Section section : sectionArcs.getSections()) {
+            Arc sectionArc = sectionArcs.getArc(section);
             sectionArc.setVisible(!highlightSections);
             sectionArc.setOpacity(highlightSections ? 1.0 : 0.25);
-            Tooltip sectionTooltip = new Tooltip(section.getText());
-            sectionTooltip.setTextAlignment(TextAlignment.CENTER);
-            Tooltip.install(sectionArc, sectionTooltip);
-            sectionMap.put(section, sectionArc);
         }
-        sectionPane.getChildren().addAll(sectionMap.values());
+        highlightSections(gauge.getCurrentValue());
     }
 
     private void drawNeedle() {
@@ -101,7 +101,7 @@ public class TileSparklineSkin extends GaugeSkinBase {
         locale               = gauge.getLocale();
         noOfDatapoints       = gauge.getAveragingPeriod();
         dataList             = new LinkedList<>();
-        currentValueListener = o -> handleEvents("VALUE");
+        currentValueListener = deferrable(o -> handleEvents("VALUE"));
         averagingListener    = o -> handleEvents("AVERAGING_PERIOD");
         for (int i = 0; i < noOfDatapoints; i++) { dataList.add(minValue); }
 
@@ -84,7 +84,7 @@ public class TileTextKpiSkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         sectionsVisible      = gauge.getSectionsVisible();
         barColor             = gauge.getBarColor();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
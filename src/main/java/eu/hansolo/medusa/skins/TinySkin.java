@@ -109,7 +109,7 @@ public class TinySkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         locale               = gauge.getLocale();
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> rotateNeedle(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -178,7 +178,7 @@ public class TinySkin extends GaugeSkinBase {
 
     @Override protected void registerListeners() {
         super.registerListeners();
-        gauge.currentValueProperty().addListener(o -> rotateNeedle(gauge.getCurrentValue()));
+        gauge.currentValueProperty().addListener(currentValueListener);
     }
 
 
@@ -206,7 +206,7 @@ public class TinySkin extends GaugeSkinBase {
     }
 
     @Override public void dispose() {
-        gauge.currentValueProperty().removeListener(o -> rotateNeedle(gauge.getCurrentValue()));
+        gauge.currentValueProperty().removeListener(currentValueListener);
         super.dispose();
     }
 
@@ -22,12 +22,14 @@ import eu.hansolo.medusa.Gauge.LedType;
 import eu.hansolo.medusa.Gauge.NeedleType;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.LcdDesign;
+import eu.hansolo.medusa.LevelOfDetail.Detail;
 import eu.hansolo.medusa.Marker;
 import eu.hansolo.medusa.Needle;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.ShadowSprite;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -121,6 +123,8 @@ public class VSkin extends GaugeSkinBase {
     private Canvas                     knobCanvas;
     private GraphicsContext            knobCtx;
     private Group                      shadowGroup;
+    private ShadowSprite               needleShadow;
+    private ShadowSprite               knobShadow;
     private DropShadow                 dropShadow;
     private Text                       titleText;
     private Text                       unitText;
@@ -168,7 +172,7 @@ public class VSkin extends GaugeSkinBase {
         tickLabelLocation    = gauge.getTickLabelLocation();
         scaleDirection       = gauge.getScaleDirection();
         mouseHandler         = event -> handleMouseEvent(event);
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = deferrable(o -> rotateNeedle(gauge.getCurrentValue()));
         markerListener       = c -> {
             updateMarkers();
             redraw();
@@ -245,8 +249,11 @@ public class VSkin extends GaugeSkinBase {
         dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
-        shadowGroup = new Group(needle, knobCanvas);
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        needleShadow = new ShadowSprite(needle);
+        knobShadow   = new ShadowSprite(knobCanvas);
+        enableShadows(gauge.isShadowsEnabled());
+
+        shadowGroup = new Group(needleShadow, knobShadow, needle, knobCanvas);
 
         titleText = new Text(gauge.getTitle());
         titleText.setTextOrigin(VPos.CENTER);
@@ -319,9 +326,7 @@ public class VSkin extends GaugeSkinBase {
                 drawAreasAndSections(sectionsAndAreasCtx);
             }
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
-            Helper.enableNode(ledCanvas, gauge.isLedVisible());
-            Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
-            Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
+            applyLevelOfDetail();
             Helper.enableNode(valueText, gauge.isValueVisible());
             Helper.enableNode(lcd, gauge.isLcdVisible() && gauge.isValueVisible());
             Helper.enableNode(knobCanvas, gauge.isKnobVisible());
@@ -332,7 +337,7 @@ public class VSkin extends GaugeSkinBase {
             resize();
             redraw();
         } else if ("LED".equals(EVENT_TYPE)) {
-            if (gauge.isLedVisible()) { drawLed(); }
+            if (gauge.isLedVisible() && isDetailVisible(Detail.LED, height)) { drawLed(); }
         } else if ("LCD".equals(EVENT_TYPE)) {
             if (gauge.isLcdVisible()) redraw();
         } else if ("RECALC".equals(EVENT_TYPE)) {
@@ -364,8 +369,8 @@ public class VSkin extends GaugeSkinBase {
                     Tooltip.install(knobCanvas, buttonTooltip);
                 }
             } else {
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+                knobCanvas.setOnMousePressed(null);
+                knobCanvas.setOnMouseReleased(null);
                 Tooltip.uninstall(knobCanvas, buttonTooltip);
             }
         }
@@ -386,10 +391,8 @@ public class VSkin extends GaugeSkinBase {
     @Override public void dispose() {
         gauge.getMarkers().removeListener(markerListener);
         gauge.currentValueProperty().removeListener(currentValueListener);
-        if (gauge.isInteractive()) {
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
-        }
+        knobCanvas.setOnMousePressed(null);
+        knobCanvas.setOnMouseReleased(null);
         super.dispose();
     }
 
@@ -775,6 +778,11 @@ public class VSkin extends GaugeSkinBase {
         }
     }
 
+    private void enableShadows(final boolean ENABLED) {
+        needleShadow.setEnabled(ENABLED);
+        knobShadow.setEnabled(ENABLED);
+    }
+
     private void drawKnob(final boolean PRESSED) {
         knobCanvas.setCache(false);
         double w = knobCanvas.getWidth();
@@ -919,6 +927,13 @@ public class VSkin extends GaugeSkinBase {
         unitText.relocate(Pos.CENTER_LEFT == knobPosition ? width * 0.6 - unitText.getLayoutBounds().getWidth() : width * 0.4, (height - unitText.getLayoutBounds().getHeight()) * 0.38);
     }
 
+    private void applyLevelOfDetail() {
+        boolean textVisible = isDetailVisible(Detail.TEXT, height);
+        Helper.enableNode(ledCanvas, gauge.isLedVisible() && isDetailVisible(Detail.LED, height));
+        Helper.enableNode(titleText, textVisible && !gauge.getTitle().isEmpty());
+        Helper.enableNode(unitText, textVisible && !gauge.getUnit().isEmpty());
+    }
+
     @Override protected void resize() {
         width  = gauge.getWidth() - gauge.getInsets().getLeft() - gauge.getInsets().getRight();
         height = gauge.getHeight() - gauge.getInsets().getTop() - gauge.getInsets().getBottom();
@@ -948,7 +963,7 @@ public class VSkin extends GaugeSkinBase {
             backgroundInnerShadow.setOffsetY(scaledHeight * 0.03);
             backgroundInnerShadow.setRadius(scaledHeight * 0.04);
 
-            pane.setEffect(gauge.isInnerShadowEnabled() ? backgroundInnerShadow : null);
+            pane.setEffect(gauge.isInnerShadowEnabled() && isDetailVisible(Detail.EFFECTS, height) ? backgroundInnerShadow : null);
 
             sectionsAndAreasCanvas.setWidth(height);
             sectionsAndAreasCanvas.setHeight(height);
@@ -970,6 +985,7 @@ public class VSkin extends GaugeSkinBase {
             if (!isFlatLed) ledOnShadow.setInput(new DropShadow(BlurType.TWO_PASS_BOX, gauge.getLedColor(), 0.36 * ledSize, 0, 0, 0));
 
             resizeText();
+            applyLevelOfDetail();
 
             if ( gauge.isLcdVisible() ) {
 
@@ -1082,7 +1098,7 @@ public class VSkin extends GaugeSkinBase {
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        enableShadows(gauge.isShadowsEnabled() && isDetailVisible(Detail.EFFECTS, height));
 
         // Background stroke and fill
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, CornerRadii.EMPTY, new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * width))));
@@ -1101,12 +1117,12 @@ public class VSkin extends GaugeSkinBase {
         if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
             drawGradientBar();
         }
-        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, width * 0.9, height * 0.5, height * 0.9);
+        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, width * 0.9, height * 0.5, height * 0.9, gauge.getLevelOfDetail(), height);
         tickMarkCanvas.setCache(true);
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
 
         // LED
-        if (gauge.isLedVisible()) {
+        if (gauge.isLedVisible() && isDetailVisible(Detail.LED, height)) {
             final Color LED_COLOR = gauge.getLedColor();
             switch(gauge.getLedType()) {
                 case FLAT:
@@ -1232,6 +1248,11 @@ public class VSkin extends GaugeSkinBase {
         // Knob
         drawKnob(false);
 
+        // Shadows, the knob canvas can not be observed by its sprite
+        knobShadow.invalidate();
+        needleShadow.update(dropShadow);
+        knobShadow.update(dropShadow);
+
         // Markers
         drawMarkers();
         thresholdTooltip.setText("Threshold\n(" + String.format(locale, formatString, gauge.getThreshold()) + ")");
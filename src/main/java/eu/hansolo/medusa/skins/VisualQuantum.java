@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.skins;
+
+import java.util.Objects;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * Remembers what a skin has drawn for the last value as the visual step
+ * (e.g. the needle angle in pixels at the needle tip), an additional state
+ * (e.g. the bar color) and the formatted text. A new value only has to be
+ * drawn if one of them differs. Has to be invalidated whenever the skin
+ * redraws for other reasons (resize, colors, visibility etc.).
+ */
+class VisualQuantum {
+    private long    step;
+    private Object  state;
+    private String  text;
+    private boolean valid;
+
+
+    // ******************** Methods *******************************************
+    /**
+     * @param ANGLE  the angle in degrees
+     * @param RADIUS the radius in pixels where the angle will be visible (e.g. the length of the needle)
+     * @return the angle in steps of one pixel on the given radius
+     */
+    static long angleStep(final double ANGLE, final double RADIUS) {
+        if (RADIUS <= 0) return 0;
+        return Math.round(Math.toRadians(ANGLE) * RADIUS);
+    }
+
+    /**
+     * Returns true and remembers the given step, state and text if one of
+     * them differs from the last remembered ones or if the last ones have
+     * been invalidated.
+     * @param STEP  the visual step of the value
+     * @param STATE an additional state that changes the visual (might be null)
+     * @param TEXT  the formatted value
+     * @return true if the value has to be drawn
+     */
+    boolean isVisibleChange(final long STEP, final Object STATE, final String TEXT) {
+        if (valid && STEP == step && Objects.equals(STATE, state) && Objects.equals(TEXT, text)) return false;
+        step  = STEP;
+        state = STATE;
+        text  = TEXT;
+        valid = true;
+        return true;
+    }
+
+    void invalidate() { valid = false; }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Bounds;
+import javafx.scene.Parent;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * Records snapshots of a node at a given rate into a file. The snapshot
+ * and the copy of its pixels into a pooled buffer are the only work that
+ * is done on the FX application thread, the frames are encoded and written
+ * by a background thread. If all pooled buffers are in use because the
+ * encoder is behind, frames will be dropped instead of blocking the pulse.
+ *
+ * File format (big endian):
+ * int magic, byte version, followed by frames of
+ * byte type (KEY or DELTA), long timestamp in ns since start, int width,
+ * int height, int no of ints, ints.
+ * A KEY frame contains all pixels (ARGB), a DELTA frame contains pairs of
+ * (no of unchanged pixels, no of changed pixels) each followed by the
+ * changed pixels relative to the previous frame.
+ */
+public class FrameRecorder {
+    public  static final double                  DEFAULT_FPS        = 10;
+    public  static final int                     DEFAULT_POOL_SIZE  = 4;
+    public  static final byte                    KEY                = 0;
+    public  static final byte                    DELTA              = 1;
+    private static final int                     MAGIC              = 0x4D444652;
+    private static final int                     VERSION            = 1;
+    private static final int                     FRAME_HEADER_SIZE  = 21;
+    private static final int                     KEY_FRAME_INTERVAL = 100;
+    private static final Frame                   END                = new Frame();
+    private        final Parent                  node;
+    private        final Path                    path;
+    private        final long                    interval;
+    private        final BlockingQueue<Frame>    freeFrames;
+    private        final BlockingQueue<Frame>    pendingFrames;
+    private        final SnapshotParameters      parameters;
+    private        final AnimationTimer          timer;
+    private        final CompletableFuture<Path> finished;
+    private              WritableImage           image;
+    private              long                    start;
+    private              long                    lastCapture;
+    private              long                    noOfFrames;
+    private              long                    noOfDroppedFrames;
+    private volatile     IOException             error;
+    private              Thread                  encoderThread;
+
+
+    // ******************** Constructors **************************************
+    public FrameRecorder(final Parent NODE, final Path PATH) { this(NODE, PATH, DEFAULT_FPS, DEFAULT_POOL_SIZE); }
+    /**
+     * Records the given node with the given no of frames per second into
+     * the given file. The no of pooled frame buffers defines how many
+     * frames can wait for the encoder before frames will be dropped.
+     * @param NODE      the node that will be recorded (e.g. the root of a dashboard)
+     * @param PATH      the file the frames will be written to
+     * @param FPS       the no of frames per second
+     * @param POOL_SIZE the no of pooled frame buffers (min. 2)
+     */
+    public FrameRecorder(final Parent NODE, final Path PATH, final double FPS, final int POOL_SIZE) {
+        if (FPS <= 0) { throw new IllegalArgumentException("FPS have to be > 0"); }
+        node          = NODE;
+        path          = PATH;
+        interval      = (long) (1_000_000_000 / FPS);
+        freeFrames    = new ArrayBlockingQueue<>(Math.max(2, POOL_SIZE));
+        pendingFrames = new ArrayBlockingQueue<>(Math.max(2, POOL_SIZE) + 1);
+        parameters    = new SnapshotParameters();
+        finished      = new CompletableFuture<>();
+        parameters.setFill(Color.TRANSPARENT);
+        for (int i = 0 ; i < Math.max(2, POOL_SIZE) ; i++) { freeFrames.add(new Frame()); }
+        timer = new AnimationTimer() {
+            @Override public void handle(final long NOW) {
+                if (null != error) {
+                    stop();
+                } else if (NOW - lastCapture >= interval) {
+                    lastCapture = NOW;
+                    capture(NOW);
+                }
+            }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Creates the file and starts recording. Has to be called on the FX
+     * application thread.
+     * @throws IOException if the file could not be created
+     */
+    public void start() throws IOException {
+        if (null != encoderThread) return;
+        final FileChannel CHANNEL = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        encoderThread = new Thread(() -> encode(CHANNEL), "FrameRecorder");
+        encoderThread.setDaemon(true);
+        encoderThread.start();
+        start       = System.nanoTime();
+        lastCapture = Long.MIN_VALUE / 2;
+        timer.start();
+    }
+
+    /**
+     * Stops recording. The frames that have already been captured will be
+     * written before the file will be closed.
+     * @return a future that will be completed with the file when all frames have been written
+     */
+    public CompletableFuture<Path> stop() {
+        timer.stop();
+        if (null != encoderThread && !pendingFrames.contains(END)) { pendingFrames.offer(END); }
+        if (null == encoderThread) { finished.complete(path); }
+        return finished;
+    }
+
+    /**
+     * Returns the no of frames that have been captured.
+     * @return the no of frames that have been captured
+     */
+    public long getNoOfFrames() { return noOfFrames; }
+
+    /**
+     * Returns the no of frames that have been dropped because the encoder
+     * was behind.
+     * @return the no of frames that have been dropped
+     */
+    public long getNoOfDroppedFrames() { return noOfDroppedFrames; }
+
+    /**
+     * Reads the frames of the given recording and calls the given handler
+     * for each frame. The pixels array will be reused for all frames.
+     * @param PATH
+     * @param HANDLER
+     * @throws IOException if the file could not be read or is not a recording
+     */
+    public static void play(final Path PATH, final FrameHandler HANDLER) throws IOException {
+        try (InputStream input = Files.newInputStream(PATH)) {
+            final DataInputStream IN = new DataInputStream(new BufferedInputStream(input, 1 << 16));
+            if (MAGIC != IN.readInt()) { throw new IOException("Not a frame recording"); }
+            if (VERSION != IN.readUnsignedByte()) { throw new IOException("Unsupported frame recording version"); }
+            int[] pixels = new int[0];
+            while (true) {
+                final int TYPE;
+                try { TYPE = IN.readByte(); } catch (EOFException e) { break; }
+                final long TIMESTAMP  = IN.readLong();
+                final int  WIDTH      = IN.readInt();
+                final int  HEIGHT     = IN.readInt();
+                final int  NO_OF_INTS = IN.readInt();
+                if (pixels.length != WIDTH * HEIGHT) {
+                    if (DELTA == TYPE) { throw new IOException("Delta frame without key frame"); }
+                    pixels = new int[WIDTH * HEIGHT];
+                }
+                if (KEY == TYPE) {
+                    for (int i = 0 ; i < NO_OF_INTS ; i++) { pixels[i] = IN.readInt(); }
+                } else {
+                    int index = 0;
+                    int read  = 0;
+                    while (read < NO_OF_INTS) {
+                        index += IN.readInt();
+                        final int COUNT = IN.readInt();
+                        for (int i = 0 ; i < COUNT ; i++) { pixels[index++] = IN.readInt(); }
+                        read += 2 + COUNT;
+                    }
+                }
+                HANDLER.onFrame(TIMESTAMP, WIDTH, HEIGHT, pixels);
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot of the node and hands it over to the encoder. Will
+     * be called on the FX application thread.
+     */
+    private void capture(final long NOW) {
+        final Bounds BOUNDS = node.getLayoutBounds();
+        final int    WIDTH  = (int) Math.ceil(BOUNDS.getWidth());
+        final int    HEIGHT = (int) Math.ceil(BOUNDS.getHeight());
+        if (WIDTH <= 0 || HEIGHT <= 0) return;
+
+        final Frame FRAME = freeFrames.poll();
+        if (null == FRAME) {
+            // The encoder is behind, never block the pulse
+            noOfDroppedFrames++;
+            return;
+        }
+        if (null == image || (int) image.getWidth() != WIDTH || (int) image.getHeight() != HEIGHT) { image = new WritableImage(WIDTH, HEIGHT); }
+        node.snapshot(parameters, image);
+        FRAME.prepare(WIDTH, HEIGHT, NOW - start);
+        image.getPixelReader().getPixels(0, 0, WIDTH, HEIGHT, PixelFormat.getIntArgbInstance(), FRAME.pixels, WIDTH);
+        pendingFrames.offer(FRAME);
+        noOfFrames++;
+    }
+
+    /**
+     * Encodes and writes all frames until the recording has been stopped.
+     * Runs on the encoder thread.
+     */
+    private void encode(final FileChannel CHANNEL) {
+        Frame      previous    = null;
+        int[]      ops         = new int[0];
+        ByteBuffer buffer      = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+        int        noOfEncoded = 0;
+        try {
+            buffer.putInt(MAGIC).put((byte) VERSION).flip();
+            write(CHANNEL, buffer);
+            while (true) {
+                final Frame FRAME = pendingFrames.take();
+                if (END == FRAME) break;
+
+                final int[] PIXELS = FRAME.pixels.array();
+                final int   LENGTH = FRAME.width * FRAME.height;
+                if (ops.length < LENGTH) { ops = new int[LENGTH]; }
+                int noOfInts = -1;
+                if (null != previous && previous.width == FRAME.width && previous.height == FRAME.height && noOfEncoded % KEY_FRAME_INTERVAL != 0) {
+                    noOfInts = encodeDelta(previous.pixels.array(), PIXELS, LENGTH, ops);
+                }
+                final byte TYPE = noOfInts < 0 ? KEY : DELTA;
+                if (KEY == TYPE) { noOfInts = LENGTH; }
+
+                final int SIZE = FRAME_HEADER_SIZE + noOfInts * 4;
+                if (buffer.capacity() < SIZE) { buffer = ByteBuffer.allocateDirect(SIZE); }
+                buffer.clear();
+                buffer.put(TYPE).putLong(FRAME.timestamp).putInt(FRAME.width).putInt(FRAME.height).putInt(noOfInts);
+                buffer.asIntBuffer().put(KEY == TYPE ? PIXELS : ops, 0, noOfInts);
+                buffer.position(SIZE).flip();
+                write(CHANNEL, buffer);
+                noOfEncoded++;
+
+                // The previous frame is only needed for the next delta
+                if (null != previous) { freeFrames.offer(previous); }
+                previous = FRAME;
+            }
+        } catch (IOException e) {
+            error = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try { CHANNEL.close(); } catch (IOException e) { if (null == error) { error = e; } }
+            if (null != previous) { freeFrames.offer(previous); }
+            if (null == error) {
+                finished.complete(path);
+            } else {
+                finished.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * Encodes the changes between the given frames into the given ops.
+     * @return the no of ints in ops or -1 if the delta would not be smaller than a key frame
+     */
+    private static int encodeDelta(final int[] PREVIOUS, final int[] CURRENT, final int LENGTH, final int[] OPS) {
+        int noOfInts = 0;
+        int index    = 0;
+        while (index < LENGTH) {
+            final int SKIP_START = index;
+            while (index < LENGTH && CURRENT[index] == PREVIOUS[index]) { index++; }
+            if (index == LENGTH) break;
+            final int CHANGE_START = index;
+            while (index < LENGTH && CURRENT[index] != PREVIOUS[index]) { index++; }
+            final int COUNT = index - CHANGE_START;
+            if (noOfInts + 2 + COUNT >= LENGTH) return -1;
+            OPS[noOfInts++] = CHANGE_START - SKIP_START;
+            OPS[noOfInts++] = COUNT;
+            System.arraycopy(CURRENT, CHANGE_START, OPS, noOfInts, COUNT);
+            noOfInts += COUNT;
+        }
+        return noOfInts;
+    }
+
+    private static void write(final FileChannel CHANNEL, final ByteBuffer BUFFER) throws IOException {
+        while (BUFFER.hasRemaining()) { CHANNEL.write(BUFFER); }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    @FunctionalInterface public interface FrameHandler {
+        /**
+         * @param TIMESTAMP the time of the frame in ns since the start of the recording
+         * @param WIDTH
+         * @param HEIGHT
+         * @param PIXELS    the ARGB pixels of the frame
+         */
+        void onFrame(long TIMESTAMP, int WIDTH, int HEIGHT, int[] PIXELS);
+    }
+
+    private static class Frame {
+        private IntBuffer pixels = IntBuffer.allocate(0);
+        private int       width;
+        private int       height;
+        private long      timestamp;
+
+
+        // ******************** Methods *******************************************
+        void prepare(final int WIDTH, final int HEIGHT, final long TIMESTAMP) {
+            if (pixels.capacity() < WIDTH * HEIGHT) { pixels = IntBuffer.allocate(WIDTH * HEIGHT); }
+            pixels.clear();
+            width     = WIDTH;
+            height    = HEIGHT;
+            timestamp = TIMESTAMP;
+        }
+    }
+}
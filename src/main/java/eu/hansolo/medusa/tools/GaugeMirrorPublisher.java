@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.tools.MirrorProtocol.State;
+import javafx.animation.AnimationTimer;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class GaugeMirrorPublisher {
+    private        final Gauge[]               gauges;
+    private        final State                 state;
+    private        final int[]                 changes;
+    private        final List<Subscriber>      subscribers;
+    private        final Queue<Subscriber>     newSubscribers;
+    private        final AnimationTimer        timer;
+    private              ServerSocket          serverSocket;
+    private              Thread                acceptThread;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Publishes the value, the min and max measured value, the led and alert
+     * state and the active section of the given gauges to all connected
+     * GaugeMirrorSubscribers. The state will be compared once per pulse and
+     * all changes will be sent as one frame. Each subscriber will receive a
+     * snapshot of the complete state when it connects. The order of the
+     * gauges has to be the same on both sides.
+     * @param GAUGES
+     */
+    public GaugeMirrorPublisher(final Gauge... GAUGES) {
+        if (GAUGES.length > 0xFFFF) { throw new IllegalArgumentException("Max. 65535 gauges can be mirrored"); }
+        gauges         = GAUGES.clone();
+        state          = new State(GAUGES.length);
+        changes        = new int[GAUGES.length];
+        subscribers    = new ArrayList<>();
+        newSubscribers = new ConcurrentLinkedQueue<>();
+        timer          = new AnimationTimer() {
+            @Override public void handle(final long NOW) { publish(); }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Starts listening for subscribers on the given port of the given
+     * address (e.g. InetAddress.getLoopbackAddress()).
+     * @param ADDRESS
+     * @param PORT    the port or 0 to use a free port
+     * @throws IOException
+     */
+    public void start(final InetAddress ADDRESS, final int PORT) throws IOException {
+        if (null != serverSocket) return;
+        final ServerSocket SERVER_SOCKET = new ServerSocket(PORT, 50, ADDRESS);
+        serverSocket = SERVER_SOCKET;
+        acceptThread = new Thread(() -> {
+            while (!SERVER_SOCKET.isClosed()) {
+                try {
+                    final Socket SOCKET = SERVER_SOCKET.accept();
+                    SOCKET.setTcpNoDelay(true);
+                    newSubscribers.add(new Subscriber(SOCKET, state));
+                } catch (IOException e) {
+                    // Server socket was closed
+                }
+            }
+        }, "GaugeMirrorPublisher");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+        timer.start();
+    }
+
+    public int getPort() { return null == serverSocket ? -1 : serverSocket.getLocalPort(); }
+
+    public int getNoOfSubscribers() { return subscribers.size(); }
+
+    public void stop() {
+        timer.stop();
+        if (null != serverSocket) {
+            try { serverSocket.close(); } catch (IOException e) {}
+            serverSocket = null;
+        }
+        subscribers.forEach(Subscriber::close);
+        subscribers.clear();
+        newSubscribers.forEach(Subscriber::close);
+        newSubscribers.clear();
+    }
+
+    /**
+     * Marks the changes since the last call as pending for all subscribers
+     * and a snapshot as pending for all new subscribers. Will be called once
+     * per pulse after start() was called. The frames will be encoded and
+     * sent by the thread of each subscriber.
+     */
+    private void publish() {
+        int noOfChanges = 0;
+        // The thread of a subscriber reads the state while it encodes a frame
+        synchronized (state) {
+            for (int i = 0 ; i < gauges.length ; i++) {
+                final int MASK = state.capture(i, gauges[i]);
+                if (0 == MASK) continue;
+                changes[noOfChanges++] = i << 8 | MASK;
+            }
+        }
+
+        subscribers.removeIf(subscriber -> !subscriber.isConnected());
+        if (noOfChanges > 0) {
+            for (Subscriber subscriber : subscribers) { subscriber.markChanges(changes, noOfChanges); }
+        }
+
+        Subscriber subscriber;
+        while (null != (subscriber = newSubscribers.poll())) {
+            subscriber.markSnapshot();
+            subscribers.add(subscriber);
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Sends the frames to one subscriber on its own thread. A subscriber
+     * that cannot keep up will not queue up frames, the masks of all changes
+     * that have not been sent yet will be combined and sent as one frame
+     * with the current state once the subscriber is ready again.
+     */
+    private static class Subscriber {
+        private final    Socket                socket;
+        private final    State                 state;
+        private final    Thread                thread;
+        private final    ByteArrayOutputStream frame;
+        private final    DataOutputStream      frameOut;
+        private          int[]                 pendingMasks;
+        private          int[]                 sendMasks;
+        private          boolean               pending;
+        private          boolean               snapshotPending;
+        private volatile boolean               connected;
+
+
+        Subscriber(final Socket SOCKET, final State STATE) {
+            socket       = SOCKET;
+            state        = STATE;
+            frame        = new ByteArrayOutputStream(1024);
+            frameOut     = new DataOutputStream(frame);
+            pendingMasks = new int[STATE.size()];
+            sendMasks    = new int[STATE.size()];
+            connected    = true;
+            thread       = new Thread(this::run, "GaugeMirrorSubscriber " + SOCKET.getRemoteSocketAddress());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        boolean isConnected() { return connected; }
+
+        synchronized void markChanges(final int[] CHANGES, final int NO_OF_CHANGES) {
+            for (int i = 0 ; i < NO_OF_CHANGES ; i++) { pendingMasks[CHANGES[i] >>> 8] |= CHANGES[i] & 0xFF; }
+            pending = true;
+            notifyAll();
+        }
+
+        synchronized void markSnapshot() {
+            Arrays.fill(pendingMasks, MirrorProtocol.ALL);
+            pending         = true;
+            snapshotPending = true;
+            notifyAll();
+        }
+
+        void close() {
+            synchronized (this) {
+                connected = false;
+                notifyAll();
+            }
+            try { socket.close(); } catch (IOException e) {}
+        }
+
+        private void run() {
+            try {
+                final OutputStream     OUT      = new BufferedOutputStream(socket.getOutputStream());
+                final DataOutputStream DATA_OUT = new DataOutputStream(OUT);
+                DATA_OUT.writeInt(MirrorProtocol.MAGIC);
+                DATA_OUT.writeByte(MirrorProtocol.VERSION);
+                DATA_OUT.flush();
+                while (connected) {
+                    final byte TYPE;
+                    synchronized (this) {
+                        while (connected && !pending) { wait(); }
+                        if (!connected) break;
+                        TYPE            = snapshotPending ? MirrorProtocol.SNAPSHOT : MirrorProtocol.DELTA;
+                        pending         = false;
+                        snapshotPending = false;
+                        final int[] MASKS = sendMasks;
+                        sendMasks    = pendingMasks;
+                        pendingMasks = MASKS;
+                    }
+                    encode(TYPE);
+                    frame.writeTo(OUT);
+                    OUT.flush();
+                }
+            } catch (IOException | InterruptedException e) {
+                // Subscriber disconnected or was closed
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Encodes the current state of all gauges that are marked in sendMasks
+         * and clears the marks.
+         */
+        private void encode(final byte TYPE) throws IOException {
+            int noOfEntries = 0;
+            for (int mask : sendMasks) { if (0 != mask) { noOfEntries++; } }
+            frame.reset();
+            frameOut.writeByte(TYPE);
+            frameOut.writeInt(noOfEntries);
+            synchronized (state) {
+                for (int i = 0 ; i < sendMasks.length ; i++) {
+                    if (0 == sendMasks[i]) continue;
+                    state.writeEntry(frameOut, i, sendMasks[i]);
+                    sendMasks[i] = 0;
+                }
+            }
+            frameOut.flush();
+        }
+    }
+}
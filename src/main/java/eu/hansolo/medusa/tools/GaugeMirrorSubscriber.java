@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.tools.MirrorProtocol.State;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class GaugeMirrorSubscriber {
+    private static final long             RECONNECT_DELAY = 2000;
+    private        final Gauge[]          gauges;
+    private        final State            state;
+    private        final int[]            appliedSections;
+    private        final int[]            pendingMasks;
+    private        final int[]            pendingIndices;
+    private              int              noOfPendingIndices;
+    private              boolean          applyPending;
+    private        final String           host;
+    private        final int              port;
+    private        volatile boolean       running;
+    private        volatile boolean       connected;
+    private              Socket           socket;
+    private              Thread           readThread;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Applies the state that will be published by a GaugeMirrorPublisher on
+     * the given host and port to the given mirror gauges. The order of the
+     * gauges has to be the same on both sides. If the connection gets lost
+     * the subscriber will reconnect and receive a new snapshot.
+     * @param HOST
+     * @param PORT
+     * @param GAUGES
+     */
+    public GaugeMirrorSubscriber(final String HOST, final int PORT, final Gauge... GAUGES) {
+        gauges          = GAUGES.clone();
+        state           = new State(GAUGES.length);
+        appliedSections = new int[GAUGES.length];
+        pendingMasks    = new int[GAUGES.length];
+        pendingIndices  = new int[GAUGES.length];
+        host            = HOST;
+        port            = PORT;
+        Arrays.fill(appliedSections, -1);
+    }
+
+
+    // ******************** Methods *******************************************
+    public void start() {
+        if (running) return;
+        running    = true;
+        readThread = new Thread(() -> {
+            while (running) {
+                try {
+                    read();
+                } catch (IOException e) {
+                    connected = false;
+                    if (!running) break;
+                    try { Thread.sleep(RECONNECT_DELAY); } catch (InterruptedException ex) { break; }
+                }
+            }
+        }, "GaugeMirrorSubscriber");
+        readThread.setDaemon(true);
+        readThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (null != socket) {
+            try { socket.close(); } catch (IOException e) {}
+        }
+        if (null != readThread) { readThread.interrupt(); }
+    }
+
+    public boolean isConnected() { return connected; }
+
+    private void read() throws IOException {
+        try (Socket SOCKET = new Socket()) {
+            socket = SOCKET;
+            SOCKET.connect(new InetSocketAddress(host, port));
+            final DataInputStream IN = new DataInputStream(new BufferedInputStream(SOCKET.getInputStream()));
+            if (MirrorProtocol.MAGIC != IN.readInt()) { throw new IOException("Not a gauge mirror publisher"); }
+            if (MirrorProtocol.VERSION != IN.readByte()) { throw new IOException("Unsupported mirror protocol version"); }
+            connected = true;
+            while (running) {
+                final byte TYPE = IN.readByte();
+                if (MirrorProtocol.SNAPSHOT != TYPE && MirrorProtocol.DELTA != TYPE) { throw new IOException("Unknown frame type " + TYPE); }
+                final int NO_OF_ENTRIES = IN.readInt();
+                // The publisher sends at most one entry for each of its max. 65535 gauges
+                if (NO_OF_ENTRIES < 0 || NO_OF_ENTRIES > 0xFFFF) { throw new IOException("Invalid number of entries " + NO_OF_ENTRIES); }
+                // The state will only be modified by this thread, the FX thread reads the values of the pending entries
+                synchronized (state) {
+                    for (int i = 0 ; i < NO_OF_ENTRIES ; i++) {
+                        final int ENTRY = state.readEntry(IN);
+                        if (ENTRY >= 0) { markPending(ENTRY >>> 8, ENTRY & 0xFF); }
+                    }
+                    if (noOfPendingIndices > 0 && !applyPending) {
+                        applyPending = true;
+                        Metrics.runLater(this::apply);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Combines the given mask with the masks of the entries that have not
+     * been applied yet, all of them will be applied with one runnable on the
+     * FX application thread.
+     */
+    private void markPending(final int INDEX, final int MASK) {
+        if (0 == MASK) return;
+        if (0 == pendingMasks[INDEX]) { pendingIndices[noOfPendingIndices++] = INDEX; }
+        pendingMasks[INDEX] |= MASK;
+    }
+
+    private void apply() {
+        synchronized (state) {
+            for (int i = 0 ; i < noOfPendingIndices ; i++) {
+                final int   INDEX = pendingIndices[i];
+                final int   MASK  = pendingMasks[INDEX];
+                final Gauge GAUGE = gauges[INDEX];
+                pendingMasks[INDEX] = 0;
+                if ((MASK & MirrorProtocol.VALUE) != 0)         { GAUGE.setValue(state.values[INDEX]); }
+                if ((MASK & MirrorProtocol.MIN_MEASURED) != 0)  { GAUGE.setMinMeasuredValue(state.minMeasuredValues[INDEX]); }
+                if ((MASK & MirrorProtocol.MAX_MEASURED) != 0)  { GAUGE.setMaxMeasuredValue(state.maxMeasuredValues[INDEX]); }
+                if ((MASK & MirrorProtocol.FLAGS) != 0)         { applyFlags(GAUGE, state.flags[INDEX]); }
+                if ((MASK & MirrorProtocol.SECTION) != 0)       { applySection(INDEX, GAUGE, state.sections[INDEX]); }
+                if ((MASK & MirrorProtocol.ALERT_MESSAGE) != 0) { GAUGE.setAlertMessage(state.alertMessages[INDEX]); }
+            }
+            noOfPendingIndices = 0;
+            applyPending       = false;
+        }
+    }
+
+    private void applyFlags(final Gauge GAUGE, final int FLAGS) {
+        final boolean BLINKING = (FLAGS & MirrorProtocol.LED_BLINKING) != 0;
+        // A blinking led will be toggled by the mirror gauge itself
+        if (GAUGE.isLedBlinking() != BLINKING) { GAUGE.setLedBlinking(BLINKING); }
+        if (!BLINKING) { GAUGE.setLedOn((FLAGS & MirrorProtocol.LED_ON) != 0); }
+        GAUGE.setAlert((FLAGS & MirrorProtocol.ALERT) != 0);
+    }
+
+    /**
+     * Fires the section events of the mirrored section change on the sections
+     * of the mirror gauge unless the mirror gauge checks its sections itself.
+     */
+    private void applySection(final int INDEX, final Gauge GAUGE, final int SECTION_NO) {
+        final int OLD_SECTION_NO = appliedSections[INDEX];
+        appliedSections[INDEX] = SECTION_NO;
+        if (GAUGE.getCheckSectionsForValue()) return;
+        final List<Section> SECTIONS = GAUGE.getSections();
+        if (OLD_SECTION_NO >= 0 && OLD_SECTION_NO < SECTIONS.size()) {
+            final Section SECTION = SECTIONS.get(OLD_SECTION_NO);
+            SECTION.fireSectionEvent(SECTION.LEFT_EVENT);
+        }
+        if (SECTION_NO >= 0 && SECTION_NO < SECTIONS.size()) {
+            final Section SECTION = SECTIONS.get(SECTION_NO);
+            SECTION.fireSectionEvent(SECTION.ENTERED_EVENT);
+        }
+    }
+}
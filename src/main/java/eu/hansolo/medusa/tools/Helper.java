@@ -22,6 +22,8 @@ import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.LevelOfDetail;
+import eu.hansolo.medusa.LevelOfDetail.Detail;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.TickLabelOrientation;
@@ -55,6 +57,13 @@ import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.Stop;
 import javafx.scene.shape.ArcType;
 import javafx.scene.shape.Circle;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.CubicCurveTo;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.QuadCurveTo;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
@@ -305,6 +314,33 @@ public class Helper {
         CTX.strokeLine(P1X, P1Y, P2X, P2Y);
     }
 
+    /**
+     * Adds the elements of the given path as a new path to the given
+     * GraphicsContext. The path will not be filled or stroked.
+     * @param CTX
+     * @param PATH
+     */
+    public static void drawPath(final GraphicsContext CTX, final Path PATH) {
+        CTX.beginPath();
+        for (PathElement element : PATH.getElements()) {
+            if (element instanceof MoveTo) {
+                final MoveTo MOVE_TO = (MoveTo) element;
+                CTX.moveTo(MOVE_TO.getX(), MOVE_TO.getY());
+            } else if (element instanceof LineTo) {
+                final LineTo LINE_TO = (LineTo) element;
+                CTX.lineTo(LINE_TO.getX(), LINE_TO.getY());
+            } else if (element instanceof CubicCurveTo) {
+                final CubicCurveTo CURVE_TO = (CubicCurveTo) element;
+                CTX.bezierCurveTo(CURVE_TO.getControlX1(), CURVE_TO.getControlY1(), CURVE_TO.getControlX2(), CURVE_TO.getControlY2(), CURVE_TO.getX(), CURVE_TO.getY());
+            } else if (element instanceof QuadCurveTo) {
+                final QuadCurveTo CURVE_TO = (QuadCurveTo) element;
+                CTX.quadraticCurveTo(CURVE_TO.getControlX(), CURVE_TO.getControlY(), CURVE_TO.getX(), CURVE_TO.getY());
+            } else if (element instanceof ClosePath) {
+                CTX.closePath();
+            }
+        }
+    }
+
     public static boolean isMonochrome(final Color COLOR) {
         return Double.compare(COLOR.getRed(), COLOR.getGreen()) == 0 && Double.compare(COLOR.getGreen(), COLOR.getBlue()) == 0;
     }
@@ -332,6 +368,13 @@ public class Helper {
                                            final double MIN_VALUE, final double MAX_VALUE,
                                            final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP,
                                            final double CENTER_X, final double CENTER_Y, final double SIZE) {
+        drawRadialTickMarks(GAUGE, CTX, MIN_VALUE, MAX_VALUE, START_ANGLE, ANGLE_RANGE, ANGLE_STEP, CENTER_X, CENTER_Y, SIZE, LevelOfDetail.FULL, SIZE);
+    }
+    public static void drawRadialTickMarks(final Gauge GAUGE, final GraphicsContext CTX,
+                                           final double MIN_VALUE, final double MAX_VALUE,
+                                           final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP,
+                                           final double CENTER_X, final double CENTER_Y, final double SIZE,
+                                           final LevelOfDetail LEVEL_OF_DETAIL, final double DETAIL_SIZE) {
         double               sinValue;
         double               cosValue;
         double               centerX               = CENTER_X;
@@ -370,9 +413,9 @@ public class Helper {
         boolean       tickMarkSectionsVisible      = GAUGE.getTickMarkSectionsVisible();
         boolean       tickLabelSectionsVisible     = GAUGE.getTickLabelSectionsVisible();
         boolean       majorTickMarksVisible        = GAUGE.getMajorTickMarksVisible();
-        boolean       mediumTickMarksVisible       = GAUGE.getMediumTickMarksVisible();
-        boolean       minorTickMarksVisible        = GAUGE.getMinorTickMarksVisible();
-        boolean       tickLabelsVisible            = GAUGE.getTickLabelsVisible();
+        boolean       mediumTickMarksVisible       = GAUGE.getMediumTickMarksVisible() && LEVEL_OF_DETAIL.isVisible(Detail.MEDIUM_TICK_MARKS, DETAIL_SIZE);
+        boolean       minorTickMarksVisible        = GAUGE.getMinorTickMarksVisible() && LEVEL_OF_DETAIL.isVisible(Detail.MINOR_TICK_MARKS, DETAIL_SIZE);
+        boolean       tickLabelsVisible            = GAUGE.getTickLabelsVisible() && LEVEL_OF_DETAIL.isVisible(Detail.TICK_LABELS, DETAIL_SIZE);
         boolean       onlyFirstAndLastLabelVisible = GAUGE.isOnlyFirstAndLastTickLabelVisible();
         boolean       customTickLabelsEnabled      = GAUGE.getCustomTickLabelsEnabled();
         Locale        locale                       = GAUGE.getLocale();
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
+import javafx.animation.Animation.Status;
+import javafx.application.Platform;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * Opt-in runtime metrics of all gauges and clocks. As long as the metrics
+ * are not enabled each measuring point only costs the check of a volatile
+ * flag. Once enabled the metrics will be collected per SkinType and
+ * skin class and are available via getInstance(), the registered
+ * MetricsListeners and JMX (eu.hansolo.medusa:type=Metrics).
+ * The event handling of the skins will be measured where the events
+ * are dispatched, so the duration of RESIZE contains resize() and
+ * redraw(), the duration of REDRAW contains redraw().
+ */
+public final class Metrics implements MetricsMXBean {
+    public  static final    String                              OBJECT_NAME             = "eu.hansolo.medusa:type=Metrics";
+    public  static final    String                              BLINK_TASK              = "BlinkTask";
+    public  static final    String                              CLOCK_TICK              = "ClockTick";
+    private static final    Metrics                             INSTANCE                = new Metrics();
+    private static final    EventType[]                         EVENT_TYPES             = EventType.values();
+    private static final    double                              NANOS_PER_MILLI         = 1_000_000.0;
+    private static volatile boolean                             enabled;
+    private static final    List<MetricsListener>               listeners               = new CopyOnWriteArrayList<>();
+    private static final    Map<String, LongAdder[]>            updateEventsPerSkinType = new ConcurrentHashMap<>();
+    private static final    Map<Gauge, LongAdder[]>             updateEventsPerGauge    = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final    Map<String, Map<String, Stats>>     skinEventsPerSkinType   = new ConcurrentHashMap<>();
+    private static final    Map<Class<?>, Map<String, Stats>>   skinEventsPerSkinClass  = new ConcurrentHashMap<>();
+    private static final    AtomicInteger                       activeTimelines         = new AtomicInteger();
+    private static final    LongAdder                           blinkTicks              = new LongAdder();
+    private static final    LongAdder                           clockTicks              = new LongAdder();
+    private static final    AtomicLong                          runLaterBacklog         = new AtomicLong();
+    private static final    LongAccumulator                     maxRunLaterBacklog      = new LongAccumulator(Math::max, 0);
+    private static final    LongAdder                           runLaterCount           = new LongAdder();
+    private static final    Stats                               transactions            = new Stats();
+    private static final    LongAdder                           transactionValues       = new LongAdder();
+
+
+    // ******************** Constructors **************************************
+    private Metrics() {}
+
+
+    // ******************** Methods *******************************************
+    public static Metrics getInstance() { return INSTANCE; }
+
+    public static boolean isEnabled() { return enabled; }
+
+    /**
+     * Starts collecting metrics and registers the MXBean at the platform
+     * MBeanServer (if available).
+     */
+    public static synchronized void enable() {
+        if (enabled) return;
+        enabled = true;
+        try {
+            final MBeanServer SERVER = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName  NAME   = new ObjectName(OBJECT_NAME);
+            if (!SERVER.isRegistered(NAME)) { SERVER.registerMBean(INSTANCE, NAME); }
+        } catch (JMException | SecurityException e) {
+            // JMX is not available (e.g. on mobile devices), the metrics can still be read via getInstance()
+        }
+    }
+
+    /**
+     * Stops collecting metrics and unregisters the MXBean. The collected
+     * metrics will be kept until reset() is called.
+     */
+    public static synchronized void disable() {
+        if (!enabled) return;
+        enabled = false;
+        try {
+            final MBeanServer SERVER = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName  NAME   = new ObjectName(OBJECT_NAME);
+            if (SERVER.isRegistered(NAME)) { SERVER.unregisterMBean(NAME); }
+        } catch (JMException | SecurityException e) {
+            // JMX is not available
+        }
+    }
+
+    public static void addMetricsListener(final MetricsListener LISTENER) { if (!listeners.contains(LISTENER)) { listeners.add(LISTENER); } }
+    public static void removeMetricsListener(final MetricsListener LISTENER) { listeners.remove(LISTENER); }
+
+    /**
+     * Returns the number of UpdateEvents per EventType that have been
+     * fired by the given gauge while the metrics were enabled.
+     * @param GAUGE
+     * @return the number of UpdateEvents per EventType of the given gauge
+     */
+    public static Map<EventType, Long> getUpdateEventCounts(final Gauge GAUGE) {
+        final Map<EventType, Long> COUNTS = new EnumMap<>(EventType.class);
+        final LongAdder[]          ADDERS = updateEventsPerGauge.get(GAUGE);
+        if (null == ADDERS) return COUNTS;
+        for (EventType eventType : EVENT_TYPES) { COUNTS.put(eventType, ADDERS[eventType.ordinal()].sum()); }
+        return COUNTS;
+    }
+
+
+    // ******************** Measuring points **********************************
+    public static void updateEventFired(final Gauge GAUGE, final EventType EVENT_TYPE) {
+        if (!enabled) return;
+        updateEventsPerSkinType.computeIfAbsent(GAUGE.getSkinType().name(), key -> createAdders())[EVENT_TYPE.ordinal()].increment();
+        updateEventsPerGauge.computeIfAbsent(GAUGE, key -> createAdders())[EVENT_TYPE.ordinal()].increment();
+        for (MetricsListener listener : listeners) { listener.onUpdateEvent(GAUGE, EVENT_TYPE); }
+    }
+
+    public static void skinEventHandled(final String SKIN_TYPE, final Class<?> SKIN_CLASS, final String EVENT_TYPE, final long NANOS) {
+        if (!enabled) return;
+        skinEventsPerSkinType.computeIfAbsent(SKIN_TYPE, key -> new ConcurrentHashMap<>()).computeIfAbsent(EVENT_TYPE, key -> new Stats()).add(NANOS);
+        skinEventsPerSkinClass.computeIfAbsent(SKIN_CLASS, key -> new ConcurrentHashMap<>()).computeIfAbsent(EVENT_TYPE, key -> new Stats()).add(NANOS);
+        for (MetricsListener listener : listeners) { listener.onSkinEvent(SKIN_TYPE, SKIN_CLASS, EVENT_TYPE, NANOS); }
+    }
+
+    public static void tick(final String EXECUTOR) {
+        if (!enabled) return;
+        if (BLINK_TASK.equals(EXECUTOR)) {
+            blinkTicks.increment();
+        } else if (CLOCK_TICK.equals(EXECUTOR)) {
+            clockTicks.increment();
+        }
+        for (MetricsListener listener : listeners) { listener.onTick(EXECUTOR); }
+    }
+
+    /**
+     * Keeps track of the running animation timelines. Will be called on
+     * every status change of the timelines of gauges and clocks, also if
+     * the metrics are disabled, because a timeline might have been started
+     * before the metrics have been enabled.
+     * @param OLD_STATUS
+     * @param NEW_STATUS
+     */
+    public static void timelineStatusChanged(final Status OLD_STATUS, final Status NEW_STATUS) {
+        if (Status.RUNNING == NEW_STATUS && Status.RUNNING != OLD_STATUS) {
+            activeTimelines.incrementAndGet();
+        } else if (Status.RUNNING == OLD_STATUS && Status.RUNNING != NEW_STATUS) {
+            activeTimelines.decrementAndGet();
+        }
+    }
+
+    /**
+     * Calls Platform.runLater() with the given runnable and keeps track of
+     * the number of runnables that have not been run yet.
+     * @param RUNNABLE
+     */
+    public static void runLater(final Runnable RUNNABLE) {
+        if (!enabled) {
+            Platform.runLater(RUNNABLE);
+            return;
+        }
+        runLaterCount.increment();
+        maxRunLaterBacklog.accumulate(runLaterBacklog.incrementAndGet());
+        Platform.runLater(() -> {
+            runLaterBacklog.decrementAndGet();
+            RUNNABLE.run();
+        });
+    }
+
+    /**
+     * Will be called by a GaugeTransaction after all of its values have
+     * been applied on the FX application thread, the skins will show them
+     * with the next pulse.
+     * @param NO_OF_VALUES
+     * @param LATENCY_NANOS the time from staging the first value until all values have been applied
+     */
+    public static void transactionApplied(final int NO_OF_VALUES, final long LATENCY_NANOS) {
+        if (!enabled) return;
+        transactions.add(LATENCY_NANOS);
+        transactionValues.add(NO_OF_VALUES);
+        for (MetricsListener listener : listeners) { listener.onTransaction(NO_OF_VALUES, LATENCY_NANOS); }
+    }
+
+    private static LongAdder[] createAdders() {
+        final LongAdder[] ADDERS = new LongAdder[EVENT_TYPES.length];
+        for (int i = 0 ; i < ADDERS.length ; i++) { ADDERS[i] = new LongAdder(); }
+        return ADDERS;
+    }
+
+    /**
+     * Returns the id of the given gauge or its title (e.g. Temp@1b6d3586)
+     * made unique with its identity hash, because several gauges of a
+     * dashboard often share the same title.
+     */
+    private static String getKey(final Gauge GAUGE) {
+        if (null != GAUGE.getId() && !GAUGE.getId().isEmpty()) return GAUGE.getId();
+        final String TITLE = GAUGE.getTitle();
+        return (null == TITLE || TITLE.isEmpty() ? "Gauge" : TITLE) + "@" + Integer.toHexString(System.identityHashCode(GAUGE));
+    }
+
+
+    // ******************** MXBean ********************************************
+    @Override public Map<String, Long> getUpdateEventCountsPerSkinType() {
+        final Map<String, Long> COUNTS = new TreeMap<>();
+        updateEventsPerSkinType.forEach((skinType, adders) -> putCounts(COUNTS, skinType, adders));
+        return COUNTS;
+    }
+
+    @Override public Map<String, Long> getUpdateEventCountsPerGauge() {
+        final Map<String, Long> COUNTS = new TreeMap<>();
+        synchronized (updateEventsPerGauge) { updateEventsPerGauge.forEach((gauge, adders) -> putCounts(COUNTS, getKey(gauge), adders)); }
+        return COUNTS;
+    }
+
+    @Override public Map<String, Long> getSkinEventCountsPerSkinType() {
+        final Map<String, Long> COUNTS = new TreeMap<>();
+        skinEventsPerSkinType.forEach((skinType, stats) -> stats.forEach((event, stat) -> COUNTS.put(skinType + "." + event, stat.count.sum())));
+        return COUNTS;
+    }
+
+    @Override public Map<String, Double> getSkinEventTotalMillisPerSkinType() {
+        final Map<String, Double> MILLIS = new TreeMap<>();
+        skinEventsPerSkinType.forEach((skinType, stats) -> stats.forEach((event, stat) -> MILLIS.put(skinType + "." + event, stat.nanos.sum() / NANOS_PER_MILLI)));
+        return MILLIS;
+    }
+
+    @Override public Map<String, Long> getSkinEventCountsPerSkinClass() {
+        final Map<String, Long> COUNTS = new TreeMap<>();
+        skinEventsPerSkinClass.forEach((skinClass, stats) -> stats.forEach((event, stat) -> COUNTS.put(skinClass.getSimpleName() + "." + event, stat.count.sum())));
+        return COUNTS;
+    }
+
+    @Override public Map<String, Double> getSkinEventAverageMillisPerSkinClass() {
+        final Map<String, Double> MILLIS = new TreeMap<>();
+        skinEventsPerSkinClass.forEach((skinClass, stats) -> stats.forEach((event, stat) -> {
+            final long COUNT = stat.count.sum();
+            MILLIS.put(skinClass.getSimpleName() + "." + event, 0 == COUNT ? 0 : stat.nanos.sum() / NANOS_PER_MILLI / COUNT);
+        }));
+        return MILLIS;
+    }
+
+    @Override public Map<String, Double> getSkinEventMaxMillisPerSkinClass() {
+        final Map<String, Double> MILLIS = new TreeMap<>();
+        skinEventsPerSkinClass.forEach((skinClass, stats) -> stats.forEach((event, stat) -> MILLIS.put(skinClass.getSimpleName() + "." + event, stat.maxNanos.get() / NANOS_PER_MILLI)));
+        return MILLIS;
+    }
+
+    @Override public int getActiveTimelines() { return activeTimelines.get(); }
+
+    @Override public long getBlinkTicks() { return blinkTicks.sum(); }
+
+    @Override public long getClockTicks() { return clockTicks.sum(); }
+
+    @Override public long getRunLaterBacklog() { return runLaterBacklog.get(); }
+
+    @Override public long getMaxRunLaterBacklog() { return maxRunLaterBacklog.get(); }
+
+    @Override public long getRunLaterCount() { return runLaterCount.sum(); }
+
+    @Override public long getTransactionCount() { return transactions.count.sum(); }
+
+    @Override public long getTransactionValueCount() { return transactionValues.sum(); }
+
+    @Override public double getTransactionAverageLatencyMillis() {
+        final long COUNT = transactions.count.sum();
+        return 0 == COUNT ? 0 : transactions.nanos.sum() / NANOS_PER_MILLI / COUNT;
+    }
+
+    @Override public double getTransactionMaxLatencyMillis() { return transactions.maxNanos.get() / NANOS_PER_MILLI; }
+
+    /**
+     * Resets all collected metrics except the number of active timelines
+     * and the current runLater backlog which reflect the current state.
+     */
+    @Override public void reset() {
+        updateEventsPerSkinType.clear();
+        updateEventsPerGauge.clear();
+        skinEventsPerSkinType.clear();
+        skinEventsPerSkinClass.clear();
+        blinkTicks.reset();
+        clockTicks.reset();
+        maxRunLaterBacklog.reset();
+        runLaterCount.reset();
+        transactions.reset();
+        transactionValues.reset();
+    }
+
+    private static void putCounts(final Map<String, Long> COUNTS, final String SOURCE, final LongAdder[] ADDERS) {
+        for (EventType eventType : EVENT_TYPES) {
+            final long COUNT = ADDERS[eventType.ordinal()].sum();
+            // Gauges with the same id will be summed up
+            if (COUNT > 0) { COUNTS.merge(SOURCE + "." + eventType.name(), COUNT, Long::sum); }
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Stats {
+        final LongAdder       count    = new LongAdder();
+        final LongAdder       nanos    = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+
+        void add(final long NANOS) {
+            count.increment();
+            nanos.add(NANOS);
+            maxNanos.accumulate(NANOS);
+        }
+
+        void reset() {
+            count.reset();
+            nanos.reset();
+            maxNanos.reset();
+        }
+    }
+}
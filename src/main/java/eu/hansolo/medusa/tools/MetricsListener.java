@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
+
+import java.util.EventListener;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * Will be called for every measurement while the Metrics are enabled.
+ * The methods are called on the thread that has been measured, so they
+ * should return fast.
+ */
+public interface MetricsListener extends EventListener {
+    /**
+     * Called for every UpdateEvent that was fired by the given gauge.
+     * @param GAUGE
+     * @param EVENT_TYPE
+     */
+    default void onUpdateEvent(final Gauge GAUGE, final EventType EVENT_TYPE) {}
+
+    /**
+     * Called after a skin has handled the given event.
+     * @param SKIN_TYPE  the name of the skin type (clock skin types are prefixed with "Clock.")
+     * @param SKIN_CLASS
+     * @param EVENT_TYPE the event (e.g. RESIZE, REDRAW), VALUE for value updates of gauges or TIME for time updates of clocks
+     * @param NANOS      the time the skin needed to handle the event
+     */
+    default void onSkinEvent(final String SKIN_TYPE, final Class<?> SKIN_CLASS, final String EVENT_TYPE, final long NANOS) {}
+
+    /**
+     * Called for every tick of the given executor (e.g. BlinkTask or ClockTick).
+     * @param EXECUTOR
+     */
+    default void onTick(final String EXECUTOR) {}
+
+    /**
+     * Called after the values of a GaugeTransaction have been applied.
+     * @param NO_OF_VALUES  the number of values that have been applied
+     * @param LATENCY_NANOS the time from staging the first value until all values have been applied
+     */
+    default void onTransaction(final int NO_OF_VALUES, final long LATENCY_NANOS) {}
+}
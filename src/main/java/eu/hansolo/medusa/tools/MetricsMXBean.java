@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import java.util.Map;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * The management interface of the Metrics that will be registered as
+ * eu.hansolo.medusa:type=Metrics. Keys of event maps have the form
+ * SOURCE.EVENT (e.g. GAUGE.REDRAW or GaugeSkin.RESIZE), durations are
+ * given in milliseconds.
+ */
+public interface MetricsMXBean {
+    Map<String, Long> getUpdateEventCountsPerSkinType();
+
+    Map<String, Long> getUpdateEventCountsPerGauge();
+
+    Map<String, Long> getSkinEventCountsPerSkinType();
+
+    Map<String, Double> getSkinEventTotalMillisPerSkinType();
+
+    Map<String, Long> getSkinEventCountsPerSkinClass();
+
+    Map<String, Double> getSkinEventAverageMillisPerSkinClass();
+
+    Map<String, Double> getSkinEventMaxMillisPerSkinClass();
+
+    int getActiveTimelines();
+
+    long getBlinkTicks();
+
+    long getClockTicks();
+
+    long getRunLaterBacklog();
+
+    long getMaxRunLaterBacklog();
+
+    long getRunLaterCount();
+
+    long getTransactionCount();
+
+    long getTransactionValueCount();
+
+    double getTransactionAverageLatencyMillis();
+
+    double getTransactionMaxLatencyMillis();
+
+    void reset();
+}
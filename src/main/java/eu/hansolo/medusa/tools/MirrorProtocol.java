@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Section;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * The wire format of the gauge mirroring. After connecting the publisher
+ * sends MAGIC and VERSION followed by one SNAPSHOT frame and DELTA frames.
+ * A frame consists of its type, the number of entries and the entries.
+ * An entry consists of the index of the gauge, a mask of the fields that
+ * follow and the fields itself. Numbers will be written as floats if
+ * all numbers of the entry can be represented as float without loss.
+ * The alert message is preceded by a byte that is 0 if it is null.
+ */
+final class MirrorProtocol {
+    static final int  MAGIC         = 0x4D4D4952; // MMIR
+    static final byte VERSION       = 1;
+    static final byte SNAPSHOT      = 1;
+    static final byte DELTA         = 2;
+    static final int  VALUE         = 1;
+    static final int  MIN_MEASURED  = 1 << 1;
+    static final int  MAX_MEASURED  = 1 << 2;
+    static final int  FLAGS         = 1 << 3;
+    static final int  SECTION       = 1 << 4;
+    static final int  ALERT_MESSAGE = 1 << 5;
+    static final int  FLOATS        = 1 << 7;
+    static final int  ALL           = VALUE | MIN_MEASURED | MAX_MEASURED | FLAGS | SECTION | ALERT_MESSAGE;
+    static final int  LED_ON        = 1;
+    static final int  LED_BLINKING  = 1 << 1;
+    static final int  ALERT         = 1 << 2;
+
+
+    // ******************** Constructors **************************************
+    private MirrorProtocol() {}
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * The mirrored state of a number of gauges.
+     */
+    static final class State {
+        final double[] values;
+        final double[] minMeasuredValues;
+        final double[] maxMeasuredValues;
+        final int[]    flags;
+        final int[]    sections;
+        final String[] alertMessages;
+
+
+        State(final int NO_OF_GAUGES) {
+            values            = new double[NO_OF_GAUGES];
+            minMeasuredValues = new double[NO_OF_GAUGES];
+            maxMeasuredValues = new double[NO_OF_GAUGES];
+            flags             = new int[NO_OF_GAUGES];
+            sections          = new int[NO_OF_GAUGES];
+            alertMessages     = new String[NO_OF_GAUGES];
+        }
+
+        int size() { return values.length; }
+
+        /**
+         * Reads the state of the given gauge into the given index and returns
+         * the mask of the fields that have changed.
+         */
+        int capture(final int INDEX, final Gauge GAUGE) {
+            final double VALUE        = GAUGE.getValue();
+            final double MIN_MEASURED = GAUGE.getMinMeasuredValue();
+            final double MAX_MEASURED = GAUGE.getMaxMeasuredValue();
+            final int    FLAG_BITS    = (GAUGE.isLedOn() ? LED_ON : 0) | (GAUGE.isLedBlinking() ? LED_BLINKING : 0) | (GAUGE.isAlert() ? ALERT : 0);
+            final int    SECTION_NO   = activeSection(GAUGE, VALUE);
+            final String MESSAGE      = GAUGE.getAlertMessage();
+            int mask = 0;
+            if (Double.compare(VALUE, values[INDEX]) != 0)                   { values[INDEX] = VALUE;                   mask |= MirrorProtocol.VALUE; }
+            if (Double.compare(MIN_MEASURED, minMeasuredValues[INDEX]) != 0) { minMeasuredValues[INDEX] = MIN_MEASURED; mask |= MirrorProtocol.MIN_MEASURED; }
+            if (Double.compare(MAX_MEASURED, maxMeasuredValues[INDEX]) != 0) { maxMeasuredValues[INDEX] = MAX_MEASURED; mask |= MirrorProtocol.MAX_MEASURED; }
+            if (FLAG_BITS != flags[INDEX])                                   { flags[INDEX] = FLAG_BITS;                mask |= MirrorProtocol.FLAGS; }
+            if (SECTION_NO != sections[INDEX])                               { sections[INDEX] = SECTION_NO;            mask |= MirrorProtocol.SECTION; }
+            if (!Objects.equals(MESSAGE, alertMessages[INDEX]))              { alertMessages[INDEX] = MESSAGE;          mask |= MirrorProtocol.ALERT_MESSAGE; }
+            return mask;
+        }
+
+        void writeEntry(final DataOutputStream OUT, final int INDEX, final int MASK) throws IOException {
+            final boolean FLOAT = isFloat(values[INDEX]) && isFloat(minMeasuredValues[INDEX]) && isFloat(maxMeasuredValues[INDEX]);
+            OUT.writeShort(INDEX);
+            OUT.writeByte(FLOAT ? MASK | FLOATS : MASK);
+            if ((MASK & MirrorProtocol.VALUE) != 0)         { writeNumber(OUT, values[INDEX], FLOAT); }
+            if ((MASK & MirrorProtocol.MIN_MEASURED) != 0)  { writeNumber(OUT, minMeasuredValues[INDEX], FLOAT); }
+            if ((MASK & MirrorProtocol.MAX_MEASURED) != 0)  { writeNumber(OUT, maxMeasuredValues[INDEX], FLOAT); }
+            if ((MASK & MirrorProtocol.FLAGS) != 0)         { OUT.writeByte(flags[INDEX]); }
+            if ((MASK & MirrorProtocol.SECTION) != 0)       { OUT.writeShort(sections[INDEX]); }
+            if ((MASK & MirrorProtocol.ALERT_MESSAGE) != 0) { writeString(OUT, alertMessages[INDEX]); }
+        }
+
+        /**
+         * Reads one entry into this state and returns its index and mask
+         * as INDEX << 8 | MASK.
+         */
+        int readEntry(final DataInputStream IN) throws IOException {
+            final int     INDEX = IN.readUnsignedShort();
+            final int     MASK  = IN.readUnsignedByte();
+            final boolean FLOAT = (MASK & FLOATS) != 0;
+            final boolean KNOWN = INDEX < size();
+            // Entries of gauges that are not mirrored will be read but ignored
+            final double  VALUE        = (MASK & MirrorProtocol.VALUE) != 0 ? readNumber(IN, FLOAT) : 0;
+            final double  MIN_MEASURED = (MASK & MirrorProtocol.MIN_MEASURED) != 0 ? readNumber(IN, FLOAT) : 0;
+            final double  MAX_MEASURED = (MASK & MirrorProtocol.MAX_MEASURED) != 0 ? readNumber(IN, FLOAT) : 0;
+            final int     FLAG_BITS    = (MASK & MirrorProtocol.FLAGS) != 0 ? IN.readUnsignedByte() : 0;
+            final int     SECTION_NO   = (MASK & MirrorProtocol.SECTION) != 0 ? IN.readShort() : 0;
+            final String  MESSAGE      = (MASK & MirrorProtocol.ALERT_MESSAGE) != 0 ? readString(IN) : null;
+            if (!KNOWN) return -1;
+            if ((MASK & MirrorProtocol.VALUE) != 0)         { values[INDEX]            = VALUE; }
+            if ((MASK & MirrorProtocol.MIN_MEASURED) != 0)  { minMeasuredValues[INDEX] = MIN_MEASURED; }
+            if ((MASK & MirrorProtocol.MAX_MEASURED) != 0)  { maxMeasuredValues[INDEX] = MAX_MEASURED; }
+            if ((MASK & MirrorProtocol.FLAGS) != 0)         { flags[INDEX]             = FLAG_BITS; }
+            if ((MASK & MirrorProtocol.SECTION) != 0)       { sections[INDEX]          = SECTION_NO; }
+            if ((MASK & MirrorProtocol.ALERT_MESSAGE) != 0) { alertMessages[INDEX]     = MESSAGE; }
+            return INDEX << 8 | (MASK & ALL);
+        }
+    }
+
+
+    // ******************** Methods *******************************************
+    static int activeSection(final Gauge GAUGE, final double VALUE) {
+        final List<Section> SECTIONS = GAUGE.getSections();
+        for (int i = 0 ; i < SECTIONS.size() ; i++) {
+            if (SECTIONS.get(i).contains(VALUE)) return i;
+        }
+        return -1;
+    }
+
+    private static boolean isFloat(final double VALUE) { return Double.isNaN(VALUE) || (double) (float) VALUE == VALUE; }
+
+    private static void writeNumber(final DataOutputStream OUT, final double VALUE, final boolean FLOAT) throws IOException {
+        if (FLOAT) {
+            OUT.writeFloat((float) VALUE);
+        } else {
+            OUT.writeDouble(VALUE);
+        }
+    }
+
+    private static double readNumber(final DataInputStream IN, final boolean FLOAT) throws IOException {
+        return FLOAT ? IN.readFloat() : IN.readDouble();
+    }
+
+    private static void writeString(final DataOutputStream OUT, final String TEXT) throws IOException {
+        OUT.writeBoolean(null != TEXT);
+        if (null != TEXT) { OUT.writeUTF(TEXT); }
+    }
+
+    private static String readString(final DataInputStream IN) throws IOException {
+        return IN.readBoolean() ? IN.readUTF() : null;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+
+/**
+ * Created by agent on 19.10.26.
+ *
+ * Encodes ARGB pixels as 8 bit RGBA png without the need of javax.imageio
+ * or SwingFXUtils. Is thread safe, so images can be encoded in parallel.
+ */
+public class PngEncoder {
+    private static final byte[] SIGNATURE  = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+    private static final int    IHDR       = 0x49484452;
+    private static final int    IDAT       = 0x49444154;
+    private static final int    IEND       = 0x49454E44;
+    private static final int    FILTER_SUB = 1;
+
+
+    // ******************** Constructors **************************************
+    private PngEncoder() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * @param ARGB   the non premultiplied ARGB pixels (e.g. read with PixelFormat.getIntArgbInstance())
+     * @param WIDTH
+     * @param HEIGHT
+     * @return the png
+     */
+    public static byte[] encode(final int[] ARGB, final int WIDTH, final int HEIGHT) { return encode(ARGB, WIDTH, HEIGHT, Deflater.BEST_SPEED); }
+    /**
+     * @param ARGB              the non premultiplied ARGB pixels (e.g. read with PixelFormat.getIntArgbInstance())
+     * @param WIDTH
+     * @param HEIGHT
+     * @param COMPRESSION_LEVEL the deflate level from 0 (no compression) to 9 (best compression)
+     * @return the png
+     */
+    public static byte[] encode(final int[] ARGB, final int WIDTH, final int HEIGHT, final int COMPRESSION_LEVEL) {
+        if (WIDTH <= 0 || HEIGHT <= 0 || ARGB.length < WIDTH * HEIGHT) { throw new IllegalArgumentException("Wrong size of image"); }
+        try {
+            final ByteArrayOutputStream PNG = new ByteArrayOutputStream(WIDTH * HEIGHT + 1024);
+            final DataOutputStream      OUT = new DataOutputStream(PNG);
+            OUT.write(SIGNATURE);
+
+            final ByteArrayOutputStream HEADER = new ByteArrayOutputStream(13);
+            final DataOutputStream      DATA   = new DataOutputStream(HEADER);
+            DATA.writeInt(WIDTH);
+            DATA.writeInt(HEIGHT);
+            DATA.writeByte(8);  // bit depth
+            DATA.writeByte(6);  // color type RGBA
+            DATA.writeByte(0);  // compression
+            DATA.writeByte(0);  // filter
+            DATA.writeByte(0);  // interlace
+            writeChunk(OUT, IHDR, HEADER.toByteArray());
+
+            final ByteArrayOutputStream COMPRESSED = new ByteArrayOutputStream(WIDTH * HEIGHT);
+            final Deflater              DEFLATER   = new Deflater(COMPRESSION_LEVEL);
+            try (DeflaterOutputStream deflater = new DeflaterOutputStream(COMPRESSED, DEFLATER, 1 << 16)) {
+                // Each row uses the sub filter which stores the difference to the pixel on the left
+                final byte[] ROW = new byte[1 + WIDTH * 4];
+                ROW[0] = FILTER_SUB;
+                for (int y = 0 ; y < HEIGHT ; y++) {
+                    int left = 0;
+                    for (int x = 0, offset = y * WIDTH, i = 1 ; x < WIDTH ; x++, i += 4) {
+                        final int PIXEL = ARGB[offset + x];
+                        ROW[i]     = (byte) ((PIXEL >> 16) - (left >> 16));
+                        ROW[i + 1] = (byte) ((PIXEL >> 8) - (left >> 8));
+                        ROW[i + 2] = (byte) (PIXEL - left);
+                        ROW[i + 3] = (byte) ((PIXEL >>> 24) - (left >>> 24));
+                        left = PIXEL;
+                    }
+                    deflater.write(ROW);
+                }
+            } finally {
+                DEFLATER.end();
+            }
+            writeChunk(OUT, IDAT, COMPRESSED.toByteArray());
+            writeChunk(OUT, IEND, new byte[0]);
+            OUT.flush();
+            return PNG.toByteArray();
+        } catch (IOException e) {
+            // Can not happen when writing to a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeChunk(final DataOutputStream OUT, final int TYPE, final byte[] DATA) throws IOException {
+        final CRC32 CRC = new CRC32();
+        CRC.update(TYPE >>> 24);
+        CRC.update(TYPE >>> 16);
+        CRC.update(TYPE >>> 8);
+        CRC.update(TYPE);
+        CRC.update(DATA, 0, DATA.length);
+        OUT.writeInt(DATA.length);
+        OUT.writeInt(TYPE);
+        OUT.write(DATA);
+        OUT.writeInt((int) CRC.getValue());
+    }
+}
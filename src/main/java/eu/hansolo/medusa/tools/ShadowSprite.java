@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.Effect;
+import javafx.scene.effect.Shadow;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.Shape;
+import javafx.scene.transform.Transform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class ShadowSprite extends ImageView {
+    private final Node               source;
+    private final SnapshotParameters snapshotParameters;
+    private       boolean            enabled;
+    private       boolean            dirty;
+    private       double             bakedWidth;
+    private       double             bakedHeight;
+    private       double             bakedRadius;
+    private       Color              bakedColor;
+    private       BlurType           bakedBlurType;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * A pre-blurred image of the shadow of the given node. The shadow
+     * will be rendered once and shares the transforms of the node so that
+     * a rotating needle or hand doesn't need a DropShadow effect that has
+     * to be rendered on every frame. The offset of the shadow will always
+     * be applied in the coordinates of the parent, the sprite has to be
+     * added to the same parent as the node (below the node).
+     * The shadow will be rendered again if the size of the node changes,
+     * if the fill or stroke of a shape changes or if the elements of a
+     * path are replaced. Other changes of the silhouette (e.g. moved path
+     * elements or the content of a canvas) need a call to invalidate().
+     * @param SOURCE the node that casts the shadow
+     */
+    public ShadowSprite(final Node SOURCE) {
+        source             = SOURCE;
+        snapshotParameters = new SnapshotParameters();
+        snapshotParameters.setFill(Color.TRANSPARENT);
+        enabled            = true;
+        dirty              = true;
+        setMouseTransparent(true);
+        setManaged(false);
+        getTransforms().setAll(SOURCE.getTransforms());
+        SOURCE.visibleProperty().addListener(o -> setVisible(enabled && source.isVisible()));
+        SOURCE.rotateProperty().addListener(o -> setRotate(source.getRotate()));
+        if (SOURCE instanceof Shape) {
+            final Shape                  SHAPE          = (Shape) SOURCE;
+            final ChangeListener<Object> PAINT_LISTENER = (o, ov, nv) -> { if (!Objects.equals(ov, nv)) { dirty = true; } };
+            SHAPE.fillProperty().addListener(PAINT_LISTENER);
+            SHAPE.strokeProperty().addListener(PAINT_LISTENER);
+            SHAPE.strokeWidthProperty().addListener(PAINT_LISTENER);
+        }
+        if (SOURCE instanceof Path) {
+            ((Path) SOURCE).getElements().addListener((ListChangeListener<PathElement>) c -> dirty = true);
+        }
+    }
+
+
+    // ******************** Methods *******************************************
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(final boolean ENABLED) {
+        enabled = ENABLED;
+        setVisible(enabled && source.isVisible());
+    }
+
+    /**
+     * Forces the sprite to render the shadow again with the next update.
+     * This is only needed if the silhouette of the node changed in a way
+     * the sprite can not observe (see constructor).
+     */
+    public void invalidate() { dirty = true; }
+
+    /**
+     * Renders the shadow of the node with the blur type, color and radius of
+     * the given DropShadow if one of them or the size of the node changed
+     * and places the sprite with the offset of the given DropShadow.
+     * @param SHADOW
+     */
+    public void update(final DropShadow SHADOW) {
+        if (!enabled) return;
+        final Bounds BOUNDS = source.getLayoutBounds();
+        if (BOUNDS.getWidth() <= 0 || BOUNDS.getHeight() <= 0) return;
+
+        if (dirty ||
+            Double.compare(bakedWidth, BOUNDS.getWidth()) != 0 ||
+            Double.compare(bakedHeight, BOUNDS.getHeight()) != 0 ||
+            Double.compare(bakedRadius, SHADOW.getRadius()) != 0 ||
+            !SHADOW.getColor().equals(bakedColor) ||
+            SHADOW.getBlurType() != bakedBlurType) {
+            bake(SHADOW);
+            bakedWidth    = BOUNDS.getWidth();
+            bakedHeight   = BOUNDS.getHeight();
+            bakedRadius   = SHADOW.getRadius();
+            bakedColor    = SHADOW.getColor();
+            bakedBlurType = SHADOW.getBlurType();
+            dirty         = false;
+        }
+        setLayoutX(source.getLayoutX());
+        setLayoutY(source.getLayoutY());
+        setTranslateX(source.getTranslateX() + SHADOW.getOffsetX());
+        setTranslateY(source.getTranslateY() + SHADOW.getOffsetY());
+        setRotate(source.getRotate());
+        getTransforms().setAll(source.getTransforms());
+    }
+
+    private void bake(final DropShadow SHADOW) {
+        // Render the untransformed node with a shadow effect only
+        final List<Transform> TRANSFORMS = new ArrayList<>(source.getTransforms());
+        final Effect          EFFECT     = source.getEffect();
+        final double          ROTATE     = source.getRotate();
+        source.getTransforms().clear();
+        source.setRotate(0);
+        source.setEffect(new Shadow(SHADOW.getBlurType(), SHADOW.getColor(), SHADOW.getRadius()));
+
+        final Bounds        BOUNDS = source.getBoundsInLocal();
+        final WritableImage IMAGE  = source.snapshot(snapshotParameters, reusableImage(BOUNDS));
+
+        source.setEffect(EFFECT);
+        source.setRotate(ROTATE);
+        source.getTransforms().setAll(TRANSFORMS);
+
+        setImage(IMAGE);
+        setX(BOUNDS.getMinX());
+        setY(BOUNDS.getMinY());
+    }
+
+    private WritableImage reusableImage(final Bounds BOUNDS) {
+        if (!(getImage() instanceof WritableImage)) return null;
+        final WritableImage IMAGE = (WritableImage) getImage();
+        return (int) IMAGE.getWidth() == (int) Math.ceil(BOUNDS.getWidth()) && (int) IMAGE.getHeight() == (int) Math.ceil(BOUNDS.getHeight()) ? IMAGE : null;
+    }
+}
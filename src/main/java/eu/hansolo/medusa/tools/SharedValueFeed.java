@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Gauge;
+import javafx.animation.AnimationTimer;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class SharedValueFeed {
+    private static final int              INITIAL_CAPACITY = 64;
+    private        final SharedValueTable table;
+    private        final AnimationTimer   timer;
+    private              int[]            slots;
+    private              long[]           sequences;
+    private              DoubleConsumer[] consumers;
+    private              int              noOfBindings;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Polls the given SharedValueTable once per pulse and forwards the
+     * values of all slots that have changed since the last pulse to the
+     * bound gauges and clocks. Unchanged slots only cost one read of their
+     * sequence.
+     * @param TABLE the table that will be written by another process
+     */
+    public SharedValueFeed(final SharedValueTable TABLE) {
+        table        = TABLE;
+        slots        = new int[INITIAL_CAPACITY];
+        sequences    = new long[INITIAL_CAPACITY];
+        consumers    = new DoubleConsumer[INITIAL_CAPACITY];
+        noOfBindings = 0;
+        timer        = new AnimationTimer() {
+            @Override public void handle(final long NOW) { poll(); }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Binds the value of the given gauge to the given slot.
+     * @param SLOT
+     * @param GAUGE
+     */
+    public void bind(final int SLOT, final Gauge GAUGE) { bind(SLOT, value -> GAUGE.setValue(value)); }
+
+    /**
+     * Binds the time of the given clock to the given slot, the value
+     * of the slot will be used as epoch seconds.
+     * @param SLOT
+     * @param CLOCK
+     */
+    public void bind(final int SLOT, final Clock CLOCK) { bind(SLOT, value -> CLOCK.setTime((long) value)); }
+
+    /**
+     * Calls the given consumer on the FX application thread with the
+     * value of the given slot whenever it changes.
+     * @param SLOT
+     * @param CONSUMER
+     */
+    public void bind(final int SLOT, final DoubleConsumer CONSUMER) {
+        if (SLOT < 0 || SLOT >= table.getNoOfSlots()) { throw new IndexOutOfBoundsException("Slot " + SLOT + " is not in 0 - " + (table.getNoOfSlots() - 1)); }
+        if (noOfBindings == slots.length) {
+            slots     = Arrays.copyOf(slots, noOfBindings * 2);
+            sequences = Arrays.copyOf(sequences, noOfBindings * 2);
+            consumers = Arrays.copyOf(consumers, noOfBindings * 2);
+        }
+        slots[noOfBindings]     = SLOT;
+        sequences[noOfBindings] = -1;
+        consumers[noOfBindings] = CONSUMER;
+        noOfBindings++;
+    }
+
+    /**
+     * Removes all bindings of the given slot.
+     * @param SLOT
+     */
+    public void unbind(final int SLOT) {
+        int index = 0;
+        for (int i = 0 ; i < noOfBindings ; i++) {
+            if (slots[i] == SLOT) continue;
+            slots[index]     = slots[i];
+            sequences[index] = sequences[i];
+            consumers[index] = consumers[i];
+            index++;
+        }
+        Arrays.fill(consumers, index, noOfBindings, null);
+        noOfBindings = index;
+    }
+
+    public int getNoOfBindings() { return noOfBindings; }
+
+    public void start() { timer.start(); }
+    public void stop() { timer.stop(); }
+
+    /**
+     * Forwards the values of all slots that have been changed since the
+     * last call. Slots that are written at the moment will be skipped and
+     * forwarded with the next call. Will be called once per pulse after
+     * start() was called.
+     */
+    public void poll() {
+        for (int i = 0 ; i < noOfBindings ; i++) {
+            final int  SLOT     = slots[i];
+            final long SEQUENCE = table.getSequence(SLOT);
+            if (SEQUENCE == sequences[i] || !SharedValueTable.isStable(SEQUENCE)) continue;
+            final double VALUE = table.getValue(SLOT);
+            if (table.getSequence(SLOT) != SEQUENCE) continue;
+            sequences[i] = SEQUENCE;
+            consumers[i].accept(VALUE);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import sun.misc.Unsafe;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.util.OptionalDouble;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class SharedValueTable implements AutoCloseable {
+    private static final int              MAGIC       = 0x4D454455; // MEDU
+    private static final int              VERSION     = 1;
+    private static final int              HEADER_SIZE = 16;
+    private static final int              SLOT_SIZE   = 16;
+    private static final Unsafe           UNSAFE;
+    private        final RandomAccessFile file;
+    private        final MappedByteBuffer buffer;
+    private        final int              noOfSlots;
+
+    static {
+        // Java 8 has no public API for memory fences, VarHandle.storeStoreFence() etc. replace this in Java 9+
+        try {
+            final Field FIELD = Unsafe.class.getDeclaredField("theUnsafe");
+            FIELD.setAccessible(true);
+            UNSAFE = (Unsafe) FIELD.get(null);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Maps the given file, if NEW_NO_OF_SLOTS is greater than 0 the file
+     * will be initialized as a new table with the given no of slots.
+     */
+    private SharedValueTable(final RandomAccessFile FILE, final MapMode MODE, final int NEW_NO_OF_SLOTS) throws IOException {
+        file = FILE;
+        if (NEW_NO_OF_SLOTS > 0) { FILE.setLength(HEADER_SIZE + (long) NEW_NO_OF_SLOTS * SLOT_SIZE); }
+        if (FILE.length() < HEADER_SIZE) { throw new IOException("File is not a shared value table"); }
+        buffer = FILE.getChannel().map(MODE, 0, FILE.length());
+        buffer.order(ByteOrder.nativeOrder());
+        if (NEW_NO_OF_SLOTS > 0) {
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, NEW_NO_OF_SLOTS);
+            UNSAFE.storeFence();
+            buffer.putInt(0, MAGIC);
+        }
+        if (MAGIC != buffer.getInt(0)) { throw new IOException("File is not a shared value table"); }
+        if (VERSION != buffer.getInt(4)) { throw new IOException("Unsupported version " + buffer.getInt(4)); }
+        noOfSlots = buffer.getInt(8);
+        if (noOfSlots < 1 || FILE.length() < HEADER_SIZE + (long) noOfSlots * SLOT_SIZE) { throw new IOException("File is too small for " + noOfSlots + " slots"); }
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Creates (or opens an existing) file with the given number of slots
+     * and maps it for reading and writing. This is the side of the process
+     * that delivers the values (e.g. the acquisition process). An existing
+     * table must have the given number of slots, it will not be resized
+     * because readers might have mapped it already.
+     * @param PATH
+     * @param NO_OF_SLOTS
+     * @return a writable table that is backed by the given file
+     * @throws IOException if the file is no table or has a different no of slots
+     */
+    public static SharedValueTable create(final Path PATH, final int NO_OF_SLOTS) throws IOException {
+        if (NO_OF_SLOTS < 1) { throw new IllegalArgumentException("The table needs at least one slot"); }
+        final RandomAccessFile FILE = new RandomAccessFile(PATH.toFile(), "rw");
+        try {
+            final SharedValueTable TABLE = new SharedValueTable(FILE, MapMode.READ_WRITE, 0 == FILE.length() ? NO_OF_SLOTS : 0);
+            if (TABLE.getNoOfSlots() != NO_OF_SLOTS) { throw new IOException("Table " + PATH + " has " + TABLE.getNoOfSlots() + " slots instead of " + NO_OF_SLOTS); }
+            return TABLE;
+        } catch (IOException e) {
+            FILE.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps an existing table file read only. This is the side of the process
+     * that displays the values (e.g. the dashboard).
+     * @param PATH
+     * @return a read only table that is backed by the given file
+     * @throws IOException
+     */
+    public static SharedValueTable open(final Path PATH) throws IOException {
+        final RandomAccessFile FILE = new RandomAccessFile(PATH.toFile(), "r");
+        try {
+            return new SharedValueTable(FILE, MapMode.READ_ONLY, 0);
+        } catch (IOException e) {
+            FILE.close();
+            throw e;
+        }
+    }
+
+    public int getNoOfSlots() { return noOfSlots; }
+
+    /**
+     * Writes the given value into the given slot. The sequence of the slot
+     * will be odd while the value is written and even afterwards so that
+     * readers can detect incomplete values. Each slot must only be written
+     * by one thread.
+     * @param SLOT
+     * @param VALUE
+     */
+    public void set(final int SLOT, final double VALUE) {
+        final int  INDEX    = index(SLOT);
+        final long SEQUENCE = buffer.getLong(INDEX);
+        buffer.putLong(INDEX, SEQUENCE + 1);
+        UNSAFE.storeFence();
+        buffer.putDouble(INDEX + 8, VALUE);
+        UNSAFE.storeFence();
+        buffer.putLong(INDEX, SEQUENCE + 2);
+    }
+
+    /**
+     * Returns the value of the given slot or an empty result if the slot
+     * is written at the moment. The caller should try again later (e.g.
+     * with the next pulse) instead of waiting for the writer.
+     * @param SLOT
+     * @return the value of the given slot or an empty result if it is not stable
+     */
+    public OptionalDouble get(final int SLOT) {
+        final long SEQUENCE = getSequence(SLOT);
+        if (!isStable(SEQUENCE)) return OptionalDouble.empty();
+        final double VALUE = getValue(SLOT);
+        return getSequence(SLOT) == SEQUENCE ? OptionalDouble.of(VALUE) : OptionalDouble.empty();
+    }
+
+    /**
+     * Returns the value of the given slot without checking it. The value
+     * is only valid if the sequence of the slot was stable before the call
+     * and did not change afterwards.
+     * @param SLOT
+     * @return the value of the given slot which might be incomplete
+     */
+    public double getValue(final int SLOT) {
+        final double VALUE = buffer.getDouble(index(SLOT) + 8);
+        UNSAFE.loadFence();
+        return VALUE;
+    }
+
+    /**
+     * Returns the sequence of the given slot which will increase with every
+     * write. Comparing it with a former sequence is the cheapest way to find
+     * out whether the value of the slot has changed.
+     * @param SLOT
+     * @return the sequence of the given slot
+     */
+    public long getSequence(final int SLOT) {
+        final long SEQUENCE = buffer.getLong(index(SLOT));
+        UNSAFE.loadFence();
+        return SEQUENCE;
+    }
+
+    /**
+     * Returns true if the given sequence is even which means that the
+     * slot was not written at the time the sequence was read.
+     * @param SEQUENCE
+     * @return true if the given sequence belongs to a complete value
+     */
+    public static boolean isStable(final long SEQUENCE) { return (SEQUENCE & 1) == 0; }
+
+    /**
+     * Writes all changes of the table to the file.
+     */
+    public void force() { buffer.force(); }
+
+    @Override public void close() throws IOException { file.close(); }
+
+    private int index(final int SLOT) {
+        if (SLOT < 0 || SLOT >= noOfSlots) { throw new IndexOutOfBoundsException("Slot " + SLOT + " is not in 0 - " + (noOfSlots - 1)); }
+        return HEADER_SIZE + SLOT * SLOT_SIZE;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2017 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import javafx.stage.Window;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Created by agent on 19.10.26.
+ */
+public class VisibilityTracker {
+    private final Region               region;
+    private final Runnable             onChange;
+    private final List<Node>           ancestors;
+    private final InvalidationListener checkListener;
+    private final InvalidationListener hierarchyListener;
+    private       Scene                scene;
+    private       Window               window;
+    private       boolean              showing;
+    private       boolean              active;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Keeps track whether the given region is showing on screen. The region
+     * is not showing if it is not part of a showing window, if it or one of
+     * its parents is invisible (e.g. the content of a not selected Tab), if
+     * it has no size or if it is completely outside of the clip of one of
+     * its parents (e.g. scrolled out of the viewport of a ScrollPane).
+     * @param REGION    the region to track
+     * @param ON_CHANGE will be called on every change of the showing state
+     */
+    public VisibilityTracker(final Region REGION, final Runnable ON_CHANGE) {
+        region            = REGION;
+        onChange          = ON_CHANGE;
+        ancestors         = new ArrayList<>();
+        checkListener     = o -> check();
+        hierarchyListener = o -> {
+            bind();
+            check();
+        };
+        showing           = true;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns true if the region was showing on screen at the last check.
+     * @return true if the region was showing on screen at the last check
+     */
+    public boolean isShowing() { return showing; }
+
+    public void start() {
+        if (active) return;
+        active = true;
+        region.sceneProperty().addListener(hierarchyListener);
+        region.parentProperty().addListener(hierarchyListener);
+        region.widthProperty().addListener(checkListener);
+        region.heightProperty().addListener(checkListener);
+        region.localToSceneTransformProperty().addListener(checkListener);
+        bind();
+        check();
+    }
+
+    public void stop() {
+        if (!active) return;
+        active = false;
+        unbind();
+        region.sceneProperty().removeListener(hierarchyListener);
+        region.parentProperty().removeListener(hierarchyListener);
+        region.widthProperty().removeListener(checkListener);
+        region.heightProperty().removeListener(checkListener);
+        region.localToSceneTransformProperty().removeListener(checkListener);
+        showing = true;
+    }
+
+    private void bind() {
+        unbind();
+        scene = region.getScene();
+        if (null != scene) {
+            scene.windowProperty().addListener(hierarchyListener);
+            scene.widthProperty().addListener(checkListener);
+            scene.heightProperty().addListener(checkListener);
+            window = scene.getWindow();
+            if (null != window) { window.showingProperty().addListener(checkListener); }
+        }
+        Node node = region;
+        while (null != node) {
+            ancestors.add(node);
+            node.visibleProperty().addListener(checkListener);
+            node = node.getParent();
+        }
+    }
+
+    private void unbind() {
+        if (null != scene) {
+            scene.windowProperty().removeListener(hierarchyListener);
+            scene.widthProperty().removeListener(checkListener);
+            scene.heightProperty().removeListener(checkListener);
+            scene = null;
+        }
+        if (null != window) {
+            window.showingProperty().removeListener(checkListener);
+            window = null;
+        }
+        for (Node ancestor : ancestors) { ancestor.visibleProperty().removeListener(checkListener); }
+        ancestors.clear();
+    }
+
+    private void check() {
+        // Revalidates the transform so that further changes will be reported
+        region.getLocalToSceneTransform();
+        boolean isShowing = computeShowing();
+        if (isShowing == showing) return;
+        showing = isShowing;
+        onChange.run();
+    }
+
+    private boolean computeShowing() {
+        if (null == scene) return false;
+        // A scene without a window is used for off-screen rendering (e.g. snapshots)
+        if (null != window && !window.isShowing()) return false;
+        if (region.getWidth() <= 0 || region.getHeight() <= 0) return false;
+        for (Node ancestor : ancestors) { if (!ancestor.isVisible()) return false; }
+
+        final Bounds BOUNDS = region.localToScene(region.getLayoutBounds());
+        if (null != window && (BOUNDS.getMaxX() < 0 || BOUNDS.getMaxY() < 0 || BOUNDS.getMinX() > scene.getWidth() || BOUNDS.getMinY() > scene.getHeight())) return false;
+        for (Node ancestor : ancestors) {
+            if (ancestor == region || null == ancestor.getClip()) continue;
+            final Bounds CLIP = ancestor.localToScene(ancestor.getClip().getBoundsInParent());
+            if (!CLIP.intersects(BOUNDS)) return false;
+        }
+        return true;
+    }
+}